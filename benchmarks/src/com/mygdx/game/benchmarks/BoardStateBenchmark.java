@@ -0,0 +1,101 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AI.Bitboard;
+import com.mygdx.game.AI.BoardState;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.Turn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link BoardState} methods the computer player calls for every board it looks at.
+ *
+ * @author Phillip O'Reggio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardStateBenchmark {
+    @Param({"4", "11", "floor10", "floor47"})
+    public String board;
+
+    private BoardState boardState;
+    /** Every turn the Entities on the teams can take */
+    private Array<Turn> turns;
+    private int nextTurn;
+
+    @Setup
+    public void setUp() {
+        CannedBoard cannedBoard = CannedBoard.create(board);
+        boardState = cannedBoard.boardState;
+
+        ComputerPlayer player = cannedBoard.createComputerPlayer(0, ComputerPlayer.Difficulty.HARD);
+        turns = new Array<>();
+        for (int team = 0; team < cannedBoard.teams.size; team++) {
+            Array<Entity> entities = cannedBoard.teams.get(team).getEntities();
+            for (int i = 0; i < entities.size; i++)
+                turns.addAll(player.getFilteredPossibleTurns(entities.get(i), boardState));
+        }
+    }
+
+    @Benchmark
+    public BoardState copy() {
+        return boardState.copy();
+    }
+
+    /**
+     * A copy followed by a turn, the way turns were tried before searches could undo them.
+     */
+    @Benchmark
+    public BoardState copyAndTryTurn() {
+        return boardState.copy().tryTurn(nextTurn());
+    }
+
+    /**
+     * A turn and its undo, the way the search tries turns.
+     */
+    @Benchmark
+    public long applyAndUndoTurn() {
+        boardState.applyTurn(nextTurn());
+        long hash = boardState.getHash();
+        boardState.undo();
+        return hash;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return boardState.evaluate(0);
+    }
+
+    /**
+     * A turn and its undo, then the cells the other team could hit, which is found again after each change.
+     */
+    @Benchmark
+    public Bitboard attackCoverage() {
+        boardState.applyTurn(nextTurn());
+        boardState.undo();
+        return boardState.getAttackCoverage(1);
+    }
+
+    private Turn nextTurn() {
+        Turn turn = turns.get(nextTurn);
+        nextTurn = (nextTurn + 1) % turns.size;
+        return turn;
+    }
+}
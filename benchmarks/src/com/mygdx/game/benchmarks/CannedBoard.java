@@ -0,0 +1,107 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AI.BoardState;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.boards.BoardLayout;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.components.BoardComponent;
+import com.mygdx.game.creators.BoardAndRuleConstructor;
+import com.mygdx.game.creators.EntityConstructor;
+import com.mygdx.game.rules_types.Rules;
+import com.mygdx.game.rules_types.Team;
+import com.mygdx.game.rules_types.ZoneRules;
+import com.mygdx.game.screens.SurvivalTowerScreen;
+
+/**
+ * A board set up the same way a match would start, used by the benchmarks. Made from the boards of {@link BoardAndRuleConstructor},
+ * or from the floors of the survival tower.
+ *
+ * @author Phillip O'Reggio
+ */
+public class CannedBoard {
+    public final Array<Team> teams;
+    /** Zones of the board. null if it is not a zone match */
+    public final Array<Array<BoardPosition>> zones;
+    /** The board at the start of the match */
+    public final BoardState boardState;
+    /** Layout of the board, which stays the same after another board is set up */
+    public final BoardLayout layout;
+
+    private CannedBoard(Array<Team> teams, Rules rules) {
+        this.teams = teams;
+        zones = rules instanceof ZoneRules ? ((ZoneRules) rules).getZones() : null;
+        boardState = new BoardState(BoardComponent.boards.getCodeBoard().getEntities(), zones);
+        layout = BoardLayout.fromBoard(BoardComponent.boards, zones);
+    }
+
+    /**
+     * Sets up a board. Replaces the board in {@link BoardComponent}, so only one can be used at a time.
+     * @param name the index of a board from {@link BoardAndRuleConstructor#getBoardAndRules}, such as "4", or a floor of the survival
+     *             tower, such as "floor10"
+     * @return the board
+     */
+    public static CannedBoard create(String name) {
+        HeadlessGame.initialize();
+        if (name.startsWith("floor"))
+            return createFloor(Integer.parseInt(name.substring("floor".length())));
+        else
+            return createBoard(Integer.parseInt(name));
+    }
+
+    /**
+     * @param boardIndex index of the board, from {@link BoardAndRuleConstructor#getBoardAndRules}
+     */
+    private static CannedBoard createBoard(int boardIndex) {
+        Array<Team> teams = new Array<>();
+        teams.add(createPlayerTeam());
+        teams.add(new Team("Red", Color.RED, new Array<Entity>(new Entity[] {
+                EntityConstructor.medicarp(1, 0),
+                EntityConstructor.thoughtoise(1, 0),
+                EntityConstructor.vulpedge(1, 0),
+                EntityConstructor.thundog(1, 0)
+        })));
+        return new CannedBoard(teams, BoardAndRuleConstructor.getBoardAndRules(boardIndex, null, teams, BoardComponent.boards));
+    }
+
+    /**
+     * @param level floor of the survival tower. The enemies and towers are the ones the floor has.
+     */
+    private static CannedBoard createFloor(int level) {
+        Array<Team> teams = new Array<>();
+        teams.add(createPlayerTeam());
+        teams.add(SurvivalTowerScreen.getFloorLevelTeam(level));
+        Team attackingObjects = SurvivalTowerScreen.getFloorLevelAttackingObjects(level);
+        if (attackingObjects != null)
+            teams.add(attackingObjects);
+        // survival boards come after the 12 regular boards
+        return new CannedBoard(teams, BoardAndRuleConstructor.getBoardAndRules(level + 12, null, teams, BoardComponent.boards));
+    }
+
+    private static Team createPlayerTeam() {
+        return new Team("Blue", Color.BLUE, new Array<Entity>(new Entity[] {
+                EntityConstructor.canight(0, 0),
+                EntityConstructor.catdroid(0, 0),
+                EntityConstructor.pyrobull(0, 0),
+                EntityConstructor.freezird(0, 0)
+        }));
+    }
+
+    /**
+     * @param teamControlled team the player searches for
+     * @param difficulty difficulty of the player
+     * @return a {@link ComputerPlayer} for this board
+     */
+    public ComputerPlayer createComputerPlayer(int teamControlled, ComputerPlayer.Difficulty difficulty) {
+        ComputerPlayer player;
+        if (zones != null)
+            player = new ComputerPlayer(BoardComponent.boards, teams, zones, teamControlled, difficulty);
+        else
+            player = new ComputerPlayer(BoardComponent.boards, teams, teamControlled, difficulty);
+        if (teams.size > 2)
+            player.setIndexOfFirstAttackingTeams(2);
+        return player;
+    }
+}
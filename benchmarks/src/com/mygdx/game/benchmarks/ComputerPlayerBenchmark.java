@@ -0,0 +1,109 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AI.BoardState;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.SimulationRandom;
+import com.mygdx.game.AI.Turn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks finding the turns of an Entity and whole {@link ComputerPlayer} searches.
+ *
+ * @author Phillip O'Reggio
+ */
+@State(Scope.Thread)
+@Fork(1)
+public class ComputerPlayerBenchmark {
+    @Param({"4", "11", "floor10", "floor47"})
+    public String board;
+
+    /** Team searched for. The player's team is 0, the enemy team is 1. */
+    @Param({"1"})
+    public int team;
+
+    private BoardState boardState;
+    private ComputerPlayer player;
+    private Array<Entity> teamEntities;
+
+    @Setup
+    public void setUp() {
+        CannedBoard cannedBoard = CannedBoard.create(board);
+        boardState = cannedBoard.boardState;
+        teamEntities = cannedBoard.teams.get(team).getEntities();
+        player = cannedBoard.createComputerPlayer(team, ComputerPlayer.Difficulty.HARD);
+        HeadlessGame.silenceOutput();
+    }
+
+    /**
+     * Settings only used by {@link #search(SearchSettings)}
+     */
+    @State(Scope.Thread)
+    public static class SearchSettings {
+        @Param({"1", "2", "3"})
+        public int depthLevel;
+
+        @Param({"true", "false"})
+        public boolean parallel;
+
+        @Setup
+        public void setUp(ComputerPlayerBenchmark benchmark) {
+            benchmark.player.setParallelSearch(parallel);
+            // searches are measured to the end, rather than until the time a real computer turn gets
+            benchmark.player.setThinkingTimeLimit(TimeUnit.HOURS.toMillis(1));
+        }
+
+        /**
+         * The player keeps its transposition table between searches, so each search would start from the last one's.
+         */
+        @Setup(Level.Invocation)
+        public void clearTable(ComputerPlayerBenchmark benchmark) {
+            benchmark.player.clearTranspositionTable();
+        }
+    }
+
+    /**
+     * Finds the turns each Entity on the team would search.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void filteredPossibleTurns(Blackhole blackhole) {
+        for (int i = 0; i < teamEntities.size; i++)
+            blackhole.consume(player.getFilteredPossibleTurns(teamEntities.get(i), boardState));
+    }
+
+    /**
+     * A whole computer turn: {@link ComputerPlayer#getBestTurnsNegamax(BoardState, int, int)} at each depth level up to the one
+     * given, starting from an empty transposition table.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public Array<Turn> search(SearchSettings settings) {
+        // the chance of forgetting the best turn and some attack effects are random
+        player.setSeed(0);
+        SimulationRandom.set(new SplittableRandom(0));
+        return player.getBestTurnsIterativeDeepening(boardState, team, settings.depthLevel);
+    }
+}
@@ -0,0 +1,98 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AI.EntityMap;
+import com.mygdx.game.AI.EntityValue;
+import com.mygdx.game.boards.BoardPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks putting, getting and removing Entities in an {@link EntityMap}.
+ *
+ * @author Phillip O'Reggio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapBenchmark {
+    @Param({"4", "floor47"})
+    public String board;
+
+    private EntityMap entityMap;
+    private int rows;
+    private int columns;
+    private Array<Entity> entities;
+    private Array<EntityValue> values;
+    private Array<BoardPosition> positions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        EntityMap boardEntities = CannedBoard.create(board).boardState.getEntities();
+        rows = boardEntities.getRows();
+        columns = boardEntities.getColumns();
+        entities = boardEntities.getAllEntities();
+        values = new Array<>();
+        positions = new Array<>();
+        for (int i = 0; i < entities.size; i++) {
+            values.add(boardEntities.get(entities.get(i)));
+            positions.add(boardEntities.get(entities.get(i)).pos.copy());
+        }
+        // a map of its own, so removing doesn't change values shared with the board
+        entityMap = putAll();
+    }
+
+    /**
+     * Puts every Entity into a new map.
+     */
+    @Benchmark
+    public EntityMap putAll() {
+        EntityMap newMap = new EntityMap(rows, columns, entities.size);
+        for (int i = 0; i < entities.size; i++)
+            newMap.put(entities.get(i), positions.get(i), values.get(i).copy());
+        return newMap;
+    }
+
+    @Benchmark
+    public EntityValue getByEntity() {
+        return entityMap.get(entities.get(nextIndex()));
+    }
+
+    @Benchmark
+    public EntityValue getByPosition() {
+        return entityMap.get(positions.get(nextIndex()));
+    }
+
+    /**
+     * Removes an Entity, then puts it back where it was.
+     */
+    @Benchmark
+    public EntityValue removeAndPut() {
+        int i = nextIndex();
+        EntityValue value = entityMap.remove(entities.get(i));
+        entityMap.put(entities.get(i), positions.get(i), value);
+        return value;
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (next + 1) % entities.size;
+        return i;
+    }
+}
@@ -0,0 +1,191 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.AI.WeightedEvaluator;
+import com.mygdx.game.AI.WeightedEvaluator.Feature;
+import com.mygdx.game.simulation.PlayerSettings;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Tunes the weights of a {@link WeightedEvaluator} by having computer players play against each other, using simultaneous
+ * perturbation stochastic approximation (SPSA). Each iteration changes every tuned weight up or down at random, plays a
+ * {@link Tournament} between a player using the weights with the changes added and one with them taken away, and moves the weights
+ * towards whichever won more. Weights are changed in units of each {@link Feature}'s step, so features of different sizes are tuned
+ * at the same rate. Has to be run from the core assets folder, as with the benchmarks.
+ * <p>
+ * Arguments:
+ * <ul>
+ *     <li>--start: weight file to start from. Default is the default weights.</li>
+ *     <li>--features: names of the features tuned, separated by commas. Default is all of them except "zoneWin".</li>
+ *     <li>--player: settings of both players, read by {@link PlayerSettings#parse(String)}. Default is "NORMAL".</li>
+ *     <li>--boards: boards played on each iteration, as in {@link Tournament}. Default is "boards".</li>
+ *     <li>--games: matches played from each side of each board on each iteration. Default is 1.</li>
+ *     <li>--iterations: number of iterations. Default is 100.</li>
+ *     <li>--perturbation: steps each weight is changed by in the first iteration. Default is 1.</li>
+ *     <li>--rate: steps the weights move in the first iteration when one player wins every match. Default is 4.</li>
+ *     <li>--threads: matches played at once. Default is the number of cores.</li>
+ *     <li>--seed: seed of the changes to the weights and of every tournament. Default is random.</li>
+ *     <li>--out: file the weights are written to after each iteration. Default is "tuned-weights.json".</li>
+ * </ul>
+ *
+ * @author Phillip O'Reggio
+ */
+public class EvaluationTuner {
+    /** Exponents of how fast the perturbation and learning rate get smaller. Usual values for SPSA. */
+    private static final double PERTURBATION_DECAY = 0.101;
+    private static final double RATE_DECAY = 0.602;
+
+    private final PlayerSettings player;
+    private final Array<String> boardNames;
+    private final Feature[] features;
+    private final int gamesPerSide;
+    private final int threads;
+    /** Weights, in steps of their feature */
+    private final double[] position;
+    /** Picks the changes to the weights and the seed of each tournament */
+    private final SplittableRandom random;
+
+    public EvaluationTuner(PlayerSettings player, Array<String> boardNames, WeightedEvaluator start, Feature[] features, int gamesPerSide,
+                           int threads, long seed) {
+        this.player = player;
+        random = new SplittableRandom(seed);
+        this.boardNames = boardNames;
+        this.features = features;
+        this.gamesPerSide = gamesPerSide;
+        this.threads = threads;
+        position = new double[Feature.values().length];
+        for (Feature feature : Feature.values())
+            position[feature.ordinal()] = start.getWeight(feature) / feature.step;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String start = null;
+        String featureArg = null;
+        String playerArg = "NORMAL";
+        String boardArg = "boards";
+        int games = 1;
+        int iterations = 100;
+        double perturbation = 1;
+        double rate = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String out = "tuned-weights.json";
+        long seed = new SplittableRandom().nextLong();
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("No value given for " + args[i]);
+            switch (args[i]) {
+                case "--start": start = args[i + 1]; break;
+                case "--features": featureArg = args[i + 1]; break;
+                case "--player": playerArg = args[i + 1]; break;
+                case "--boards": boardArg = args[i + 1]; break;
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--iterations": iterations = Integer.parseInt(args[i + 1]); break;
+                case "--perturbation": perturbation = Double.parseDouble(args[i + 1]); break;
+                case "--rate": rate = Double.parseDouble(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--out": out = args[i + 1]; break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        WeightedEvaluator startWeights = start == null ? new WeightedEvaluator() : WeightedEvaluator.load(new FileHandle(start));
+        EvaluationTuner tuner = new EvaluationTuner(PlayerSettings.parse(playerArg), Tournament.getBoardNames(boardArg), startWeights,
+                getFeatures(featureArg), games, threads, seed);
+        System.out.println("Seed: " + seed);
+        try {
+            tuner.tune(iterations, perturbation, rate, out, System.out);
+        } finally {
+            // the headless application keeps running otherwise
+            if (Gdx.app != null)
+                Gdx.app.exit();
+        }
+    }
+
+    private static Feature[] getFeatures(String featureArg) {
+        Array<Feature> features = new Array<>(Feature.class);
+        if (featureArg == null) {
+            for (Feature feature : Feature.values())
+                if (feature != Feature.ZONE_WIN)
+                    features.add(feature);
+        } else {
+            for (String key : featureArg.split(",")) {
+                Feature feature = Feature.fromKey(key);
+                if (feature == null)
+                    throw new IllegalArgumentException("Unknown feature: " + key);
+                features.add(feature);
+            }
+        }
+        return features.toArray();
+    }
+
+    /**
+     * Tunes the weights.
+     * @param iterations number of iterations
+     * @param perturbation steps each weight is changed by in the first iteration
+     * @param rate steps the weights move in the first iteration when one player wins every match
+     * @param out file the weights are written to after each iteration
+     * @param progress where progress is printed
+     */
+    public void tune(int iterations, double perturbation, double rate, String out, PrintStream progress) throws Exception {
+        PrintStream silent = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) { }
+        });
+        // the learning rate starts slower than the perturbation, which keeps the first iterations from moving too far
+        double stability = iterations / 10.0;
+        double rateScale = rate * Math.pow(1 + stability, RATE_DECAY);
+        int[] directions = new int[position.length];
+
+        for (int k = 0; k < iterations; k++) {
+            double change = perturbation / Math.pow(k + 1, PERTURBATION_DECAY);
+            double learningRate = rateScale / Math.pow(k + 1 + stability, RATE_DECAY);
+            for (Feature feature : features)
+                directions[feature.ordinal()] = random.nextBoolean() ? 1 : -1;
+
+            Array<PlayerSettings> players = new Array<>();
+            players.add(player.withEvaluator("plus", createEvaluator(directions, change)));
+            players.add(player.withEvaluator("minus", createEvaluator(directions, -change)));
+            Tournament tournament = new Tournament(players, boardNames, gamesPerSide, threads);
+            tournament.setSeed(random.nextLong());
+            tournament.play(silent);
+
+            // between -1 and 1. Draws count for neither player.
+            double score = (tournament.getWins(0) - tournament.getWins(1)) / (double) tournament.getGames(0);
+            for (Feature feature : features)
+                position[feature.ordinal()] += learningRate * score / (2 * change) * directions[feature.ordinal()];
+
+            WeightedEvaluator weights = createEvaluator(directions, 0);
+            progress.println(String.format(Locale.ROOT, "Iteration %d / %d: plus %d, minus %d of %d matches -> %s", k + 1, iterations,
+                    tournament.getWins(0), tournament.getWins(1), tournament.getGames(0), weights.toJson()));
+            writeWeights(weights, out);
+        }
+        progress.println("Weights written to " + out);
+    }
+
+    /**
+     * @param directions whether each weight is changed up (1) or down (-1)
+     * @param change steps each weight is changed by
+     * @return evaluator with the current weights, changed
+     */
+    private WeightedEvaluator createEvaluator(int[] directions, double change) {
+        float[] weights = new float[position.length];
+        for (Feature feature : Feature.values())
+            weights[feature.ordinal()] = (float) ((position[feature.ordinal()] + change * directions[feature.ordinal()]) * feature.step);
+        return new WeightedEvaluator(weights);
+    }
+
+    private static void writeWeights(WeightedEvaluator weights, String out) throws IOException {
+        try (FileWriter writer = new FileWriter(out)) {
+            writer.write(weights.toJson());
+        }
+    }
+}
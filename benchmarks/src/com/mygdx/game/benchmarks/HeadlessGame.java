@@ -0,0 +1,84 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.mygdx.game.GridWars;
+import com.mygdx.game.boards.BoardManager;
+import com.mygdx.game.components.BoardComponent;
+import com.mygdx.game.creators.BoardAndRuleConstructor;
+import com.mygdx.game.creators.DamageAnimationConstructor;
+import com.mygdx.game.creators.EffectConstructor;
+import com.mygdx.game.creators.MoveConstructor;
+import com.mygdx.game.ui.LerpColorManager;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+
+/**
+ * Starts enough of the game to create boards, Entities and their moves without a window. Nothing is drawn, so OpenGL calls are
+ * answered by a stand-in that does nothing. Benchmarks have to be run from the core assets folder, so the sprites can be loaded.
+ *
+ * @author Phillip O'Reggio
+ */
+public class HeadlessGame {
+    private static boolean initialized;
+
+    /**
+     * Starts the game headless. Does nothing if it has already been started.
+     */
+    public static synchronized void initialize() {
+        if (initialized)
+            return;
+
+        new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+        GL20 gl = (GL20) Proxy.newProxyInstance(HeadlessGame.class.getClassLoader(), new Class[] {GL20.class},
+                (proxy, method, args) -> getDefaultValue(method.getReturnType()));
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+
+        GridWars.atlas = new TextureAtlas(Gdx.files.internal("spritesAndBackgrounds/GDSprites.pack"));
+        GridWars.engine = new PooledEngine();
+        BoardAndRuleConstructor.initialize(new LerpColorManager());
+        BoardComponent.boards = new BoardManager();
+        MoveConstructor.initialize(1, BoardComponent.boards, GridWars.engine, null, new GridWars());
+        DamageAnimationConstructor.initialize(1, BoardComponent.boards, GridWars.engine, null);
+        EffectConstructor.initialize(GridWars.engine);
+        initialized = true;
+    }
+
+    /**
+     * Stops anything from being printed. The computer player prints its progress while searching, which would bury the results.
+     */
+    public static void silenceOutput() {
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) { }
+        }));
+    }
+
+    private static Object getDefaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        else if (type == int.class)
+            return 0;
+        else if (type == float.class)
+            return 0f;
+        else if (type == long.class)
+            return 0L;
+        else if (type == double.class)
+            return 0d;
+        else if (type == byte.class)
+            return (byte) 0;
+        else if (type == short.class)
+            return (short) 0;
+        else if (type == char.class)
+            return (char) 0;
+        return null;
+    }
+}
@@ -0,0 +1,428 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.LongArray;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.SearchStatsLog;
+import com.mygdx.game.simulation.MatchSimulation;
+import com.mygdx.game.simulation.PlayerSettings;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays computer players against each other with {@link MatchSimulation}s, and reports how often each wins and how fast each
+ * searches. Every pair of players plays on every board, from both sides of the board. Matches are played in parallel, with each
+ * search on a single thread. Has to be run from the core assets folder, as with the benchmarks.
+ * <p>
+ * Each match gets its own seed from the seed of the tournament, so a tournament played again with the same seed and settings has the
+ * same results, as long as no player stops searching when its time runs out.
+ * <p>
+ * Arguments:
+ * <ul>
+ *     <li>--players: player settings separated by commas, read by {@link PlayerSettings#parse(String)}. Default is
+ *     "EASY,NORMAL,HARD".</li>
+ *     <li>--boards: "all", "boards", "floors", or board names separated by commas, read by {@link CannedBoard#create(String)}. Default
+ *     is "all".</li>
+ *     <li>--games: matches played from each side of each board by each pair of players. Default is 1.</li>
+ *     <li>--threads: matches played at once. Default is the number of cores.</li>
+ *     <li>--out: file the results are written to as JSON. Default is "tournament-results.json".</li>
+ *     <li>--seed: seed of the boards and of every match. Default is random.</li>
+ *     <li>--stats: file the {@link com.mygdx.game.AI.SearchStats} of every search are written to, a line of JSON each. Default is
+ *     to not write them.</li>
+ * </ul>
+ *
+ * @author Phillip O'Reggio
+ */
+public class Tournament {
+    /** Number of boards made by {@link com.mygdx.game.creators.BoardAndRuleConstructor} for regular battles */
+    private static final int BOARD_COUNT = 12;
+    /** Number of floors in the survival tower */
+    private static final int FLOOR_COUNT = 50;
+    /** Plays the towers and other objects that attack on survival floors */
+    private static final PlayerSettings FIRST_ATTACK = new PlayerSettings(ComputerPlayer.Difficulty.FIRST_ATTACK);
+
+    private final Array<PlayerSettings> players;
+    private final Array<String> boardNames;
+    private final int gamesPerSide;
+    private final int threads;
+    /** Where the stats of each search are written. null to not write them. */
+    private SearchStatsLog statsLog;
+    /** Seed of the boards and of every match */
+    private long seed = MathUtils.random.nextLong();
+
+    private final PlayerStats[] playerStats;
+    /** Wins of each player against each other player */
+    private final int[][] headToHeadWins;
+    private final Array<BoardStats> boardStats = new Array<>();
+    private int matchesPlayed;
+    private long wallTime;
+
+    public Tournament(Array<PlayerSettings> players, Array<String> boardNames, int gamesPerSide, int threads) {
+        if (players.size < 2)
+            throw new IllegalArgumentException("A tournament needs at least 2 players");
+        this.players = players;
+        this.boardNames = boardNames;
+        this.gamesPerSide = gamesPerSide;
+        this.threads = threads;
+        playerStats = new PlayerStats[players.size];
+        for (int i = 0; i < players.size; i++)
+            playerStats[i] = new PlayerStats();
+        headToHeadWins = new int[players.size][players.size];
+    }
+
+    public static void main(String[] args) throws Exception {
+        String playerArg = "EASY,NORMAL,HARD";
+        String boardArg = "all";
+        int games = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String out = "tournament-results.json";
+        String statsOut = null;
+        Long seed = null;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("No value given for " + args[i]);
+            switch (args[i]) {
+                case "--players": playerArg = args[i + 1]; break;
+                case "--boards": boardArg = args[i + 1]; break;
+                case "--games": games = Integer.parseInt(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--out": out = args[i + 1]; break;
+                case "--stats": statsOut = args[i + 1]; break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        Array<PlayerSettings> players = new Array<>();
+        for (String text : playerArg.split(","))
+            players.add(PlayerSettings.parse(text));
+
+        Tournament tournament = new Tournament(players, getBoardNames(boardArg), games, threads);
+        if (statsOut != null)
+            tournament.setStatsLog(new SearchStatsLog(new FileWriter(statsOut)));
+        if (seed != null)
+            tournament.setSeed(seed);
+        System.out.println("Seed: " + tournament.seed);
+        try {
+            tournament.play(System.out);
+            tournament.printSummary(System.out);
+            try (FileWriter writer = new FileWriter(out)) {
+                tournament.writeResults(new JsonWriter(writer));
+            }
+            System.out.println("Results written to " + out);
+            if (statsOut != null)
+                System.out.println("Search stats written to " + statsOut);
+        } finally {
+            if (tournament.statsLog != null)
+                tournament.statsLog.close();
+            // the headless application keeps running otherwise
+            if (Gdx.app != null)
+                Gdx.app.exit();
+        }
+    }
+
+    /**
+     * @param seed seed of the boards and of every match. Random by default.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param log where the stats of each search are written, labeled with the player and board. null to not write them.
+     */
+    public void setStatsLog(SearchStatsLog log) {
+        statsLog = log;
+    }
+
+    /**
+     * @param boardArg "all", "boards", "floors", or board names separated by commas
+     * @return names of the boards, read by {@link CannedBoard#create(String)}
+     */
+    static Array<String> getBoardNames(String boardArg) {
+        Array<String> names = new Array<>();
+        if (boardArg.equals("all") || boardArg.equals("boards"))
+            for (int i = 1; i <= BOARD_COUNT; i++)
+                names.add("" + i);
+        if (boardArg.equals("all") || boardArg.equals("floors"))
+            for (int i = 1; i <= FLOOR_COUNT; i++)
+                names.add("floor" + i);
+        if (names.size == 0)
+            names.addAll(boardArg.split(","));
+        return names;
+    }
+
+    /**
+     * Plays every match of the tournament.
+     * @param progress where progress is printed
+     */
+    public void play(PrintStream progress) throws Exception {
+        // boards are set up one at a time, since each one replaces the last. Their layouts can then be shared by every match.
+        // some place obstacles at random, which come from the seed too.
+        MathUtils.random.setSeed(seed);
+        Array<CannedBoard> boards = new Array<>();
+        for (int i = 0; i < boardNames.size; i++) {
+            boards.add(CannedBoard.create(boardNames.get(i)));
+            boardStats.add(new BoardStats(boardNames.get(i)));
+        }
+
+        // daemon threads, so a match that fails doesn't leave the others running after the tournament ends
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        Array<Future<MatchResult>> results = new Array<>();
+        // seeds are given out in the order the matches are made, so they don't depend on which thread plays each
+        SplittableRandom matchSeeds = new SplittableRandom(seed);
+        long startTime = System.nanoTime();
+        for (int b = 0; b < boards.size; b++)
+            for (int p1 = 0; p1 < players.size; p1++)
+                for (int p2 = p1 + 1; p2 < players.size; p2++)
+                    for (int game = 0; game < gamesPerSide; game++) {
+                        results.add(executor.submit(new Match(b, boards.get(b), p1, p2, matchSeeds.nextLong())));
+                        results.add(executor.submit(new Match(b, boards.get(b), p2, p1, matchSeeds.nextLong())));
+                    }
+        executor.shutdown();
+
+        try {
+            for (int i = 0; i < results.size; i++) {
+                addResult(results.get(i).get());
+                if ((i + 1) % 50 == 0 || i + 1 == results.size)
+                    progress.println("Played " + (i + 1) + " / " + results.size + " matches");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        wallTime = System.nanoTime() - startTime;
+    }
+
+    private void addResult(MatchResult result) {
+        matchesPlayed++;
+        BoardStats board = boardStats.get(result.boardIndex);
+        board.matches++;
+        board.totalTurns += result.turns;
+        for (int team = 0; team < 2; team++) {
+            int player = result.players[team];
+            int opponent = result.players[1 - team];
+            PlayerStats stats = playerStats[player];
+            stats.games++;
+            stats.totalTurns += result.turns;
+            stats.thinkTimes.addAll(result.thinkTimes[team]);
+            stats.turnsSearched += result.turnsSearched[team];
+            if (result.winner == team) {
+                stats.wins++;
+                board.wins[player]++;
+                headToHeadWins[player][opponent]++;
+            }
+        }
+    }
+
+    public void printSummary(PrintStream out) {
+        out.println();
+        out.println(String.format(Locale.ROOT, "%d matches in %.1f s (%.2f matches/s) on %d threads", matchesPlayed, wallTime / 1e9,
+                matchesPlayed / (wallTime / 1e9), threads));
+        out.println(String.format(Locale.ROOT, "%-24s %6s %8s %9s %13s %9s %9s %9s %9s", "player", "games", "win rate", "avg turns",
+                "nodes/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (int i = 0; i < players.size; i++) {
+            PlayerStats stats = playerStats[i];
+            long[] sorted = stats.sortedThinkTimes();
+            out.println(String.format(Locale.ROOT, "%-24s %6d %8.3f %9.2f %13.0f %9.2f %9.2f %9.2f %9.2f", players.get(i).getName(),
+                    stats.games, stats.getWinRate(), stats.getAverageTurns(), stats.getNodesPerSecond(),
+                    percentile(sorted, 50) / 1e6, percentile(sorted, 90) / 1e6, percentile(sorted, 99) / 1e6,
+                    percentile(sorted, 100) / 1e6));
+        }
+    }
+
+    /**
+     * Writes the results as JSON, then closes the writer.
+     */
+    public void writeResults(JsonWriter writer) throws IOException {
+        writer.object()
+                .set("matches", matchesPlayed)
+                .set("gamesPerSide", gamesPerSide)
+                .set("threads", threads)
+                .set("seed", seed)
+                .set("wallSeconds", wallTime / 1e9)
+                .set("matchesPerSecond", matchesPlayed / (wallTime / 1e9));
+
+        writer.array("players");
+        for (int i = 0; i < players.size; i++) {
+            PlayerStats stats = playerStats[i];
+            long[] sorted = stats.sortedThinkTimes();
+            writer.object()
+                    .set("name", players.get(i).getName())
+                    .set("games", stats.games)
+                    .set("wins", stats.wins)
+                    .set("winRate", stats.getWinRate())
+                    .set("averageTurns", stats.getAverageTurns())
+                    .set("turnsPlayed", sorted.length)
+                    .set("nodes", stats.turnsSearched)
+                    .set("nodesPerSecond", stats.getNodesPerSecond());
+            writer.object("thinkTimeMillis")
+                    .set("p50", percentile(sorted, 50) / 1e6)
+                    .set("p90", percentile(sorted, 90) / 1e6)
+                    .set("p99", percentile(sorted, 99) / 1e6)
+                    .set("max", percentile(sorted, 100) / 1e6)
+                    .pop();
+            writer.object("winsAgainst");
+            for (int j = 0; j < players.size; j++)
+                if (j != i)
+                    writer.set(players.get(j).getName(), headToHeadWins[i][j]);
+            writer.pop();
+            writer.pop();
+        }
+        writer.pop();
+
+        writer.array("boards");
+        for (int i = 0; i < boardStats.size; i++) {
+            BoardStats board = boardStats.get(i);
+            writer.object()
+                    .set("board", board.name)
+                    .set("matches", board.matches)
+                    .set("averageTurns", board.matches == 0 ? 0 : (double) board.totalTurns / board.matches);
+            writer.object("wins");
+            for (int j = 0; j < players.size; j++)
+                writer.set(players.get(j).getName(), board.wins[j]);
+            writer.pop();
+            writer.pop();
+        }
+        writer.pop();
+
+        writer.pop();
+        writer.close();
+    }
+
+    /**
+     * @param player index of the player
+     * @return number of matches the player won
+     */
+    public int getWins(int player) {
+        return playerStats[player].wins;
+    }
+
+    /**
+     * @param player index of the player
+     * @return number of matches the player played
+     */
+    public int getGames(int player) {
+        return playerStats[player].games;
+    }
+
+    /**
+     * @param sorted values sorted from least to greatest
+     * @param percent percentile, from 0 to 100
+     * @return the nearest-rank percentile of the values. 0 if there are none.
+     */
+    private static long percentile(long[] sorted, double percent) {
+        if (sorted.length == 0)
+            return 0;
+        int rank = (int) Math.ceil(percent / 100 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * A match between two players. Survival floors have a third team that only uses its first attack.
+     */
+    private class Match implements Callable<MatchResult> {
+        private final int boardIndex;
+        private final CannedBoard board;
+        /** Index of the player on each team */
+        private final int[] matchPlayers;
+        private final long seed;
+
+        Match(int boardIndex, CannedBoard board, int team0Player, int team1Player, long seed) {
+            this.boardIndex = boardIndex;
+            this.board = board;
+            matchPlayers = new int[] {team0Player, team1Player};
+            this.seed = seed;
+        }
+
+        @Override
+        public MatchResult call() {
+            PlayerSettings[] settings = new PlayerSettings[board.teams.size];
+            for (int i = 0; i < settings.length; i++)
+                settings[i] = i < 2 ? players.get(matchPlayers[i]) : FIRST_ATTACK;
+
+            boolean survival = boardNames.get(boardIndex).startsWith("floor");
+            MatchSimulation match = new MatchSimulation(board.layout, board.teams, settings, survival, seed);
+            if (statsLog != null)
+                for (int team = 0; team < 2; team++)
+                    match.setSearchListener(team, statsLog.withLabel(settings[team].getName() + " on " + boardNames.get(boardIndex)));
+            MatchResult result = new MatchResult();
+            result.boardIndex = boardIndex;
+            result.players = matchPlayers;
+            result.winner = match.play();
+            result.turns = match.getTurnCount();
+            for (int team = 0; team < 2; team++) {
+                result.thinkTimes[team] = match.getThinkTimes(team);
+                result.turnsSearched[team] = match.getTurnsSearched(team);
+            }
+            return result;
+        }
+    }
+
+    private static class MatchResult {
+        int boardIndex;
+        int[] players;
+        /** Team that won */
+        int winner;
+        int turns;
+        LongArray[] thinkTimes = new LongArray[2];
+        long[] turnsSearched = new long[2];
+    }
+
+    private static class PlayerStats {
+        int games;
+        int wins;
+        long totalTurns;
+        long turnsSearched;
+        /** How long each turn took to choose, in nanoseconds */
+        LongArray thinkTimes = new LongArray();
+
+        double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        double getAverageTurns() {
+            return games == 0 ? 0 : (double) totalTurns / games;
+        }
+
+        double getNodesPerSecond() {
+            long totalTime = 0;
+            for (int i = 0; i < thinkTimes.size; i++)
+                totalTime += thinkTimes.get(i);
+            return totalTime == 0 ? 0 : turnsSearched / (totalTime / 1e9);
+        }
+
+        long[] sortedThinkTimes() {
+            long[] sorted = thinkTimes.toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private class BoardStats {
+        final String name;
+        int matches;
+        long totalTurns;
+        /** Wins of each player on the board */
+        final int[] wins = new int[players.size];
+
+        BoardStats(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mygdx.game.benchmarks;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.AI.BoardState;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.Turn;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that the values {@link BoardState} keeps as the board changes match the ones found by going through every Entity, by playing
+ * random turns, turn effects and undos on the canned boards.
+ *
+ * @author Phillip O'Reggio
+ */
+public class BoardStateEvaluationTest {
+    private static final String[] BOARDS = {"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "floor10", "floor47"};
+    private static final int SEQUENCES = 5;
+    private static final int STEPS = 200;
+
+    @Test
+    public void evaluateMatchesEvaluateFromScratch() {
+        for (String name : BOARDS) {
+            CannedBoard cannedBoard = CannedBoard.create(name);
+            ComputerPlayer player = cannedBoard.createComputerPlayer(0, ComputerPlayer.Difficulty.HARD);
+            for (int seed = 0; seed < SEQUENCES; seed++)
+                playRandomSequence(name + " seed " + seed, cannedBoard, player, new Random(seed));
+        }
+    }
+
+    /**
+     * Does random changes to a copy of the board, checking the evaluation of each team after every one. Turns and turn effects are
+     * applied so they can be undone, or done directly with {@link BoardState#tryTurn(Turn)} and
+     * {@link BoardState#doTurnEffects(int)} on a fresh copy when nothing is waiting to be undone.
+     */
+    private void playRandomSequence(String name, CannedBoard cannedBoard, ComputerPlayer player, Random random) {
+        int teams = cannedBoard.teams.size;
+        BoardState board = cannedBoard.boardState.copy();
+        // value of team 0 before each change that hasn't been undone, to check that undo puts it back
+        IntArray savedValues = new IntArray();
+
+        for (int step = 0; step < STEPS; step++) {
+            String where = name + ", step " + step;
+            int action = random.nextInt(4);
+            if (action == 0 && savedValues.size > 0) {
+                board.undo();
+                assertEquals("Undo didn't restore the value, " + where, savedValues.pop(), board.evaluateFromScratch(0));
+            } else if (action == 1) {
+                int team = random.nextInt(teams);
+                if (savedValues.size == 0 && random.nextBoolean()) {
+                    board = board.copy();
+                    board.doTurnEffects(team);
+                } else {
+                    savedValues.add(board.evaluateFromScratch(0));
+                    board.applyTurnEffects(team);
+                }
+            } else {
+                Turn turn = randomTurn(cannedBoard, player, board, random);
+                if (turn == null)
+                    break;
+                if (savedValues.size == 0 && random.nextBoolean()) {
+                    board = board.copy().tryTurn(turn);
+                } else {
+                    savedValues.add(board.evaluateFromScratch(0));
+                    board.applyTurn(turn);
+                }
+            }
+
+            for (int team = 0; team < teams; team++) {
+                int expected = board.evaluateFromScratch(team);
+                int kept = board.evaluate(team);
+                if (kept != expected)
+                    fail("Kept value " + kept + " is not " + expected + " for team " + team + ", " + where + "\n" + board);
+            }
+        }
+    }
+
+    /**
+     * @return a random turn of a random Entity still on the board. null if there are none.
+     */
+    private Turn randomTurn(CannedBoard cannedBoard, ComputerPlayer player, BoardState board, Random random) {
+        Array<Entity> entities = new Array<>();
+        for (int i = 0; i < cannedBoard.teams.size; i++)
+            entities.addAll(cannedBoard.teams.get(i).getEntities());
+
+        while (entities.size > 0) {
+            Array<Turn> turns = player.getFilteredPossibleTurns(entities.removeIndex(random.nextInt(entities.size)), board);
+            if (turns.size > 0)
+                return turns.get(random.nextInt(turns.size));
+        }
+        return null;
+    }
+}
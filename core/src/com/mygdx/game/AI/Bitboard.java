@@ -0,0 +1,173 @@
+package com.mygdx.game.AI;
+
+import java.util.Arrays;
+
+/**
+ * Set of cells on a board, stored as one bit per cell at row * columns + column. Fits boards of any size. Sets can be shifted by a
+ * row and column offset, which finds every cell that has a cell of another set at that offset from it, without going through each
+ * cell.
+ *
+ * @author Phillip O'Reggio
+ */
+public class Bitboard {
+    private final int rows;
+    private final int columns;
+    private final long[] words;
+    /** Bits of the last word that are on the board */
+    private final long lastWordMask;
+    /** Used by {@link #orShifted(Bitboard, int, int)}, so it doesn't allocate */
+    private final long[] shifted;
+
+    public Bitboard(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        int cells = rows * columns;
+        words = new long[Math.max(1, (cells + 63) >>> 6)];
+        lastWordMask = cells % 64 == 0 ? -1L : (1L << (cells % 64)) - 1;
+        shifted = new long[words.length];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public boolean get(int cell) {
+        return (words[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public void set(int cell) {
+        words[cell >>> 6] |= 1L << cell;
+    }
+
+    public void clear(int cell) {
+        words[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Removes every cell
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Adds every cell on the board
+     */
+    public void setAll() {
+        Arrays.fill(words, -1L);
+        words[words.length - 1] &= lastWordMask;
+    }
+
+    /**
+     * Makes this the same set as another of the same size
+     */
+    public void set(Bitboard other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Adds every cell of another set of the same size
+     */
+    public void or(Bitboard other) {
+        for (int i = 0; i < words.length; i++)
+            words[i] |= other.words[i];
+    }
+
+    /**
+     * Removes every cell that is not in another set of the same size
+     */
+    public void and(Bitboard other) {
+        for (int i = 0; i < words.length; i++)
+            words[i] &= other.words[i];
+    }
+
+    /**
+     * Removes every cell that is in another set of the same size
+     */
+    public void andNot(Bitboard other) {
+        for (int i = 0; i < words.length; i++)
+            words[i] &= ~other.words[i];
+    }
+
+    /**
+     * @return whether both sets have a cell in common
+     */
+    public boolean intersects(Bitboard other) {
+        for (int i = 0; i < words.length; i++)
+            if ((words[i] & other.words[i]) != 0)
+                return true;
+        return false;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words)
+            if (word != 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * @return number of cells in the set
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words)
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Adds every cell that has a cell of another set at an offset from it. For example, with the cells of Entities as the other set
+     * and an attack's offset, it adds every cell the attack would hit an Entity from.
+     * @param other set of the same size. Can be this set.
+     * @param rowOffset row offset from the added cells to the cells of the other set
+     * @param columnOffset column offset from the added cells to the cells of the other set
+     */
+    public void orShifted(Bitboard other, int rowOffset, int columnOffset) {
+        if (rowOffset >= rows || -rowOffset >= rows || columnOffset >= columns || -columnOffset >= columns)
+            return;
+        int shift = rowOffset * columns + columnOffset;
+        int wordShift = Math.abs(shift) >>> 6;
+        int bitShift = Math.abs(shift) & 63;
+        for (int i = 0; i < words.length; i++) {
+            long word;
+            if (shift >= 0) { // cell i comes from cell i + shift
+                int from = i + wordShift;
+                word = from < words.length ? other.words[from] >>> bitShift : 0;
+                if (bitShift != 0 && from + 1 < words.length)
+                    word |= other.words[from + 1] << (64 - bitShift);
+            } else { // cell i comes from cell i - |shift|
+                int from = i - wordShift;
+                word = from >= 0 ? other.words[from] << bitShift : 0;
+                if (bitShift != 0 && from - 1 >= 0)
+                    word |= other.words[from - 1] >>> (64 - bitShift);
+            }
+            shifted[i] = word;
+        }
+        shifted[words.length - 1] &= lastWordMask;
+
+        // cells whose offset goes past the side of the board wrap onto the next row, so they are taken out
+        if (columnOffset > 0)
+            clearColumns(shifted, columns - columnOffset, columns);
+        else if (columnOffset < 0)
+            clearColumns(shifted, 0, -columnOffset);
+
+        for (int i = 0; i < words.length; i++)
+            words[i] |= shifted[i];
+    }
+
+    /**
+     * Clears the columns from start (inclusive) to end (exclusive) of every row
+     */
+    private void clearColumns(long[] bits, int start, int end) {
+        for (int r = 0; r < rows; r++)
+            for (int c = start; c < end; c++) {
+                int cell = r * columns + c;
+                bits[cell >>> 6] &= ~(1L << cell);
+            }
+    }
+}
@@ -3,12 +3,18 @@ package com.mygdx.game.AI;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.boards.Board;
+import com.mygdx.game.boards.BoardLayout;
 import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.components.BoardComponent;
 import com.mygdx.game.move_related.Move;
 import com.mygdx.game.move_related.StatusEffect;
 import com.mygdx.game.rules_types.Team;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static com.mygdx.game.ComponentMappers.*;
 
 /**
@@ -22,55 +28,147 @@ public class BoardState {
     /** Keeps count of how many entities per team there are.
      * Index represents team number while value at index represents number of live entities
      */
-    private Array<Integer> liveEntityCount;
+    private int[] liveEntityCount;
+    /** {@link #liveEntityCount} before each change that can be undone */
+    private IntArray savedLiveEntityCounts = new IntArray();
+    /**
+     * Sum of {@link EntityValue#getValue(int)} of every Entity on the board, from its own team's perspective. Index is team number + 1,
+     * so Entities without a team (-1) are at 0. Kept up to date as the board changes so {@link #evaluate(int)} doesn't go through
+     * every Entity.
+     */
+    private int[] teamValues;
+    /** {@link #teamValues} before each change that can be undone */
+    private IntArray savedTeamValues = new IntArray();
+    /** Whether each tile, at row * columns + column, is invisible and can't be moved on. Found once, and shared by copies. */
+    private boolean[] invisibleTiles;
+
+    //Used by getReachablePositions. Not shared by copies, so each search thread has its own.
+    /** Tiles already reached by the current spread */
+    private BitSet reached;
+    /** Tiles already written out by {@link #getReachablePositions(int, int, int, int[])} */
+    private BitSet found;
+    /** Tiles waiting to be spread from */
+    private int[] spreadQueue;
+    /** Row and column change of each direction, in the order of top, left, bottom, right */
+    private static final int[] ROW_STEPS = {-1, 0, 1, 0};
+    private static final int[] COLUMN_STEPS = {0, -1, 0, 1};
+
+    //Used by getAttackCoverage. Not shared by copies.
+    /** Cells each team can hit, by team number + 1. Found the first time they are asked for after the board changes. */
+    private Bitboard[] attackCoverage;
+    /** {@link #changeCount} when the coverage of each team was found */
+    private int[] coverageFoundAt;
+    /** Changes made to the board, so coverage found before a change is found again */
+    private int changeCount;
+    /** Cells the other teams can hit, from {@link #getEnemyAttackCoverage(int)} */
+    private Bitboard enemyCoverage;
+    private Bitboard reachableCells;
+    /** Returned by {@link #getReachableCells(int, int, int)} */
+    private Bitboard reachableCellsResult;
+    /** Returned by {@link #getCellBuffer()} */
+    private Bitboard cellBuffer;
 
     /**
-     * Creates a {@link BoardState} using entities and their teams.
+     * Creates a {@link BoardState} using entities and their teams. The size of the board is taken from {@link BoardComponent}.
      * @param e Array of Entities
      */
     public BoardState(Array<Entity> e, Array<Array<BoardPosition>> boardZones) {
-        liveEntityCount = new Array<Integer>(new Integer[]{0, 0, 0});
-        entities = new EntityMap();
-        for (Entity entity : e) {
-            EntityValue value;
-            if (stm.has(entity) && stm.get(entity).alive) {
-                if (team.has(entity)) { //on a team
-                    if (!status.has(entity)) { //does not have status effect
-                        value = new EntityValue(bm.get(entity).pos, team.get(entity).teamNumber, bm.get(entity).BOARD_ENTITY_ID, stm.get(entity).hp,
-                                stm.get(entity).maxHP, stm.get(entity).sp, stm.get(entity).maxSP,  stm.get(entity).atk, stm.get(entity).def, 0);
-                    } else { //does have status effect
-                        Array<StatusEffect> currentStatusEffects = status.get(entity).getStatusEffects();
-                        StatusEffectInfo[] statusInfos = new StatusEffectInfo[status.get(entity).getTotalStatusEffects()];
-                        for (int i = 0; i < currentStatusEffects.size; i++)
-                            statusInfos[i] = currentStatusEffects.get(i).createStatusEffectInfo();
-
-                        value = new EntityValue(bm.get(entity).pos, team.get(entity).teamNumber, bm.get(entity).BOARD_ENTITY_ID, stm.get(entity).hp,
-                            stm.get(entity).maxHP, stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, statusInfos, 0);
-                    }
-                } else { //not on a team
-                    if (!status.has(entity)) {
-                        value = new EntityValue(bm.get(entity).pos, -1, -1, stm.get(entity).hp, stm.get(entity).maxHP,
-                             stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, 0);
-                    } else {
-                        Array<StatusEffect> currentStatusEffects = status.get(entity).getStatusEffects();
-                        StatusEffectInfo[] statusInfos = new StatusEffectInfo[status.get(entity).getTotalStatusEffects()];
-                        for (int i = 0; i < currentStatusEffects.size; i++)
-                            statusInfos[i] = currentStatusEffects.get(i).createStatusEffectInfo();
-
-                        value = new EntityValue(bm.get(entity).pos, -1, -1, stm.get(entity).hp, stm.get(entity).maxHP,
-                             stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, statusInfos, 0);
-                    }
-                }
-            } else continue;
+        this(e, boardZones, BoardComponent.boards.getCodeBoard().getRows(), BoardComponent.boards.getCodeBoard().getColumns());
+    }
+
+    /**
+     * Creates a {@link BoardState} using entities and their teams.
+     * @param e Array of Entities
+     * @param boardZones Zones
+     * @param rows row size of the board
+     * @param columns column size of the board
+     */
+    public BoardState(Array<Entity> e, Array<Array<BoardPosition>> boardZones, int rows, int columns) {
+        liveEntityCount = new int[3];
+        entities = new EntityMap(rows, columns, e.size);
+        // indexed, since the layout's entities can be shared by boards on other threads
+        for (int i = 0; i < e.size; i++)
+            putEntity(e.get(i), bm.get(e.get(i)).pos);
+        teamValues = findTeamValues();
+
+        zones = boardZones;
+        invisibleTiles = new boolean[rows * columns];
+        Board board = BoardComponent.boards == null ? null : BoardComponent.boards.getBoard();
+        if (board != null && board.getRowSize() == rows && board.getColumnSize() == columns) {
+            for (int r = 0; r < rows; r++)
+                for (int c = 0; c < columns; c++)
+                    invisibleTiles[r * columns + c] = board.getTile(r, c).isInvisible();
+        }
+    }
+
+    /**
+     * Creates a {@link BoardState} of a game that is about to start on a {@link BoardLayout}. Does not use the board in
+     * {@link BoardComponent}, so it can be used to play games without a screen.
+     * @param layout layout of the board. Entities are put on their start positions.
+     */
+    public BoardState(BoardLayout layout) {
+        liveEntityCount = new int[3];
+        entities = new EntityMap(layout.getRows(), layout.getColumns(), layout.getEntities().size);
+        for (int i = 0; i < layout.getEntities().size; i++)
+            putEntity(layout.getEntities().get(i), layout.getStartPosition(i));
+        teamValues = findTeamValues();
+
+        zones = layout.getZones();
+        invisibleTiles = layout.getInvisibleTiles();
+    }
 
-            //add new entityValue to liveEntityCount
-            if (value.team != -1) {
-                liveEntityCount.set(value.team, liveEntityCount.get(value.team) + 1);
+    /**
+     * Puts the {@link EntityValue} of an Entity on the board, using the Entity's current stats and status effects. Does nothing if
+     * the Entity is dead.
+     * @param entity Entity being put on the board
+     * @param position position of the Entity
+     */
+    private void putEntity(Entity entity, BoardPosition position) {
+        EntityValue value;
+        if (stm.has(entity) && stm.get(entity).alive) {
+            if (team.has(entity)) { //on a team
+                if (!status.has(entity)) { //does not have status effect
+                    value = new EntityValue(position, team.get(entity).teamNumber, bm.get(entity).BOARD_ENTITY_ID, stm.get(entity).hp,
+                            stm.get(entity).maxHP, stm.get(entity).sp, stm.get(entity).maxSP,  stm.get(entity).atk, stm.get(entity).def, 0);
+                } else { //does have status effect
+                    Array<StatusEffect> currentStatusEffects = status.get(entity).getStatusEffects();
+                    StatusEffectInfo[] statusInfos = new StatusEffectInfo[status.get(entity).getTotalStatusEffects()];
+                    for (int i = 0; i < currentStatusEffects.size; i++)
+                        statusInfos[i] = currentStatusEffects.get(i).createStatusEffectInfo();
+
+                    value = new EntityValue(position, team.get(entity).teamNumber, bm.get(entity).BOARD_ENTITY_ID, stm.get(entity).hp,
+                        stm.get(entity).maxHP, stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, statusInfos, 0);
+                }
+            } else { //not on a team
+                if (!status.has(entity)) {
+                    value = new EntityValue(position, -1, -1, stm.get(entity).hp, stm.get(entity).maxHP,
+                         stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, 0);
+                } else {
+                    Array<StatusEffect> currentStatusEffects = status.get(entity).getStatusEffects();
+                    StatusEffectInfo[] statusInfos = new StatusEffectInfo[status.get(entity).getTotalStatusEffects()];
+                    for (int i = 0; i < currentStatusEffects.size; i++)
+                        statusInfos[i] = currentStatusEffects.get(i).createStatusEffectInfo();
+
+                    value = new EntityValue(position, -1, -1, stm.get(entity).hp, stm.get(entity).maxHP,
+                         stm.get(entity).sp, stm.get(entity).maxSP, stm.get(entity).atk, stm.get(entity).def, statusInfos, 0);
+                }
             }
-            entities.put(entity, bm.get(entity).pos, value);
+        } else return;
+
+        //copy the rest of what searches read from the Entity, since its components can change while the board is searched
+        value.speed = stm.get(entity).spd;
+        if (mvm.has(entity)) {
+            Array<Move> moveList = mvm.get(entity).moveList;
+            value.moveOrientations = new byte[moveList.size];
+            for (int i = 0; i < moveList.size; i++)
+                value.moveOrientations[i] = (byte) moveList.get(i).getOrientation();
         }
 
-        zones = boardZones;
+        //add new entityValue to liveEntityCount
+        if (value.team != -1) {
+            liveEntityCount[value.team]++;
+        }
+        entities.put(entity, position, value);
     }
 
     /**
@@ -78,11 +176,17 @@ public class BoardState {
      * @param entityMap Map of entities on the board
      * @param boardZones Zones
      * @param entitiesAliveCount Number of Entities from each team that are alive
+     * @param values value of each team's Entities, as in {@link #teamValues}
+     * @param invisible invisible tiles of the board
      */
-    public BoardState(EntityMap entityMap, Array<Array<BoardPosition>> boardZones, Array<Integer> entitiesAliveCount) {
+    private BoardState(EntityMap entityMap, Array<Array<BoardPosition>> boardZones, int[] entitiesAliveCount, int[] values, boolean[] invisible) {
         entities = entityMap;
         zones = boardZones;
-        liveEntityCount = new Array<Integer>(entitiesAliveCount);
+        invisibleTiles = invisible;
+        liveEntityCount = new int[entitiesAliveCount.length];
+        System.arraycopy(entitiesAliveCount, 0, liveEntityCount, 0, entitiesAliveCount.length);
+        teamValues = new int[values.length];
+        System.arraycopy(values, 0, teamValues, 0, values.length);
     }
 
     /**
@@ -91,19 +195,17 @@ public class BoardState {
      * @return The {@link BoardState} for chaining
      */
     public BoardState tryTurn(Turn t) {
+        changeCount++;
         //get User
-        EntityValue userEntity = entities.get(t.entity);
-
-        if (userEntity == null) //user died, do nothing
+        int userSlot = entities.getSlot(t.entity);
+        if (userSlot == EntityMap.EMPTY || entities.get(userSlot) == null) //user died, do nothing
                 return this;
+        EntityValue userEntity = entities.getMutable(userSlot);
+        // the user can be changed by its own attack and misc effects, so it is counted again once the turn is done
+        removeValue(userEntity);
 
         //movement
-        if (!t.pos.equals(userEntity.pos)) {
-            if (entities.containsKey(userEntity.pos)) {
-                entities.put(t.entity, t.pos, entities.remove(t.entity));
-                userEntity.pos = t.pos.copy();
-            }
-        }
+        moveEntity(userSlot, userEntity, t.pos);
 
         //attack
         if (t.attack != -1) {
@@ -112,11 +214,14 @@ public class BoardState {
             //deduct sp cost
             userEntity.sp -= move.spCost();
 
-            for (BoardPosition pos : move.getOrientedAttackPositions(t.direction, move)) {
-                BoardPosition newPos = pos.add(t.pos.r, t.pos.c);
+            int[] attackOffsets = userEntity.getAttackOffsets(move, t.attack, t.direction);
+            for (int offset : attackOffsets) {
+                int targetSlot = entities.getSlot(Move.getRowOffset(offset) + t.pos.r, Move.getColumnOffset(offset) + t.pos.c);
 
-                if (entities.containsKey(newPos)) {
-                    EntityValue e = entities.get(newPos); // entity targeted by attack
+                if (targetSlot != EntityMap.EMPTY) {
+                    EntityValue e = entities.getMutable(targetSlot); // entity targeted by attack
+                    if (targetSlot != userSlot)
+                        removeValue(e);
                     // damage
                     int oldHp = e.hp;
                     if (move.moveInfo().pierces)
@@ -134,7 +239,7 @@ public class BoardState {
                     if (move.moveInfo().statusEffects != null && e.acceptsStatusEffects) {
                         for (StatusEffectInfo status : move.moveInfo().statusEffects) {
                             if (!e.statusEffectInfos.contains(status, false))
-                                e.statusEffectInfos.add(status);
+                                e.statusEffectInfos.add(status.copy());
                         }
                     }
 
@@ -148,32 +253,81 @@ public class BoardState {
 
                     //remove dead
                     if (e.hp <= 0) {
-                        entities.remove(e);
+                        entities.remove(targetSlot);
                         if (e.team != -1)
-                            liveEntityCount.set(e.team, liveEntityCount.get(e.team) - 1);
-                    }
-                } else { //attacking on an empty space
-                    //NOW pruned so this should never be an issue
-                    if (move.getOrientedAttackPositions(t.direction, move).size == 1) {
-                        System.out.println("OCCURING WEE WAAA (On Non-Multihit)"); // <- or is it?
+                            liveEntityCount[e.team]--;
+                    } else if (targetSlot != userSlot) {
+                        addValue(e);
                     }
                 }
+                // attacks on empty spaces are pruned from single target moves, so nothing happens for them here
             }
 
         }
 
+        if (entities.get(userSlot) != null) //user wasn't killed by its own attack
+            addValue(userEntity);
         return this;
     }
 
+    /**
+     * Does a {@link Turn} on this {@link BoardState} in a way that can be undone with {@link #undo()}. Used instead of copying the
+     * board and calling {@link #tryTurn(Turn)} when searching.
+     * @param t turn being done
+     */
+    public void applyTurn(Turn t) {
+        beginChange();
+        tryTurn(t);
+    }
+
+    /**
+     * Does the end of turn effects of a team in a way that can be undone with {@link #undo()}.
+     * @param team team which is having turn effects inflicted on
+     */
+    public void applyTurnEffects(int team) {
+        beginChange();
+        doTurnEffects(team);
+    }
+
+    /**
+     * Undoes the last {@link #applyTurn(Turn)} or {@link #applyTurnEffects(int)}.
+     */
+    public void undo() {
+        changeCount++;
+        entities.undoChanges();
+        for (int i = liveEntityCount.length - 1; i >= 0; i--)
+            liveEntityCount[i] = savedLiveEntityCounts.pop();
+        for (int i = teamValues.length - 1; i >= 0; i--)
+            teamValues[i] = savedTeamValues.pop();
+    }
+
+    private void beginChange() {
+        entities.beginChanges();
+        savedLiveEntityCounts.addAll(liveEntityCount);
+        savedTeamValues.addAll(teamValues);
+    }
+
+    /**
+     * Moves an Entity to a new position. Does nothing if it is already there, or if the new position is taken by another Entity.
+     */
+    private void moveEntity(int slot, EntityValue value, BoardPosition newPos) {
+        if (newPos.r == value.pos.r && newPos.c == value.pos.c)
+            return;
+        if (entities.getSlot(newPos.r, newPos.c) != EntityMap.EMPTY)
+            return;
+        entities.move(slot, newPos.r, newPos.c);
+    }
+
     /**
      * Does the end of turn effects on an Entity
      * @param team team which is having turn effects inflicted on
      */
     public void doTurnEffects(int team) {
-        Array<EntityValue> entityValues = entities.getEntityValues();
-
-        for (EntityValue e : entityValues) {
-            if (e.team == team) {
+        changeCount++;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            if (entities.get(i) != null && entities.get(i).team == team) {
+                EntityValue e = entities.getMutable(i);
+                removeValue(e);
                 //increment SP
                 e.sp = MathUtils.clamp(e.sp + 1, 0, e.getModMaxSp());
                 // Increment Status Effects
@@ -188,6 +342,7 @@ public class BoardState {
                         }
                     }
                 }
+                addValue(e);
             }
         }
     }
@@ -199,12 +354,58 @@ public class BoardState {
      */
     public int evaluate(int homeTeam) {
         int val = 0;
-        for (EntityValue e : entities.getEntityValues()) {
-            val += e.getValue(homeTeam);
+        for (int i = 0; i < teamValues.length; i++) {
+            if (i - 1 == homeTeam)
+                val += teamValues[i];
+            else
+                val -= teamValues[i];
+        }
+        assert val == evaluateFromScratch(homeTeam) : "Kept value " + val + " is not " + evaluateFromScratch(homeTeam) + "\n" + this;
+        return val;
+    }
+
+    /**
+     * Evaluates the state of the board by going through every Entity, instead of using the values kept as the board changes. Gives the
+     * same result as {@link #evaluate(int)}, which checks that it does when assertions are on.
+     * @param homeTeam The team's perspective. Entities on that team will be added, while others are subtracted.
+     * @return integer representing the value of all {@link EntityValue}s added together
+     */
+    public int evaluateFromScratch(int homeTeam) {
+        int val = 0;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            if (entities.get(i) != null)
+                val += entities.get(i).getValue(homeTeam);
         }
         return val;
     }
 
+    /**
+     * @return value of each team's Entities, as in {@link #teamValues}, found by going through every Entity
+     */
+    private int[] findTeamValues() {
+        int[] values = new int[liveEntityCount.length + 1];
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue value = entities.get(i);
+            if (value != null)
+                values[value.team + 1] += value.getValue(value.team);
+        }
+        return values;
+    }
+
+    /**
+     * Adds the value of an Entity to its team's value. Called after it changes.
+     */
+    private void addValue(EntityValue value) {
+        teamValues[value.team + 1] += value.getValue(value.team);
+    }
+
+    /**
+     * Takes the value of an Entity out of its team's value. Called before it changes.
+     */
+    private void removeValue(EntityValue value) {
+        teamValues[value.team + 1] -= value.getValue(value.team);
+    }
+
     /**
      * Changes the state of the {@link BoardState} based on the effects of the {@link Turn}. Only performs the movement and not the
      * attack. Is used to prune redundant moves in the AI
@@ -212,19 +413,14 @@ public class BoardState {
      * @return The {@link BoardState} for chaining
      */
     public BoardState tryTurnMovementOnly(Turn t) {
+        changeCount++;
         //get User
-        EntityValue userEntity = entities.get(t.entity);
-
-        if (userEntity == null) //user died, do nothing
+        int userSlot = entities.getSlot(t.entity);
+        if (userSlot == EntityMap.EMPTY || entities.get(userSlot) == null) //user died, do nothing
             return this;
 
         //movement
-        if (!t.pos.equals(userEntity.pos)) {
-            if (entities.containsKey(userEntity.pos)) {
-                entities.put(t.entity, t.pos, entities.remove(t.entity));
-                userEntity.pos = t.pos.copy();
-            }
-        }
+        moveEntity(userSlot, entities.get(userSlot), t.pos);
 
         return this;
     }
@@ -233,9 +429,9 @@ public class BoardState {
      * @return index of the team still on the board. Does not count the 1st attack only teams, and will return -1 if no teams qualifies.
      */
     public int getLastTeamStanding() {
-        if (liveEntityCount.get(0) <= 0)
+        if (liveEntityCount[0] <= 0)
             return 1;
-        else if (liveEntityCount.get(1) <= 0)
+        else if (liveEntityCount[1] <= 0)
             return 0;
         else
             return -1;
@@ -246,21 +442,277 @@ public class BoardState {
      * @return whether the chosen position is occupied by an entity
      */
     public boolean isOccupied(BoardPosition bp) {
-        return entities.get(bp) != null;
+        return entities.getSlot(bp.r, bp.c) != EntityMap.EMPTY;
+    }
+
+    /**
+     * @param r row being checked
+     * @param c column being checked
+     * @return whether the chosen position is occupied by an entity
+     */
+    public boolean isOccupied(int r, int c) {
+        return entities.getSlot(r, c) != EntityMap.EMPTY;
+    }
+
+    /**
+     * Finds every position an Entity can move to. Gives the same positions as the movement tiles shown to the player: spreads up to spd
+     * tiles without going through Entities or invisible tiles, and never goes both up and down. Does not allocate anything after
+     * the first call, so it can be used while searching.
+     * @param r row the Entity is on
+     * @param c column the Entity is on
+     * @param spd how many tiles the Entity can move
+     * @param positions filled with the positions found, packed as row * columns + column. Should fit every tile on the board. null
+     *                  to only count them.
+     * @return how many positions were found. Does not include the position the Entity is on.
+     */
+    public int getReachablePositions(int r, int c, int spd, int[] positions) {
+        if (spd <= 0)
+            return 0;
+        if (spreadQueue == null) {
+            reached = new BitSet(invisibleTiles.length);
+            found = new BitSet(invisibleTiles.length);
+            spreadQueue = new int[invisibleTiles.length];
+        }
+
+        found.clear();
+        int count = spreadPositions(r, c, spd, 0, positions, 0); // never goes up
+        return spreadPositions(r, c, spd, 2, positions, count); // never goes down
+    }
+
+    /**
+     * Breadth first spread used by {@link #getReachablePositions(int, int, int, int[])}.
+     * @param skippedDirection direction that is never taken. 0 : top, 2 : bottom
+     * @param count positions already in the array
+     * @return positions in the array after the spread
+     */
+    private int spreadPositions(int r, int c, int spd, int skippedDirection, int[] positions, int count) {
+        int rows = entities.getRows();
+        int columns = entities.getColumns();
+        reached.clear();
+        reached.set(r * columns + c);
+        spreadQueue[0] = r * columns + c;
+        int head = 0;
+        int tail = 1;
+
+        for (int distance = 0; distance < spd && head < tail; distance++) {
+            int distanceEnd = tail;
+            while (head < distanceEnd) {
+                int cell = spreadQueue[head++];
+                int cellRow = cell / columns;
+                int cellColumn = cell % columns;
+                for (int i = 0; i < 4; i++) {
+                    if (i == skippedDirection)
+                        continue;
+                    int nextRow = cellRow + ROW_STEPS[i];
+                    int nextColumn = cellColumn + COLUMN_STEPS[i];
+                    if (nextRow < 0 || nextRow >= rows || nextColumn < 0 || nextColumn >= columns)
+                        continue;
+                    int next = nextRow * columns + nextColumn;
+                    if (reached.get(next) || invisibleTiles[next] || entities.getSlot(nextRow, nextColumn) != EntityMap.EMPTY)
+                        continue;
+
+                    reached.set(next);
+                    spreadQueue[tail++] = next;
+                    if (!found.get(next)) {
+                        found.set(next);
+                        if (positions != null)
+                            positions[count] = next;
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds every position an Entity can move to, the same as {@link #getReachablePositions(int, int, int, int[])}, as a
+     * {@link Bitboard}.
+     * @param cells cleared, then filled with the positions found. Does not include the position the Entity is on.
+     */
+    public void getReachableCells(int r, int c, int spd, Bitboard cells) {
+        cells.clear();
+        if (getReachablePositions(r, c, spd, null) == 0)
+            return;
+        for (int cell = found.nextSetBit(0); cell >= 0; cell = found.nextSetBit(cell + 1))
+            cells.set(cell);
+    }
+
+    /**
+     * Finds every position an Entity can move to as a {@link Bitboard}, without allocating anything after the first call.
+     * @return positions found. Changes with the next call, and can be changed.
+     */
+    public Bitboard getReachableCells(int r, int c, int spd) {
+        if (reachableCellsResult == null)
+            reachableCellsResult = new Bitboard(entities.getRows(), entities.getColumns());
+        getReachableCells(r, c, spd, reachableCellsResult);
+        return reachableCellsResult;
+    }
+
+    /**
+     * @return a cleared {@link Bitboard} the size of the board, for marking cells without allocating anything after the first call.
+     * The same one is returned by the next call.
+     */
+    Bitboard getCellBuffer() {
+        if (cellBuffer == null)
+            cellBuffer = new Bitboard(entities.getRows(), entities.getColumns());
+        else
+            cellBuffer.clear();
+        return cellBuffer;
+    }
+
+    /**
+     * Finds every cell the Entities of a team could hit on their next turn, after moving anywhere they can, with the moves they have
+     * the skill points for. Entities that can't move or attack because of a status effect hit nothing. Found again only after the
+     * board has changed.
+     * @param team team number. -1 for Entities without a team.
+     * @return cells the team could hit. Changes with the board, and should not be changed.
+     */
+    public Bitboard getAttackCoverage(int team) {
+        int rows = entities.getRows();
+        int columns = entities.getColumns();
+        if (attackCoverage == null) {
+            attackCoverage = new Bitboard[liveEntityCount.length + 1];
+            for (int i = 0; i < attackCoverage.length; i++)
+                attackCoverage[i] = new Bitboard(rows, columns);
+            coverageFoundAt = new int[attackCoverage.length];
+            Arrays.fill(coverageFoundAt, -1);
+            reachableCells = new Bitboard(rows, columns);
+            enemyCoverage = new Bitboard(rows, columns);
+        }
+        Bitboard coverage = attackCoverage[team + 1];
+        if (coverageFoundAt[team + 1] == changeCount)
+            return coverage;
+
+        coverage.clear();
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue value = entities.get(i);
+            if (value == null || value.team != team || value.hasNonMovingStatus())
+                continue;
+            Entity entity = entities.getEntity(i);
+            if (!mvm.has(entity) || !stm.has(entity))
+                continue;
+
+            getReachableCells(value.pos.r, value.pos.c, value.getModSpd(), reachableCells);
+            reachableCells.set(entities.toCell(value.pos.r, value.pos.c));
+            Array<Move> moveList = mvm.get(entity).moveList;
+            for (int m = 0; m < moveList.size; m++) {
+                if (moveList.get(m).spCost() > value.sp)
+                    continue;
+                for (int direction = 0; direction < 4; direction++)
+                    for (int offset : value.getAttackOffsets(moveList.get(m), m, direction))
+                        coverage.orShifted(reachableCells, -Move.getRowOffset(offset), -Move.getColumnOffset(offset));
+            }
+        }
+        coverageFoundAt[team + 1] = changeCount;
+        return coverage;
+    }
+
+    /**
+     * @param team team number
+     * @return cells Entities of the other teams could hit on their next turn, from {@link #getAttackCoverage(int)}. Entities without a
+     * team are not counted. Changes with the next call, and should not be changed.
+     */
+    public Bitboard getEnemyAttackCoverage(int team) {
+        Bitboard coverage = null;
+        for (int i = 0; i < liveEntityCount.length; i++) {
+            if (i == team)
+                continue;
+            Bitboard teamCoverage = getAttackCoverage(i);
+            if (coverage == null) {
+                coverage = enemyCoverage;
+                coverage.set(teamCoverage);
+            } else
+                coverage.or(teamCoverage);
+        }
+        return coverage;
+    }
+
+    /**
+     * Checks whether a position would be occupied after the movement of a {@link Turn} is done, without changing the board. Gives
+     * the same result as {@code copy().tryTurnMovementOnly(t).isOccupied(r, c)}.
+     * @param t turn that is moving
+     * @param r row being checked
+     * @param c column being checked
+     * @return whether the chosen position would be occupied by an entity
+     */
+    public boolean isOccupiedAfterMovement(Turn t, int r, int c) {
+        int userSlot = entities.getSlot(t.entity);
+        EntityValue user = userSlot == EntityMap.EMPTY ? null : entities.get(userSlot);
+        if (user != null && !(t.pos.r == user.pos.r && t.pos.c == user.pos.c) && !isOccupied(t.pos.r, t.pos.c)) { // user will move
+            if (r == t.pos.r && c == t.pos.c)
+                return true;
+            if (r == user.pos.r && c == user.pos.c)
+                return false;
+        }
+        return isOccupied(r, c);
+    }
+
+    /**
+     * Estimates how much the attack of a {@link Turn} changes the value of the board for the user's team, from the damage it does and
+     * the Entities it knocks out, without changing the board. Damage to the user's team counts against it. Status effects and other
+     * effects of the move are not counted. Used to order turns in the search.
+     * @param t turn being estimated
+     * @return change in value from the attack, in the same units as {@link #evaluate(int)}. 0 if it doesn't attack.
+     */
+    public int estimateAttackValue(Turn t) {
+        if (t.attack == -1)
+            return 0;
+        return estimateAttackValue(t, mvm.get(t.entity).moveList.get(t.attack));
+    }
+
+    /**
+     * {@link #estimateAttackValue(Turn)} with the move of the turn already looked up, for when many turns of the same Entity are
+     * estimated.
+     * @param move move the turn attacks with
+     */
+    public int estimateAttackValue(Turn t, Move move) {
+        int userSlot = entities.getSlot(t.entity);
+        EntityValue user = userSlot == EntityMap.EMPTY ? null : entities.get(userSlot);
+        if (user == null)
+            return 0;
+        boolean userMoves = !(t.pos.r == user.pos.r && t.pos.c == user.pos.c) && !isOccupied(t.pos.r, t.pos.c);
+
+        int damage = (int) (move.moveInfo().ampValue * user.getModAtk());
+        int value = 0;
+        for (int offset : user.getAttackOffsets(move, t.attack, t.direction)) {
+            int r = Move.getRowOffset(offset) + t.pos.r;
+            int c = Move.getColumnOffset(offset) + t.pos.c;
+            int targetSlot = entities.getSlot(r, c);
+            if (userMoves) {
+                if (r == t.pos.r && c == t.pos.c)
+                    targetSlot = userSlot;
+                else if (r == user.pos.r && c == user.pos.c)
+                    targetSlot = EntityMap.EMPTY;
+            }
+            if (targetSlot == EntityMap.EMPTY)
+                continue;
+
+            // same as the damage done by tryTurn
+            EntityValue target = entities.get(targetSlot);
+            if (target == null || target.team == -1)
+                continue;
+            int newHp;
+            if (move.moveInfo().pierces)
+                newHp = MathUtils.clamp(target.hp - damage, 0, target.getModMaxHp());
+            else
+                newHp = MathUtils.clamp(target.hp - MathUtils.clamp(damage - target.getModDef(), 0, 999), 0, target.getModMaxHp());
+
+            // matches the value of hp and being alive in EntityValue#getValue
+            int targetValue = (target.hp - newHp) * 30 + (newHp <= 0 ? 300 : 0);
+            value += target.team == user.team ? -targetValue : targetValue;
+        }
+        return value;
     }
 
     /**
      * @return A copy of this object
      */
     public BoardState copy() {
-        EntityMap map = new EntityMap();
-        for (EntityValue e : entities.getEntityValues()) {
-            map.put(entities.getKeyEntity(e), e.pos.copy(), e.copy());
-        }
-        return new BoardState(map, zones, liveEntityCount);
+        return new BoardState(entities.copy(), zones, liveEntityCount, teamValues, invisibleTiles);
     }
 
-    public Array<Integer> getLiveEntityCount() {
+    public int[] getLiveEntityCount() {
         return liveEntityCount;
     }
 
@@ -274,8 +726,8 @@ public class BoardState {
         // If a team has one entity left
         int lowestAlive = 999;
         for (int i = 0; i < 2; i++) {
-            if (lowestAlive > liveEntityCount.get(i)) { // Only go through playable teams
-                lowestAlive = liveEntityCount.get(i);
+            if (lowestAlive > liveEntityCount[i]) { // Only go through playable teams
+                lowestAlive = liveEntityCount[i];
             }
         }
         if (lowestAlive <= 1) return true;
@@ -304,6 +756,33 @@ public class BoardState {
     }
 
 
+    /**
+     * @return Zobrist style key of the board. Boards with the same entities, positions, hp, sp and status effects have the same key.
+     */
+    public long getHash() {
+        return entities.getHash();
+    }
+
+    /**
+     * Checks if another {@link BoardState} has the same entities in the same state. Unlike {@link #getHash()}, works for boards
+     * that were made separately, such as a board that was predicted and the board that actually happened.
+     * @param other board being compared
+     * @return True, if every entity is on both boards and {@link EntityValue#isSameState(EntityValue)}. False otherwise.
+     */
+    public boolean isSamePosition(BoardState other) {
+        if (entities.size() != other.entities.size())
+            return false;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue value = entities.get(i);
+            if (value == null)
+                continue;
+            EntityValue otherValue = other.entities.get(entities.getEntity(i));
+            if (otherValue == null || !value.isSameState(otherValue))
+                return false;
+        }
+        return true;
+    }
+
     public EntityMap getEntities() {
         return entities;
     }
@@ -372,25 +851,16 @@ public class BoardState {
                 char entityZoneChar = '?'; //char representing whats going on that space
                 //region get what char to display
                 BoardPosition curPos = new BoardPosition(i, j);
-                for (ObjectMap.Entry<BoardPosition, EntityValue> posPair : entities.getPositionEntityValuePairs()) { //entities
-                    if (curPos.equals(posPair.key)) { // team 1
-                        if (posPair.value.team == 1) {
-                            entityZoneChar = TEAM_1_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == 0) { // team 0
-                            entityZoneChar = TEAM_0_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == 2) { // team 2
-                            entityZoneChar = TEAM_2_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == -1) { // object
-                            entityZoneChar = OBJECT_ICON;
-                            break;
-                        }
-                    }
+                EntityValue entityOnSpace = entities.get(curPos);
+                if (entityOnSpace != null) { //entities
+                    if (entityOnSpace.team == 1) // team 1
+                        entityZoneChar = TEAM_1_ICON;
+                    else if (entityOnSpace.team == 0) // team 0
+                        entityZoneChar = TEAM_0_ICON;
+                    else if (entityOnSpace.team == 2) // team 2
+                        entityZoneChar = TEAM_2_ICON;
+                    else if (entityOnSpace.team == -1) // object
+                        entityZoneChar = OBJECT_ICON;
                 }
                 // if haven't found it yet, look to see if its a zone
                 if (zones != null) {
@@ -415,8 +885,8 @@ public class BoardState {
             outputString.append(ev.BOARD_ENTITY_ID + " T: " + ev.team + "  " + ev.hp + " / " + ev.maxHp + '\n');
         }
         // print number of entities still alive
-        outputString.append("Number Still Alive:  0| " + liveEntityCount.get(0) + "  1| " + liveEntityCount.get(1) +
-                "  2| " + liveEntityCount.get(2) + "\n");
+        outputString.append("Number Still Alive:  0| " + liveEntityCount[0] + "  1| " + liveEntityCount[1] +
+                "  2| " + liveEntityCount[2] + "\n");
         /**
          * Example of output
          *     0 1 2
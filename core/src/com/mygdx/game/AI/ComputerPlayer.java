@@ -3,6 +3,8 @@ package com.mygdx.game.AI;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Sort;
 import com.mygdx.game.ComponentMappers;
 import com.mygdx.game.boards.BoardManager;
 import com.mygdx.game.boards.BoardPosition;
@@ -11,7 +13,16 @@ import com.mygdx.game.misc.Tuple;
 import com.mygdx.game.move_related.Move;
 import com.mygdx.game.rules_types.Team;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.mygdx.game.ComponentMappers.*;
 
@@ -21,25 +32,62 @@ import static com.mygdx.game.ComponentMappers.*;
  * @author Phillip O'Reggio
  */
 public class ComputerPlayer implements Runnable {
-    public int DEBUG_TURNS_PROCESSED = 0;
-    public long PROCESSING_TIME;
-
     private volatile boolean processing = false;
+    /**
+     * Set by {@link #stopThread()}, and only cleared by {@link #resetStop()}, so a stop that comes just before {@link #run()} starts
+     * isn't lost when it sets {@link #processing}
+     */
+    private volatile boolean stopRequested;
     /**
      * Represents how far it is in processing computer's turns. Value is always between 0 and 4, with 1 meaning it is
      * processing the first of a team of 4 and 4 meaning it is on the last entity. 0 means it is not processing. If a team has
      * fewer than 4, it will skip 1, 2, etc. and go towards 4.
      */
     private byte progress = 0;
+    /** Told each time {@link #progress} changes. Can be null. */
+    private ProgressListener progressListener;
+    /** Stats of the search going on, or the last one that finished */
+    private SearchStats searchStats = new SearchStats(0, System.nanoTime());
+    /** Told the stats of each search that finishes. Can be null. */
+    private SearchListener searchListener;
+    /** Random numbers of the player. Each search splits its own generator from it, so it can be seeded with {@link #setSeed(long)}. */
+    private SplittableRandom random = new SplittableRandom(MathUtils.random.nextLong());
+    /** Random numbers of the search going on. Only used by the thread running the search. */
+    private SplittableRandom searchRandom = random.split();
     private Array<Turn> decidedTurns;
     private int teamControlled;
     private Array<Array<BoardPosition>> zoneLocations; /** To win, Entities land on their team's zone */
+    /** Cells of each team's zones on the board being searched, from {@link EntityMap#toCell(int, int)}. null if there are no zones. */
+    private int[][] zoneCells;
     private BoardState currentBoardState;
 
     private BoardManager boards;
     private Array<Team> teams;
     private Array<EntityTeamPairing> entityTeamPairings;
+    /** Deepest depth level the search goes to */
     private int depthLevel;
+    /**
+     * How long the computer can think for in milliseconds. Searches stop going deeper once this runs out.
+     */
+    private long thinkingTimeLimit;
+    /** Time, from {@link System#nanoTime()}, that the current search has to finish by */
+    private long searchDeadline;
+    /** Whether the current search ran past {@link #searchDeadline} */
+    private volatile boolean outOfTime;
+    /** How many turns are searched between each check of the time */
+    private static final int TIME_CHECK_INTERVAL = 256;
+    /**
+     * Threads the turns an entity can start with are spread across. Shared by all computer players, and sized to the number of cores.
+     */
+    static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    /** Whether the search is spread across {@link #SEARCH_POOL}. Does nothing on a single core. */
+    private boolean parallelSearch = true;
+    /** How the turns are chosen */
+    private SearchStrategy searchStrategy = new NegamaxSearch();
+    /** How boards are valued at the end of the search */
+    private Evaluator evaluator = new WeightedEvaluator();
+    /** Best turns found by the last depth level that finished. Searched first by the next depth level. */
+    private Array<Turn> previousBestTurns;
     private Array<Turn> depthArrayResults;
     /**
      * Whether it should only get the first attack for all controlled entities on team. Typically false, and used for debugging purposes.
@@ -54,6 +102,30 @@ public class ComputerPlayer implements Runnable {
      * Should be between 0 and 1 inclusive. Higher values means it has a higher change of not including a best move.
      */
     private float forgetBestMoveChance = 0;
+    /**
+     * Whether each turn is forgotten in the current search, by the code of the turn from {@link SearchContext#getKillerCode(int, int)}.
+     * Chosen once for each turn, so every depth level forgets the same turns. Cleared at the start of each search.
+     */
+    private final LongMap<Boolean> forgottenTurns = new LongMap<>();
+    /** Whether the progress of searches is printed. {@link SearchListener} should be used to get the stats of searches instead. */
+    private boolean logging = false;
+    /**
+     * Values of boards that have been searched. Kept between searches, so boards the last search or pondering looked at don't have to
+     * be searched again. Only cleared when the way boards are valued changes. Shared by all threads of a parallel search.
+     */
+    private TranspositionTable transpositionTable = new TranspositionTable(18);
+    /** How often each turn caused a cutoff. Cleared at the start of each search. */
+    private HistoryTable historyTable = new HistoryTable();
+    /** Values past this are knockouts, which are scored by how deep in the search they were found */
+    private static final int KNOCKOUT_VALUE = 9000000;
+    //region move ordering scores. Turns with higher scores are searched first.
+    /** Best turn stored in the transposition table */
+    private static final int TABLE_TURN_SCORE = 1 << 30;
+    /** Attacks expected to do more damage to other teams than to their own. Their expected value is added. */
+    private static final int ATTACK_SCORE = 1 << 26;
+    /** Turns that caused a cutoff at the same depth. The older one is 1 less. Other turns are scored by their history. */
+    private static final int KILLER_SCORE = 1 << 25;
+    //endregion
 
     /**
      * The Computer Player AI of the game. Comes in 4 difficulties, Easy, Normal, and Hard for normal AI play, and First-Attack for certain special stage props.
@@ -67,9 +139,11 @@ public class ComputerPlayer implements Runnable {
         boards = b;
         teams = t;
         entityTeamPairings = new Array<>();
+        // indexed, since the teams can be shared by players on other threads and Array's iterators can't
         for (int i = 0; i < teams.size; i++) {
-            for (Entity e : teams.get(i).getEntities()) {
-                entityTeamPairings.add(new EntityTeamPairing(e, i));
+            Array<Entity> entities = teams.get(i).getEntities();
+            for (int j = 0; j < entities.size; j++) {
+                entityTeamPairings.add(new EntityTeamPairing(entities.get(j), i));
             }
         }
         teamControlled = teamIndexControlled;
@@ -90,9 +164,11 @@ public class ComputerPlayer implements Runnable {
         boards = b;
         teams = t;
         entityTeamPairings = new Array<>();
+        // indexed, since the teams can be shared by players on other threads and Array's iterators can't
         for (int i = 0; i < teams.size; i++) {
-            for (Entity e : teams.get(i).getEntities()) {
-                entityTeamPairings.add(new EntityTeamPairing(e, i));
+            Array<Entity> entities = teams.get(i).getEntities();
+            for (int j = 0; j < entities.size; j++) {
+                entityTeamPairings.add(new EntityTeamPairing(entities.get(j), i));
             }
         }
         zoneLocations = zones;
@@ -109,111 +185,228 @@ public class ComputerPlayer implements Runnable {
     public void run() {
         processing = true;
         decidedTurns.clear();
-        PROCESSING_TIME = System.nanoTime();
-
-        if (getFirstAttackAlways) {
-            decidedTurns = getFirstAttacks(teamControlled);
-        } else {
-            if (randomizeDepthLevel) {
-                int newDepth = depthLevel;
-                newDepth = MathUtils.clamp(newDepth + MathUtils.random(-1, 1), 0, 999);
-                System.out.println("Processing: atDepth: " + newDepth + ", teamControlled: " + teamControlled);
-
-                decidedTurns = getBestTurnsNegamax(currentBoardState, teamControlled);
-            } else {
-                System.out.println("Processing: atDepth: " + depthLevel + ", teamControlled: " + teamControlled);
-                decidedTurns = getBestTurnsNegamax(currentBoardState, teamControlled);
-            }
+        // checked after processing is set, so a stop from now on clears processing instead
+        if (stopRequested) {
+            processing = false;
+            return;
         }
+        searchStats = new SearchStats(teamControlled, System.nanoTime());
+
+        decidedTurns = chooseTurns(currentBoardState);
 
         //if thread was cancelled, escape method
         if (!processing) {
             //progress = 0;
-            System.out.println("\nTHREAD STOPPED.");
+            if (logging)
+                System.out.println("\nTHREAD STOPPED.");
             return;
         }
 
-        System.out.println("\nTIME TO PROCESS: " +  ((float)(System.nanoTime() - PROCESSING_TIME) / 1000000000));
-        System.out.println("TURNS PROCESSED : " + DEBUG_TURNS_PROCESSED);
-        DEBUG_TURNS_PROCESSED = 0;
+        finishSearchStats();
+        processing = false;
+    }
+
+    /**
+     * Chooses the turns of the team controlled on the calling thread, the same way {@link #run()} does. Used to play games without
+     * a screen, such as in {@link com.mygdx.game.simulation.MatchSimulation}.
+     * @param board {@link BoardState} to choose the turns on. Is not changed.
+     * @return turns for each entity on the team. {@link #getSearchStats()} is left with the stats of the search.
+     */
+    public Array<Turn> findTurns(BoardState board) {
+        processing = true;
+        searchStats = new SearchStats(teamControlled, System.nanoTime());
+        Array<Turn> turns = chooseTurns(board);
+        finishSearchStats();
         processing = false;
+        return turns;
+    }
+
+    private void finishSearchStats() {
+        searchStats.finish(System.nanoTime());
+        if (logging)
+            System.out.println(searchStats);
+        if (searchListener != null)
+            searchListener.searchFinished(searchStats);
+    }
+
+    private Array<Turn> chooseTurns(BoardState board) {
+        searchRandom = random.split();
+        // effects done on the board while searching, such as a chance to burn, use the search's random numbers too
+        SplittableRandom previousRandom = SimulationRandom.set(searchRandom.split());
+        try {
+            if (getFirstAttackAlways)
+                return getFirstAttacks(board, teamControlled);
+            return searchStrategy.chooseTurns(this, board, teamControlled);
+        } finally {
+            SimulationRandom.set(previousRandom);
+        }
+    }
+
+    /**
+     * @return depth level the next search should go to. Can be 1 more or less than the difficulty's if it randomizes the depth level.
+     */
+    int getSearchDepthLevel() {
+        int newDepth = depthLevel;
+        if (randomizeDepthLevel)
+            newDepth = MathUtils.clamp(newDepth + searchRandom.nextInt(-1, 2), 0, 999);
+        return newDepth;
+    }
+
+    /**
+     * Searches with {@link #getBestTurnsNegamax(BoardState, int, int)} at depth level 1, 2, 3... until the max depth level is done
+     * or {@link #thinkingTimeLimit} runs out. Each depth level searches the best turns of the one before it first.
+     * @param board Current {@link BoardState}. Is not changed.
+     * @param team index of team controlled
+     * @param maxDepthLevel deepest depth level searched
+     * @return best turns of the deepest depth level that finished. If none finished in time, the best turns found without looking ahead.
+     */
+    public Array<Turn> getBestTurnsIterativeDeepening(BoardState board, int team, int maxDepthLevel) {
+        searchDeadline = System.nanoTime() + thinkingTimeLimit * 1000000;
+        outOfTime = false;
+        transpositionTable.newSearch();
+        historyTable.clear();
+        forgottenTurns.clear();
+        previousBestTurns = null;
+
+        Array<Turn> bestTurns = null;
+        for (int depth = Math.min(1, maxDepthLevel); depth <= maxDepthLevel; depth++) {
+            Array<Turn> turns = getBestTurnsNegamax(board.copy(), team, depth);
+            if (turns == null) // ran out of time or was stopped
+                break;
+            bestTurns = turns;
+            previousBestTurns = turns;
+            searchStats.depthFinished(depth, System.nanoTime());
+        }
+
+        // not even the first depth level finished in time
+        if (bestTurns == null)
+            bestTurns = getBestTurns(board.copy(), team, true);
 
+        previousBestTurns = null;
+        return bestTurns;
     }
 
+    /**
+     * @return cells of each team's zones on the board, so the search doesn't look them up by position. null if there are no zones.
+     */
+    private int[][] getZoneCells(EntityMap entities) {
+        if (zoneLocations == null)
+            return null;
+        int[][] cells = new int[zoneLocations.size][];
+        for (int i = 0; i < zoneLocations.size; i++) {
+            Array<BoardPosition> zones = zoneLocations.get(i);
+            cells[i] = new int[zones.size];
+            for (int j = 0; j < zones.size; j++)
+                cells[i][j] = entities.toCell(zones.get(j).r, zones.get(j).c);
+        }
+        return cells;
+    }
+
+    /**
+     * Gets the best turns using negamax at the current depth level. (Changes the BoardState object that is passed into it)
+     */
     public Array<Turn> getBestTurnsNegamax(BoardState board, int team) {
+        transpositionTable.newSearch();
+        historyTable.clear();
+        forgottenTurns.clear();
+        searchDeadline = Long.MAX_VALUE;
+        outOfTime = false;
+        return getBestTurnsNegamax(board, team, depthLevel);
+    }
+
+    /**
+     * Gets the best turns using negamax. (Changes the BoardState object that is passed into it)
+     * @param board Current {@link BoardState}
+     * @param team index of team controlled
+     * @param searchDepthLevel depth level of the search
+     * @return Array of the best turns for each entity. null if the search was stopped or ran out of time.
+     */
+    public Array<Turn> getBestTurnsNegamax(BoardState board, int team, int searchDepthLevel) {
         Array<Turn> turns = new Array<>();
         EntityValue entityValue = null;
         Entity e;
+        int attackKinds = 1;
+        for (int i = 0; i < entityTeamPairings.size; i++)
+            if (mvm.has(entityTeamPairings.get(i).entity))
+                attackKinds = Math.max(attackKinds, mvm.get(entityTeamPairings.get(i).entity).moveList.size + 1);
+        historyTable.setSize(board.getEntities().getSlotCount(), attackKinds, board.getEntities().getRows() * board.getEntities().getColumns());
+        zoneCells = getZoneCells(board.getEntities());
 
         for (int i = 0; i < teams.get(team).getEntities().size; i++) {
-            progress = (byte) (i + 1 + teams.get(team).getEntities().size - 4);
+            setProgress((byte) (i + 1 + teams.get(team).getEntities().size - 4));
             e = teams.get(team).getEntities().get(i);
 
            // if dead, add a null turn
-            if (!stm.get(e).alive) {
+            entityValue = board.getEntities().get(e);
+            if (entityValue == null) { // dead when the board was made
                 turns.add(null);
                 continue;
             }
             int bestTurnVal = -99999999;
             int curValue = 0;
-            Array<Turn> allTurns = getFilteredPossibleTurns(e);
+            // turns come from the board rather than the game, as it may be a board that hasn't happened yet (see ComputerPlayerService#ponder)
+            Array<Turn> allTurns = getFilteredPossibleTurns(e, entityValue, board, new SearchContext());
             //System.out.println("SIZE OF TURNS: " + allTurns.size);
             Turn bestTurn = null;
 
-            // Get index of next entity turn after tested turn
-            int startIndex = -1;
+            // Get index of processed entity
+            int curEntityIndex = -1;
             for (int j = 0; j < entityTeamPairings.size; j++) {
                 if (entityTeamPairings.get(j).entity == e)
-                    startIndex = j;
+                    curEntityIndex = j;
             }
-            startIndex = (startIndex + 1) % entityTeamPairings.size;
 
-            // Get index of processed entity
-            int curEntityIndex = teams.get(0).getEntities().size + i;
-            System.out.print("Start-----------------------(" + startIndex + ")\n");
+            // Get index of next entity turn after tested turn
+            int startIndex = (curEntityIndex + 1) % entityTeamPairings.size;
 
             //Arrange turns in order ot best to worst
             Array<Tuple<Integer, Turn>> orderedTurns = new Array<>(allTurns.size);
             for (Turn t : allTurns) {
-                orderedTurns.add(new Tuple<Integer, Turn>(board.copy().tryTurn(t).evaluate(team), t));
+                board.applyTurn(t);
+                orderedTurns.add(new Tuple<Integer, Turn>(evaluator.evaluate(board, team), t));
+                board.undo();
             }
-            orderedTurns.sort(new Comparator<Tuple<Integer, Turn>>() {
+            // Array.sort shares one Sort between all threads, which breaks when players search at the same time
+            new Sort().sort(orderedTurns, new Comparator<Tuple<Integer, Turn>>() {
                 @Override
                 public int compare(Tuple<Integer, Turn> o1, Tuple<Integer, Turn> o2) {
-                    return o1.value1 - o2.value1;
+                    return o2.value1 - o1.value1;
                 }
             });
+            // Search best turn from the last depth level first
+            if (previousBestTurns != null && previousBestTurns.get(i) != null) {
+                for (int j = 1; j < orderedTurns.size; j++) {
+                    if (isSameTurn(orderedTurns.get(j).value2, previousBestTurns.get(i))) {
+                        orderedTurns.insert(0, orderedTurns.removeIndex(j));
+                        break;
+                    }
+                }
+            }
 
             // Go Through Each Possible Turn
             boolean gameCloseToEnding = board.isGameCloseToEnding(teams);
+            // If the game is almost done, use a much smaller depth
+            int endDepth = searchDepthLevel * (teams.get(teamControlled).getEntities().size / (gameCloseToEnding ? 4 : 2));
+            Array<Turn> searchedTurns = new Array<>(orderedTurns.size);
             for (Tuple<Integer, Turn> turnValPair : orderedTurns) {
-                Turn t = turnValPair.value2;
                 //forgot a move -> skip
-                if (MathUtils.random() < forgetBestMoveChance) {
+                if (isForgotten(board, turnValPair.value2))
                     continue;
-                }
+                searchedTurns.add(turnValPair.value2);
+            }
+            int[] values = searchRootTurns(board, team, searchedTurns, curEntityIndex, startIndex, searchDepthLevel, endDepth, gameCloseToEnding);
 
-                BoardState newBoardState = board.copy().tryTurn(t);
-                // If the game is almost done, use a much smaller depth
-                if (gameCloseToEnding) {
-                    curValue = getTurnValNegamax(newBoardState, team, curEntityIndex, startIndex, depthLevel,
-                            depthLevel * (teams.get(teamControlled).getEntities().size / 4), true, -9999999, 9999999);
-                    System.out.println("|SMALL DEPTH");
-                } else {
-                    curValue = getTurnValNegamax(newBoardState, team, curEntityIndex, startIndex, depthLevel,
-                            depthLevel * (teams.get(teamControlled).getEntities().size / 2), false, -9999999, 9999999);
-                    System.out.println("|FULL DEPTH");
-                }
-                System.out.print("\ncur : " + curValue);
+            // if thread is stopped or out of time, cancel and return null
+            if (!processing || outOfTime)
+                return null;
+
+            // first of the best turns in search order is picked. Turns only bounded from above have the lowest value, so they can't be.
+            for (int j = 0; j < searchedTurns.size; j++) {
+                curValue = values[j];
                 if (curValue > bestTurnVal) {
                     bestTurnVal = curValue;
-                    bestTurn = t;
-                    System.out.print("~");
+                    bestTurn = searchedTurns.get(j);
                 }
-
-                // if thread is stopped, cancel and return null
-                if (!processing)
-                    return null;
             }
             turns.add(bestTurn);
             //System.out.println("~-~-~-~-~-~-~-~-~-~-~-~-");
@@ -226,12 +419,178 @@ public class ComputerPlayer implements Runnable {
                 board.tryTurn(bestTurn);
         }
 
-        progress = 0;
+        setProgress((byte) 0);
         return turns;
     }
 
     /**
-     * @param board Current {@link BoardState}
+     * @return whether the turn is left out of the current search, with a chance of {@link #forgetBestMoveChance}. Chosen the first
+     * time the turn is asked about in a search, and kept for the rest of it.
+     */
+    private boolean isForgotten(BoardState board, Turn t) {
+        if (forgetBestMoveChance <= 0)
+            return false;
+        EntityMap entities = board.getEntities();
+        int cell = entities.toCell(t.pos.r, t.pos.c);
+        long code = SearchContext.getKillerCode(entities.getSlot(t.entity), TranspositionTable.encodeTurn(cell, t.attack, t.direction));
+        Boolean forgotten = forgottenTurns.get(code);
+        if (forgotten == null) {
+            forgotten = searchRandom.nextDouble() < forgetBestMoveChance;
+            forgottenTurns.put(code, forgotten);
+        }
+        return forgotten;
+    }
+
+    /**
+     * Searches each turn an entity can start its turn with. When searching in parallel, the turns are spread across {@link #SEARCH_POOL}
+     * and each one is searched on its own copy of the board. The best value found so far is shared between threads as alpha.
+     * @param board Current {@link BoardState}. Is the same once this returns.
+     * @param rootTurns turns being searched
+     * @param processedEntityIndex index of the entity the turns are for
+     * @param startIndex index of the entity that goes after it
+     * @return value of each turn, in the same order as rootTurns. A turn that didn't beat the alpha it was searched with only has an
+     * upper bound, and is given the lowest value so it isn't picked over turns whose value is exact. Incomplete if the search was
+     * stopped or ran out of time.
+     */
+    private int[] searchRootTurns(BoardState board, int team, Array<Turn> rootTurns, int processedEntityIndex, int startIndex,
+                                  int searchDepthLevel, int endDepth, boolean skipTeammates) {
+        int[] values = new int[rootTurns.size];
+        // alpha each turn was searched with
+        int[] searchAlphas = new int[rootTurns.size];
+        AtomicInteger alpha = new AtomicInteger(-9999999);
+
+        if (!parallelSearch || SEARCH_POOL.getParallelism() < 2 || rootTurns.size < 2) {
+            SearchContext context = new SearchContext();
+            context.rootDepth = searchDepthLevel;
+            for (int i = 0; i < rootTurns.size; i++) {
+                values[i] = searchRootTurn(board, team, rootTurns.get(i), processedEntityIndex, startIndex, searchDepthLevel, endDepth,
+                        skipTeammates, alpha, searchAlphas, i, context);
+                if (!processing || outOfTime)
+                    break;
+            }
+            addCounters(context);
+            // searched in order, so a turn that failed low never ties with an earlier turn and is never the best
+            dropFailedLowValues(values, searchAlphas);
+            return values;
+        }
+
+        // copies are made here, as copying marks the board's values as shared
+        List<Callable<Integer>> tasks = new ArrayList<>(rootTurns.size);
+        Array<SearchContext> taskContexts = new Array<>(rootTurns.size);
+        SplittableRandom[] taskRandoms = new SplittableRandom[rootTurns.size];
+        for (int i = 0; i < rootTurns.size; i++) {
+            BoardState boardCopy = board.copy();
+            Turn t = rootTurns.get(i);
+            int index = i;
+            SearchContext context = new SearchContext();
+            context.rootDepth = searchDepthLevel;
+            taskContexts.add(context);
+            // split here rather than on the threads, so each turn gets the same random numbers however the threads are scheduled
+            SplittableRandom taskRandom = searchRandom.split();
+            taskRandoms[i] = taskRandom;
+            tasks.add(() -> {
+                SplittableRandom previousRandom = SimulationRandom.set(taskRandom);
+                try {
+                    return searchRootTurn(boardCopy, team, t, processedEntityIndex, startIndex, searchDepthLevel, endDepth,
+                            skipTeammates, alpha, searchAlphas, index, context);
+                } finally {
+                    SimulationRandom.set(previousRandom);
+                }
+            });
+        }
+
+        try {
+            List<Future<Integer>> results = SEARCH_POOL.invokeAll(tasks);
+            for (int i = 0; i < values.length; i++)
+                values[i] = results.get(i).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopThread();
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+        for (int i = 0; i < taskContexts.size; i++)
+            addCounters(taskContexts.get(i));
+        if (!processing || outOfTime)
+            return values;
+
+        // A turn can be searched after a later one raised alpha to its value, fail low, and come back with that value as an upper
+        // bound. Alpha is only raised by exact values, so the best exact value is the best value. Earlier turns whose bound ties with
+        // it are searched again with a full window, so the first of the best turns in search order is found however the threads ran.
+        int best = -1;
+        for (int i = 0; i < values.length; i++)
+            if (!failedLow(values[i], searchAlphas[i]) && (best == -1 || values[i] > values[best]))
+                best = i;
+        SearchContext context = new SearchContext();
+        context.rootDepth = searchDepthLevel;
+        for (int i = 0; i < best; i++) {
+            if (!failedLow(values[i], searchAlphas[i]) || values[i] < values[best])
+                continue;
+            SplittableRandom previousRandom = SimulationRandom.set(taskRandoms[i].split());
+            try {
+                board.applyTurn(rootTurns.get(i));
+                values[i] = getTurnValNegamax(board, team, processedEntityIndex, startIndex, searchDepthLevel, endDepth, skipTeammates,
+                        -9999999, 9999999, context);
+                board.undo();
+            } finally {
+                SimulationRandom.set(previousRandom);
+            }
+            searchAlphas[i] = -9999999;
+            if (!processing || outOfTime || values[i] >= values[best])
+                break;
+        }
+        addCounters(context);
+        dropFailedLowValues(values, searchAlphas);
+        return values;
+    }
+
+    /**
+     * Searches one turn an entity can start its turn with, and raises alpha if it is the best so far.
+     * @param alpha best value of the turns searched so far
+     * @param searchAlphas where the alpha the turn is searched with is kept, at index
+     * @return value of the turn
+     */
+    private int searchRootTurn(BoardState board, int team, Turn t, int processedEntityIndex, int startIndex, int searchDepthLevel,
+                               int endDepth, boolean skipTeammates, AtomicInteger alpha, int[] searchAlphas, int index,
+                               SearchContext context) {
+        if (!processing || outOfTime)
+            return -9999999;
+        board.applyTurn(t);
+        int searchAlpha = alpha.get();
+        searchAlphas[index] = searchAlpha;
+        int value = getTurnValNegamax(board, team, processedEntityIndex, startIndex, searchDepthLevel, endDepth, skipTeammates,
+                searchAlpha, 9999999, context);
+        board.undo();
+        alpha.accumulateAndGet(value, Math::max);
+        return value;
+    }
+
+    /**
+     * @return whether a value is only an upper bound, because it didn't beat the alpha it was searched with. Turns searched before
+     * alpha was raised always have an exact value.
+     */
+    private static boolean failedLow(int value, int searchAlpha) {
+        return searchAlpha != -9999999 && value <= searchAlpha;
+    }
+
+    /**
+     * Gives turns whose values are only upper bounds the lowest value, so they aren't picked as the best.
+     */
+    private static void dropFailedLowValues(int[] values, int[] searchAlphas) {
+        for (int i = 0; i < values.length; i++)
+            if (failedLow(values[i], searchAlphas[i]))
+                values[i] = -9999999;
+    }
+
+    /**
+     * Adds the counts of a thread's search to {@link #searchStats}. Called once the thread is done searching.
+     */
+    void addCounters(SearchContext context) {
+        searchStats.add(context);
+    }
+
+    /**
+     * @param board Current {@link BoardState}. Turns are done and undone on it while searching, so it is the same once this returns.
      * @param team index of current team controlled
      * @param processedEntityIndex the entity that is being processed. Should not change in recursive calls. Used to skip rest of team members.
      * @param curEntityIndex current entity being processed
@@ -243,9 +602,17 @@ public class ComputerPlayer implements Runnable {
      * @return value of a turn evaluated at a given depth using negamax.
      */
     public int getTurnValNegamax(BoardState board, int team, int processedEntityIndex, int curEntityIndex, int depth, int endDepth, boolean skipTeammates, int alpha, int beta) {
-        //get the entity value
-        boolean inBoard = false;
-        EntityValue entityValue = null;
+        SearchContext context = new SearchContext();
+        context.rootDepth = depth;
+        int value = getTurnValNegamax(board, team, processedEntityIndex, curEntityIndex, depth, endDepth, skipTeammates, alpha, beta, context);
+        addCounters(context);
+        return value;
+    }
+
+    /**
+     * {@link #getTurnValNegamax(BoardState, int, int, int, int, int, boolean, int, int)} with the context of the thread searching.
+     */
+    private int getTurnValNegamax(BoardState board, int team, int processedEntityIndex, int curEntityIndex, int depth, int endDepth, boolean skipTeammates, int alpha, int beta, SearchContext context) {
         // get the index of the next entity to be processed. Only processes 1 entity from the home team.
         int nextIndex = (curEntityIndex + 1) % entityTeamPairings.size;
         //region skip members on same team
@@ -268,19 +635,37 @@ public class ComputerPlayer implements Runnable {
 
         //If depth limit has been approached, get a value
         if (depth > endDepth) {
-            return board.evaluate(team);
+            return evaluator.evaluate(board, team);
         }
 
         // End of Turn Effects
+        int turnEffectsTeam = -1;
         if (depth > 1) {
             if (curEntityIndex == 0) {
-                board.doTurnEffects(0);
+                turnEffectsTeam = 0;
             } else if (curEntityIndex == teams.get(0).getEntities().size) { // Start of Second Team Turn
-                board.doTurnEffects(1);
+                turnEffectsTeam = 1;
             } else if (teams.size == 2 && curEntityIndex == teams.get(0).getEntities().size - 1 + teams.get(1).getEntities().size) { // If they're 3 teams, and start of 3rd team turn
-                board.doTurnEffects(2);
+                turnEffectsTeam = 2;
             }
         }
+        if (turnEffectsTeam == -1)
+            return getTurnValAfterTurnEffects(board, team, processedEntityIndex, curEntityIndex, nextIndex, depth, endDepth, skipTeammates, alpha, beta, context);
+
+        board.applyTurnEffects(turnEffectsTeam);
+        int value = getTurnValAfterTurnEffects(board, team, processedEntityIndex, curEntityIndex, nextIndex, depth, endDepth, skipTeammates, alpha, beta, context);
+        board.undo();
+        return value;
+    }
+
+    /**
+     * Rest of {@link #getTurnValNegamax(BoardState, int, int, int, int, int, boolean, int, int, SearchContext)} after the end of turn effects are done.
+     * @param nextIndex index of the next entity to be processed
+     */
+    private int getTurnValAfterTurnEffects(BoardState board, int team, int processedEntityIndex, int curEntityIndex, int nextIndex, int depth, int endDepth, boolean skipTeammates, int alpha, int beta, SearchContext context) {
+        //get the entity value
+        boolean inBoard = false;
+        EntityValue entityValue = null;
 
         // Total Knockout: If no entities from a team are alive, then don't evaluate turn after that
         if (board.getLastTeamStanding() != -1) {
@@ -291,16 +676,16 @@ public class ComputerPlayer implements Runnable {
         }
 
         // Zone Rules: If it's on a zone -> Don't Evaluate Turns after that
-        if (zoneLocations != null) {
-            for (int i = 0; i < zoneLocations.size; i++) { // i is which team's zones is being processeds
-                for (BoardPosition zone : zoneLocations.get(i)) {
-                    if (board.getEntities().get(zone) != null) { // Base Win Condition
-                        if (teamControlled == i && i == board.getEntities().get(zone).team) { // team Controlled win
-                            return board.evaluate(team) + 9000;
-                        } else if (teamControlled != i && i == board.getEntities().get(zone).team) { // enemy win
-                            //System.out.println("(Player) TeamController: " + teamControlled + " |Entity team: " + board.getEntities().get(zone).team + "  |Zone Team: " + i);
-                            return board.evaluate(team) - 9000;
-                        }
+        if (zoneCells != null) {
+            EntityMap entities = board.getEntities();
+            for (int i = 0; i < zoneCells.length; i++) { // i is which team's zones is being processeds
+                for (int j = 0; j < zoneCells[i].length; j++) {
+                    int slot = entities.getSlotAt(zoneCells[i][j]);
+                    if (slot != EntityMap.EMPTY && entities.get(slot).team == i) { // Base Win Condition
+                        if (teamControlled == i) // team Controlled win
+                            return evaluator.evaluate(board, team) + evaluator.getZoneWinValue();
+                        else // enemy win
+                            return evaluator.evaluate(board, team) - evaluator.getZoneWinValue();
                     }
                 }
             }
@@ -313,48 +698,214 @@ public class ComputerPlayer implements Runnable {
         } else { // is dead -> don't do anything and skip
             if (entityTeamPairings.get(nextIndex).team == team) {
                 if (!skipTeammates) {
-                    return getTurnValNegamax(board.copy(), entityTeamPairings.get(nextIndex).team, processedEntityIndex,
-                            nextIndex, depth, endDepth, skipTeammates, alpha, beta);
+                    return getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team, processedEntityIndex,
+                            nextIndex, depth, endDepth, skipTeammates, alpha, beta, context);
                 } else { // To avoid stack overflow
-                    return board.evaluate(team);
+                    return evaluator.evaluate(board, team);
                 }
             } else
-                return -getTurnValNegamax(board.copy(), entityTeamPairings.get(nextIndex).team, processedEntityIndex,
-                        nextIndex, depth, endDepth, skipTeammates, -alpha, -beta);
+                return -getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team, processedEntityIndex,
+                        nextIndex, depth, endDepth, skipTeammates, -alpha, -beta, context);
         }
 
         // First Turn Entities
         if (entityTeamPairings.get(curEntityIndex).team == indexOfFirstAttackingTeams) {
             Turn firstAttackTurn = new Turn(entityTeamPairings.get(curEntityIndex).entity, entityValue.pos, 0, 0);
-            if (entityValue.sp >= mvm.get(entityTeamPairings.get(curEntityIndex).entity).moveList.first().spCost())
-                return getTurnValNegamax(board.copy().tryTurn(firstAttackTurn), entityTeamPairings.get(nextIndex).team,
-                        processedEntityIndex, nextIndex, depth, endDepth, skipTeammates, alpha, beta);
-            else
-                return -getTurnValNegamax(board.copy(), entityTeamPairings.get(nextIndex).team, processedEntityIndex,
-                        nextIndex, depth, endDepth, skipTeammates, alpha, beta);
+            if (entityValue.sp >= mvm.get(entityTeamPairings.get(curEntityIndex).entity).moveList.first().spCost()) {
+                board.applyTurn(firstAttackTurn);
+                int value = getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team,
+                        processedEntityIndex, nextIndex, depth, endDepth, skipTeammates, alpha, beta, context);
+                board.undo();
+                return value;
+            } else
+                return -getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team, processedEntityIndex,
+                        nextIndex, depth, endDepth, skipTeammates, alpha, beta, context);
+        }
+
+        // Transposition Table: the same board at the same point in the search was already searched -> use that value
+        // A search whose alpha starts at or above beta only looks at its first turn, so its value can't be mixed with a normal search
+        long key = board.getHash() ^ getSearchKey(teamControlled, team, processedEntityIndex, curEntityIndex, skipTeammates, alpha >= beta);
+        long entry = transpositionTable.probe(key);
+        context.tableProbes++;
+        int bestTurnCode = 0;
+        if (entry != TranspositionTable.MISSING) {
+            if (TranspositionTable.getDepth(entry) >= endDepth - depth) {
+                int value = fromTableValue(TranspositionTable.getValue(entry), depth);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER && value >= beta)
+                        || (bound == TranspositionTable.UPPER && value <= alpha)) {
+                    context.tableHits++;
+                    return value;
+                }
+            }
+            bestTurnCode = TranspositionTable.getTurnCode(entry);
         }
 
         // Negamax
-        Array<Turn> entityTurns = getFilteredPossibleTurns(entityTeamPairings.get(curEntityIndex).entity, entityValue, board);
+        Array<Turn> entityTurns = getFilteredPossibleTurns(entityTeamPairings.get(curEntityIndex).entity, entityValue, board, context);
+        int columns = board.getEntities().getColumns();
+        int slot = board.getEntities().getSlot(entityTeamPairings.get(curEntityIndex).entity);
+        int[] scores = context.getScoreBuffer(depth, entityTurns.size);
+        scoreTurns(board, entityTurns, scores, slot, depth, bestTurnCode, context);
+        int alphaOrig = alpha;
         int bestVal = -999999999;
-        for (Turn t : entityTurns) {
-            DEBUG_TURNS_PROCESSED += 1;
+        Turn bestTurn = null;
+        for (int i = 0; i < entityTurns.size; i++) {
+            if (isSearchStopped(context))
+                break;
+            selectNextTurn(entityTurns, scores, i);
+            Turn t = entityTurns.get(i);
+            context.turnsProcessed++;
             int value;
+            board.applyTurn(t);
             if (entityTeamPairings.get(nextIndex).team == team)
-                value = getTurnValNegamax(board.copy().tryTurn(t), entityTeamPairings.get(nextIndex).team,
-                        processedEntityIndex, nextIndex, depth + 1, endDepth, skipTeammates, alpha, beta);
+                value = getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team,
+                        processedEntityIndex, nextIndex, depth + 1, endDepth, skipTeammates, alpha, beta, context);
             else
-                value = -getTurnValNegamax(board.copy().tryTurn(t), entityTeamPairings.get(nextIndex).team,
-                        processedEntityIndex, nextIndex, depth + 1, endDepth, skipTeammates, -alpha, -beta);
+                value = -getTurnValNegamax(board, entityTeamPairings.get(nextIndex).team,
+                        processedEntityIndex, nextIndex, depth + 1, endDepth, skipTeammates, -alpha, -beta, context);
+            board.undo();
+            if (value > bestVal)
+                bestTurn = t;
             bestVal = Math.max(value, bestVal);
             alpha = Math.max(alpha, bestVal);
             if (beta <= alpha) {
+                addCutoff(t, slot, columns, depth, endDepth, context);
                 break;
             }
         }
+
+        // value of a stopped search is incomplete
+        if (outOfTime || !processing)
+            return bestVal;
+
+        int bound;
+        if (bestVal >= beta)
+            bound = TranspositionTable.LOWER;
+        else if (bestVal <= alphaOrig)
+            bound = TranspositionTable.UPPER;
+        else
+            bound = TranspositionTable.EXACT;
+        transpositionTable.store(key, toTableValue(bestVal, depth), endDepth - depth, bound,
+                bestTurn == null ? 0 : TranspositionTable.encodeTurn(bestTurn.pos.r * columns + bestTurn.pos.c, bestTurn.attack, bestTurn.direction));
         return bestVal;
     }
 
+    /**
+     * Scores each turn for the order they are searched in: the best turn from the transposition table, then attacks by how much damage
+     * they are expected to do, then killer turns, then the rest by their history.
+     * @param scores filled with the score of each turn
+     * @param slot slot of the Entity the turns are for
+     * @param bestTurnCode best turn from the transposition table. 0 if there is none.
+     */
+    private void scoreTurns(BoardState board, Array<Turn> turns, int[] scores, int slot, int depth, int bestTurnCode, SearchContext context) {
+        int columns = board.getEntities().getColumns();
+        Array<Move> moveList = turns.size == 0 ? null : mvm.get(turns.first().entity).moveList;
+        long killer1 = context.getKiller(depth, 0);
+        long killer2 = context.getKiller(depth, 1);
+        for (int i = 0; i < turns.size; i++) {
+            Turn t = turns.get(i);
+            int cell = t.pos.r * columns + t.pos.c;
+            int turnCode = TranspositionTable.encodeTurn(cell, t.attack, t.direction);
+            long killerCode = SearchContext.getKillerCode(slot, turnCode);
+            int attackValue = t.attack == -1 ? 0 : board.estimateAttackValue(t, moveList.get(t.attack));
+            if (turnCode == bestTurnCode)
+                scores[i] = TABLE_TURN_SCORE;
+            else if (attackValue > 0)
+                scores[i] = ATTACK_SCORE + attackValue;
+            else if (killerCode == killer1)
+                scores[i] = KILLER_SCORE;
+            else if (killerCode == killer2)
+                scores[i] = KILLER_SCORE - 1;
+            else
+                scores[i] = historyTable.get(slot, t.attack, t.direction, cell) + attackValue;
+        }
+    }
+
+    /**
+     * Moves the turn with the highest score from the index onward to the index. Done one turn at a time as they are searched, since
+     * a cutoff usually comes before all of them are.
+     */
+    private static void selectNextTurn(Array<Turn> turns, int[] scores, int index) {
+        int best = index;
+        for (int i = index + 1; i < turns.size; i++)
+            if (scores[i] > scores[best])
+                best = i;
+        if (best == index)
+            return;
+        turns.swap(index, best);
+        int score = scores[index];
+        scores[index] = scores[best];
+        scores[best] = score;
+    }
+
+    /**
+     * Remembers a turn that caused a cutoff, as a killer turn at its depth and in the history table.
+     */
+    private void addCutoff(Turn t, int slot, int columns, int depth, int endDepth, SearchContext context) {
+        int cell = t.pos.r * columns + t.pos.c;
+        context.addKiller(depth, SearchContext.getKillerCode(slot, TranspositionTable.encodeTurn(cell, t.attack, t.direction)));
+        context.addCutoff(depth - context.rootDepth + 1);
+        int depthLeft = endDepth - depth + 1;
+        historyTable.add(slot, t.attack, t.direction, cell, depthLeft * depthLeft);
+    }
+
+    /**
+     * Checks whether the search should stop, either because the thread was stopped or the time ran out. Only looks at the time
+     * every {@link #TIME_CHECK_INTERVAL} calls from the same thread.
+     */
+    private boolean isSearchStopped(SearchContext context) {
+        if (!processing || outOfTime)
+            return true;
+        if (--context.turnsUntilTimeCheck <= 0) {
+            context.turnsUntilTimeCheck = TIME_CHECK_INTERVAL;
+            if (System.nanoTime() > searchDeadline)
+                outOfTime = true;
+        }
+        return outOfTime;
+    }
+
+    private static boolean isSameTurn(Turn a, Turn b) {
+        return a.entity == b.entity && a.pos.equals(b.pos) && a.attack == b.attack && a.direction == b.direction;
+    }
+
+    /**
+     * Gets the part of a {@link TranspositionTable} key that comes from the state of the search rather than the board.
+     * @param teamControlled team the search is for. Knockouts and zone wins are valued from its side, and the table is kept between
+     *                       searches for different teams.
+     * @param onlyFirstTurn whether the search starts with alpha at or above beta
+     */
+    private static long getSearchKey(int teamControlled, int team, int processedEntityIndex, int curEntityIndex, boolean skipTeammates, boolean onlyFirstTurn) {
+        // the processed entity only changes the search if teammates are skipped
+        long key = (((teamControlled + 1) * 256L + curEntityIndex) * 4 + team + 1) * 256 + (skipTeammates ? processedEntityIndex + 1 : 0);
+        key = key * 2 + (onlyFirstTurn ? 1 : 0);
+        key = (key + 1) * 0x9E3779B97F4A7C15L;
+        return key ^ (key >>> 31);
+    }
+
+    /**
+     * Knockout values depend on how deep they were found. Stores them as the distance from the board instead, so they can be reused
+     * from any depth.
+     */
+    private static int toTableValue(int value, int depth) {
+        if (value > KNOCKOUT_VALUE)
+            return value + depth * 30;
+        else if (value < -KNOCKOUT_VALUE)
+            return value - depth * 30;
+        return value;
+    }
+
+    /**
+     * Reverses {@link #toTableValue(int, int)}
+     */
+    private static int fromTableValue(int value, int depth) {
+        if (value > KNOCKOUT_VALUE)
+            return value - depth * 30;
+        else if (value < -KNOCKOUT_VALUE)
+            return value + depth * 30;
+        return value;
+    }
+
 
     //--------------------
     /**
@@ -367,6 +918,7 @@ public class ComputerPlayer implements Runnable {
         EntityValue entityValue = null;
         Entity e;
 
+        SearchContext context = new SearchContext();
         for (int i = 0; i < teams.get(team).getEntities().size; i++) {
             e = teams.get(team).getEntities().get(i);
 
@@ -377,7 +929,7 @@ public class ComputerPlayer implements Runnable {
                 entityValue = board.getEntities().get(e);
             }
 
-            if (!stm.get(e).alive || !inBoard) { //is alive check
+            if (!inBoard) { //is alive check
                 turns.add(null);
                 continue;
             }
@@ -385,13 +937,15 @@ public class ComputerPlayer implements Runnable {
             int bestTurnVal = -99999999;
             int worstValue = 99999999;
             int curValue = 0;
-            Array<Turn> allTurns = getAllPossibleTurns(e, entityValue, board);
+            Array<Turn> allTurns = getAllPossibleTurns(e, entityValue, board, context, false);
             Turn bestTurn = null;
 
             for (Turn t : allTurns) {
-                if (useForgetChance && MathUtils.random() < forgetBestMoveChance)
+                if (useForgetChance && isForgotten(board, t))
                     continue;
-                curValue = board.copy().tryTurn(t).evaluate(team);
+                board.applyTurn(t);
+                curValue = evaluator.evaluate(board, team);
+                board.undo();
                 worstValue = Math.min(curValue, worstValue);
                 if (curValue > bestTurnVal) {
                     bestTurnVal = curValue;
@@ -432,69 +986,85 @@ public class ComputerPlayer implements Runnable {
         return turns;
     }
 
-
     /**
-     * Retrieves all possible turns an {@link Entity} can make on the board.
-     * @param e Entity
-     * @return {@link Array} of all possible moves for one Entity
+     * Gets the turn that uses the entities first move without rotating, using the entities on a board.
+     * @param board board the entities are on
+     * @param team index of the team
+     * @return Array of the turns that makes entity use first move. Entities not on the board get a null turn.
      */
-    private Array<Turn> getAllPossibleTurns(Entity e) {
-        if (status.has(e) && (status.get(e).contains("Petrify") || status.get(e).contains("Freeze"))) //handle petrify/freeze (non moving conditions)
-            return new Array<Turn>(new Turn[]{new Turn(e, bm.get(e).pos.copy(), -1, 0)});
-
+    public Array<Turn> getFirstAttacks(BoardState board, int team) {
         Array<Turn> turns = new Array<>();
-        Array<BoardPosition> possiblePositions = getPossiblePositions(bm.get(e).pos, stm.get(e).getModSpd(e), null);
-        possiblePositions.add(bm.get(e).pos.copy()); //no movement
-        for (BoardPosition pos : possiblePositions) {
-            turns.add(new Turn(e, pos, -1, 0)); //no attack
-            for (int i = 0; i < mvm.get(e).moveList.size; i++) {
-                if (mvm.get(e).moveList.get(i).spCost() > stm.get(e).sp) //if it doesnt have enough sp, skip
-                    continue;
-                for (int j = 0; j < 4; j++) //All directions of attack
-                    turns.add(new Turn(e, pos, i, j));
+        Entity e;
+
+        for (int i = 0; i < teams.get(team).getEntities().size; i++) {
+            e = teams.get(team).getEntities().get(i);
+            EntityValue entityValue = board.getEntities().get(e);
+            if (entityValue == null) {
+                turns.add(null);
+                continue;
             }
+
+            if (mvm.get(e).moveList.first().spCost() > entityValue.sp) //not enough sp
+                turns.add(new Turn(e, entityValue.pos.copy(), -1, 0));
+            else
+                turns.add(new Turn(e, entityValue.pos.copy(), 0, 0));
         }
 
         return turns;
     }
 
+
     /**
      * Retrieves all possible turns an {@link Entity} can make on the board.
      * @param e Entity. Used for Moves from moveset
      * @param ev EntityValue. Used for getting stats affected by Statuses, etc.
+     * @param context context of the thread searching. Its position buffer and bitboards are used.
+     * @param onlyHitting whether attacks that wouldn't hit anything are left out
      * @return {@link Array} of all possible moves for one Entity
      */
-    private Array<Turn> getAllPossibleTurns(Entity e, EntityValue ev, BoardState boardState) {
-        boolean hasNonMovingStatus = false;
-        if (ev.acceptsStatusEffects)
-            for (StatusEffectInfo s : ev.statusEffectInfos)
-                if (s.name.equals("Petrify") || s.name.equals("Freeze"))
-                    hasNonMovingStatus = true;
-
-        if (hasNonMovingStatus) //handle petrify/freeze
-            return new Array<Turn>(new Turn[]{new Turn(e, bm.get(e).pos.copy(), -1, 0)});
+    private Array<Turn> getAllPossibleTurns(Entity e, EntityValue ev, BoardState boardState, SearchContext context, boolean onlyHitting) {
+        if (ev.hasNonMovingStatus()) //handle petrify/freeze
+            return new Array<Turn>(new Turn[]{new Turn(e, ev.pos.copy(), -1, 0)});
 
         Array<Turn> turns = new Array<>();
 
         // Handle speed changes from status effects
-        int speedVal = stm.get(e).spd;
-        if (ev.statusEffectInfos != null) {
-            for (StatusEffectInfo status : ev.statusEffectInfos) {
-                if (status.statChanges == null) continue;
-                speedVal = (int) (speedVal * status.statChanges.spd);
-            }
+        int speedVal = ev.getModSpd();
+
+        int rows = boardState.getEntities().getRows();
+        int columns = boardState.getEntities().getColumns();
+        int[] positions = context.getPositionBuffer(rows * columns);
+        int positionCount = boardState.getReachablePositions(ev.pos.r, ev.pos.c, speedVal, positions);
+
+        Array<Move> moveList = mvm.get(e).moveList;
+        // cells each attack hits something from, by move * 4 + direction
+        Bitboard[] hitsFrom = null;
+        Bitboard anyHitsFrom = null;
+        if (onlyHitting) {
+            hitsFrom = context.getBitboards(moveList.size * 4 + 2, rows, columns);
+            anyHitsFrom = hitsFrom[moveList.size * 4];
+            findCellsAttacksHitFrom(ev, moveList, boardState, hitsFrom, anyHitsFrom, hitsFrom[moveList.size * 4 + 1]);
         }
 
-        Array<BoardPosition> possiblePositions = getPossiblePositions(ev.pos, speedVal, boardState);
-        possiblePositions.add(ev.pos.copy()); //no movement
-
-        for (BoardPosition pos : possiblePositions) {
+        for (int p = 0; p <= positionCount; p++) {
+            BoardPosition pos;
+            int cell;
+            if (p == positionCount) { //no movement
+                pos = ev.pos.copy();
+                cell = pos.r * columns + pos.c;
+            } else {
+                cell = positions[p];
+                pos = new BoardPosition(cell / columns, cell % columns);
+            }
             turns.add(new Turn(e, pos, -1, 0)); //no attack
-            for (int i = 0; i < mvm.get(e).moveList.size; i++) {
-                if (mvm.get(e).moveList.get(i).spCost() > stm.get(e).sp) //if it doesn't have enough sp, skip
+            if (onlyHitting && !anyHitsFrom.get(cell))
+                continue;
+            for (int i = 0; i < moveList.size; i++) {
+                if (moveList.get(i).spCost() > ev.sp) //if it doesn't have enough sp, skip
                     continue;
                 for (int j = 0; j < 4; j++) //All directions of attack
-                    turns.add(new Turn(e, pos, i, j));
+                    if (!onlyHitting || hitsFrom[i * 4 + j].get(cell))
+                        turns.add(new Turn(e, pos, i, j));
             }
         }
 
@@ -502,64 +1072,56 @@ public class ComputerPlayer implements Runnable {
     }
 
     /**
-     * Filters out turns that are likely to have near identical outcomes to other turns. Things like using a move on an empty space
-     * will be removed from the list.
-     */
-    private Array<Turn> getFilteredPossibleTurns(Entity e, EntityValue ev, BoardState boardState) {
-        Array<Turn> allTurns = getAllPossibleTurns(e, ev, boardState);
-
-        for (int i = 0; i < allTurns.size; i++) {
-            // Filtering based on Moves that don't hit anything ---
-            // Go through all positions a move targets
-            if (allTurns.get(i).attack != -1) {
-                Move move = mvm.get(allTurns.get(i).entity).moveList.get(allTurns.get(i).attack);
-                BoardState afterMovementBoardState = boardState.copy().tryTurnMovementOnly(allTurns.get(i));
-                boolean willHitSomething = false;
-                for (BoardPosition pos : move.getOrientedAttackPositions(allTurns.get(i).direction, move)) {
-                    BoardPosition newPos = pos.add(allTurns.get(i).pos.r, allTurns.get(i).pos.c);
-                    if (afterMovementBoardState.getEntities().containsKey(newPos)) {
-                        willHitSomething = true;
-                        break;
-                    }
-                }
-                //Remove from list
-                if (!willHitSomething) {
-                    allTurns.removeIndex(i--);
+     * Finds the cells each attack of an Entity would hit another Entity from, once it has moved there. The Entity's own cell is empty
+     * once it moves, so Entities on it are not counted.
+     * @param hitsFrom filled with the cells each attack hits something from, by move * 4 + direction
+     * @param anyHitsFrom filled with the cells any attack hits something from
+     * @param targets used for the cells that can be hit
+     */
+    private void findCellsAttacksHitFrom(EntityValue ev, Array<Move> moveList, BoardState boardState, Bitboard[] hitsFrom,
+                                         Bitboard anyHitsFrom, Bitboard targets) {
+        targets.set(boardState.getEntities().getOccupiedCells());
+        targets.clear(boardState.getEntities().toCell(ev.pos.r, ev.pos.c));
+        anyHitsFrom.clear();
+        for (int i = 0; i < moveList.size; i++) {
+            if (moveList.get(i).spCost() > ev.sp)
+                continue;
+            for (int j = 0; j < 4; j++) {
+                Bitboard attackHitsFrom = hitsFrom[i * 4 + j];
+                attackHitsFrom.clear();
+                for (int offset : ev.getAttackOffsets(moveList.get(i), i, j)) {
+                    int rowOffset = Move.getRowOffset(offset);
+                    int columnOffset = Move.getColumnOffset(offset);
+                    if (rowOffset == 0 && columnOffset == 0) // hits the Entity itself, wherever it moves
+                        attackHitsFrom.setAll();
+                    else
+                        attackHitsFrom.orShifted(targets, rowOffset, columnOffset);
                 }
+                anyHitsFrom.or(attackHitsFrom);
             }
         }
+    }
 
-        return allTurns;
+    /**
+     * Gets the turns an Entity would search from a board, the same as a search does.
+     * @param e Entity whose turns are found
+     * @param boardState board the Entity is on
+     * @return {@link Array} of turns, or an empty {@link Array} if the Entity is not on the board
+     */
+    public Array<Turn> getFilteredPossibleTurns(Entity e, BoardState boardState) {
+        EntityValue entityValue = boardState.getEntities().get(e);
+        if (entityValue == null)
+            return new Array<>();
+        return getFilteredPossibleTurns(e, entityValue, boardState, new SearchContext());
     }
 
     /**
      * Filters out turns that are likely to have near identical outcomes to other turns. Things like using a move on an empty space
-     * will be removed from the list. Uses the current board state stored by the ComputerPlayer
-     */
-    private Array<Turn> getFilteredPossibleTurns(Entity e) {
-        Array<Turn> allTurns = getAllPossibleTurns(e);
-
-        for (int i = 0; i < allTurns.size; i++) {
-            // Filtering based on Moves that don't hit anything ---
-            // Go through all positions a move targets
-            if (allTurns.get(i).attack != -1) {
-                Move move = mvm.get(allTurns.get(i).entity).moveList.get(allTurns.get(i).attack);
-                boolean willHitSomething = false;
-                BoardState afterMovementBoardState = currentBoardState.copy().tryTurnMovementOnly(allTurns.get(i));
-                for (BoardPosition pos : move.getOrientedAttackPositions(allTurns.get(i).direction, move)) {
-                    BoardPosition newPos = pos.add(allTurns.get(i).pos.r, allTurns.get(i).pos.c);
-                    if (afterMovementBoardState.getEntities().containsKey(newPos)) {
-                        willHitSomething = true;
-                        break;
-                    }
-                }
-                //Remove from list
-                if (!willHitSomething) {
-                    allTurns.removeIndex(i--);
-                }
-            }
-        }
-        return allTurns;
+     * will be removed from the list. Attacks are checked against a {@link Bitboard} of the cells they hit something from, so turns
+     * that would be removed are never made.
+     */
+    Array<Turn> getFilteredPossibleTurns(Entity e, EntityValue ev, BoardState boardState, SearchContext context) {
+        return getAllPossibleTurns(e, ev, boardState, context, true);
     }
 
     /**
@@ -571,7 +1133,9 @@ public class ComputerPlayer implements Runnable {
         // Not the best way to do this, but is a good dummy //System
         int numTries = 0; //to see if it can use an attack
         int attackChoice = -1;
-        for (Entity e : teams.get(teamControlled).getEntities()) {
+        Array<Entity> entities = teams.get(teamControlled).getEntities();
+        for (int i = 0; i < entities.size; i++) {
+            Entity e = entities.get(i);
             if (!stm.get(e).alive) {
                 turns.add(null);
                 continue;
@@ -579,7 +1143,7 @@ public class ComputerPlayer implements Runnable {
             //decide if move is valid
             if (status.has(e) && state.get(e).canAttack) {
                 while (numTries < 10) {
-                    attackChoice = MathUtils.random(-1, mvm.get(e).moveList.size - 1);
+                    attackChoice = searchRandom.nextInt(-1, mvm.get(e).moveList.size);
                     if (attackChoice == -1)
                         break;
                     if (mvm.get(e).moveList.get(attackChoice).spCost() <= stm.get(e).sp)
@@ -590,11 +1154,11 @@ public class ComputerPlayer implements Runnable {
                 }
             }
             //movement tiles
-            Array<BoardPosition> possibleTiles = getPossiblePositions(bm.get(e).pos, stm.get(e).getModSpd(e), null);
+            Array<BoardPosition> possibleTiles = getPossiblePositions(bm.get(e).pos, stm.get(e).getModSpd(e));
             if (possibleTiles.size == 0 || !state.get(e).canMove)
-                turns.add(new Turn(e, bm.get(e).pos, attackChoice, MathUtils.random(0, 3)));
+                turns.add(new Turn(e, bm.get(e).pos, attackChoice, searchRandom.nextInt(4)));
             else
-                turns.add(new Turn(e, possibleTiles.random(), attackChoice, MathUtils.random(0, 3)));
+                turns.add(new Turn(e, possibleTiles.get(searchRandom.nextInt(possibleTiles.size)), attackChoice, searchRandom.nextInt(4)));
         }
 
         return turns;
@@ -604,12 +1168,12 @@ public class ComputerPlayer implements Runnable {
      * Algorithm that returns all positions that can be moved to based on speed. Calls a recursive method. Takes into account barriers and blockades, while
      * avoiding duplicates of the same tile.
      * @param bp Position that is being branched from
+     * Uses the {@link com.mygdx.game.boards.Board} from {@link BoardComponent}. Searches use
+     * {@link BoardState#getReachablePositions(int, int, int, int[])} instead.
      * @param spd remaining tiles the entity can move
-     * @param boardState Used to check if a space is occupied. If this value is null, will use the {@link com.mygdx.game.boards.Board} from
-     *                   {@link BoardComponent}.
      * @return {@link Array} of {@link BoardPosition}s.
      */
-    private Array<BoardPosition> getPossiblePositions(BoardPosition bp, int spd, BoardState boardState) {
+    private Array<BoardPosition> getPossiblePositions(BoardPosition bp, int spd) {
         BoardPosition next = new BoardPosition(-1, -1);
         Array<BoardPosition> positions = new Array<>();
 
@@ -618,10 +1182,10 @@ public class ComputerPlayer implements Runnable {
             return positions;
 
         //get spread of tiles upwards
-        getPositionsSpread(bp, bp, spd, positions, -1, 0, boardState, true);
+        getPositionsSpread(bp, bp, spd, positions, -1, 0, true);
 
         //get spread of tiles downwards
-        getPositionsSpread(bp, bp, spd, positions, -1, 2, boardState, true);
+        getPositionsSpread(bp, bp, spd, positions, -1, 2, true);
 
         //filter out copies horizontal
         filterCopySpaces(positions);
@@ -648,12 +1212,10 @@ public class ComputerPlayer implements Runnable {
      *                          <p>1: left
      *                          <p>2: bottom
      *                          <p>3: right
-     * @param boardState Used to check if a space is occupied. If this value is null, will use the {@link com.mygdx.game.boards.Board} from
-     *                   {@link BoardComponent}.
      * @param includeHorizontal Whether it includes spaces directly horizontal of the origin position
      * @return {@link Array} of {@link BoardPosition}s.
      */
-    private Array<BoardPosition> getPositionsSpread(BoardPosition sourceBp, BoardPosition bp, int spd, Array<BoardPosition> positions, int directionCameFrom, int sourceDirection, BoardState boardState, boolean includeHorizontal) {
+    private Array<BoardPosition> getPositionsSpread(BoardPosition sourceBp, BoardPosition bp, int spd, Array<BoardPosition> positions, int directionCameFrom, int sourceDirection, boolean includeHorizontal) {
         BoardPosition next = new BoardPosition(-1, -1);
 
         if (spd == 0)
@@ -673,25 +1235,17 @@ public class ComputerPlayer implements Runnable {
                 next.set(bp.r, bp.c + 1);
 
             //check if valid
-            if (boardState != null) {
-                if (next.r >= BoardComponent.boards.getBoard().getRowSize() || next.r < 0
-                        || next.c >= BoardComponent.boards.getBoard().getColumnSize() || next.c < 0
-                        || boardState.isOccupied(new BoardPosition(next.r, next.c))
-                        || BoardComponent.boards.getBoard().getTile(next.r, next.c).isInvisible())
-                    continue;
-            } else {
-                    if (next.r >= BoardComponent.boards.getBoard().getRowSize() || next.r < 0
-                            || next.c >= BoardComponent.boards.getBoard().getColumnSize() || next.c < 0
-                            || BoardComponent.boards.getBoard().getTile(next.r, next.c).isOccupied()
-                            || BoardComponent.boards.getBoard().getTile(next.r, next.c).isInvisible())
-                        continue;
-            }
+            if (next.r >= BoardComponent.boards.getBoard().getRowSize() || next.r < 0
+                    || next.c >= BoardComponent.boards.getBoard().getColumnSize() || next.c < 0
+                    || BoardComponent.boards.getBoard().getTile(next.r, next.c).isOccupied()
+                    || BoardComponent.boards.getBoard().getTile(next.r, next.c).isInvisible())
+                continue;
             if (!includeHorizontal && next.r == sourceBp.r)
                 continue;
 
             //recursively call other tiles
             positions.add(next.copy());
-            getPositionsSpread(sourceBp, next, spd - 1, positions, (i + 2) % 4, sourceDirection, boardState, includeHorizontal);
+            getPositionsSpread(sourceBp, next, spd - 1, positions, (i + 2) % 4, sourceDirection, includeHorizontal);
         }
 
         return positions;
@@ -715,16 +1269,25 @@ public class ComputerPlayer implements Runnable {
     }
 
     /**
-     * Stops the thread. happens while it is hap
+     * Stops the search. A search started with {@link #run()} after this stops right away, until {@link #resetStop()} is called.
      */
     public void stopThread() {
+        stopRequested = true;
         processing = false;
     }
 
+    /**
+     * Lets searches run again after {@link #stopThread()}. Should be called before the player is given a new search.
+     */
+    public void resetStop() {
+        stopRequested = false;
+    }
+
     /**
      * Sets the difficulty level of the computer
      */
     public void setDifficulty(ComputerPlayer.Difficulty difficulty) {
+        float oldForgetBestMoveChance = forgetBestMoveChance;
         switch(difficulty) {
             case FIRST_ATTACK:
                 setGetFirstAttackAlways(true);
@@ -735,21 +1298,112 @@ public class ComputerPlayer implements Runnable {
             case EASY:
                 setGetFirstAttackAlways(false);
                 depthLevel = 0;
+                thinkingTimeLimit = 1000;
                 forgetBestMoveChance = .4f;
                 randomizeDepthLevel = false;
                 break;
             case NORMAL:
                 setGetFirstAttackAlways(false);
                 depthLevel = 1;
+                thinkingTimeLimit = 1500;
                 forgetBestMoveChance = .3f;
                 randomizeDepthLevel = false;
                 break;
             case HARD:
                 setGetFirstAttackAlways(false);
-                depthLevel = 2;
+                depthLevel = 4;
+                thinkingTimeLimit = 2500;
                 forgetBestMoveChance = .05f;
                 randomizeDepthLevel = false;
         }
+        // turns that are forgotten change the values found, so ones found with a different chance can't be used
+        if (forgetBestMoveChance != oldForgetBestMoveChance)
+            transpositionTable.clear();
+    }
+
+    /**
+     * @param depth Deepest depth level the search goes to. Set by the difficulty.
+     */
+    public void setDepthLevel(int depth) {
+        depthLevel = depth;
+    }
+
+    /**
+     * @param milliseconds How long the computer can think for before it stops searching deeper. Set by the difficulty.
+     */
+    public void setThinkingTimeLimit(long milliseconds) {
+        thinkingTimeLimit = milliseconds;
+    }
+
+    /**
+     * @param logging whether the progress of searches is printed, for debugging. Off by default. A {@link SearchListener} set with
+     *                {@link #setSearchListener(SearchListener)} is told the stats of each search whether this is on or not.
+     */
+    public void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Seeds the random numbers of later searches, which are used to forget turns, change the depth level, pick random turns, and for
+     * the random effects of moves while searching. Players with the same seed and settings choose the same turns from the same boards.
+     * Searches spread across cores can still differ, as which thread finishes first changes what is cut off.
+     * @param seed seed of the random numbers. Picked at random by default.
+     */
+    public void setSeed(long seed) {
+        random = new SplittableRandom(seed);
+        searchRandom = random.split();
+    }
+
+    /**
+     * @param random generator later searches split their random numbers from. See {@link #setSeed(long)}.
+     */
+    public void setRandom(SplittableRandom random) {
+        this.random = random;
+        searchRandom = random.split();
+    }
+
+    /**
+     * @param parallel whether the search is spread across all cores. On by default.
+     */
+    public void setParallelSearch(boolean parallel) {
+        parallelSearch = parallel;
+    }
+
+    /**
+     * Forgets every position found in earlier searches, so the next search starts from nothing.
+     */
+    public void clearTranspositionTable() {
+        transpositionTable.clear();
+    }
+
+    /**
+     * Swaps the values kept from earlier searches with another player's, so this one can use the boards the other has searched. Both
+     * should value boards the same way. The other player can still be searching, as the table can be used by more than one thread.
+     */
+    public void swapTranspositionTable(ComputerPlayer other) {
+        TranspositionTable table = other.transpositionTable;
+        other.transpositionTable = transpositionTable;
+        transpositionTable = table;
+    }
+
+    /**
+     * @param strategy how turns are chosen. A {@link NegamaxSearch} by default.
+     */
+    public void setSearchStrategy(SearchStrategy strategy) {
+        searchStrategy = strategy;
+    }
+
+    /**
+     * @param evaluator how boards are valued. A {@link WeightedEvaluator} with the default weights by default. Values kept from
+     *                  earlier searches are cleared.
+     */
+    public void setEvaluator(Evaluator evaluator) {
+        this.evaluator = evaluator;
+        transpositionTable.clear();
+    }
+
+    public Evaluator getEvaluator() {
+        return evaluator;
     }
 
     public void setTeamControlled(int i) {
@@ -772,8 +1426,81 @@ public class ComputerPlayer implements Runnable {
 
     public int getTeamSize() { return teams.get(teamControlled).getEntities().size; }
 
+    //region used by search strategies
+    /**
+     * @return whether the search was stopped by {@link #stopThread()}
+     */
+    boolean isStopped() {
+        return !processing;
+    }
+
+    boolean isLogging() {
+        return logging;
+    }
+
+    boolean isParallelSearch() {
+        return parallelSearch;
+    }
+
+    /**
+     * @return random numbers of the search going on. Only used by the thread running the search.
+     */
+    SplittableRandom getSearchRandom() {
+        return searchRandom;
+    }
+
+    long getThinkingTimeLimit() {
+        return thinkingTimeLimit;
+    }
+
+    float getForgetBestMoveChance() {
+        return forgetBestMoveChance;
+    }
+
+    Array<Team> getTeams() {
+        return teams;
+    }
+
+    Array<Array<BoardPosition>> getZoneLocations() {
+        return zoneLocations;
+    }
+
+    int getIndexOfFirstAttackingTeams() {
+        return indexOfFirstAttackingTeams;
+    }
+    //endregion
+
     public byte getProgress() { return progress; }
 
+    void setProgress(byte newProgress) {
+        if (progress == newProgress)
+            return;
+        progress = newProgress;
+        if (progressListener != null)
+            progressListener.progressChanged(progress);
+    }
+
+    /**
+     * @param listener told whenever the progress of the search changes. Called from the thread doing the search. Can be null.
+     */
+    public void setProgressListener(ProgressListener listener) {
+        progressListener = listener;
+    }
+
+    /**
+     * @param listener told the stats of each search that finishes. Called from the thread doing the search. Can be null.
+     */
+    public void setSearchListener(SearchListener listener) {
+        searchListener = listener;
+    }
+
+    /**
+     * @return stats of the search going on, or the last one that finished
+     */
+    public SearchStats getSearchStats() {
+        return searchStats;
+    }
+
     /**
      * Small class to group an entity and their team.
      */
@@ -792,6 +1519,115 @@ public class ComputerPlayer implements Runnable {
         }
     }
 
+    /**
+     * Counts and buffers kept by each thread of a search, so threads don't write to the same fields.
+     */
+    static class SearchContext {
+        int turnsProcessed;
+        int tableProbes;
+        int tableHits;
+        /** Cutoffs at each ply, counted from the turns of the Entity being chosen for */
+        int[] cutoffs = new int[0];
+        /** Depth the turns of the Entity being chosen for are searched from */
+        int rootDepth;
+        /** Turns left to search before the time is checked again */
+        int turnsUntilTimeCheck = TIME_CHECK_INTERVAL;
+        /** Positions found by {@link BoardState#getReachablePositions(int, int, int, int[])} */
+        private int[] positions = new int[0];
+        /** Bitboards used while finding turns */
+        private Bitboard[] bitboards = new Bitboard[0];
+
+        /** Scores of the turns at each depth, used to order them */
+        private int[][] scoreBuffers = new int[0][];
+        /** Two turns at each depth that last caused a cutoff, from {@link #getKillerCode(int, int)}. The newest is first. */
+        private long[] killers = new long[0];
+
+        int[] getPositionBuffer(int size) {
+            if (positions.length < size)
+                positions = new int[size];
+            return positions;
+        }
+
+        /**
+         * @return at least count bitboards the size of the board. Their contents are left over from the last use.
+         */
+        Bitboard[] getBitboards(int count, int rows, int columns) {
+            if (bitboards.length > 0 && (bitboards[0].getRows() != rows || bitboards[0].getColumns() != columns))
+                bitboards = new Bitboard[0];
+            if (bitboards.length < count) {
+                int oldLength = bitboards.length;
+                bitboards = Arrays.copyOf(bitboards, count);
+                for (int i = oldLength; i < count; i++)
+                    bitboards[i] = new Bitboard(rows, columns);
+            }
+            return bitboards;
+        }
+
+        void addCutoff(int ply) {
+            if (cutoffs.length <= ply)
+                cutoffs = Arrays.copyOf(cutoffs, ply + 1);
+            cutoffs[ply]++;
+        }
+
+        /**
+         * @return buffer for the scores of the turns at a depth. Each depth has its own, as the depths below are searched while it
+         * is used.
+         */
+        int[] getScoreBuffer(int depth, int size) {
+            if (scoreBuffers.length <= depth)
+                scoreBuffers = Arrays.copyOf(scoreBuffers, depth + 1);
+            if (scoreBuffers[depth] == null || scoreBuffers[depth].length < size)
+                scoreBuffers[depth] = new int[size];
+            return scoreBuffers[depth];
+        }
+
+        /**
+         * @param index 0 for the newest killer turn, 1 for the older one
+         * @return killer turn at the depth. 0 if there is none.
+         */
+        long getKiller(int depth, int index) {
+            return depth * 2 + index < killers.length ? killers[depth * 2 + index] : 0;
+        }
+
+        void addKiller(int depth, long killerCode) {
+            if (killers.length <= depth * 2 + 1)
+                killers = Arrays.copyOf(killers, depth * 2 + 2);
+            if (killers[depth * 2] == killerCode)
+                return;
+            killers[depth * 2 + 1] = killers[depth * 2];
+            killers[depth * 2] = killerCode;
+        }
+
+        /**
+         * @param slot slot of the Entity doing the turn
+         * @param turnCode turn from {@link TranspositionTable#encodeTurn(int, int, int)}
+         * @return code of the turn as a killer turn. Never 0.
+         */
+        static long getKillerCode(int slot, int turnCode) {
+            return (long) slot << 32 | turnCode;
+        }
+    }
+
+    /**
+     * Listens to how far a {@link ComputerPlayer} is in choosing its turns.
+     */
+    public interface ProgressListener {
+        /**
+         * @param progress same as {@link ComputerPlayer#getProgress()}
+         */
+        void progressChanged(byte progress);
+    }
+
+    /**
+     * Listens to the stats of each search a {@link ComputerPlayer} finishes. Searches that are stopped aren't given.
+     */
+    public interface SearchListener {
+        /**
+         * @param stats stats of the search. Not changed after this is called.
+         */
+        void searchFinished(SearchStats stats);
+    }
+
     /**
      * Enum for the levels of difficulty the computer has
      */
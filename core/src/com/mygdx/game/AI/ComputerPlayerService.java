@@ -0,0 +1,278 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.boards.BoardManager;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.rules_types.Team;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs {@link ComputerPlayer} searches on long-lived background threads, so a thread isn't started for every computer turn.
+ * Each search gets its own {@link ComputerPlayer}, which are reused between searches, so more than one search can run at once.
+ * <p>
+ * Can also ponder: search during another team's turn, using a guess of what that team will do. If the guess was right, the
+ * computer's turns are ready, or at least started, by the time its turn comes. If it was wrong, the boards the pondering searched are
+ * still used by the search that replaces it.
+ *
+ * @author Phillip O'Reggio
+ */
+public class ComputerPlayerService {
+    /**
+     * Threads searches run on. Shared by all services, and kept alive between searches.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Computer Player");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        return thread;
+    });
+
+    private BoardManager boards;
+    private Array<Team> teams;
+    private Array<Array<BoardPosition>> zones;
+    private int indexOfFirstAttackingTeams = -1;
+    /** Given to each player. Can be null. */
+    private ComputerPlayer.SearchListener searchListener;
+    /** Players not being used by a search */
+    private final Array<ComputerPlayer> idlePlayers = new Array<>();
+    /** Searches started by {@link #ponder(BoardState, int, int, ComputerPlayer.Difficulty)} that haven't been used yet */
+    private final Array<Ponder> ponders = new Array<>();
+
+    /**
+     * @param b Board manager
+     * @param t teams
+     * @param zones zones on the board. null if it is not a zone match.
+     */
+    public ComputerPlayerService(BoardManager b, Array<Team> t, Array<Array<BoardPosition>> zones) {
+        boards = b;
+        teams = t;
+        this.zones = zones;
+    }
+
+    /**
+     * Starts searching for the turns of a team in the background.
+     * @param board {@link BoardState} to search from. Should not be changed while the search runs.
+     * @param team index of team controlled
+     * @param difficulty difficulty of the computer
+     * @param listener told how far the search is. Called from the thread doing the search. Can be null.
+     * @return turns for each entity on the team. Cancelling it stops the search.
+     */
+    public CompletableFuture<Array<Turn>> search(BoardState board, int team, ComputerPlayer.Difficulty difficulty, ComputerPlayer.ProgressListener listener) {
+        Ponder ponder = takePonder(board, team, difficulty);
+        if (ponder != null && ponder.isFor(board)) {
+            ponder.listener = listener;
+            return ponder.turns;
+        }
+
+        ComputerPlayer player = obtainPlayer();
+        player.setTeamControlled(team);
+        player.setDifficulty(difficulty);
+        // the pondering guessed wrong, but searched many of the same boards
+        if (ponder != null)
+            player.swapTranspositionTable(ponder.player);
+        player.updateComputerPlayer(board);
+        player.setProgressListener(listener);
+
+        CompletableFuture<Array<Turn>> turns = new CompletableFuture<>();
+        turns.whenComplete((result, exception) -> {
+            if (turns.isCancelled())
+                player.stopThread();
+        });
+        EXECUTOR.execute(() -> {
+            try {
+                if (turns.isCancelled())
+                    return;
+                player.run();
+                // does nothing if the search was cancelled
+                turns.complete(new Array<>(player.getDecidedTurns()));
+            } catch (Throwable throwable) {
+                turns.completeExceptionally(throwable);
+            } finally {
+                player.setProgressListener(null);
+                freePlayer(player);
+            }
+        });
+        return turns;
+    }
+
+    /**
+     * Picks random turns for a team without searching. Used when a search fails.
+     * @param team index of team controlled
+     * @return a turn for each entity on the team, or null for ones that are dead
+     */
+    public Array<Turn> getRandomTurns(int team) {
+        ComputerPlayer player = obtainPlayer();
+        try {
+            player.setTeamControlled(team);
+            return player.getRandomTurns();
+        } finally {
+            freePlayer(player);
+        }
+    }
+
+    /**
+     * Starts searching for a team's next turns while another team is moving. Guesses the other team's turns by searching for them
+     * first, then searches from the board those turns would lead to. {@link #search(BoardState, int, ComputerPlayer.Difficulty, ComputerPlayer.ProgressListener)}
+     * uses the result if the board it is given turns out to be the guessed one. Stops any earlier pondering.
+     * @param board {@link BoardState} at the start of the other team's turn. Should not be changed while pondering.
+     * @param otherTeam index of the team that is moving
+     * @param team index of team controlled, which moves after the other team
+     * @param difficulty difficulty of the computer. The other team's turns are guessed at the same difficulty.
+     */
+    public void ponder(BoardState board, int otherTeam, int team, ComputerPlayer.Difficulty difficulty) {
+        cancelPonders();
+        ComputerPlayer player = obtainPlayer();
+        Ponder ponder = new Ponder(team, difficulty, player);
+        player.setProgressListener(ponder);
+        // pondering isn't a turn being taken, so its searches aren't reported. Restored when the player is freed.
+        player.setSearchListener(null);
+        // set up here, since the task only reads the board it is given and never the Entities' components
+        player.setTeamControlled(otherTeam);
+        player.setDifficulty(difficulty);
+        player.updateComputerPlayer(board);
+        ponder.turns.whenComplete((result, exception) -> {
+            if (ponder.turns.isCancelled())
+                player.stopThread();
+        });
+        synchronized (this) {
+            ponders.add(ponder);
+        }
+
+        EXECUTOR.execute(() -> {
+            try {
+                if (ponder.turns.isCancelled())
+                    return;
+                player.run();
+                Array<Turn> otherTurns = player.getDecidedTurns();
+
+                // the board once the other team is done and the controlled team's turn effects happen
+                BoardState expectedBoard = board.copy();
+                for (int i = 0; i < otherTurns.size; i++)
+                    if (otherTurns.get(i) != null)
+                        expectedBoard.tryTurn(otherTurns.get(i));
+                expectedBoard.doTurnEffects(team);
+                ponder.expectedBoard = expectedBoard;
+
+                if (ponder.turns.isCancelled())
+                    return;
+                player.setTeamControlled(team);
+                player.updateComputerPlayer(expectedBoard);
+                player.run();
+                ponder.turns.complete(new Array<>(player.getDecidedTurns()));
+            } catch (Throwable throwable) {
+                ponder.turns.completeExceptionally(throwable);
+            } finally {
+                player.setProgressListener(null);
+                freePlayer(player);
+            }
+        });
+    }
+
+    /**
+     * Stops all pondering.
+     */
+    public synchronized void cancelPonders() {
+        for (int i = 0; i < ponders.size; i++)
+            ponders.get(i).turns.cancel(true);
+        ponders.clear();
+    }
+
+    /**
+     * Takes the pondering for the team and difficulty, if there is one. Pondering that guessed wrong is stopped.
+     * @return the pondering, which is stopped if it isn't for the board. null if there is none.
+     */
+    private synchronized Ponder takePonder(BoardState board, int team, ComputerPlayer.Difficulty difficulty) {
+        Ponder match = null;
+        for (int i = 0; i < ponders.size; i++) {
+            Ponder ponder = ponders.get(i);
+            if (match == null && ponder.team == team && ponder.difficulty == difficulty && !ponder.turns.isCompletedExceptionally()) {
+                match = ponder;
+                if (!ponder.isFor(board))
+                    ponder.turns.cancel(true);
+            } else
+                ponder.turns.cancel(true);
+        }
+        ponders.clear();
+        return match;
+    }
+
+    /**
+     * @param i index of the team whose entities only use their first attack. -1 if there is none.
+     */
+    public synchronized void setIndexOfFirstAttackingTeams(int i) {
+        indexOfFirstAttackingTeams = i;
+        for (ComputerPlayer player : idlePlayers)
+            player.setIndexOfFirstAttackingTeams(i);
+    }
+
+    /**
+     * @param listener told the stats of each search that finishes. Called from the thread doing the search. Can be null.
+     */
+    public synchronized void setSearchListener(ComputerPlayer.SearchListener listener) {
+        searchListener = listener;
+        for (ComputerPlayer player : idlePlayers)
+            player.setSearchListener(listener);
+    }
+
+    private synchronized ComputerPlayer obtainPlayer() {
+        if (idlePlayers.size > 0) {
+            ComputerPlayer player = idlePlayers.pop();
+            player.resetStop();
+            return player;
+        }
+
+        ComputerPlayer player;
+        if (zones != null)
+            player = new ComputerPlayer(boards, teams, zones, 0, ComputerPlayer.Difficulty.EASY);
+        else
+            player = new ComputerPlayer(boards, teams, 0, ComputerPlayer.Difficulty.EASY);
+        player.setIndexOfFirstAttackingTeams(indexOfFirstAttackingTeams);
+        player.setSearchListener(searchListener);
+        return player;
+    }
+
+    private synchronized void freePlayer(ComputerPlayer player) {
+        player.setIndexOfFirstAttackingTeams(indexOfFirstAttackingTeams);
+        player.setSearchListener(searchListener);
+        idlePlayers.add(player);
+    }
+
+    /**
+     * A search started before the board it is for has happened. Passes its progress on to whoever is waiting for it.
+     */
+    private static class Ponder implements ComputerPlayer.ProgressListener {
+        final int team;
+        final ComputerPlayer.Difficulty difficulty;
+        final CompletableFuture<Array<Turn>> turns = new CompletableFuture<>();
+        /** Player doing the search */
+        final ComputerPlayer player;
+        /** Board the search is for. null until the other team's turns have been guessed. */
+        volatile BoardState expectedBoard;
+        /** Listener of the search that took this. null until taken. */
+        volatile ComputerPlayer.ProgressListener listener;
+
+        Ponder(int team, ComputerPlayer.Difficulty difficulty, ComputerPlayer player) {
+            this.team = team;
+            this.difficulty = difficulty;
+            this.player = player;
+        }
+
+        /**
+         * @return whether the other team's turns were guessed right, so the search is for the board. False if it was cancelled.
+         */
+        boolean isFor(BoardState board) {
+            BoardState expected = expectedBoard;
+            return !turns.isCancelled() && expected != null && expected.isSamePosition(board);
+        }
+
+        @Override
+        public void progressChanged(byte progress) {
+            ComputerPlayer.ProgressListener currentListener = listener;
+            if (currentListener != null)
+                currentListener.progressChanged(progress);
+        }
+    }
+}
@@ -2,102 +2,578 @@ package com.mygdx.game.AI;
 
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ArrayMap;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.mygdx.game.boards.BoardPosition;
 
+import java.util.Arrays;
+
 /**
- * Wrapper class for the ArrayMap that stores EntityValues. Either {@link com.mygdx.game.boards.BoardPosition} or {@link com.badlogic.ashley.core.Entity} can
- * be used to get the entityValue
+ * Array-backed storage for the {@link EntityValue}s of a {@link BoardState}. Either {@link com.mygdx.game.boards.BoardPosition} or
+ * {@link com.badlogic.ashley.core.Entity} can be used to get the entityValue.
+ * <p>
+ * Each Entity is given a slot when it is first put into the map. Slots never change, so the slot tables are shared by copies of the
+ * map until one of them puts in an Entity that doesn't have a slot yet, which copies them first. The board itself is stored as a flat occupancy grid of {@code rows * columns} cells holding the slot on that cell,
+ * along with a {@link Bitboard} of the cells that are occupied.
+ * {@link EntityValue}s are shared between copies until one of them is changed (copy on write), so {@link #copy()} is only a couple of array copies.
+ * Both maps have to know what is shared, so copying marks the values and slot tables of the map being copied as shared too. This is
+ * done while holding the lock of the map being copied, and nothing else in it is changed, so a map can be copied from more than one
+ * thread at once. It can't be copied while it is being changed.
+ * <p>
+ * Changes can also be recorded and undone. After {@link #beginChanges()}, every slot is saved the first time it is changed, and
+ * {@link #undoChanges()} puts the saved slots back. The saved records are reused, so recording changes does not create garbage.
+ * <p>
+ * The map also keeps a Zobrist style key of its contents (see {@link #getHash()}). Each slot has its own key, and the key of the
+ * map is all of them xor'd together, so only slots that were changed need to be hashed again.
  *
  * @author Phillip O'Reggio
  */
 public class EntityMap {
-    private ObjectMap<Entity, EntityValue> entityMap;
-    private ObjectMap<BoardPosition, EntityValue> boardPostionMap;
+    /** Value in the occupancy grid for a cell with nothing on it */
+    public static final int EMPTY = -1;
+
+    private final int rows;
+    private final int columns;
+
+    /** Entity keys indexed by slot. Shared between copies while {@link #slotsShared}. */
+    private Entity[] slotEntities;
+    /** Slot of each Entity key. Shared between copies while {@link #slotsShared}. */
+    private ObjectIntMap<Entity> slotIndices;
+    /** Whether the slot tables are also referenced by another copy, and must be copied before a slot is added */
+    private boolean slotsShared;
+    /** Number of slots that have been handed out */
+    private int slotCount;
+
+    /** Value of each slot. null if the Entity was removed */
+    private EntityValue[] values;
+    /** Whether the value at a slot is also referenced by another copy, and must be copied before it is changed */
+    private boolean[] shared;
+    /** Slot on each cell of the board, or {@link #EMPTY} */
+    private int[] occupancy;
+    /** Cells that have an Entity on them. Kept the same as {@link #occupancy}. */
+    private Bitboard occupiedCells;
+    private int size;
+
+    /** Saved slots of every recorded change. Only the first {@link #savedCount} are in use; the rest are kept to be reused. */
+    private Array<SavedSlot> saved = new Array<>();
+    private int savedCount;
+    /** Index in {@link #saved} where each open change begins */
+    private IntArray changeStarts = new IntArray();
+    /** Id of each open change */
+    private IntArray changeIds = new IntArray();
+    /** Size of the map when each open change began */
+    private IntArray changeSizes = new IntArray();
+    /** Id given to the last change that was begun */
+    private int lastChangeId;
+    /** Id of the change that each slot was last saved in */
+    private int[] savedInChange;
+
+    /** Xor of every slot's key, not counting slots that are dirty */
+    private long hash;
+    /** Key of each slot when it was last hashed */
+    private long[] slotHashes;
+    /** Whether a slot may have changed since it was last hashed */
+    private boolean[] dirty;
+    private IntArray dirtySlots = new IntArray();
+
     /**
-     * Map that allows the access of Entity Keys from EntityValues. This allows things like removing Entities by BoardPosition possible in a
-     * timely fashion.
+     * Creates an empty map for a board of the given size.
+     * @param rows row size of the board
+     * @param columns column size of the board
+     * @param capacity expected amount of entities. The map grows if more are put in.
      */
-    private ObjectMap<EntityValue, Entity> reverseEntityMap;
+    public EntityMap(int rows, int columns, int capacity) {
+        this.rows = rows;
+        this.columns = columns;
+        slotEntities = new Entity[capacity];
+        slotIndices = new ObjectIntMap<>(capacity);
+        values = new EntityValue[capacity];
+        shared = new boolean[capacity];
+        savedInChange = new int[capacity];
+        slotHashes = new long[capacity];
+        dirty = new boolean[capacity];
+        occupancy = new int[rows * columns];
+        Arrays.fill(occupancy, EMPTY);
+        occupiedCells = new Bitboard(rows, columns);
+    }
+
+    /**
+     * Creates a copy of another map. Values and slot tables are shared until they are changed, and are marked as shared in both
+     * maps. If the other map is recording changes, the values are copied right away instead, since undoing the changes would change
+     * them under this map. Locks the other map, since marking it as shared is the only change made to it.
+     */
+    private EntityMap(EntityMap other) {
+        rows = other.rows;
+        columns = other.columns;
+        synchronized (other) {
+            slotEntities = other.slotEntities;
+            slotIndices = other.slotIndices;
+            slotsShared = true;
+            other.slotsShared = true;
+            slotCount = other.slotCount;
+            values = new EntityValue[other.values.length];
+            System.arraycopy(other.values, 0, values, 0, other.values.length);
+            occupancy = new int[other.occupancy.length];
+            System.arraycopy(other.occupancy, 0, occupancy, 0, other.occupancy.length);
+            occupiedCells = new Bitboard(rows, columns);
+            occupiedCells.set(other.occupiedCells);
+            size = other.size;
+            savedInChange = new int[values.length];
+            dirty = new boolean[values.length];
 
-    public EntityMap() {
-        entityMap = new ObjectMap<>();
-        boardPostionMap = new ObjectMap<>();
-        reverseEntityMap = new ObjectMap<>();
+            // the other map's dirty slots are hashed into this one's key, leaving the other map as it is
+            hash = other.hash;
+            slotHashes = new long[values.length];
+            System.arraycopy(other.slotHashes, 0, slotHashes, 0, values.length);
+            for (int i = 0; i < other.dirtySlots.size; i++) {
+                int slot = other.dirtySlots.get(i);
+                hash ^= slotHashes[slot];
+                slotHashes[slot] = values[slot] == null ? 0 : hashSlot(slot, values[slot]);
+                hash ^= slotHashes[slot];
+            }
+
+            shared = new boolean[values.length];
+            if (other.isRecordingChanges()) {
+                for (int i = 0; i < slotCount; i++)
+                    if (values[i] != null)
+                        values[i] = values[i].copy();
+            } else {
+                Arrays.fill(shared, true);
+                Arrays.fill(other.shared, true);
+            }
+        }
     }
 
     /**
-     * Puts a {@link EntityValue} into the two {@link ArrayMap}s
+     * Puts a {@link EntityValue} into the map. If the Entity does not have a slot yet, it is given one, and the slot tables are copied
+     * first if they are shared with another copy of the map.
      * @param keyEntity Entity to be used as a key value
      * @param keyBoardPosition BoardPosition to be used as a key value
      * @param entityValue EntityValue being stored
      */
     public void put(Entity keyEntity, BoardPosition keyBoardPosition, EntityValue entityValue) {
-        entityMap.put(keyEntity, entityValue);
-        boardPostionMap.put(keyBoardPosition, entityValue);
-        reverseEntityMap.put(entityValue, keyEntity);
+        int slot = slotIndices.get(keyEntity, EMPTY);
+        if (slot == EMPTY) {
+            if (slotsShared) {
+                slotEntities = slotEntities.clone();
+                slotIndices = new ObjectIntMap<>(slotIndices);
+                slotsShared = false;
+            }
+            if (slotCount == values.length)
+                grow();
+            slot = slotCount++;
+            slotEntities[slot] = keyEntity;
+            slotIndices.put(keyEntity, slot);
+        }
+
+        if (values[slot] != null)
+            remove(slot);
+        entityValue.pos = keyBoardPosition.copy();
+        entityValue.slot = slot;
+        values[slot] = entityValue;
+        shared[slot] = false;
+        occupancy[toCell(keyBoardPosition.r, keyBoardPosition.c)] = slot;
+        occupiedCells.set(toCell(keyBoardPosition.r, keyBoardPosition.c));
+        size++;
+        markDirty(slot);
+    }
+
+    private void grow() {
+        int newLength = Math.max(8, values.length * 2);
+        slotEntities = Arrays.copyOf(slotEntities, newLength);
+        values = Arrays.copyOf(values, newLength);
+        shared = Arrays.copyOf(shared, newLength);
+        savedInChange = Arrays.copyOf(savedInChange, newLength);
+        slotHashes = Arrays.copyOf(slotHashes, newLength);
+        dirty = Arrays.copyOf(dirty, newLength);
     }
 
     public EntityValue get(Entity keyEntity) {
-        return entityMap.get(keyEntity);
+        int slot = getSlot(keyEntity);
+        return slot == EMPTY ? null : values[slot];
     }
 
     public EntityValue get(BoardPosition keyBoardPosition) {
-        return boardPostionMap.get(keyBoardPosition);
+        int slot = getSlot(keyBoardPosition.r, keyBoardPosition.c);
+        return slot == EMPTY ? null : values[slot];
+    }
+
+    /**
+     * @return value stored in the slot. null if the Entity was removed. Should not be changed; use {@link #getMutable(int)} for that.
+     */
+    public EntityValue get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Gets the value stored in the slot so it can be changed. If the value is shared with another copy of this map, it is copied first.
+     * @param slot slot of the Entity
+     * @return value that only this map references. null if the Entity was removed.
+     */
+    public EntityValue getMutable(int slot) {
+        save(slot);
+        markDirty(slot);
+        EntityValue value = values[slot];
+        if (value != null && shared[slot]) {
+            value = value.copy();
+            values[slot] = value;
+            shared[slot] = false;
+        }
+        return value;
+    }
+
+    /**
+     * @return slot of the Entity. {@link #EMPTY} if it was never put in this map.
+     */
+    public int getSlot(Entity keyEntity) {
+        return slotIndices.get(keyEntity, EMPTY);
+    }
+
+    /**
+     * @return slot of the Entity on the position. {@link #EMPTY} if nothing is there or the position is off the board.
+     */
+    public int getSlot(int r, int c) {
+        if (r < 0 || c < 0 || r >= rows || c >= columns)
+            return EMPTY;
+        return occupancy[r * columns + c];
+    }
+
+    /**
+     * @param cell index of a position, from {@link #toCell(int, int)}
+     * @return slot of the Entity on the cell. {@link #EMPTY} if nothing is there.
+     */
+    public int getSlotAt(int cell) {
+        return occupancy[cell];
     }
 
     public Entity getKeyEntity(EntityValue entityValue) {
-        return reverseEntityMap.get(entityValue);
+        return entityValue.slot == EMPTY ? null : slotEntities[entityValue.slot];
+    }
+
+    /**
+     * @return Entity that owns the slot
+     */
+    public Entity getEntity(int slot) {
+        return slotEntities[slot];
+    }
+
+    /**
+     * Moves the Entity in a slot to another position. The position should be empty and on the board.
+     * @param slot slot of the Entity
+     * @param r new row
+     * @param c new column
+     */
+    public void move(int slot, int r, int c) {
+        EntityValue value = getMutable(slot);
+        occupancy[toCell(value.pos.r, value.pos.c)] = EMPTY;
+        occupiedCells.clear(toCell(value.pos.r, value.pos.c));
+        occupancy[toCell(r, c)] = slot;
+        occupiedCells.set(toCell(r, c));
+        value.pos.set(r, c);
+    }
+
+    /**
+     * Removes the Entity in a slot. Its slot is kept, so it can be put back in.
+     * @return value that was removed. null if it was already removed.
+     */
+    public EntityValue remove(int slot) {
+        EntityValue value = values[slot];
+        if (value == null)
+            return null;
+        save(slot);
+        markDirty(slot);
+        int cell = toCell(value.pos.r, value.pos.c);
+        if (occupancy[cell] == slot) {
+            occupancy[cell] = EMPTY;
+            occupiedCells.clear(cell);
+        }
+        values[slot] = null;
+        size--;
+        return value;
     }
 
     public EntityValue remove(Entity keyEntity) {
-        boardPostionMap.remove(entityMap.get(keyEntity).pos);
-        reverseEntityMap.remove(entityMap.get(keyEntity));
-        return entityMap.remove(keyEntity);
+        int slot = getSlot(keyEntity);
+        return slot == EMPTY ? null : remove(slot);
     }
 
     public EntityValue remove(BoardPosition keyBoardPosition) {
-        entityMap.remove(reverseEntityMap.get(boardPostionMap.get(keyBoardPosition)));
-        reverseEntityMap.remove(boardPostionMap.get(keyBoardPosition));
-        return boardPostionMap.remove(keyBoardPosition);
+        int slot = getSlot(keyBoardPosition.r, keyBoardPosition.c);
+        return slot == EMPTY ? null : remove(slot);
     }
 
     public EntityValue remove(EntityValue entityValue) {
-        boardPostionMap.remove(entityValue.pos);
-        entityMap.remove(reverseEntityMap.get(entityValue));
-        reverseEntityMap.remove(entityValue);
+        if (entityValue.slot != EMPTY && values[entityValue.slot] != null)
+            remove(entityValue.slot);
         return entityValue;
     }
 
     public boolean containsKey(Entity keyEntity) {
-        return entityMap.containsKey(keyEntity);
+        return get(keyEntity) != null;
     }
 
     public boolean containsKey(BoardPosition keyBoardPosition) {
-        return boardPostionMap.containsKey(keyBoardPosition);
+        return getSlot(keyBoardPosition.r, keyBoardPosition.c) != EMPTY;
     }
 
     public boolean contains(EntityValue entity) {
-        return reverseEntityMap.containsKey(entity);
+        return entity.slot != EMPTY && entity.slot < slotCount && values[entity.slot] != null
+            && values[entity.slot].BOARD_ENTITY_ID == entity.BOARD_ENTITY_ID;
+    }
+
+    /**
+     * Starts recording changes. Every slot changed after this can be put back with {@link #undoChanges()}. Changes can be nested, and
+     * each call should be matched with one call to {@link #undoChanges()}.
+     */
+    public void beginChanges() {
+        changeStarts.add(savedCount);
+        changeIds.add(++lastChangeId);
+        changeSizes.add(size);
+    }
+
+    /**
+     * Undoes every change made since the last call to {@link #beginChanges()}.
+     */
+    public void undoChanges() {
+        int start = changeStarts.pop();
+        changeIds.pop();
+        size = changeSizes.pop();
+
+        // take changed entities off the board before putting them back, so one cannot overwrite the other
+        for (int i = savedCount - 1; i >= start; i--) {
+            int slot = saved.get(i).slot;
+            EntityValue value = values[slot];
+            if (value != null && occupancy[toCell(value.pos.r, value.pos.c)] == slot) {
+                occupancy[toCell(value.pos.r, value.pos.c)] = EMPTY;
+                occupiedCells.clear(toCell(value.pos.r, value.pos.c));
+            }
+        }
+        for (int i = savedCount - 1; i >= start; i--) {
+            SavedSlot savedSlot = saved.get(i);
+            int slot = savedSlot.slot;
+            values[slot] = savedSlot.value;
+            shared[slot] = savedSlot.shared;
+            savedInChange[slot] = savedSlot.previousChangeId;
+            markDirty(slot);
+            if (savedSlot.value != null) {
+                if (!savedSlot.shared)
+                    savedSlot.restore();
+                occupancy[toCell(savedSlot.value.pos.r, savedSlot.value.pos.c)] = slot;
+                occupiedCells.set(toCell(savedSlot.value.pos.r, savedSlot.value.pos.c));
+            }
+            savedSlot.value = null;
+        }
+        savedCount = start;
+    }
+
+    /**
+     * @return whether changes are being recorded
+     */
+    public boolean isRecordingChanges() {
+        return changeIds.size > 0;
+    }
+
+    /**
+     * Saves a slot before it is changed, if changes are being recorded and it has not been saved in the current change.
+     */
+    private void save(int slot) {
+        if (changeIds.size == 0 || savedInChange[slot] == changeIds.peek())
+            return;
+
+        if (savedCount == saved.size)
+            saved.add(new SavedSlot());
+        SavedSlot savedSlot = saved.get(savedCount++);
+        savedSlot.save(slot, values[slot], shared[slot], savedInChange[slot]);
+        savedInChange[slot] = changeIds.peek();
+    }
+
+    /**
+     * Gets the Zobrist style key of everything in the map: the position, hp, sp and status effects of each Entity. Maps with the same
+     * contents have the same key. Changes made to a value from {@link #getMutable(int)} are seen the next time this is called, so
+     * the value should not be held on to and changed after that.
+     * @return key of the map
+     */
+    public long getHash() {
+        for (int i = 0; i < dirtySlots.size; i++) {
+            int slot = dirtySlots.get(i);
+            hash ^= slotHashes[slot];
+            slotHashes[slot] = values[slot] == null ? 0 : hashSlot(slot, values[slot]);
+            hash ^= slotHashes[slot];
+            dirty[slot] = false;
+        }
+        dirtySlots.clear();
+        return hash;
+    }
+
+    private void markDirty(int slot) {
+        if (!dirty[slot]) {
+            dirty[slot] = true;
+            dirtySlots.add(slot);
+        }
+    }
+
+    /**
+     * Gets the key of one slot. Each feature of the value is given its own pseudo random key based on the slot, the feature and the
+     * value of the feature, which is the same as looking it up in a table of random numbers.
+     */
+    private long hashSlot(int slot, EntityValue value) {
+        long h = mix(slot, 0, toCell(value.pos.r, value.pos.c))
+                ^ mix(slot, 1, value.hp)
+                ^ mix(slot, 2, value.sp)
+                ^ mix(slot, 3, value.arbitraryValue);
+        if (value.statusEffectInfos != null) {
+            for (int i = 0; i < value.statusEffectInfos.size; i++) {
+                StatusEffectInfo status = value.statusEffectInfos.get(i);
+                h ^= mix(slot, 4 + i, status.name.hashCode() * 31L + status.getCurrentTurn());
+            }
+        }
+        return h;
+    }
+
+    /**
+     * SplitMix64 finalizer over a slot, feature and value.
+     */
+    private static long mix(int slot, int feature, long value) {
+        long z = value * 0x9E3779B97F4A7C15L + ((long) slot << 40) + ((long) feature << 32) + 0x632BE59BD9B4E019L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return A copy of this object. Values are only copied once either map changes them.
+     */
+    public EntityMap copy() {
+        return new EntityMap(this);
+    }
+
+    /**
+     * @return Amount of slots handed out. Slots of removed Entities are included, so {@link #get(int)} can return null.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * @return Amount of Entities still in the map
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return cells that have an Entity on them. Changes with the map, and should not be changed.
+     */
+    public Bitboard getOccupiedCells() {
+        return occupiedCells;
+    }
+
+    /**
+     * @return index of a position in the occupancy grid
+     */
+    public int toCell(int r, int c) {
+        return r * columns + c;
     }
 
     public Array<EntityValue> getEntityValues() {
-        return entityMap.values().toArray();
+        Array<EntityValue> entityValues = new Array<>(size);
+        for (int i = 0; i < slotCount; i++)
+            if (values[i] != null)
+                entityValues.add(values[i]);
+        return entityValues;
     }
 
     public Array<BoardPosition> getAllPositions() {
-        return boardPostionMap.keys().toArray();
+        Array<BoardPosition> positions = new Array<>(size);
+        for (int i = 0; i < slotCount; i++)
+            if (values[i] != null)
+                positions.add(values[i].pos);
+        return positions;
     }
 
     public Array<Entity> getAllEntities() {
-        return reverseEntityMap.values().toArray();
+        Array<Entity> entities = new Array<>(size);
+        for (int i = 0; i < slotCount; i++)
+            if (values[i] != null)
+                entities.add(slotEntities[i]);
+        return entities;
     }
 
     /**
-     * Used in toString method of BoardState
+     * What a slot held before it was changed. Values that were shared are never changed in place, so only the reference is needed
+     * to put them back. Values that were not shared have their fields saved.
      */
-    public ObjectMap.Entries<BoardPosition, EntityValue> getPositionEntityValuePairs() {
-        return boardPostionMap.entries();
+    private static class SavedSlot {
+        int slot;
+        EntityValue value;
+        boolean shared;
+        int previousChangeId;
+
+        int hp;
+        int maxHp;
+        int sp;
+        int maxSp;
+        int attack;
+        int defense;
+        int arbitraryValue;
+        int r;
+        int c;
+        /** Status effects on the value. The status effects themselves only change their current turn, so that is saved separately. */
+        Array<StatusEffectInfo> statusEffectInfos = new Array<>();
+        IntArray statusTurns = new IntArray();
+
+        void save(int slot, EntityValue value, boolean shared, int previousChangeId) {
+            this.slot = slot;
+            this.value = value;
+            this.shared = shared;
+            this.previousChangeId = previousChangeId;
+            if (value == null || shared)
+                return;
+
+            hp = value.hp;
+            maxHp = value.maxHp;
+            sp = value.sp;
+            maxSp = value.maxSp;
+            attack = value.attack;
+            defense = value.defense;
+            arbitraryValue = value.arbitraryValue;
+            r = value.pos.r;
+            c = value.pos.c;
+            statusEffectInfos.clear();
+            statusTurns.clear();
+            if (value.statusEffectInfos != null) {
+                for (int i = 0; i < value.statusEffectInfos.size; i++) {
+                    statusEffectInfos.add(value.statusEffectInfos.get(i));
+                    statusTurns.add(value.statusEffectInfos.get(i).getCurrentTurn());
+                }
+            }
+        }
+
+        void restore() {
+            value.hp = hp;
+            value.maxHp = maxHp;
+            value.sp = sp;
+            value.maxSp = maxSp;
+            value.attack = attack;
+            value.defense = defense;
+            value.arbitraryValue = arbitraryValue;
+            value.pos.set(r, c);
+            if (value.statusEffectInfos != null) {
+                value.statusEffectInfos.clear();
+                for (int i = 0; i < statusEffectInfos.size; i++) {
+                    statusEffectInfos.get(i).setCurrentTurn(statusTurns.get(i));
+                    value.statusEffectInfos.add(statusEffectInfos.get(i));
+                }
+            }
+            statusEffectInfos.clear();
+        }
     }
 }
@@ -4,6 +4,7 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.ComponentMappers;
 import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.move_related.Move;
 
 /**
  * Class representing a simplified form of entities on the board. Only contains values relating to an Entity's value, such
@@ -32,6 +33,19 @@ public class EntityValue implements Comparable {
     public Array<StatusEffectInfo> statusEffectInfos;
 
     public BoardPosition pos;
+    /**
+     * Slot given to this value by the {@link EntityMap} it is stored in
+     */
+    int slot = EntityMap.EMPTY;
+    /**
+     * Orientation of each of the Entity's moves when it was put on the board, by move index. Null if it was not put on from
+     * an Entity with moves. Shared between copies, so it should not be changed.
+     */
+    byte[] moveOrientations;
+    /**
+     * Speed of the Entity without status effects, taken when it was put on the board
+     */
+    int speed;
 
     /**
      * Creates an {@link EntityValue} based off an Entity that cannot receive a status effect.
@@ -51,6 +65,7 @@ public class EntityValue implements Comparable {
         hp = health;
         sp = skill;
         maxHp = maxHealth;
+        this.maxSp = maxSp;
         attack = atk;
         defense = def;
         acceptsStatusEffects = false;
@@ -66,6 +81,7 @@ public class EntityValue implements Comparable {
         hp = health;
         sp = skill;
         maxHp = maxHealth;
+        this.maxSp = maxSp;
         attack = atk;
         defense = def;
 
@@ -107,6 +123,30 @@ public class EntityValue implements Comparable {
         return ComponentMappers.bm.get(e).BOARD_ENTITY_ID == BOARD_ENTITY_ID;
     }
 
+    /**
+     * @param other value being compared
+     * @return True, if both are the same Entity with the same position, stats and status effects. False otherwise.
+     */
+    public boolean isSameState(EntityValue other) {
+        if (BOARD_ENTITY_ID != other.BOARD_ENTITY_ID || team != other.team || !pos.equals(other.pos)
+                || hp != other.hp || maxHp != other.maxHp || sp != other.sp || maxSp != other.maxSp
+                || attack != other.attack || defense != other.defense || arbitraryValue != other.arbitraryValue)
+            return false;
+
+        int statusCount = statusEffectInfos == null ? 0 : statusEffectInfos.size;
+        int otherStatusCount = other.statusEffectInfos == null ? 0 : other.statusEffectInfos.size;
+        if (statusCount != otherStatusCount)
+            return false;
+        for (int i = 0; i < statusCount; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
+            StatusEffectInfo otherStatus = other.statusEffectInfos.get(i);
+            if (!status.name.equals(otherStatus.name) || status.duration != otherStatus.duration
+                    || status.getCurrentTurn() != otherStatus.getCurrentTurn())
+                return false;
+        }
+        return true;
+    }
+
     @Override
     public int compareTo(Object o) {
         if (getValue(-1) > ((EntityValue) o).getValue(-1))
@@ -118,15 +158,34 @@ public class EntityValue implements Comparable {
     }
 
     public EntityValue copy() {
+        EntityValue copy;
         if (statusEffectInfos == null) {
-            return new EntityValue(pos.copy(), team, BOARD_ENTITY_ID, hp, maxHp, sp, maxSp, attack, defense, arbitraryValue);
+            copy = new EntityValue(pos.copy(), team, BOARD_ENTITY_ID, hp, maxHp, sp, maxSp, attack, defense, arbitraryValue);
         } else {
             //copy status effects
             StatusEffectInfo[] copyStatus = new StatusEffectInfo[statusEffectInfos.size];
             for (int i = 0; i < statusEffectInfos.size; i++)
                 copyStatus[i] = statusEffectInfos.get(i).copy();
-            return new EntityValue(pos.copy(), team, BOARD_ENTITY_ID, hp, maxHp, sp, maxSp, attack, defense, copyStatus, arbitraryValue);
+            copy = new EntityValue(pos.copy(), team, BOARD_ENTITY_ID, hp, maxHp, sp, maxSp, attack, defense, copyStatus, arbitraryValue);
         }
+        copy.slot = slot;
+        copy.moveOrientations = moveOrientations;
+        copy.speed = speed;
+        return copy;
+    }
+
+    /**
+     * Gets the effected squares of one of the Entity's moves, turned from the orientation the move had when the Entity was
+     * put on the board. Falls back on the move's current orientation if that was not recorded.
+     * @param move move being used
+     * @param moveIndex index of the move in the Entity's move list
+     * @param relativeDirection direction that it will be spun
+     * @return packed offsets of the effected squares, as in {@link Move#getOrientedOffsets(int)}
+     */
+    public int[] getAttackOffsets(Move move, int moveIndex, int relativeDirection) {
+        if (moveOrientations == null || moveIndex >= moveOrientations.length)
+            return move.getOrientedOffsets(relativeDirection);
+        return move.getOrientedOffsets(moveOrientations[moveIndex], relativeDirection);
     }
 
     /**
@@ -137,7 +196,8 @@ public class EntityValue implements Comparable {
         if (statusEffectInfos == null)
             return atk;
 
-        for (StatusEffectInfo status : statusEffectInfos) {
+        for (int i = 0; i < statusEffectInfos.size; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
             if (status.statChanges == null) continue;
             atk = (int) (atk * status.statChanges.atk);
         }
@@ -153,7 +213,8 @@ public class EntityValue implements Comparable {
         if (statusEffectInfos == null)
             return def;
 
-        for (StatusEffectInfo status : statusEffectInfos) {
+        for (int i = 0; i < statusEffectInfos.size; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
             if (status.statChanges == null) continue;
             def = (int) (def * status.statChanges.def);
         }
@@ -169,7 +230,8 @@ public class EntityValue implements Comparable {
         if (statusEffectInfos == null)
             return maxHP;
 
-        for (StatusEffectInfo status : statusEffectInfos) {
+        for (int i = 0; i < statusEffectInfos.size; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
             if (status.statChanges == null) continue;
             maxHP = (int) (maxHP * status.statChanges.maxHP);
         }
@@ -185,7 +247,8 @@ public class EntityValue implements Comparable {
         if (statusEffectInfos == null)
             return maxSP;
 
-        for (StatusEffectInfo status : statusEffectInfos) {
+        for (int i = 0; i < statusEffectInfos.size; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
             if (status.statChanges == null) continue;
             maxSP = (int) (maxSP * status.statChanges.maxSP);
         }
@@ -193,6 +256,42 @@ public class EntityValue implements Comparable {
         return maxSP;
     }
 
+    /**
+     * Speed after status effects are applied, starting from the Entity's speed when it was put on the board
+     */
+    public int getModSpd() {
+        return getModSpd(speed);
+    }
+
+    /**
+     * Speed after status effects are applied, starting from the given speed.
+     * @param spd speed of the Entity without status effects
+     */
+    public int getModSpd(int spd) {
+        if (statusEffectInfos == null)
+            return spd;
+
+        for (int i = 0; i < statusEffectInfos.size; i++) {
+            StatusEffectInfo status = statusEffectInfos.get(i);
+            if (status.statChanges == null) continue;
+            spd = (int) (spd * status.statChanges.spd);
+        }
+
+        return spd;
+    }
+
+    /**
+     * @return whether the Entity has a status effect that stops it from moving or attacking, such as Petrify or Freeze
+     */
+    public boolean hasNonMovingStatus() {
+        // indexed loops, as the EntityValue can be shared by the boards of other search threads
+        if (acceptsStatusEffects)
+            for (int i = 0; i < statusEffectInfos.size; i++)
+                if (statusEffectInfos.get(i).name.equals("Petrify") || statusEffectInfos.get(i).name.equals("Freeze"))
+                    return true;
+        return false;
+    }
+
     @Override
     public String toString() {
         return "EntityValue{" +
@@ -0,0 +1,21 @@
+package com.mygdx.game.AI;
+
+/**
+ * A way for a {@link ComputerPlayer} to value a {@link BoardState} at the end of its search. Set with
+ * {@link ComputerPlayer#setEvaluator(Evaluator)}. Used by every search thread at once, so it should not change while searching.
+ *
+ * @author Phillip O'Reggio
+ */
+public interface Evaluator {
+    /**
+     * @param board board being valued. Can be used, but should be left as it was.
+     * @param homeTeam The team's perspective. Higher values are better for this team.
+     * @return value of the board
+     */
+    int evaluate(BoardState board, int homeTeam);
+
+    /**
+     * @return value added to a board where an Entity of the team is on its zone, or taken away if it is the other team's Entity
+     */
+    int getZoneWinValue();
+}
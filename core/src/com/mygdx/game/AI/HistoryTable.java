@@ -0,0 +1,78 @@
+package com.mygdx.game.AI;
+
+import java.util.Arrays;
+
+/**
+ * Scores of how often each turn caused a cutoff in {@link ComputerPlayer}'s search, used to search turns that did well elsewhere in
+ * the tree first. A turn is found by the slot of its Entity in the {@link EntityMap}, its attack, its direction and the position it
+ * moves to.
+ * <p>
+ * Shared by all threads of a parallel search without locking. An update lost to another thread only makes the ordering slightly worse.
+ *
+ * @author Phillip O'Reggio
+ */
+public class HistoryTable {
+    /** Scores are halved once one reaches this, so newer cutoffs count for more than old ones */
+    private static final int MAX_SCORE = 1 << 20;
+
+    private int[] scores = new int[0];
+    private int slots;
+    /** Number of attacks plus 1, for not attacking */
+    private int attackKinds;
+    private int cells;
+
+    /**
+     * Makes the table fit a board, and removes every score if it had to be resized.
+     * @param slots number of slots in the board's {@link EntityMap}
+     * @param attackKinds most moves any Entity has, plus 1
+     * @param cells number of positions on the board
+     */
+    public void setSize(int slots, int attackKinds, int cells) {
+        if (this.slots == slots && this.attackKinds == attackKinds && this.cells == cells)
+            return;
+        this.slots = slots;
+        this.attackKinds = attackKinds;
+        this.cells = cells;
+        scores = new int[slots * attackKinds * 4 * cells];
+    }
+
+    /**
+     * Removes every score
+     */
+    public void clear() {
+        Arrays.fill(scores, 0);
+    }
+
+    /**
+     * @param slot slot of the Entity
+     * @param attack index of the attack, or -1
+     * @param direction direction of the attack
+     * @param cell index of the position moved to (row * columns + column)
+     * @return score of the turn. 0 if it doesn't fit in the table.
+     */
+    public int get(int slot, int attack, int direction, int cell) {
+        int index = getIndex(slot, attack, direction, cell);
+        return index == -1 ? 0 : scores[index];
+    }
+
+    /**
+     * Raises the score of a turn that caused a cutoff.
+     * @param bonus how much the score goes up. Cutoffs with more of the search left below them should count for more.
+     */
+    public void add(int slot, int attack, int direction, int cell, int bonus) {
+        int index = getIndex(slot, attack, direction, cell);
+        if (index == -1)
+            return;
+        int score = scores[index] + bonus;
+        scores[index] = score;
+        if (score >= MAX_SCORE)
+            for (int i = 0; i < scores.length; i++)
+                scores[i] /= 2;
+    }
+
+    private int getIndex(int slot, int attack, int direction, int cell) {
+        if (slot < 0 || slot >= slots || attack + 1 >= attackKinds || cell < 0 || cell >= cells)
+            return -1;
+        return ((slot * attackKinds + attack + 1) * 4 + direction) * cells + cell;
+    }
+}
@@ -0,0 +1,452 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.rules_types.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.mygdx.game.ComponentMappers.mvm;
+import static com.mygdx.game.ComponentMappers.stm;
+
+/**
+ * Chooses turns with Monte Carlo tree search, using UCT to pick which turns to look further into. Rather than looking at every turn
+ * to a set depth, it plays out many short games from the turns that have done well so far, so it copes better with the large number
+ * of turns each Entity has.
+ * <p>
+ * Like {@link NegamaxSearch}, each Entity on the team is searched one at a time, and its best turn is done before the next one is
+ * searched. The tree goes through the turns of every Entity after it, including its teammates and the other teams. Playouts pick the
+ * best of a few random turns from {@link ComputerPlayer#getFilteredPossibleTurns(Entity, BoardState)} for each Entity, then the
+ * board is evaluated. With parallel search, each thread of {@link ComputerPlayer#SEARCH_POOL} grows its own tree from the same
+ * turns, and the visits of each turn are added together (root parallelization).
+ *
+ * @author Phillip O'Reggio
+ */
+public class MonteCarloTreeSearch implements SearchStrategy {
+    /** How much turns that have been tried less are favored. Rewards are between 0 and 1. */
+    private static final double EXPLORATION = 0.7;
+    /** Change in a board's value that makes a reward of about .73. Around the value of one Entity. */
+    private static final double EVALUATION_SCALE = 300;
+    /** Random turns looked at for each Entity in a playout. The best of them is done. */
+    private static final int PLAYOUT_SAMPLES = 4;
+    /** Index of the next Entity when the game is over */
+    private static final int GAME_OVER = -1;
+
+    /** Most playouts for each Entity. 0 if it only stops when the time runs out. */
+    private final int iterationsPerEntity;
+
+    /**
+     * Searches until the computer player's thinking time runs out.
+     */
+    public MonteCarloTreeSearch() {
+        this(0);
+    }
+
+    /**
+     * @param iterationsPerEntity most playouts for each Entity, split between the threads. 0 if it only stops when the time runs out.
+     */
+    public MonteCarloTreeSearch(int iterationsPerEntity) {
+        this.iterationsPerEntity = iterationsPerEntity;
+    }
+
+    @Override
+    public Array<Turn> chooseTurns(ComputerPlayer player, BoardState board, int team) {
+        BoardState searchBoard = board.copy();
+        TurnOrder order = new TurnOrder(player);
+        Array<Entity> teamEntities = player.getTeams().get(team).getEntities();
+        long deadline = System.nanoTime() + player.getThinkingTimeLimit() * 1000000;
+
+        int entitiesLeft = 0;
+        for (int i = 0; i < teamEntities.size; i++)
+            if (searchBoard.getEntities().get(teamEntities.get(i)) != null)
+                entitiesLeft++;
+
+        Array<Turn> turns = new Array<>();
+        for (int i = 0; i < teamEntities.size; i++) {
+            player.setProgress((byte) (i + 1 + teamEntities.size - 4));
+            Entity e = teamEntities.get(i);
+            EntityValue entityValue = searchBoard.getEntities().get(e);
+            if (entityValue == null) { // dead when the board was made
+                turns.add(null);
+                continue;
+            }
+
+            // the time left is split evenly between the Entities left to search
+            long now = System.nanoTime();
+            long entityDeadline = now + Math.max(deadline - now, 0) / entitiesLeft--;
+            Turn bestTurn = searchEntity(player, searchBoard, team, order, order.indexOf(e), entityValue, entityDeadline);
+            if (player.isStopped()) {
+                player.setProgress((byte) 0);
+                return null;
+            }
+
+            turns.add(bestTurn);
+            if (bestTurn != null)
+                searchBoard.tryTurn(bestTurn);
+        }
+
+        player.setProgress((byte) 0);
+        return turns;
+    }
+
+    /**
+     * Searches the turns of one Entity.
+     * @param entityIndex index of the Entity in the turn order
+     * @return the turn that was visited the most. null if it has no turns.
+     */
+    private Turn searchEntity(ComputerPlayer player, BoardState board, int team, TurnOrder order, int entityIndex,
+                              EntityValue entityValue, long deadline) {
+        ComputerPlayer.SearchContext context = new ComputerPlayer.SearchContext();
+        Array<Turn> rootTurns = player.getFilteredPossibleTurns(order.entities.get(entityIndex), entityValue, board, context);
+        player.addCounters(context);
+        SplittableRandom random = player.getSearchRandom();
+        for (int i = rootTurns.size - 1; i >= 0; i--)
+            if (random.nextDouble() < player.getForgetBestMoveChance()) //forgot a move -> skip
+                rootTurns.removeIndex(i);
+        if (rootTurns.size <= 1)
+            return rootTurns.size == 0 ? null : rootTurns.first();
+
+        int threads = player.isParallelSearch() ? ComputerPlayer.SEARCH_POOL.getParallelism() : 1;
+        int iterations = iterationsPerEntity == 0 ? Integer.MAX_VALUE : Math.max(iterationsPerEntity / threads, 1);
+        Array<Tree> trees = new Array<>(threads);
+        // copies are made here, as copying marks the board's values as shared
+        for (int i = 0; i < threads; i++)
+            trees.add(new Tree(player, board.copy(), team, order, entityIndex, rootTurns, random.split()));
+
+        if (threads == 1) {
+            trees.first().search(iterations, deadline);
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                Tree tree = trees.get(i);
+                tasks.add(() -> {
+                    tree.search(iterations, deadline);
+                    return null;
+                });
+            }
+            try {
+                List<Future<Void>> results = ComputerPlayer.SEARCH_POOL.invokeAll(tasks);
+                for (int i = 0; i < results.size(); i++)
+                    results.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                player.stopThread();
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        // the turn visited the most over all trees is chosen, with the average reward breaking ties
+        Turn bestTurn = rootTurns.first();
+        int bestVisits = -1;
+        double bestReward = -1;
+        int totalIterations = 0;
+        for (int i = 0; i < rootTurns.size; i++) {
+            int visits = 0;
+            double reward = 0;
+            for (int j = 0; j < trees.size; j++) {
+                Node child = trees.get(j).root.children[i];
+                if (child != null) {
+                    visits += child.visits;
+                    reward += child.reward;
+                }
+            }
+            totalIterations += visits;
+            double averageReward = visits == 0 ? 0 : reward / visits;
+            if (visits > bestVisits || (visits == bestVisits && averageReward > bestReward)) {
+                bestTurn = rootTurns.get(i);
+                bestVisits = visits;
+                bestReward = averageReward;
+            }
+        }
+        for (int i = 0; i < trees.size; i++)
+            player.addCounters(trees.get(i).context);
+
+        if (player.isLogging())
+            System.out.println("Searched " + totalIterations + " playouts, best turn visited " + bestVisits + " times with reward " + bestReward);
+        return bestTurn;
+    }
+
+    /**
+     * A turn in the tree, and what is known about the turns after it.
+     */
+    private static class Node {
+        /** Team of the Entity that did the turn leading here. Rewards are from its view. */
+        final int team;
+        /** Index of the Entity in the turn order that goes next. {@link #GAME_OVER} if the game is over. */
+        final int nextEntity;
+        /** Turns the next Entity can take. null until the node is first expanded. */
+        Array<Turn> turns;
+        /** Node of each turn in {@link #turns}. null for ones that haven't been tried. */
+        Node[] children;
+        /** Number of turns in {@link #turns} that have been tried */
+        int expanded;
+        int visits;
+        double reward;
+
+        Node(int team, int nextEntity) {
+            this.team = team;
+            this.nextEntity = nextEntity;
+        }
+
+        void setTurns(Array<Turn> turns) {
+            this.turns = turns;
+            children = new Node[turns.size];
+        }
+    }
+
+    /**
+     * Every Entity on a team in the order they take turns, the same order {@link ComputerPlayer} searches in.
+     */
+    private static class TurnOrder {
+        final Array<Entity> entities = new Array<>();
+        final IntArray teams = new IntArray();
+        final int firstAttackingTeam;
+        final Array<Array<BoardPosition>> zones;
+
+        TurnOrder(ComputerPlayer player) {
+            Array<Team> playerTeams = player.getTeams();
+            for (int i = 0; i < playerTeams.size; i++) {
+                for (int j = 0; j < playerTeams.get(i).getEntities().size; j++) {
+                    entities.add(playerTeams.get(i).getEntities().get(j));
+                    teams.add(i);
+                }
+            }
+            firstAttackingTeam = player.getIndexOfFirstAttackingTeams();
+            zones = player.getZoneLocations();
+        }
+
+        int indexOf(Entity e) {
+            return entities.indexOf(e, true);
+        }
+
+        /**
+         * @return whether the Entity is the first of its team, so its team's turn effects happen before it goes
+         */
+        boolean startsTeamTurn(int index) {
+            return index == 0 || teams.get(index) != teams.get(index - 1);
+        }
+    }
+
+    /**
+     * The tree searched by one thread, on its own copy of the board.
+     */
+    private static class Tree {
+        final ComputerPlayer player;
+        final BoardState board;
+        /** Team the turns are chosen for */
+        final int team;
+        final TurnOrder order;
+        final Node root;
+        /** Used for the playouts and for the random effects of moves, so trees on different threads never share one */
+        final SplittableRandom random;
+        final ComputerPlayer.SearchContext context = new ComputerPlayer.SearchContext();
+        final Evaluator evaluator;
+        /** Value of the board before the search, from the view of the team searched for */
+        final int rootValue;
+        /** Number of turns each playout plays before the board is evaluated. One round of turns. */
+        final int playoutLength;
+        /** Number of changes made to the board since the start of the current iteration, which are undone at its end */
+        int changes;
+        final Array<Node> path = new Array<>();
+
+        Tree(ComputerPlayer player, BoardState board, int team, TurnOrder order, int entityIndex, Array<Turn> rootTurns, SplittableRandom random) {
+            this.player = player;
+            this.board = board;
+            this.team = team;
+            this.order = order;
+            this.random = random;
+            evaluator = player.getEvaluator();
+            root = new Node(-1, entityIndex);
+            // the root's turns stay in the same order in every tree, so their visits can be added together
+            root.setTurns(rootTurns);
+            rootValue = evaluator.evaluate(board, team);
+            playoutLength = order.entities.size;
+        }
+
+        /**
+         * Plays out games until the number of iterations is reached, the time runs out or the search is stopped.
+         */
+        void search(int iterations, long deadline) {
+            SplittableRandom previousRandom = SimulationRandom.set(random);
+            try {
+                for (int i = 0; i < iterations; i++) {
+                    if (player.isStopped() || System.nanoTime() > deadline)
+                        return;
+                    iterate();
+                }
+            } finally {
+                SimulationRandom.set(previousRandom);
+            }
+        }
+
+        /**
+         * Picks turns down the tree until it finds one that hasn't been tried, adds it, plays out the game from it, then adds the result
+         * to every node on the way.
+         */
+        private void iterate() {
+            changes = 0;
+            path.clear();
+            Node node = root;
+            path.add(node);
+            int nextEntity = root.nextEntity;
+
+            // selection and expansion
+            while (nextEntity != GAME_OVER) {
+                if (node.turns == null) {
+                    Entity e = order.entities.get(nextEntity);
+                    Array<Turn> turns = player.getFilteredPossibleTurns(e, board.getEntities().get(e), board, context);
+                    shuffle(turns);
+                    node.setTurns(turns);
+                }
+                if (node.turns.size == 0)
+                    break;
+
+                int turnTeam = order.teams.get(nextEntity);
+                if (node.expanded < node.turns.size) {
+                    nextEntity = doTurn(node.turns.get(node.expanded), nextEntity);
+                    Node child = new Node(turnTeam, nextEntity);
+                    node.children[node.expanded++] = child;
+                    path.add(child);
+                    break;
+                }
+
+                int best = selectChild(node);
+                nextEntity = doTurn(node.turns.get(best), nextEntity);
+                node = node.children[best];
+                path.add(node);
+                // some status effects are random, so the same turns can knock out different Entities. The rest of the tree doesn't
+                // fit the board if that happens, so it is played out from here instead.
+                if (nextEntity != node.nextEntity)
+                    break;
+            }
+
+            double reward = playOut(nextEntity);
+            for (int i = 0; i < path.size; i++) {
+                Node n = path.get(i);
+                n.visits++;
+                n.reward += n.team == team ? reward : 1 - reward;
+            }
+
+            for (int i = 0; i < changes; i++)
+                board.undo();
+        }
+
+        /**
+         * @return index of the child with the highest upper confidence bound, from the view of the Entity choosing
+         */
+        private int selectChild(Node node) {
+            double logVisits = Math.log(node.visits);
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < node.children.length; i++) {
+                Node child = node.children[i];
+                double value = child.reward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Plays turns from the board, each one the best of a few random turns, then evaluates it.
+         * @param nextEntity index of the Entity that goes next
+         * @return reward of the board for the team searched for, between 0 and 1
+         */
+        private double playOut(int nextEntity) {
+            for (int i = 0; i < playoutLength && nextEntity != GAME_OVER; i++) {
+                Entity e = order.entities.get(nextEntity);
+                Array<Turn> turns = player.getFilteredPossibleTurns(e, board.getEntities().get(e), board, context);
+                if (turns.size == 0)
+                    break;
+                int turnTeam = order.teams.get(nextEntity);
+                Turn bestTurn = null;
+                int bestValue = Integer.MIN_VALUE;
+                for (int j = 0; j < PLAYOUT_SAMPLES; j++) {
+                    Turn t = turns.get(random.nextInt(turns.size));
+                    board.applyTurn(t);
+                    int value = evaluator.evaluate(board, turnTeam);
+                    board.undo();
+                    if (value > bestValue) {
+                        bestValue = value;
+                        bestTurn = t;
+                    }
+                }
+                nextEntity = doTurn(bestTurn, nextEntity);
+            }
+
+            int winner = getWinner();
+            if (winner != -1)
+                return winner == team ? 1 : 0;
+            return 1 / (1 + Math.exp(-(evaluator.evaluate(board, team) - rootValue) / EVALUATION_SCALE));
+        }
+
+        /**
+         * Does a turn, then goes to the next Entity that can choose its turn. Does the turn effects of each team that starts its turn
+         * on the way, and the turns of first attack only Entities.
+         * @param entityIndex index of the Entity doing the turn
+         * @return index of the next Entity that can choose its turn. {@link #GAME_OVER} if the game is over.
+         */
+        private int doTurn(Turn t, int entityIndex) {
+            board.applyTurn(t);
+            changes++;
+            context.turnsProcessed++;
+
+            int next = entityIndex;
+            for (int i = 0; i < order.entities.size; i++) {
+                if (getWinner() != -1)
+                    return GAME_OVER;
+                next = (next + 1) % order.entities.size;
+                if (order.startsTeamTurn(next)) {
+                    board.applyTurnEffects(order.teams.get(next));
+                    changes++;
+                }
+
+                Entity e = order.entities.get(next);
+                EntityValue entityValue = board.getEntities().get(e);
+                if (entityValue == null)
+                    continue;
+                if (order.teams.get(next) != order.firstAttackingTeam)
+                    return next;
+                if (entityValue.sp >= mvm.get(e).moveList.first().spCost()) {
+                    board.applyTurn(new Turn(e, entityValue.pos, 0, 0));
+                    changes++;
+                }
+            }
+            return GAME_OVER;
+        }
+
+        /**
+         * @return index of the team that won, by defeating the other team or landing on its zone. -1 if there is none.
+         */
+        private int getWinner() {
+            int lastTeamStanding = board.getLastTeamStanding();
+            if (lastTeamStanding != -1)
+                return lastTeamStanding;
+            if (order.zones != null) {
+                for (int i = 0; i < order.zones.size; i++) {
+                    for (int j = 0; j < order.zones.get(i).size; j++) {
+                        EntityValue entity = board.getEntities().get(order.zones.get(i).get(j));
+                        if (entity != null && entity.team == i)
+                            return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private void shuffle(Array<Turn> turns) {
+            for (int i = turns.size - 1; i > 0; i--)
+                turns.swap(i, random.nextInt(i + 1));
+        }
+    }
+}
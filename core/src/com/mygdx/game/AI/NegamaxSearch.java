@@ -0,0 +1,16 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Chooses turns with {@link ComputerPlayer#getBestTurnsIterativeDeepening(BoardState, int, int)}, which searches deeper with
+ * negamax and alpha-beta pruning until the depth level of the difficulty is reached or the time runs out. Used by default.
+ *
+ * @author Phillip O'Reggio
+ */
+public class NegamaxSearch implements SearchStrategy {
+    @Override
+    public Array<Turn> chooseTurns(ComputerPlayer player, BoardState board, int team) {
+        return player.getBestTurnsIterativeDeepening(board, team, player.getSearchDepthLevel());
+    }
+}
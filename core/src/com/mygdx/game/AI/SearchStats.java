@@ -0,0 +1,205 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+
+/**
+ * What a {@link ComputerPlayer} did while choosing the turns of its team once: how many turns it searched, how often the
+ * transposition table had the value of a board, which plies cutoffs happened at, and how deep it got. Made for each search and given
+ * to the player's {@link ComputerPlayer.SearchListener}, so it is not changed once it has been given out.
+ * <p>
+ * Nodes are turns searched, the same as the counts the search always kept. Plies count from the turns of the Entity being chosen
+ * for, which are ply 0.
+ *
+ * @author Phillip O'Reggio
+ */
+public class SearchStats {
+    private final int team;
+    private final long startTime;
+    private long elapsedTime;
+
+    private long nodes;
+    private long tableProbes;
+    private long tableHits;
+    /** Cutoffs at each ply */
+    private final IntArray cutoffs = new IntArray();
+
+    /** Nodes searched by the end of each depth level that finished, starting at depth level 1 */
+    private final LongArray nodesAtDepth = new LongArray();
+    /** Time from the start until the first depth level finished, in nanoseconds. -1 until then. */
+    private long firstMoveTime = -1;
+    private int finalDepth;
+
+    SearchStats(int team, long startTime) {
+        this.team = team;
+        this.startTime = startTime;
+    }
+
+    //region recorded by the search
+    void add(ComputerPlayer.SearchContext context) {
+        nodes += context.turnsProcessed;
+        tableProbes += context.tableProbes;
+        tableHits += context.tableHits;
+        int[] contextCutoffs = context.cutoffs;
+        if (cutoffs.size < contextCutoffs.length)
+            cutoffs.setSize(contextCutoffs.length);
+        for (int i = 0; i < contextCutoffs.length; i++)
+            cutoffs.incr(i, contextCutoffs[i]);
+    }
+
+    /**
+     * Records that a depth level of iterative deepening finished, with its best turns ready to be used.
+     */
+    void depthFinished(int depth, long time) {
+        finalDepth = depth;
+        nodesAtDepth.add(nodes);
+        if (firstMoveTime == -1)
+            firstMoveTime = time - startTime;
+    }
+
+    void finish(long time) {
+        elapsedTime = time - startTime;
+        // searches that don't go a depth level at a time have their turns when they finish
+        if (firstMoveTime == -1)
+            firstMoveTime = elapsedTime;
+    }
+    //endregion
+
+    /**
+     * @return index of the team the turns were chosen for
+     */
+    public int getTeam() {
+        return team;
+    }
+
+    /**
+     * @return how long the search took, in nanoseconds
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * @return number of turns searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedTime == 0 ? 0 : nodes / (elapsedTime / 1e9);
+    }
+
+    /**
+     * @return number of boards looked up in the transposition table
+     */
+    public long getTableProbes() {
+        return tableProbes;
+    }
+
+    /**
+     * @return number of boards whose value was taken from the transposition table instead of being searched
+     */
+    public long getTableHits() {
+        return tableHits;
+    }
+
+    /**
+     * @return fraction of boards looked up in the transposition table whose value could be used. 0 if none were looked up.
+     */
+    public double getTableHitRate() {
+        return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+    }
+
+    /**
+     * @return number of plies with a count in {@link #getCutoffs(int)}
+     */
+    public int getCutoffPlies() {
+        return cutoffs.size;
+    }
+
+    /**
+     * @return number of cutoffs at a ply
+     */
+    public int getCutoffs(int ply) {
+        return ply < cutoffs.size ? cutoffs.get(ply) : 0;
+    }
+
+    /**
+     * @return how many more turns each depth level searched than the one before it, from the last two depth levels that finished. If
+     * only one finished, the number of turns it searched. 0 if none did.
+     */
+    public double getEffectiveBranchingFactor() {
+        if (nodesAtDepth.size == 0)
+            return 0;
+        long lastDepthNodes = nodesAtDepth.peek() - (nodesAtDepth.size > 1 ? nodesAtDepth.get(nodesAtDepth.size - 2) : 0);
+        if (nodesAtDepth.size == 1)
+            return lastDepthNodes;
+        long previousDepthNodes = nodesAtDepth.get(nodesAtDepth.size - 2) - (nodesAtDepth.size > 2 ? nodesAtDepth.get(nodesAtDepth.size - 3) : 0);
+        return previousDepthNodes == 0 ? 0 : (double) lastDepthNodes / previousDepthNodes;
+    }
+
+    /**
+     * @return time from the start of the search until it had turns it could use, in nanoseconds. For iterative deepening, when the
+     * first depth level finished.
+     */
+    public long getFirstMoveTime() {
+        return firstMoveTime;
+    }
+
+    /**
+     * @return deepest depth level that finished. 0 if the search doesn't go a depth level at a time, or none finished in time.
+     */
+    public int getFinalDepth() {
+        return finalDepth;
+    }
+
+    /**
+     * Writes the stats as the fields of a JSON object that has been started.
+     */
+    public void write(JsonWriter writer) throws IOException {
+        writer.set("team", team)
+                .set("millis", elapsedTime / 1e6)
+                .set("nodes", nodes)
+                .set("nodesPerSecond", Math.round(getNodesPerSecond()))
+                .set("tableProbes", tableProbes)
+                .set("tableHits", tableHits)
+                .set("tableHitRate", getTableHitRate())
+                .set("effectiveBranchingFactor", getEffectiveBranchingFactor())
+                .set("firstMoveMillis", firstMoveTime / 1e6)
+                .set("finalDepth", finalDepth);
+        writer.array("cutoffsByPly");
+        for (int i = 0; i < cutoffs.size; i++)
+            writer.value(cutoffs.get(i));
+        writer.pop();
+    }
+
+    /**
+     * @return the stats as a JSON object on one line
+     */
+    public String toJson() {
+        StringWriter stringWriter = new StringWriter();
+        try {
+            JsonWriter writer = new JsonWriter(stringWriter);
+            writer.setOutputType(JsonWriter.OutputType.json);
+            writer.object();
+            write(writer);
+            writer.pop();
+        } catch (IOException e) { // can't happen when writing to a string
+            throw new IllegalStateException(e);
+        }
+        return stringWriter.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "team %d: %d nodes in %.3f s (%.0f nodes/s), depth %d, first move at %.3f s, table hits %.1f%%, " +
+                        "branching factor %.2f", team, nodes, elapsedTime / 1e9, getNodesPerSecond(), finalDepth, firstMoveTime / 1e9,
+                getTableHitRate() * 100, getEffectiveBranchingFactor());
+    }
+}
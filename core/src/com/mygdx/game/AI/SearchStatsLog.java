@@ -0,0 +1,63 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Writes the {@link SearchStats} of each search as a line of JSON, so the performance of the computer player can be compared between
+ * builds. Can be listened to by any number of players at once.
+ *
+ * @author Phillip O'Reggio
+ */
+public class SearchStatsLog implements ComputerPlayer.SearchListener, Closeable {
+    private final Writer out;
+
+    /**
+     * @param out where the lines are written. Closed by {@link #close()}.
+     */
+    public SearchStatsLog(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void searchFinished(SearchStats stats) {
+        write(null, stats);
+    }
+
+    /**
+     * @param label written with each line, such as which player and board the searches are from
+     * @return listener that writes to this log with a label
+     */
+    public ComputerPlayer.SearchListener withLabel(String label) {
+        return stats -> write(label, stats);
+    }
+
+    private void write(String label, SearchStats stats) {
+        StringWriter line = new StringWriter();
+        try {
+            JsonWriter writer = new JsonWriter(line);
+            writer.setOutputType(JsonWriter.OutputType.json);
+            writer.object();
+            if (label != null)
+                writer.set("label", label);
+            stats.write(writer);
+            writer.pop();
+            line.write('\n');
+            synchronized (out) {
+                out.write(line.toString());
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write search stats", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A way for a {@link ComputerPlayer} to choose the turns of its team. Set with {@link ComputerPlayer#setSearchStrategy(SearchStrategy)}.
+ *
+ * @author Phillip O'Reggio
+ */
+public interface SearchStrategy {
+    /**
+     * Chooses a turn for each Entity on a team. Should stop soon after {@link ComputerPlayer#stopThread()} is called, keep
+     * {@link ComputerPlayer#getProgress()} up to date, and finish within the player's thinking time limit.
+     * @param player computer player choosing the turns
+     * @param board current {@link BoardState}. Is not changed.
+     * @param team index of the team the turns are for
+     * @return turns for each Entity on the team, with null for Entities that can't take a turn. null if the search was stopped.
+     */
+    Array<Turn> chooseTurns(ComputerPlayer player, BoardState board, int team);
+}
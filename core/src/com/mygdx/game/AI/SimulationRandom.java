@@ -0,0 +1,59 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random numbers for the effects of moves and status effects done on a {@link BoardState}, such as a chance to burn. Each thread can
+ * be given its own generator, so searches and simulated matches that are seeded come out the same each time, and threads searching
+ * at once never share one. Threads that haven't been given one use {@link MathUtils#random}, as the game does.
+ *
+ * @author Phillip O'Reggio
+ */
+public final class SimulationRandom {
+    private static final ThreadLocal<SplittableRandom> RANDOM = new ThreadLocal<>();
+
+    private SimulationRandom() { }
+
+    /**
+     * @param random generator used by the effects done on this thread. null to use {@link MathUtils#random}.
+     * @return the generator the thread used before, so it can be put back
+     */
+    public static SplittableRandom set(SplittableRandom random) {
+        SplittableRandom previous = RANDOM.get();
+        if (random == null)
+            RANDOM.remove();
+        else
+            RANDOM.set(random);
+        return previous;
+    }
+
+    /**
+     * @return random number between 0 (inclusive) and 1 (exclusive)
+     */
+    public static float random() {
+        SplittableRandom random = RANDOM.get();
+        return random == null ? MathUtils.random() : (float) random.nextDouble();
+    }
+
+    /**
+     * @return random number between start and end, both inclusive
+     */
+    public static int random(int start, int end) {
+        SplittableRandom random = RANDOM.get();
+        return random == null ? MathUtils.random(start, end) : start + random.nextInt(end - start + 1);
+    }
+
+    public static boolean randomBoolean() {
+        SplittableRandom random = RANDOM.get();
+        return random == null ? MathUtils.randomBoolean() : random.nextBoolean();
+    }
+
+    /**
+     * @param chance chance of being true, between 0 and 1
+     */
+    public static boolean randomBoolean(float chance) {
+        return random() < chance;
+    }
+}
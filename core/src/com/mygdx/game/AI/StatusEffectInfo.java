@@ -28,7 +28,9 @@ public class StatusEffectInfo {
     }
 
     public StatusEffectInfo copy() {
-        return new StatusEffectInfo(name, duration, statChanges, turnEffectInfo); //TODO if this object accounts for status duration, then there is no need for a copy method (?)
+        StatusEffectInfo copy = new StatusEffectInfo(name, duration, statChanges, turnEffectInfo);
+        copy.currentTurn = currentTurn;
+        return copy;
     }
 
     /**
@@ -47,6 +49,14 @@ public class StatusEffectInfo {
         currentTurn++;
     }
 
+    int getCurrentTurn() {
+        return currentTurn;
+    }
+
+    void setCurrentTurn(int turn) {
+        currentTurn = turn;
+    }
+
     /**
      * @return Whether currentTurn is >= duration
      */
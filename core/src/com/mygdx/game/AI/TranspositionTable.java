@@ -0,0 +1,128 @@
+package com.mygdx.game.AI;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size table of values found by {@link ComputerPlayer}'s search, so a board that is reached in more than one way only has to
+ * be searched once. Entries are found by the key of the board and the state of the search (see {@link BoardState#getHash()}).
+ * <p>
+ * Each entry is two longs: the data and the key xor'd with the data. An entry that is being written by another thread while it is
+ * read will not match its key, so the table does not need locking. When two keys land on the same entry, the one searched deeper is kept,
+ * unless it is from an earlier search. The table can be kept between searches this way, since entries from them are replaced first.
+ *
+ * @author Phillip O'Reggio
+ */
+public class TranspositionTable {
+    /** The stored value is the value of the board */
+    public static final int EXACT = 0;
+    /** The search was cut off, so the value of the board is at least the stored value */
+    public static final int LOWER = 1;
+    /** Nothing was better than alpha, so the value of the board is at most the stored value */
+    public static final int UPPER = 2;
+
+    /** Returned by {@link #probe(long)} when there is no entry for a key */
+    public static final long MISSING = 0;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    /** Search entries are stored for. Counts up to 15, then starts again from 0. */
+    private int generation;
+
+    /**
+     * @param sizePower the table holds 2 ^ sizePower entries
+     */
+    public TranspositionTable(int sizePower) {
+        keys = new long[1 << sizePower];
+        data = new long[1 << sizePower];
+        mask = (1 << sizePower) - 1;
+    }
+
+    /**
+     * @param key key of the board
+     * @return data of the entry, or {@link #MISSING}. Use the static getters to read it.
+     */
+    public long probe(long key) {
+        int index = (int) key & mask;
+        long entryData = data[index];
+        if ((keys[index] ^ entryData) != key)
+            return MISSING;
+        return entryData;
+    }
+
+    /**
+     * Starts a new search. Entries from earlier searches can still be used, but are replaced by any entry of this one.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xF;
+    }
+
+    /**
+     * Stores the result of a search. Replaces what was there unless it was a different board of this search searched to a greater depth.
+     * @param key key of the board
+     * @param value value found
+     * @param depth how many levels were left to search below the board
+     * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     * @param turnCode best turn found, from {@link #encodeTurn(int, int, int)}. 0 if there was none.
+     */
+    public void store(long key, int value, int depth, int bound, int turnCode) {
+        int index = (int) key & mask;
+        long oldData = data[index];
+        if (oldData != MISSING && (keys[index] ^ oldData) != key && getGeneration(oldData) == generation && getDepth(oldData) > depth)
+            return;
+
+        long newData = (value & 0xFFFFFFFFL)
+                | ((long) (depth + 1) & 0xFF) << 32
+                | ((long) bound & 0x3) << 40
+                | ((long) turnCode & 0x3FFFF) << 42
+                | ((long) generation) << 60;
+        data[index] = newData;
+        keys[index] = key ^ newData;
+    }
+
+    /**
+     * Removes every entry
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+    }
+
+    public static int getValue(long entryData) {
+        return (int) entryData;
+    }
+
+    public static int getDepth(long entryData) {
+        return (int) (entryData >>> 32 & 0xFF) - 1;
+    }
+
+    public static int getBound(long entryData) {
+        return (int) (entryData >>> 40 & 0x3);
+    }
+
+    public static int getTurnCode(long entryData) {
+        return (int) (entryData >>> 42 & 0x3FFFF);
+    }
+
+    private static int getGeneration(long entryData) {
+        return (int) (entryData >>> 60);
+    }
+
+    /**
+     * Packs a turn into an int that can be stored in the table.
+     * @param cell index of the position the turn moves to on the board (row * columns + column). Less than 4095.
+     * @param attack index of the attack, or -1
+     * @param direction direction of the attack
+     * @return the packed turn. Never 0.
+     */
+    public static int encodeTurn(int cell, int attack, int direction) {
+        return (cell + 1) << 6 | (attack + 1) << 2 | direction;
+    }
+
+    /**
+     * @return whether a turn matches one packed by {@link #encodeTurn(int, int, int)}
+     */
+    public static boolean matchesTurn(int turnCode, int cell, int attack, int direction) {
+        return turnCode == encodeTurn(cell, attack, direction);
+    }
+}
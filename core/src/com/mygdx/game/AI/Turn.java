@@ -2,7 +2,6 @@ package com.mygdx.game.AI;
 
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.mygdx.game.boards.BoardPosition;
 
 import static com.mygdx.game.ComponentMappers.*;
@@ -121,25 +120,16 @@ public class Turn{
                 char entityZoneChar = '?'; //char representing whats going on that space
                 //region get what char to display
                 BoardPosition curPos = new BoardPosition(i, j);
-                for (ObjectMap.Entry<BoardPosition, EntityValue> posPair : boardState.getEntities().getPositionEntityValuePairs()) { //entities
-                    if (curPos.equals(posPair.key)) { // team 1
-                        if (posPair.value.team == 1) {
-                            entityZoneChar = TEAM_1_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == 0) { // team 0
-                            entityZoneChar = TEAM_0_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == 2) { // team 2
-                            entityZoneChar = TEAM_2_ICON;
-                            break;
-                        }
-                        if (posPair.value.team == -1) { // object
-                            entityZoneChar = OBJECT_ICON;
-                            break;
-                        }
-                    }
+                EntityValue entityOnSpace = boardState.getEntities().get(curPos);
+                if (entityOnSpace != null) { //entities
+                    if (entityOnSpace.team == 1) // team 1
+                        entityZoneChar = TEAM_1_ICON;
+                    else if (entityOnSpace.team == 0) // team 0
+                        entityZoneChar = TEAM_0_ICON;
+                    else if (entityOnSpace.team == 2) // team 2
+                        entityZoneChar = TEAM_2_ICON;
+                    else if (entityOnSpace.team == -1) // object
+                        entityZoneChar = OBJECT_ICON;
                 }
                 // If the space is included in the list of spaces a move targets
                 if (spacesMoveHits != null) {
@@ -185,8 +175,8 @@ public class Turn{
             outputString.append(ev.BOARD_ENTITY_ID + " T: " + ev.team + "  " + ev.hp + " / " + ev.maxHp + '\n');
         }
         // print number of entities still alive
-        outputString.append("Number Still Alive:  0| " + boardState.getLiveEntityCount().get(0) + "  1| " + boardState.getLiveEntityCount().get(1) +
-                "  2| " + boardState.getLiveEntityCount().get(2) + "\n");
+        outputString.append("Number Still Alive:  0| " + boardState.getLiveEntityCount()[0] + "  1| " + boardState.getLiveEntityCount()[1] +
+                "  2| " + boardState.getLiveEntityCount()[2] + "\n");
 
         /**
          * Example of output
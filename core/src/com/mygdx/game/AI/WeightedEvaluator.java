@@ -0,0 +1,328 @@
+package com.mygdx.game.AI;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.move_related.Move;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static com.mygdx.game.ComponentMappers.*;
+
+/**
+ * {@link Evaluator} that adds up features of each team's Entities, each multiplied by a weight. Features of the home team are added
+ * while those of other teams are subtracted. Weights can be read from and written to JSON files such as
+ * <pre>
+ * { "alive": 300, "hp": 30, "sp": 1, "mobility": 2 }
+ * </pre>
+ * where missing features keep their default weight. The default weights value boards the same way as {@link BoardState#evaluate(int)},
+ * which is used when the weights of the other features are 0, so it costs nothing over it.
+ *
+ * @author Phillip O'Reggio
+ */
+public class WeightedEvaluator implements Evaluator {
+    /**
+     * Something about the board that is valued. Each has a name used in weight files, a default weight, and a step, which is a change
+     * in the weight that is small but makes a difference. Steps are used when tuning weights.
+     */
+    public enum Feature {
+        /** Being alive. Only counts for Entities on a team. */
+        ALIVE("alive", 300, 30),
+        /** Each point of health. Only counts for Entities on a team. */
+        HP("hp", 30, 3),
+        /** Each skill point */
+        SP("sp", 1, 1),
+        /** {@link EntityValue#arbitraryValue}, which moves use to value effects that can't be seen in the stats */
+        ARBITRARY("arbitrary", 1, 0.2f),
+        /** Change to attack and defense from status effects. Positive for buffs and negative for debuffs. */
+        STAT_CHANGES("statChanges", 0, 5),
+        /** Each status effect an Entity has */
+        STATUS_EFFECTS("statusEffects", 0, 10),
+        /** Each tile between the team's zone and the team's Entity closest to it. Should be negative, so being closer is better. */
+        ZONE_DISTANCE("zoneDistance", 0, 10),
+        /** Each other team's Entity that an Entity can hit without moving, with a move it has the skill points for */
+        THREAT("threat", 0, 10),
+        /** Each tile an Entity can move to */
+        MOBILITY("mobility", 0, 2),
+        /** Each Entity that another team could hit next turn, from {@link BoardState#getEnemyAttackCoverage(int)}. Should be negative. */
+        HANGING("hanging", 0, 20),
+        /** Each tile an Entity can move to that no other team could hit next turn */
+        SAFE_TILES("safeTiles", 0, 2),
+        /** Having an Entity on the team's zone. Used by the search rather than added to the value of boards. */
+        ZONE_WIN("zoneWin", 9000, 500);
+
+        public final String key;
+        public final float defaultWeight;
+        public final float step;
+
+        Feature(String key, float defaultWeight, float step) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+            this.step = step;
+        }
+
+        /**
+         * @return the feature with the name, or null if there is none
+         */
+        public static Feature fromKey(String key) {
+            for (Feature feature : values())
+                if (feature.key.equals(key))
+                    return feature;
+            return null;
+        }
+    }
+
+    private final float[] weights;
+    /** Whether the Entity stats are valued the same way as {@link BoardState#evaluate(int)}, so it can be used for them */
+    private final boolean defaultEntityWeights;
+
+    /**
+     * Uses the default weights.
+     */
+    public WeightedEvaluator() {
+        this(getDefaultWeights());
+    }
+
+    /**
+     * @param weights weight of each {@link Feature}, by its ordinal. Copied.
+     */
+    public WeightedEvaluator(float[] weights) {
+        if (weights.length != Feature.values().length)
+            throw new IllegalArgumentException("Expected " + Feature.values().length + " weights, not " + weights.length);
+        this.weights = Arrays.copyOf(weights, weights.length);
+        defaultEntityWeights = isDefault(Feature.ALIVE) && isDefault(Feature.HP) && isDefault(Feature.SP) && isDefault(Feature.ARBITRARY)
+                && this.weights[Feature.STAT_CHANGES.ordinal()] == 0 && this.weights[Feature.STATUS_EFFECTS.ordinal()] == 0;
+    }
+
+    /**
+     * Reads weights from a JSON file with an object of feature names and weights.
+     * @param file the weight file
+     * @return evaluator using the weights
+     * @throws IllegalArgumentException if the file has a feature that doesn't exist
+     */
+    public static WeightedEvaluator load(FileHandle file) {
+        float[] weights = getDefaultWeights();
+        for (JsonValue value = new JsonReader().parse(file).child; value != null; value = value.next) {
+            Feature feature = Feature.fromKey(value.name);
+            if (feature == null)
+                throw new IllegalArgumentException("Unknown feature in " + file.path() + ": " + value.name);
+            weights[feature.ordinal()] = value.asFloat();
+        }
+        return new WeightedEvaluator(weights);
+    }
+
+    /**
+     * @return the weights as JSON, in the format read by {@link #load(FileHandle)}
+     */
+    public String toJson() {
+        StringWriter writer = new StringWriter();
+        try {
+            JsonWriter json = new JsonWriter(writer);
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.object();
+            for (Feature feature : Feature.values())
+                json.set(feature.key, weights[feature.ordinal()]);
+            json.pop();
+        } catch (IOException e) { // can't happen when writing to a string
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    public static float[] getDefaultWeights() {
+        float[] weights = new float[Feature.values().length];
+        for (Feature feature : Feature.values())
+            weights[feature.ordinal()] = feature.defaultWeight;
+        return weights;
+    }
+
+    /**
+     * @return copy of the weight of each {@link Feature}, by its ordinal
+     */
+    public float[] getWeights() {
+        return Arrays.copyOf(weights, weights.length);
+    }
+
+    public float getWeight(Feature feature) {
+        return weights[feature.ordinal()];
+    }
+
+    private boolean isDefault(Feature feature) {
+        return weights[feature.ordinal()] == feature.defaultWeight;
+    }
+
+    @Override
+    public int getZoneWinValue() {
+        return (int) weights[Feature.ZONE_WIN.ordinal()];
+    }
+
+    @Override
+    public int evaluate(BoardState board, int homeTeam) {
+        float value;
+        if (defaultEntityWeights)
+            value = board.evaluate(homeTeam);
+        else
+            value = getEntityValues(board, homeTeam);
+
+        if (weights[Feature.ZONE_DISTANCE.ordinal()] != 0)
+            value += weights[Feature.ZONE_DISTANCE.ordinal()] * getZoneDistances(board, homeTeam);
+        if (weights[Feature.THREAT.ordinal()] != 0)
+            value += weights[Feature.THREAT.ordinal()] * getThreats(board, homeTeam);
+        if (weights[Feature.MOBILITY.ordinal()] != 0)
+            value += weights[Feature.MOBILITY.ordinal()] * getMobility(board, homeTeam);
+        if (weights[Feature.HANGING.ordinal()] != 0 || weights[Feature.SAFE_TILES.ordinal()] != 0)
+            value += getCoverageValue(board, homeTeam);
+        return (int) value;
+    }
+
+    //region features
+    /**
+     * Values the stats of each Entity, in the same way as {@link EntityValue#getValue(int)} but with the weights.
+     */
+    private float getEntityValues(BoardState board, int homeTeam) {
+        EntityMap entities = board.getEntities();
+        float value = 0;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue entity = entities.get(i);
+            if (entity == null)
+                continue;
+
+            float entityValue = entity.arbitraryValue * weights[Feature.ARBITRARY.ordinal()] + entity.sp * weights[Feature.SP.ordinal()];
+            if (entity.hp > 0 && entity.team != -1)
+                entityValue += weights[Feature.ALIVE.ordinal()] + entity.hp * weights[Feature.HP.ordinal()];
+            if (entity.statusEffectInfos != null && entity.statusEffectInfos.size > 0) {
+                entityValue += (entity.getModAtk() - entity.attack + entity.getModDef() - entity.defense) * weights[Feature.STAT_CHANGES.ordinal()];
+                entityValue += entity.statusEffectInfos.size * weights[Feature.STATUS_EFFECTS.ordinal()];
+            }
+            value += entity.team == homeTeam ? entityValue : -entityValue;
+        }
+        return value;
+    }
+
+    /**
+     * @return for each team with a zone, how far its closest Entity is from it. Added for the home team and subtracted for others.
+     */
+    private int getZoneDistances(BoardState board, int homeTeam) {
+        Array<Array<BoardPosition>> zones = board.getZones();
+        if (zones == null)
+            return 0;
+        EntityMap entities = board.getEntities();
+        int total = 0;
+        for (int team = 0; team < zones.size; team++) {
+            Array<BoardPosition> teamZones = zones.get(team);
+            int closest = Integer.MAX_VALUE;
+            for (int i = 0; i < entities.getSlotCount(); i++) {
+                EntityValue entity = entities.get(i);
+                if (entity == null || entity.team != team)
+                    continue;
+                for (int j = 0; j < teamZones.size; j++)
+                    closest = Math.min(closest, entity.pos.taxicabDistance(teamZones.get(j)));
+            }
+            if (closest == Integer.MAX_VALUE) // no Entities left
+                continue;
+            total += team == homeTeam ? closest : -closest;
+        }
+        return total;
+    }
+
+    /**
+     * @return number of other team's Entities each Entity can hit without moving. Added for the home team and subtracted for others.
+     */
+    private int getThreats(BoardState board, int homeTeam) {
+        EntityMap entities = board.getEntities();
+        int rows = entities.getRows();
+        int columns = entities.getColumns();
+        int total = 0;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue attacker = entities.get(i);
+            if (attacker == null || attacker.team == -1)
+                continue;
+            Entity entity = entities.getEntity(i);
+            if (!mvm.has(entity))
+                continue;
+
+            // cells of the Entities it can hit, so each is only counted once
+            Bitboard threatened = board.getCellBuffer();
+            Array<Move> moveList = mvm.get(entity).moveList;
+            for (int m = 0; m < moveList.size; m++) {
+                Move move = moveList.get(m);
+                if (move.spCost() > attacker.sp)
+                    continue;
+                for (int direction = 0; direction < 4; direction++) {
+                    for (int offset : attacker.getAttackOffsets(move, m, direction)) {
+                        int r = Move.getRowOffset(offset) + attacker.pos.r;
+                        int c = Move.getColumnOffset(offset) + attacker.pos.c;
+                        if (r < 0 || r >= rows || c < 0 || c >= columns)
+                            continue;
+                        int targetSlot = entities.getSlot(r, c);
+                        if (targetSlot == EntityMap.EMPTY)
+                            continue;
+                        EntityValue target = entities.get(targetSlot);
+                        if (target != null && target.team != -1 && target.team != attacker.team)
+                            threatened.set(entities.toCell(r, c));
+                    }
+                }
+            }
+            int count = threatened.cardinality();
+            total += attacker.team == homeTeam ? count : -count;
+        }
+        return total;
+    }
+
+    /**
+     * @return number of tiles each Entity can move to. Added for the home team and subtracted for others.
+     */
+    private int getMobility(BoardState board, int homeTeam) {
+        EntityMap entities = board.getEntities();
+        int total = 0;
+        for (int i = 0; i < entities.getSlotCount(); i++) {
+            EntityValue value = entities.get(i);
+            if (value == null || value.team == -1)
+                continue;
+            Entity entity = entities.getEntity(i);
+            if (!stm.has(entity))
+                continue;
+
+            int count = board.getReachablePositions(value.pos.r, value.pos.c, value.getModSpd(), null);
+            total += value.team == homeTeam ? count : -count;
+        }
+        return total;
+    }
+
+    /**
+     * @return weighted value of the hanging Entities and safe tiles of each team. Added for the home team and subtracted for others.
+     */
+    private float getCoverageValue(BoardState board, int homeTeam) {
+        EntityMap entities = board.getEntities();
+        float value = 0;
+        for (int team = 0; team < board.getLiveEntityCount().length; team++) {
+            if (board.getLiveEntityCount()[team] <= 0)
+                continue;
+            Bitboard enemyCoverage = board.getEnemyAttackCoverage(team);
+            int hanging = 0;
+            int safeTiles = 0;
+            for (int i = 0; i < entities.getSlotCount(); i++) {
+                EntityValue entity = entities.get(i);
+                if (entity == null || entity.team != team)
+                    continue;
+                if (enemyCoverage.get(entities.toCell(entity.pos.r, entity.pos.c)))
+                    hanging++;
+                if (weights[Feature.SAFE_TILES.ordinal()] != 0 && stm.has(entities.getEntity(i))) {
+                    Bitboard reachable = board.getReachableCells(entity.pos.r, entity.pos.c, entity.getModSpd());
+                    reachable.andNot(enemyCoverage);
+                    safeTiles += reachable.cardinality();
+                }
+            }
+            float teamValue = hanging * weights[Feature.HANGING.ordinal()] + safeTiles * weights[Feature.SAFE_TILES.ordinal()];
+            value += team == homeTeam ? teamValue : -teamValue;
+        }
+        return value;
+    }
+    //endregion
+}
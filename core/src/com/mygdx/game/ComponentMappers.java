@@ -39,5 +39,7 @@ public class ComponentMappers {
     public static ComponentMapper<NameComponent> nm = ComponentMapper.getFor(NameComponent.class);
     //phase
     public static ComponentMapper<PhaseComponent> phase = ComponentMapper.getFor(PhaseComponent.class);
+    //render
+    public static ComponentMapper<RenderComponent> rm = ComponentMapper.getFor(RenderComponent.class);
 
 }
@@ -1,6 +1,6 @@
 package com.mygdx.game;
 
-import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.PooledEngine;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
@@ -32,7 +32,7 @@ import java.util.Calendar;
 public class GridWars extends Game {
 	public AssetManager assetManager;
 	public static Stage stage;
-	public static Engine engine;
+	public static PooledEngine engine;
 	public static Skin skin;
 	public static TextureAtlas atlas;
 	public static TextureAtlas backAtlas;
@@ -80,7 +80,7 @@ public class GridWars extends Game {
 		stage = new Stage();
 		stage.setViewport(new FitViewport(1000, 900));
 		stage.getViewport().setScreenSize(1000, 900);
-		engine = new Engine();
+		engine = new PooledEngine();
 		// set up Asset Manager
 		assetManager = new AssetManager();
 		assetManager.load(UI_SKIN_JSON, Skin.class);
@@ -9,13 +9,17 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 /**
- * Actor that displays an animation.
+ * Actor that displays an animation. A {@link Sprite} is made for each frame when the actor is created, and the one shown is only
+ * switched when the frame changes.
  * @author pnore_000
  *
  */
 public class AnimationActor extends UIActor {
     private Animation<TextureRegion> animation;
+    /** Sprite of each frame of the animation */
+    private Sprite[] frames;
     private Sprite currentFrame;
+    private int currentFrameIndex;
     private Color shadeColor;
     private Vector2 size;
     private float time;
@@ -30,7 +34,7 @@ public class AnimationActor extends UIActor {
     public AnimationActor(float duration, TextureRegion[] s) {
         super(s[0].getRegionWidth(), s[0].getRegionHeight(), true);
         animation = new Animation<>(duration, new Array<TextureRegion>(s), Animation.PlayMode.LOOP);
-        currentFrame = new Sprite(animation.getKeyFrame(0));
+        makeFrames();
     }
 
     /**
@@ -44,30 +48,43 @@ public class AnimationActor extends UIActor {
     public AnimationActor(TextureRegion[] s, Animation.PlayMode playType, float duration, boolean selectable) {
         super(s[0].getRegionWidth(), s[0].getRegionHeight(), selectable);
         animation = new Animation<>(duration, new Array<TextureRegion>(s), playType);
-        currentFrame = new Sprite(animation.getKeyFrame(0));
+        makeFrames();
+    }
+
+    private void makeFrames() {
+        TextureRegion[] keyFrames = animation.getKeyFrames();
+        frames = new Sprite[keyFrames.length];
+        for (int i = 0; i < keyFrames.length; i++)
+            frames[i] = new Sprite(keyFrames[i]);
+        currentFrameIndex = animation.getKeyFrameIndex(0);
+        currentFrame = frames[currentFrameIndex];
     }
 
     @Override
     public void act(float delta) { //if this throws null pointer, its currentFrame. Give a defualt(?)
         if (!stopUpdating) {
             time += delta;
-            if (currentFrame != new Sprite(animation.getKeyFrame(time)))
-                currentFrame = new Sprite(animation.getKeyFrame(time));
+            int frameIndex = animation.getKeyFrameIndex(time);
+            if (frameIndex != currentFrameIndex) {
+                currentFrameIndex = frameIndex;
+                currentFrame = frames[frameIndex];
+            }
         }
     }
 
     @Override
     public void setSize(float w, float h) {
         super.setSize(h, w);
-        size = new Vector2(h, w);
+        if (size == null)
+            size = new Vector2();
+        size.set(h, w);
     }
 
     @Override
     public void draw(Batch batch, float parentAlpha) {
         currentFrame.setPosition(getX(), getY());
         currentFrame.setScale(getScaleX());
-        if (shadeColor != null && currentFrame.getColor() != shadeColor)
-            currentFrame.setColor(shadeColor);
+        currentFrame.setColor(shadeColor != null ? shadeColor : Color.WHITE);
         if (size != null)
             currentFrame.setSize(size.x, size.y);
         currentFrame.draw(batch, parentAlpha);
@@ -89,13 +106,19 @@ public class AnimationActor extends UIActor {
      */
     @Override
     public Sprite getSprite() {
-        return new Sprite(animation.getKeyFrame(0));
+        return getInitialFrame();
     }
 
+    /**
+     * @return {@link Sprite} of the frame being shown. Shared with the actor, and reused whenever the animation shows that frame.
+     */
     public Sprite getCurrentFrame() {
         return currentFrame;
     }
 
+    /**
+     * @return New {@link Sprite} representing the animation at time 0 seconds.
+     */
     public Sprite getInitialFrame() {
         return new Sprite(animation.getKeyFrame(0));
     }
@@ -0,0 +1,100 @@
+package com.mygdx.game.boards;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+
+import static com.mygdx.game.ComponentMappers.bm;
+
+/**
+ * The layout of a board without any of its graphics: its size, the invisible tiles that can't be moved on, its zones, and where each
+ * Entity starts. Does not change once made, so one layout can be shared by any number of games played without a screen.
+ *
+ * @author Phillip O'Reggio
+ */
+public class BoardLayout {
+    private final int rows;
+    private final int columns;
+    /** Whether each tile, at row * columns + column, is invisible */
+    private final boolean[] invisibleTiles;
+    /** Zones of each team. null if it is not a zone match. */
+    private final Array<Array<BoardPosition>> zones;
+    private final Array<Entity> entities;
+    private final Array<BoardPosition> startPositions;
+
+    /**
+     * @param rows row size of the board
+     * @param columns column size of the board
+     * @param invisibleTiles whether each tile, at row * columns + column, is invisible
+     * @param zones zones of each team. null if it is not a zone match.
+     * @param entities Entities on the board
+     * @param startPositions where each Entity starts, in the same order as the Entities
+     */
+    public BoardLayout(int rows, int columns, boolean[] invisibleTiles, Array<Array<BoardPosition>> zones, Array<Entity> entities,
+                       Array<BoardPosition> startPositions) {
+        if (invisibleTiles.length != rows * columns || entities.size != startPositions.size)
+            throw new IllegalArgumentException("Layout sizes do not match");
+        this.rows = rows;
+        this.columns = columns;
+        this.invisibleTiles = invisibleTiles;
+        this.zones = zones;
+        this.entities = entities;
+        this.startPositions = startPositions;
+    }
+
+    /**
+     * Copies the layout of a board that has been set up, such as by {@link com.mygdx.game.creators.BoardAndRuleConstructor}.
+     * @param boards board manager with the board
+     * @param zones zones of each team. null if it is not a zone match.
+     * @return layout of the board as it is now
+     */
+    public static BoardLayout fromBoard(BoardManager boards, Array<Array<BoardPosition>> zones) {
+        int rows = boards.getCodeBoard().getRows();
+        int columns = boards.getCodeBoard().getColumns();
+        boolean[] invisibleTiles = new boolean[rows * columns];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < columns; c++)
+                invisibleTiles[r * columns + c] = boards.getBoard().getTile(r, c).isInvisible();
+
+        Array<Entity> entities = new Array<>(boards.getCodeBoard().getEntities());
+        Array<BoardPosition> startPositions = new Array<>(entities.size);
+        for (int i = 0; i < entities.size; i++)
+            startPositions.add(bm.get(entities.get(i)).pos.copy());
+
+        return new BoardLayout(rows, columns, invisibleTiles, zones, entities, startPositions);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public boolean isInvisible(int r, int c) {
+        return invisibleTiles[r * columns + c];
+    }
+
+    /**
+     * @return whether each tile, at row * columns + column, is invisible. Shared, so it should not be changed.
+     */
+    public boolean[] getInvisibleTiles() {
+        return invisibleTiles;
+    }
+
+    public Array<Array<BoardPosition>> getZones() {
+        return zones;
+    }
+
+    public Array<Entity> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @param i index of the Entity in {@link #getEntities()}
+     * @return where the Entity starts
+     */
+    public BoardPosition getStartPosition(int i) {
+        return startPositions.get(i);
+    }
+}
@@ -1,7 +1,9 @@
 package com.mygdx.game.boards;
 
 /**
- * The coordinates of a position on a grid-based board.
+ * The coordinates of a position on a grid-based board. Code that looks up positions often, such as the computer player, stores them as
+ * ints instead: either a cell index of row * columns + column when the board size is known (see
+ * {@link com.mygdx.game.AI.EntityMap#toCell(int, int)}), or a key from {@link #pack(int, int)} when it isn't.
  * @author Phillip O'Reggio
  */
 public class BoardPosition {
@@ -64,7 +66,41 @@ public class BoardPosition {
 
     @Override
     public int hashCode() {
-        return (new Integer(r * 200).hashCode() + new Integer(c * 100).hashCode()) / 2;
+        return pack(r, c);
+    }
+
+    /**
+     * Packs a position into an int that is different for every position with a row and column between -32768 and 32767. Can be
+     * used as the key of an {@link com.badlogic.gdx.utils.IntMap} or similar instead of the position.
+     * @param r row
+     * @param c column
+     * @return the key
+     */
+    public static int pack(int r, int c) {
+        return r << 16 | (c & 0xFFFF);
+    }
+
+    /**
+     * @param key key from {@link #pack(int, int)}
+     * @return row of the key
+     */
+    public static int unpackRow(int key) {
+        return key >> 16;
+    }
+
+    /**
+     * @param key key from {@link #pack(int, int)}
+     * @return column of the key
+     */
+    public static int unpackColumn(int key) {
+        return (short) key;
+    }
+
+    /**
+     * @return this position as a key from {@link #pack(int, int)}
+     */
+    public int pack() {
+        return pack(r, c);
     }
 
     /**
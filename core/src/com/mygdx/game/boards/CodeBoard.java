@@ -11,7 +11,8 @@ import static com.mygdx.game.ComponentMappers.bm;
  */
 public class CodeBoard {
 
-    private Array<Array<Entity>> grid;
+    /** Entity on each position, at row * columns + column. null if there is none. */
+    private Entity[] cells;
     private int rows = 5,
                 columns = 5;
 
@@ -19,12 +20,7 @@ public class CodeBoard {
      * Creates a {@code CodeBoard} with 5 rows and columns.
      */
     public CodeBoard() {
-        grid = new Array<Array<Entity>>();
-        for (int i = 0; i < 5; i++) {
-            grid.add(new Array<Entity>(5));
-            for (int j = 0; j < 5; j++)
-                grid.get(i).add(null);
-        }
+        cells = new Entity[rows * columns];
     }
 
     /**
@@ -37,13 +33,7 @@ public class CodeBoard {
             throw new IndexOutOfBoundsException();
         rows = r;
         columns = c;
-
-        grid = new Array<Array<Entity>>();
-        for (int i = 0; i < r; i++) {
-            grid.add(new Array<Entity>(c));
-            for (int j = 0; j < c; j++)
-                grid.get(i).add(null);
-        }
+        cells = new Entity[r * c];
     }
 
     /**
@@ -57,7 +47,7 @@ public class CodeBoard {
             throw new IndexOutOfBoundsException();
         }
 
-        grid.get(bp.r).set(bp.c, e);
+        cells[bp.r * columns + bp.c] = e;
         bm.get(e).update(bp);
     }
 
@@ -73,13 +63,12 @@ public class CodeBoard {
             throw new IndexOutOfBoundsException();
         }
 
-        Entity temp = grid.get(bp.r).get(bp.c);
-        Entity e = grid.get(bp.r).get(bp.c);
-        grid.get(bp.r).set(bp.c, null);
+        Entity e = cells[bp.r * columns + bp.c];
+        cells[bp.r * columns + bp.c] = null;
         if (defaultPositionValue && bm.has(e))
             bm.get(e).update(new BoardPosition(-1, -1));
 
-        return temp;
+        return e;
     }
 
     /**
@@ -93,7 +82,7 @@ public class CodeBoard {
             throw new IndexOutOfBoundsException();
         }
         add(remove(bp, false), newBp);
-        bm.get(grid.get(bp.r).get(bp.c)).update(newBp);
+        bm.get(get(bp.r, bp.c)).update(newBp);
 
     }
 
@@ -132,20 +121,29 @@ public class CodeBoard {
      * @return Entity at the given index. Can be null.
      */
     public Entity get(int r, int c) {
-        return grid.get(r).get(c);
+        if (r < 0 || c < 0 || r >= rows || c >= columns)
+            throw new IndexOutOfBoundsException("r = " + r + ", c = " + c);
+        return cells[r * columns + c];
     }
 
     public int getRows() {
-        //return rows;
-        return grid.size;
+        return rows;
     }
 
     public int getColumns() {
-        //return columns;
-        return grid.get(0).size;
+        return columns;
     }
 
+    /**
+     * @return copy of the board as rows of Entities. Changing it does not change the board.
+     */
     public Array<Array<Entity>> getGrid() {
+        Array<Array<Entity>> grid = new Array<Array<Entity>>(rows);
+        for (int i = 0; i < rows; i++) {
+            grid.add(new Array<Entity>(columns));
+            for (int j = 0; j < columns; j++)
+                grid.get(i).add(cells[i * columns + j]);
+        }
         return grid;
     }
 }
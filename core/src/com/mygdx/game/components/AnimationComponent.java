@@ -7,12 +7,13 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Component for Entities that play an animation. (not to be confused with {@code AnimationActor} which is for actors)
  * @author pnore_000
  */
-public class AnimationComponent implements Component {
+public class AnimationComponent implements Component, Pool.Poolable {
     public Animation<TextureRegion> animation;
     public Color shadeColor = Color.WHITE;
     public float currentTime;
@@ -23,11 +24,15 @@ public class AnimationComponent implements Component {
     private float width;
     private float height;
     private float rotation;
+    /** Sprite the frames are drawn with. Made the first time it is drawn. */
+    private Sprite drawSprite;
+    /** Color a pooled component copies into, so changing its shade never changes one it is given */
+    private Color pooledColor;
 
     /**
-     * z-index. Determines what things appear on top of others
+     * Creates an {@link AnimationComponent} for a pool. Give it an animation with {@link #set(Animation, Color)}.
      */
-    public int z;
+    public AnimationComponent() { }
 
     /**
      * Creates an {@link AnimationComponent}
@@ -53,6 +58,43 @@ public class AnimationComponent implements Component {
         animation.setPlayMode(playMode);
     }
 
+    /**
+     * Sets the animation of a pooled {@link AnimationComponent}. The animation is not copied, so it can be shared by many components.
+     * Unlike the constructor, the color is copied.
+     * @param sharedAnimation animation to play
+     * @param color Color that all the frames will be shaded with
+     * @return this for chaining
+     */
+    public AnimationComponent set(Animation<TextureRegion> sharedAnimation, Color color) {
+        return set(sharedAnimation, color.r, color.g, color.b, color.a);
+    }
+
+    /**
+     * Sets the animation of a pooled {@link AnimationComponent}, the same as {@link #set(Animation, Color)}, with the shade color given
+     * by its components.
+     * @return this for chaining
+     */
+    public AnimationComponent set(Animation<TextureRegion> sharedAnimation, float r, float g, float b, float a) {
+        if (pooledColor == null)
+            pooledColor = new Color();
+        animation = sharedAnimation;
+        shadeColor = pooledColor.set(r, g, b, a);
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        animation = null;
+        shadeColor = Color.WHITE;
+        currentTime = 0;
+        isAnimating = true;
+        x = 0;
+        y = 0;
+        width = 0;
+        height = 0;
+        rotation = 0;
+    }
+
     public void update(float delta) {
         if (isAnimating)
             currentTime += delta;
@@ -82,15 +124,30 @@ public class AnimationComponent implements Component {
     }
 
     public void draw(Batch batch) {
-        Sprite drawSprite = getSprite();
-        drawSprite.setPosition(x, y);
-        drawSprite.setSize(width, height);
-        drawSprite.setOriginCenter();
-        drawSprite.setRotation(rotation);
-        drawSprite.setColor(shadeColor);
-
         batch.begin();
-        drawSprite.draw(batch);
+        drawFrame(batch);
         batch.end();
     }
+
+    /**
+     * Draws the current frame to a batch that has already begun
+     */
+    public void drawFrame(Batch batch) {
+        TextureRegion frame = animation.getKeyFrame(currentTime);
+        if (drawSprite == null)
+            drawSprite = new Sprite(frame);
+        else
+            drawSprite.setRegion(frame);
+        // only set what changed, so the vertices aren't recomputed every frame
+        if (drawSprite.getX() != x || drawSprite.getY() != y)
+            drawSprite.setPosition(x, y);
+        if (drawSprite.getWidth() != width || drawSprite.getHeight() != height) {
+            drawSprite.setSize(width, height);
+            drawSprite.setOriginCenter();
+        }
+        if (drawSprite.getRotation() != rotation)
+            drawSprite.setRotation(rotation);
+        drawSprite.setColor(shadeColor);
+        drawSprite.draw(batch);
+    }
 }
@@ -1,12 +1,13 @@
 package com.mygdx.game.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Represents time until an Entity disposes of itself
  * @author Phillip O'Reggio
  */
-public class LifetimeComponent implements Component {
+public class LifetimeComponent implements Component, Pool.Poolable {
     public float currentTime;
     public float endTime;
 
@@ -27,4 +28,22 @@ public class LifetimeComponent implements Component {
         currentTime = current;
         endTime = end;
     }
+
+    /**
+     * Sets the times of a pooled {@code LifetimeComponent}
+     * @param current time it starts ticking from
+     * @param end time that the entity disposes itself
+     * @return this for chaining
+     */
+    public LifetimeComponent set(float current, float end) {
+        currentTime = current;
+        endTime = end;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        currentTime = 0;
+        endTime = 1;
+    }
 }
@@ -1,7 +1,9 @@
 package com.mygdx.game.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 import java.awt.geom.Point2D;
 
@@ -9,7 +11,7 @@ import java.awt.geom.Point2D;
  * For the position of an Entity on a {@code Stage}. Has utility methods such as finding the center.
  * @author pnore_000
  */
-public class PositionComponent implements Component {
+public class PositionComponent implements Component, Pool.Poolable {
     /**
      * coordinate
      */
@@ -21,6 +23,14 @@ public class PositionComponent implements Component {
     public Vector2 origin;
     public float rotation;
 
+    /** Vectors a pooled component copies into, so it never changes ones it is given */
+    private Vector2 pooledPosition, pooledOrigin;
+
+    /**
+     * Creates a {@link PositionComponent} for a pool. Give it a position with {@link #set(Vector2, float, float, float)}.
+     */
+    public PositionComponent() { }
+
     public PositionComponent(Vector2 pos, float h, float w, float r) {
         position = pos;
         height = h;
@@ -29,6 +39,54 @@ public class PositionComponent implements Component {
         rotation = r;
     }
 
+    /**
+     * Sets the position of a pooled component. Unlike the constructor, the coordinate is copied.
+     * @return this for chaining
+     */
+    public PositionComponent set(Vector2 pos, float h, float w, float r) {
+        return set(pos.x, pos.y, h, w, r);
+    }
+
+    /**
+     * Sets the position of a pooled component, the same as {@link #set(Vector2, float, float, float)}, from the coordinate's x and y.
+     * @return this for chaining
+     */
+    public PositionComponent set(float x, float y, float h, float w, float r) {
+        if (pooledPosition == null) {
+            pooledPosition = new Vector2();
+            pooledOrigin = new Vector2();
+        }
+        position = pooledPosition.set(x, y);
+        height = h;
+        width = w;
+        origin = pooledOrigin.set(x + w / 2, y + h / 2);
+        rotation = r;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        position = null;
+        origin = null;
+        height = 0;
+        width = 0;
+        rotation = 0;
+    }
+
+    /**
+     * Moves, sizes and rotates a {@link Sprite} to match this. Only what differs from the Sprite is set, since setting the size or
+     * rotation makes the Sprite recompute its vertices, even if they didn't change.
+     * @param sprite Sprite to change
+     */
+    public void applyTo(Sprite sprite) {
+        if (sprite.getX() != position.x || sprite.getY() != position.y)
+            sprite.setPosition(position.x, position.y);
+        if (sprite.getWidth() != width || sprite.getHeight() != height)
+            sprite.setSize(width, height);
+        if (sprite.getRotation() != rotation)
+            sprite.setRotation(rotation);
+    }
+
     /**
      * @return coordinate of the center (in relation to the entire stage)
      */
@@ -0,0 +1,39 @@
+package com.mygdx.game.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * For how an Entity with a {@code SpriteComponent} or {@code AnimationComponent} is drawn. Entities without one are drawn with a
+ * z-index of 0.
+ * @author Phillip O'Reggio
+ */
+public class RenderComponent implements Component, Pool.Poolable {
+    /**
+     * z-index of things covering the whole screen, such as fading to another screen
+     */
+    public static final int SCREEN_COVER_Z = 100;
+
+    /**
+     * z-index. Determines what things appear on top of others. Entities with the same z-index are grouped by texture, and ones with
+     * the same texture are drawn in the order they were added.
+     */
+    public int z;
+
+    /**
+     * Creates a {@link RenderComponent} with a z-index of 0
+     */
+    public RenderComponent() { }
+
+    /**
+     * @param z z-index. Higher is drawn on top.
+     */
+    public RenderComponent(int z) {
+        this.z = z;
+    }
+
+    @Override
+    public void reset() {
+        z = 0;
+    }
+}
@@ -12,10 +12,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  */
 public class SpriteComponent implements Component{
     public Sprite sprite;
-    /**
-     * z-index. Determines what things appear on top of others
-     */
-    public int z;
 
     public SpriteComponent(TextureRegion tex) {
         sprite = new Sprite(tex);
@@ -26,6 +26,7 @@ import com.mygdx.game.screens.BattleScreen;
 
 import static com.mygdx.game.ComponentMappers.*;
 import static com.mygdx.game.GridWars.atlas;
+import static com.mygdx.game.creators.EffectConstructor.*;
 
 /**
  * CLass containing builder methods for animations played when getting hurt or dying.
@@ -235,19 +236,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        color,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, color, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -276,19 +269,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        color,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, color, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -310,10 +295,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-90 * scale, 90 * scale), MathUtils.random(-90 * scale, 90 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-90 * scale, 90 * scale), tilePosition.y + MathUtils.random(-90 * scale, 90 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(color);
@@ -372,19 +357,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .22f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        ColorUtils.HSV_to_RGB(MathUtils.random(0, 100), 100, 100),
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .22f));
+                boom.add(animation(.02f, ColorUtils.HSV_to_RGB(MathUtils.random(0, 100), 100, 100), Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(10)));
                 engine.addEntity(boom);
 
@@ -410,18 +387,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-140 * scale, 140 * scale), MathUtils.random(-140 * scale, 140 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-140 * scale, 140 * scale), tilePosition.y + MathUtils.random(-140 * scale, 140 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 if (timesCalled % 2 == 0) {
@@ -451,18 +421,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .32f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.BLACK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .32f));
+                boom.add(animation(.02f, Color.BLACK, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(10)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FANCY_BOOM, 0.8f, 0, 1);
@@ -484,10 +446,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-90 * scale, 90 * scale), MathUtils.random(-90 * scale, 90 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-90 * scale, 90 * scale), tilePosition.y + MathUtils.random(-90 * scale, 90 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -513,10 +475,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-300 * scale, 300 * scale), MathUtils.random(-300 * scale, 300 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-300 * scale, 300 * scale), tilePosition.y + MathUtils.random(-300 * scale, 300 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 100), 100, 100));
@@ -571,18 +533,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
@@ -606,10 +561,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity e = new Entity();
-                e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                Entity e = effectEntity();
+                e.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                         , entitySize.x, entitySize.y, 0));
-                e.add(new LifetimeComponent(0, 1.4f));
+                e.add(lifetime(0, 1.4f));
                 e.add(new MovementComponent(new Vector2(0, MathUtils.random(40, 70) * scale)));
                 Sprite s;
                 if (MathUtils.randomBoolean())
@@ -617,7 +572,7 @@ public class DamageAnimationConstructor {
                 else
                     s = atlas.createSprite("cloud2");
                 s.setOriginCenter();
-                s.setColor(new Color(.3f, .3f, .3f, .5f));
+                s.setColor(.3f, .3f, .3f, .5f);
                 e.add(new SpriteComponent(s));
                 e.add(new EventComponent(.05f, true, new GameEvent() {
                     boolean direction = MathUtils.randomBoolean();
@@ -680,19 +635,11 @@ public class DamageAnimationConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        color,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, color, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -722,10 +669,10 @@ public class DamageAnimationConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(color);
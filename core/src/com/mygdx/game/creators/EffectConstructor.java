@@ -0,0 +1,201 @@
+package com.mygdx.game.creators;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.mygdx.game.components.AnimationComponent;
+import com.mygdx.game.components.LifetimeComponent;
+import com.mygdx.game.components.PositionComponent;
+
+import java.util.Arrays;
+
+import static com.mygdx.game.GridWars.atlas;
+
+/**
+ * Class containing methods for making the short-lived Entities of visual effects, such as the sparks and explosions of moves. The
+ * Entities and their position, lifetime and animation components come from the pools of a {@link PooledEngine}, and go back to them
+ * once their lifetime is over. The components keep their own vector and color, which are set from what they are given, and the frames
+ * of common effects are kept in constants, so these parts of an effect are made without garbage. Animations are only made once for
+ * each set of frames, and shared by every effect that plays them.
+ * <p>
+ * Effects are still added to the engine by whoever makes them. Other components can be added as usual, but are not pooled. Sprites in
+ * particular are still made for each effect, since moves change them in their own ways while they play.
+ *
+ * @author Phillip O'Reggio
+ */
+public class EffectConstructor {
+    //region frames
+    // Frames of common effects. Passing these to animation(...) instead of listing the region names makes no array for each effect.
+    // They should not be changed.
+    public static final String[] BOOM_CLOUD = {"boom", "cloud"};
+    public static final String[] CLOUD = {"cloud", "cloud2"};
+    public static final String[] VERT_SLASH = {"vertslash1", "vertslash2", "vertslash3", "vertslash4"};
+    public static final String[] BLUE_SLASH = {"blueslash1", "blueslash2", "blueslash3", "blueslash4"};
+    public static final String[] CLAW = {"claw", "claw2", "claw3", "claw4", "claw5"};
+    public static final String[] PIERCE = {"pierce", "pierce2"};
+    public static final String[] FLAME = {"flame", "flame2", "flame3"};
+    public static final String[] FREEZE = {"freeze1", "freeze2", "freeze3"};
+    public static final String[] SHOCK = {"shock1", "shock2"};
+    public static final String[] SHOCK_CHAIN = {"shock1", "shock2", "shock1", "shock2", "shock1", "shockFinal"};
+    public static final String[] COMET = {"comet", "comet2"};
+    public static final String[] SHURIKEN = {"shuriken", "shuriken2"};
+    public static final String[] MIRROR = {"mirror", "mirror2", "mirror3"};
+    public static final String[] OPEN_CIRCLE = {"openCircle", "openCircle2", "openCircle3", "openCircle4", "openCircle5"};
+    public static final String[] GROWING_CIRCLES = {"fourCircles", "sixCircles", "eightCircles"};
+    public static final String[] FOUR_EIGHT_CIRCLES = {"fourCircles", "eightCircles"};
+    public static final String[] EXPLODE = {"explode", "explode2", "explode3", "explode4", "explode5", "explode6"};
+    public static final String[] SHORT_EXPLODE = {"explode", "explode2", "explode3", "explode4"};
+    public static final String[] EXPLODE_BLUE = {"explodeBlue", "explodeBlue2", "explodeBlue3", "explodeBlue4", "explodeBlue5", "explodeBlue6"};
+    public static final String[] SHORT_EXPLODE_BLUE = {"explodeBlue", "explodeBlue2", "explodeBlue3", "explodeBlue4"};
+    public static final String[] EXPLODE_GREEN = {"explodeGreen", "explodeGreen2", "explodeGreen3", "explodeGreen4", "explodeGreen5", "explodeGreen6"};
+    public static final String[] BW_EXPLODE = {"BWexplode", "BWexplode2", "BWexplode3", "BWexplode4", "BWexplode5", "BWexplode6"};
+    public static final String[] DIAMOND_BOOM = {"diamondBoom", "diamondBoom2", "diamondBoom3", "diamondBoom4", "diamondBoom5", "diamondBoom6"};
+    //endregion
+
+    private static PooledEngine engine;
+
+    /** Animations that have been made, by the hash of their frame duration, play mode and region names */
+    private static final IntMap<Array<EffectAnimation>> animations = new IntMap<>();
+
+    /**
+     * Readies the {@link EffectConstructor} for use.
+     * @param eng Engine the effects are pooled by. Should be the one they are added to.
+     */
+    public static void initialize(PooledEngine eng) {
+        engine = eng;
+    }
+
+    /**
+     * Clears static fields in {@link EffectConstructor}
+     */
+    public static void clear() {
+        engine = null;
+        animations.clear();
+    }
+
+    /**
+     * @return Entity from the engine's pool. Goes back to the pool when it is removed from the engine.
+     */
+    public static Entity effectEntity() {
+        return engine.createEntity();
+    }
+
+    /**
+     * @param pos coordinate. Copied, so the Vector2 can be reused.
+     * @param h height
+     * @param w width
+     * @param r rotation
+     * @return {@link PositionComponent} from the engine's pool
+     */
+    public static PositionComponent position(Vector2 pos, float h, float w, float r) {
+        return engine.createComponent(PositionComponent.class).set(pos, h, w, r);
+    }
+
+    /**
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param h height
+     * @param w width
+     * @param r rotation
+     * @return {@link PositionComponent} from the engine's pool
+     */
+    public static PositionComponent position(float x, float y, float h, float w, float r) {
+        return engine.createComponent(PositionComponent.class).set(x, y, h, w, r);
+    }
+
+    /**
+     * @param current time it starts ticking from
+     * @param end time that the entity disposes itself
+     * @return {@link LifetimeComponent} from the engine's pool
+     */
+    public static LifetimeComponent lifetime(float current, float end) {
+        return engine.createComponent(LifetimeComponent.class).set(current, end);
+    }
+
+    /**
+     * @param time seconds per frame
+     * @param playMode how it plays
+     * @param regionNames names of the frames in the atlas
+     * @return {@link AnimationComponent} from the engine's pool
+     */
+    public static AnimationComponent animation(float time, Animation.PlayMode playMode, String... regionNames) {
+        return animation(time, Color.WHITE, playMode, regionNames);
+    }
+
+    /**
+     * @param time seconds per frame
+     * @param color Color that all the frames will be shaded with. Copied, so the Color can be reused.
+     * @param playMode how it plays
+     * @param regionNames names of the frames in the atlas
+     * @return {@link AnimationComponent} from the engine's pool
+     */
+    public static AnimationComponent animation(float time, Color color, Animation.PlayMode playMode, String... regionNames) {
+        return engine.createComponent(AnimationComponent.class).set(getAnimation(time, playMode, regionNames), color);
+    }
+
+    /**
+     * @param time seconds per frame
+     * @param r red of the Color that all the frames will be shaded with
+     * @param g green of the shade Color
+     * @param b blue of the shade Color
+     * @param a alpha of the shade Color
+     * @param playMode how it plays
+     * @param regionNames names of the frames in the atlas
+     * @return {@link AnimationComponent} from the engine's pool
+     */
+    public static AnimationComponent animation(float time, float r, float g, float b, float a, Animation.PlayMode playMode, String... regionNames) {
+        return engine.createComponent(AnimationComponent.class).set(getAnimation(time, playMode, regionNames), r, g, b, a);
+    }
+
+    /**
+     * @return the shared animation with the frame duration, play mode and frames. Made if it hasn't been yet.
+     */
+    private static Animation<TextureRegion> getAnimation(float time, Animation.PlayMode playMode, String[] regionNames) {
+        int hash = 31 * Float.floatToIntBits(time) + playMode.ordinal();
+        for (String name : regionNames)
+            hash = 31 * hash + name.hashCode();
+
+        Array<EffectAnimation> bucket = animations.get(hash);
+        if (bucket == null) {
+            bucket = new Array<>(false, 1);
+            animations.put(hash, bucket);
+        }
+        for (EffectAnimation effectAnimation : bucket)
+            if (effectAnimation.matches(time, playMode, regionNames))
+                return effectAnimation.animation;
+
+        TextureRegion[] regions = new TextureRegion[regionNames.length];
+        for (int i = 0; i < regionNames.length; i++)
+            regions[i] = atlas.findRegion(regionNames[i]);
+        EffectAnimation effectAnimation = new EffectAnimation(time, playMode, regionNames.clone(),
+                new Animation<>(time, new Array<>(regions), playMode));
+        bucket.add(effectAnimation);
+        return effectAnimation.animation;
+    }
+
+    /**
+     * An animation made for effects, and what it was made from.
+     */
+    private static class EffectAnimation {
+        private final float time;
+        private final Animation.PlayMode playMode;
+        private final String[] regionNames;
+        private final Animation<TextureRegion> animation;
+
+        private EffectAnimation(float time, Animation.PlayMode playMode, String[] regionNames, Animation<TextureRegion> animation) {
+            this.time = time;
+            this.playMode = playMode;
+            this.regionNames = regionNames;
+            this.animation = animation;
+        }
+
+        private boolean matches(float otherTime, Animation.PlayMode otherPlayMode, String[] otherRegionNames) {
+            return time == otherTime && playMode == otherPlayMode && Arrays.equals(regionNames, otherRegionNames);
+        }
+    }
+}
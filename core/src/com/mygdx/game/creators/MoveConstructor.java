@@ -13,6 +13,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.AI.MoveInfo;
+import com.mygdx.game.AI.SimulationRandom;
 import com.mygdx.game.AI.StatusEffectInfo;
 import com.mygdx.game.GridWars;
 import com.mygdx.game.actors.Tile;
@@ -30,6 +31,7 @@ import com.mygdx.game.screens.BattleScreen;
 
 import static com.mygdx.game.ComponentMappers.*;
 import static com.mygdx.game.GridWars.atlas;
+import static com.mygdx.game.creators.EffectConstructor.*;
 import static com.mygdx.game.creators.StatusEffectConstructor.*;
 
 /**
@@ -105,12 +107,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(60 * scale, 60 * scale);
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity star = new Entity();
-                star.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 70) - 35, (float) (Math.random() * 70) - 35)
+                Entity star = effectEntity();
+                star.add(position(tileCenter.x + (float) (Math.random() * 70) - 35, tileCenter.y + (float) (Math.random() * 70) - 35
                         , entitySize.x, entitySize.y, (float) (Math.random() * 360)));
-                star.add(new LifetimeComponent(0, .6f));
-                star.add(new AnimationComponent(.2f, new TextureRegion[]{atlas.findRegion("boom"),
-                        atlas.findRegion("cloud")}, Animation.PlayMode.LOOP));
+                star.add(lifetime(0, .6f));
+                star.add(animation(.2f, Animation.PlayMode.LOOP, BOOM_CLOUD));
                 engine.addEntity(star);
             }
         }, .2f, 4);
@@ -146,15 +147,13 @@ public class MoveConstructor {
                 }
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(0, 0));
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2, BoardComponent.boards.getTileHeight() / 2);
-                Entity star = new Entity();
-                star.add(new PositionComponent(new Vector2(tilePosition.cpy().x,
-                        tilePosition.cpy().y),
+                Entity star = effectEntity();
+                star.add(position(tilePosition.x, tilePosition.y,
                         45 * scale,
                         45 * scale,
                         0));
-                star.add(new LifetimeComponent(0, 1.2f));
-                star.add(new AnimationComponent(.3f, new TextureRegion[]{atlas.findRegion("boom"),
-                        atlas.findRegion("cloud")}, Animation.PlayMode.LOOP));
+                star.add(lifetime(0, 1.2f));
+                star.add(animation(.3f, Animation.PlayMode.LOOP, BOOM_CLOUD));
                 star.add(new EventComponent(.1f, 0f, true, true, new GameEvent() {
                     @Override
                     public void event(Entity e, Engine engine) {
@@ -202,15 +201,10 @@ public class MoveConstructor {
 
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .21f));
-                slash.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .21f));
+                slash.add(animation(.05f, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.SWORD_SWIPE);
             }
@@ -229,15 +223,10 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(45 * scale, 45 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 90));
-                crossSlash.add(new LifetimeComponent(0, .21f));
-                crossSlash.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Animation.PlayMode.LOOP));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tilePosition, entitySize.x, entitySize.y, 90));
+                crossSlash.add(lifetime(0, .21f));
+                crossSlash.add(animation(.05f, Animation.PlayMode.LOOP, VERT_SLASH));
                 engine.addEntity(crossSlash);
                 soundManager.playSound(SoundInfo.SWORD_SWIPE);
             }
@@ -277,11 +266,11 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity glow = new Entity();
-                glow.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                glow.add(new LifetimeComponent(0, .5f));
+                Entity glow = effectEntity();
+                glow.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                glow.add(lifetime(0, .5f));
                 Sprite glowSprite = atlas.createSprite("circle");
-                glowSprite.setColor(new Color(1, 0, 0, 0));
+                glowSprite.setColor(1, 0, 0, 0);
                 glow.add(new SpriteComponent(glowSprite));
                 glow.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(6)));
                 engine.addEntity(glow);
@@ -304,16 +293,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .21f));
-                slash.add(new AnimationComponent(.062f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .21f));
+                slash.add(animation(.062f, Color.RED, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.SWORD_SWIPE);
             }
@@ -333,16 +316,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 90));
-                crossSlash.add(new LifetimeComponent(0, .21f));
-                crossSlash.add(new AnimationComponent(.062f, new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Color.RED,
-                        Animation.PlayMode.LOOP));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tileCenter, entitySize.x, entitySize.y, 90));
+                crossSlash.add(lifetime(0, .21f));
+                crossSlash.add(animation(.062f, Color.RED, Animation.PlayMode.LOOP, VERT_SLASH));
                 engine.addEntity(crossSlash);
             }
         }, .2f, 1);
@@ -386,9 +363,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 70) - 35, (float) (Math.random() * 70) - 35),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 70) - 35, tileCenter.y + (float) (Math.random() * 70) - 35,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -398,10 +375,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .5f));
+                glow.add(lifetime(0, .5f));
 
                 Sprite glowSprite = atlas.createSprite("circle");
-                glowSprite.setColor(new Color(.3f, .3f, 1, 0f));
+                glowSprite.setColor(.3f, .3f, 1, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(6)));
@@ -426,16 +403,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .21f));
-                slash.add(new AnimationComponent(.062f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Color.BLUE,
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .21f));
+                slash.add(animation(.062f, Color.BLUE, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.CLAW);
             }
@@ -455,16 +426,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 90));
-                crossSlash.add(new LifetimeComponent(0, .21f));
-                crossSlash.add(new AnimationComponent(.063f, new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        Color.BLUE,
-                        Animation.PlayMode.NORMAL));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tileCenter, entitySize.x, entitySize.y, 90));
+                crossSlash.add(lifetime(0, .21f));
+                crossSlash.add(animation(.063f, Color.BLUE, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(crossSlash);
                 soundManager.playSound(SoundInfo.CLAW);
             }
@@ -511,9 +476,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(70 * scale, 70 * scale);
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * entitySize.x) - entitySize.x, (float) (Math.random() * entitySize.y) - entitySize.y),
+                glow.add(position(tileCenter.x + (float) (Math.random() * entitySize.x) - entitySize.x, tileCenter.y + (float) (Math.random() * entitySize.y) - entitySize.y,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -523,7 +488,7 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .5f));
+                glow.add(lifetime(0, .5f));
 
                 Sprite glowSprite = atlas.createSprite("circle");
                 glowSprite.setColor(Color.GREEN);
@@ -554,16 +519,10 @@ public class MoveConstructor {
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(0, 0));
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2f - (entitySize.x / 2f),
                         BoardComponent.boards.getTileHeight() / 2f - (entitySize.y / 2f));
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .21f));
-                slash.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(202f / 255f, 1, 0, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .21f));
+                slash.add(animation(.05f, 202f / 255f, 1, 0, 1, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.SWORD_SWIPE);
             }
@@ -581,16 +540,10 @@ public class MoveConstructor {
                 }
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - 22.5f, t.getHeight() / 2 - 22.5f));
                 tilePosition.x += t.getWidth() / 4; //Move rotated sprite to be aligned
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tilePosition, 45 * scale, 45 * scale, 90));
-                crossSlash.add(new LifetimeComponent(0, .21f));
-                crossSlash.add(new AnimationComponent(.05f, new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(202f / 255f, 1, 0, 1),
-                        Animation.PlayMode.LOOP));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tilePosition, 45 * scale, 45 * scale, 90));
+                crossSlash.add(lifetime(0, .21f));
+                crossSlash.add(animation(.05f, 202f / 255f, 1, 0, 1, Animation.PlayMode.LOOP, VERT_SLASH));
                 engine.addEntity(crossSlash);
                 soundManager.playSound(SoundInfo.SWORD_SWIPE);
             }
@@ -634,15 +587,10 @@ public class MoveConstructor {
 
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .11f));
-                slash.add(new AnimationComponent(.025f,new TextureRegion[] {
-                        atlas.findRegion("blueslash1"),
-                        atlas.findRegion("blueslash2"),
-                        atlas.findRegion("blueslash3"),
-                        atlas.findRegion("blueslash4")},
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .11f));
+                slash.add(animation(.025f, Animation.PlayMode.NORMAL, BLUE_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.CLAW, 0.6f, -999, -999);
             }
@@ -663,16 +611,10 @@ public class MoveConstructor {
 
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .11f));
-                slash.add(new AnimationComponent(.025f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(.97f, .97f, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .11f));
+                slash.add(animation(.025f, .97f, .97f, 1, 1, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.CLAW, 0.5f, -999, -999);
             }
@@ -692,16 +634,10 @@ public class MoveConstructor {
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 - entitySize.y / 2f));
 
                 tilePosition.x += t.getWidth() / 4; //Move rotated sprite to be aligned
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 90));
-                crossSlash.add(new LifetimeComponent(0, .11f));
-                crossSlash.add(new AnimationComponent(.025f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(.97f, .97f, 1, 1),
-                        Animation.PlayMode.LOOP));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tilePosition, entitySize.x, entitySize.y, 90));
+                crossSlash.add(lifetime(0, .11f));
+                crossSlash.add(animation(.025f, .97f, .97f, 1, 1, Animation.PlayMode.LOOP, VERT_SLASH));
                 engine.addEntity(crossSlash);
                 soundManager.playSound(SoundInfo.CLAW, 0.6f, -999, -999);
             }
@@ -757,11 +693,11 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity zigzag = new Entity();
+                Entity zigzag = effectEntity();
                 Sprite zig = new Sprite(atlas.findRegion("zigzag"));
                 zig.setColor(Color.RED);
-                zigzag.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                zigzag.add(new LifetimeComponent(0, .49f));
+                zigzag.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                zigzag.add(lifetime(0, .49f));
                 zigzag.add(new SpriteComponent(zig));
                 zigzag.add(new EventComponent(.1f, true, (Entity e, Engine eng) -> {
                     pm.get(e).position.add(new Vector2(MathUtils.random(-5 * scale, 5 * scale), MathUtils.random(-5 * scale, 5 * scale)));
@@ -785,12 +721,12 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity zigzag = new Entity();
+                Entity zigzag = effectEntity();
                 Sprite zig = new Sprite(atlas.findRegion("zigzag"));
                 zig.setColor(Color.GREEN);
                 zig.setOrigin(30 * scale, 30 * scale);
-                zigzag.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 90));
-                zigzag.add(new LifetimeComponent(0, .49f));
+                zigzag.add(position(tileCenter, entitySize.x, entitySize.y, 90));
+                zigzag.add(lifetime(0, .49f));
                 zigzag.add(new SpriteComponent(zig));
                 zigzag.add(new EventComponent(.1f, true, (Entity e, Engine eng) -> {
                     pm.get(e).position.add(new Vector2(MathUtils.random(-5 * scale, 5 * scale), MathUtils.random(-5 * scale, 5 * scale)));
@@ -852,11 +788,11 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity zigzag = new Entity();
+                Entity zigzag = effectEntity();
                 Sprite zig = new Sprite(atlas.findRegion("zigzag"));
                 zig.setColor(Color.ORANGE);
-                zigzag.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                zigzag.add(new LifetimeComponent(0, .49f));
+                zigzag.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                zigzag.add(lifetime(0, .49f));
                 zigzag.add(new SpriteComponent(zig));
                 zigzag.add(new EventComponent(.1f, true, (Entity e, Engine eng) -> {
                     pm.get(e).position.add(new Vector2(MathUtils.random(-5 * scale, 5 * scale), MathUtils.random(-5 * scale, 5 * scale)));
@@ -880,12 +816,12 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity zigzag = new Entity();
+                Entity zigzag = effectEntity();
                 Sprite zig = new Sprite(atlas.findRegion("zigzag"));
                 zig.setColor(Color.BLUE);
                 zig.setOrigin(30 * scale, 30 * scale);
-                zigzag.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                zigzag.add(new LifetimeComponent(0, .49f));
+                zigzag.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                zigzag.add(lifetime(0, .49f));
                 zigzag.add(new SpriteComponent(zig));
                 zigzag.add(new EventComponent(.1f, true, (Entity e, Engine eng) -> {
                     pm.get(e).position.add(new Vector2(MathUtils.random(-5 * scale, 5 * scale), MathUtils.random(-5 * scale, 5 * scale)));
@@ -937,16 +873,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.CLAW);
             }
@@ -1008,14 +938,14 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2 - entitySize.y * 1.5f);
 
-                Entity beam = new Entity();
+                Entity beam = effectEntity();
                 Sprite beamSprite = new Sprite(atlas.findRegion("beam"));
                 beamSprite.setOriginCenter();
                 beamSprite.setColor(Color.RED);
                 beam.add(new SpriteComponent(beamSprite));
-                beam.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90));
+                beam.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90));
                 beam.add(new MovementComponent(new Vector2(1300 * scale, 0).setAngle(direction)));
-                beam.add(new LifetimeComponent(0, .26f));
+                beam.add(lifetime(0, .26f));
                 beam.add(new EventComponent(0.02f, true, EventCompUtil.fadeOutAfter(7, 6)));
                 engine.addEntity(beam);
             }
@@ -1038,17 +968,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -1102,18 +1025,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                        atlas.findRegion("explode2"),
-                        atlas.findRegion("explode3"),
-                        atlas.findRegion("explode4"),
-                        atlas.findRegion("explode5"),
-                        atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FIRE_START);
@@ -1134,14 +1050,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity flame = new Entity();
-                flame.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                flame.add(new LifetimeComponent(0, 1.2f));
-                flame.add(new AnimationComponent(.05f,
-                    new TextureRegion[]{atlas.findRegion("flame"),
-                            atlas.findRegion("flame2"),
-                            atlas.findRegion("flame3")},
-                    Animation.PlayMode.LOOP));
+                Entity flame = effectEntity();
+                flame.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                flame.add(lifetime(0, 1.2f));
+                flame.add(animation(.05f, Animation.PlayMode.LOOP, FLAME));
                 flame.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(6, 6)));
 
                 engine.addEntity(flame);
@@ -1172,10 +1084,10 @@ public class MoveConstructor {
                 new Array<VisualEvent>(new VisualEvent[]{explosions, fire})), new MoveInfo(false, .5f, (entity, userEntity) ->
                 {
                     if (entity.acceptsStatusEffects) { // add only guaranteed boost
-                        if (MathUtils.randomBoolean(.6f)) {
-                            entity.statusEffectInfos.add(burn(MathUtils.random(2, 4)).createStatusEffectInfo());
+                        if (SimulationRandom.randomBoolean(.6f)) {
+                            entity.statusEffectInfos.add(burn(SimulationRandom.random(2, 4)).createStatusEffectInfo());
                         }
-                        if (MathUtils.randomBoolean(.2f)) {
+                        if (SimulationRandom.randomBoolean(.2f)) {
                             entity.statusEffectInfos.add(paralyze(2).createStatusEffectInfo());                        }
                     }
                 }));
@@ -1251,14 +1163,14 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2 - entitySize.y * 1.5f);
 
-                Entity beam = new Entity();
+                Entity beam = effectEntity();
                 Sprite beamSprite = new Sprite(atlas.findRegion("beam"));
                 beamSprite.setOriginCenter();
                 beamSprite.setColor(Color.RED);
                 beam.add(new SpriteComponent(beamSprite));
-                beam.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                beam.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 beam.add(new MovementComponent(new Vector2(1300 * scale, 0).setAngle(direction + offset)));
-                beam.add(new LifetimeComponent(0, .26f));
+                beam.add(lifetime(0, .26f));
                 beam.add(new EventComponent(0.02f, true, EventCompUtil.fadeOutAfter(7, 6)));
                 engine.addEntity(beam);
             }
@@ -1280,17 +1192,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -1339,17 +1244,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -1370,9 +1268,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.RED);
@@ -1424,15 +1322,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity flame = new Entity();
-                flame.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-20 * scale, 20 * scale), MathUtils.random(-20 * scale, 20 * scale)),
+                Entity flame = effectEntity();
+                flame.add(position(tilePosition.x + MathUtils.random(-20 * scale, 20 * scale), tilePosition.y + MathUtils.random(-20 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
-                flame.add(new LifetimeComponent(0, 1.2f));
-                flame.add(new AnimationComponent(.05f, new TextureRegion[]{
-                        atlas.findRegion("flame"),
-                        atlas.findRegion("flame2"),
-                        atlas.findRegion("flame3")},
-                        Animation.PlayMode.LOOP));
+                flame.add(lifetime(0, 1.2f));
+                flame.add(animation(.05f, Animation.PlayMode.LOOP, FLAME));
                 flame.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(6, 6)));
 
                 engine.addEntity(flame);
@@ -1479,18 +1373,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-140 * scale, 140 * scale), MathUtils.random(-140 * scale, 140 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-140 * scale, 140 * scale), tilePosition.y + MathUtils.random(-140 * scale, 140 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -1530,7 +1417,7 @@ public class MoveConstructor {
                 new BoardPosition(0, 2), new BoardPosition(0, -2)}),
                 new Array<VisualEvent>(new VisualEvent[]{explosions})),
                 new MoveInfo(false, .5f, (enemy, userEntity) -> {
-                    if (enemy.acceptsStatusEffects && MathUtils.randomBoolean(.7f))
+                    if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean(.7f))
                         enemy.statusEffectInfos.add(burn(3).createStatusEffectInfo());
                 }));
         move.setAttackDescription("Causes a violent explosion around itself. Deals 1/2x damage. Has a 70% chance to Burn targets for 3 turns.");
@@ -1554,14 +1441,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity freeze = new Entity();
-                freeze.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                freeze.add(new LifetimeComponent(0, .75f));
-                freeze.add(new AnimationComponent(.15f,
-                        new TextureRegion[]{atlas.findRegion("freeze1"),
-                                atlas.findRegion("freeze2"),
-                                atlas.findRegion("freeze3")},
-                        Animation.PlayMode.LOOP));
+                Entity freeze = effectEntity();
+                freeze.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                freeze.add(lifetime(0, .75f));
+                freeze.add(animation(.15f, Animation.PlayMode.LOOP, FREEZE));
                 freeze.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(4, 3)));
                 engine.addEntity(freeze);
                 soundManager.playSound(SoundInfo.STAR_WOOSH, 2, 0, 1);
@@ -1583,11 +1466,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40 * scale, 40 * scale), MathUtils.random(-40 * scale, 40 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-40 * scale, 40 * scale), tilePosition.y + MathUtils.random(-40 * scale, 40 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, -20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -1648,11 +1531,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, -20 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, -20 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(20 * scale, 0)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -1686,10 +1569,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-20 * scale, 20 * scale), MathUtils.random(-20 * scale, 20 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-20 * scale, 20 * scale), tilePosition.y + MathUtils.random(-20 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .8f));
+                sparkle.add(lifetime(0, .8f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -1732,14 +1615,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity shuriken = new Entity();
-                shuriken.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 1));
-                shuriken.add(new LifetimeComponent(0, 1.5f));
-                shuriken.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("shuriken"),
-                                atlas.findRegion("shuriken2")},
-                        new Color(.2f, 1f, .5f, 1),
-                        Animation.PlayMode.LOOP));
+                Entity shuriken = effectEntity();
+                shuriken.add(position(tilePosition, entitySize.x, entitySize.y, 1));
+                shuriken.add(lifetime(0, 1.5f));
+                shuriken.add(animation(.1f, .2f, 1f, .5f, 1, Animation.PlayMode.LOOP, SHURIKEN));
                 shuriken.add(new EventComponent(.005f, true, new GameEvent() {
                     @Override
                     public void event(Entity e, Engine engine) {
@@ -1774,10 +1653,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity sparkle = new Entity();
-                    sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity sparkle = effectEntity();
+                    sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    sparkle.add(new LifetimeComponent(0, .5f));
+                    sparkle.add(lifetime(0, .5f));
                     Sprite sprite = new Sprite(atlas.findRegion("boom"));
                     sprite.setOriginCenter();
                     sprite.setColor(Color.CYAN);
@@ -1807,9 +1686,9 @@ public class MoveConstructor {
                     Vector2 entitySize = new Vector2(20 * scale, 20 * scale);
                     Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                    Entity glow = new Entity();
+                    Entity glow = effectEntity();
 
-                    glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                    glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                             entitySize.x, entitySize.y, 0));
 
                     float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -1818,7 +1697,7 @@ public class MoveConstructor {
                     Vector2 movementToCenter = new Vector2(50 * scale, 0);
                     movementToCenter.setAngle(directionTowardsCenter);
                     glow.add(new MovementComponent(movementToCenter));
-                    glow.add(new LifetimeComponent(0, .3f));
+                    glow.add(lifetime(0, .3f));
                     Sprite glowSprite = atlas.createSprite("openCircle");
                     if (MathUtils.randomBoolean())
                         glowSprite.setColor(Color.GREEN);
@@ -1851,17 +1730,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .32f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .32f));
+                boom.add(animation(.06f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM_DECAY, 1.4f, 0, 0.9f);
@@ -1879,11 +1751,11 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
-                sm.get(flash).sprite.setColor(new Color(.8f, 1, .9f, 1));
+                sm.get(flash).sprite.setColor(.8f, 1, .9f, 1);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
                 engine.addEntity(flash);
                 soundManager.playSound(SoundInfo.SWIRL_WIND);
@@ -1933,9 +1805,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity freeze = new Entity();
-                freeze.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                freeze.add(new LifetimeComponent(0, 1.5f));
+                Entity freeze = effectEntity();
+                freeze.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                freeze.add(lifetime(0, 1.5f));
                 Sprite iceSprite = new Sprite(atlas.findRegion("ice"));
                 iceSprite.setOriginCenter();
                 freeze.add(new SpriteComponent(iceSprite));
@@ -1967,10 +1839,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-20 * scale, 20 * scale), MathUtils.random(-20 * scale, 20 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-20 * scale, 20 * scale), tilePosition.y + MathUtils.random(-20 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -2016,17 +1888,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -2049,11 +1914,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -2140,17 +2005,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -2173,11 +2031,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.WHITE);
@@ -2263,11 +2121,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -2338,19 +2196,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity ripple = new Entity();
-                ripple.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity ripple = effectEntity();
+                ripple.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                ripple.add(new LifetimeComponent(0, .49f));
-                ripple.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")
-                        },
-                        Color.BLUE,
-                        Animation.PlayMode.REVERSED));
+                ripple.add(lifetime(0, .49f));
+                ripple.add(animation(.1f, Color.BLUE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 ripple.add(new EventComponent(.05f, true, EventCompUtil.fadeOutAfter(18, 6)));
 
                 engine.addEntity(ripple);
@@ -2415,9 +2265,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity waterBall = new Entity();
-                waterBall.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                waterBall.add(new LifetimeComponent(0, 2f));
+                Entity waterBall = effectEntity();
+                waterBall.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                waterBall.add(lifetime(0, 2f));
                 Sprite water = new Sprite(atlas.findRegion("water"));
                 water.setOriginCenter();
                 water.setColor(1, 1, 1, 0);
@@ -2445,10 +2295,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(40 * scale, 0)));
-                sparkle.add(new LifetimeComponent(0, 2f));
+                sparkle.add(lifetime(0, 2f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -2522,10 +2372,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite;
                 if (open)
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
@@ -2533,7 +2383,7 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("diamonds"));
                 open = !open;
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(1, .3f, 0, 1));
+                sprite.setColor(1, .3f, 0, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(6)));
 
@@ -2558,18 +2408,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .26f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        new Color(1, .3f, 0, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .26f));
+                boom.add(animation(.05f, 1, .3f, 0, 1, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.ZEP, 2, 0, 1);
@@ -2643,11 +2485,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -2681,9 +2523,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bubble.add(new LifetimeComponent(0, 2f));
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bubble.add(lifetime(0, 2f));
                 Sprite water = new Sprite(atlas.findRegion("bubble"));
                 water.setOriginCenter();
                 water.setColor(.3f, 1f, 1f, 0);
@@ -2710,17 +2552,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.CYAN,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.CYAN, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BUBBLE_BURST, 0.7f, 0, 1);
@@ -2744,14 +2579,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.2f, .9f, .9f, 1));
+                sprite.setColor(.2f, .9f, .9f, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.01f, true, (entity, engine) -> {
                     Sprite spr = sm.get(entity).sprite;
@@ -2801,15 +2636,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity circles = new Entity();
-                circles.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                circles.add(new LifetimeComponent(0, 2f));
-                circles.add(new AnimationComponent(.6666f,
-                        new TextureRegion[]{atlas.findRegion("fourCircles"),
-                                atlas.findRegion("sixCircles"),
-                                atlas.findRegion("eightCircles")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                Entity circles = effectEntity();
+                circles.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                circles.add(lifetime(0, 2f));
+                circles.add(animation(.6666f, Color.CYAN, Animation.PlayMode.NORMAL, GROWING_CIRCLES));
                 circles.add(new EventComponent(.1f, true, (entity, engine) -> {
                     pm.get(entity).rotation += 10 + pm.get(entity).rotation / 8;
                     Color color = animm.get(entity).shadeColor;
@@ -2841,17 +2671,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.CYAN,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.CYAN, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -2874,14 +2697,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity shock = new Entity();
-                shock.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                shock.add(new LifetimeComponent(0, 1f));
-                shock.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("shock1"),
-                                atlas.findRegion("shock2")},
-                        Color.YELLOW,
-                        Animation.PlayMode.LOOP));
+                Entity shock = effectEntity();
+                shock.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                shock.add(lifetime(0, 1f));
+                shock.add(animation(.1f, Color.YELLOW, Animation.PlayMode.LOOP, SHOCK));
 
                 engine.addEntity(shock);
                 soundManager.playSound(SoundInfo.STATUS_ZAP);
@@ -2905,11 +2724,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.YELLOW);
@@ -2960,16 +2779,16 @@ public class MoveConstructor {
                 Vector2 position = new Vector2(MathUtils.random(stage.getWidth() / 6f, stage.getWidth() - stage.getWidth() / 6f), MathUtils.random(stage.getHeight() / 6f, stage.getHeight() - stage.getHeight() / 6f));
                 position.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(position, entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .5f));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(position, entitySize.x, entitySize.y, 0));
+                sparkle.add(lifetime(0, .5f));
                 Sprite sprite;
                 if (open)
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 else
                     sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.4f, .4f, 1, 1));
+                sprite.setColor(.4f, .4f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(5)));
 
@@ -2985,18 +2804,10 @@ public class MoveConstructor {
                 Vector2 position = new Vector2(MathUtils.random(stage.getWidth() / 6f, stage.getWidth() - stage.getWidth() / 6f), MathUtils.random(stage.getHeight() / 6f, stage.getHeight() - stage.getHeight() / 6f));
                 position.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity diamondBoom = new Entity();
-                diamondBoom.add(new PositionComponent(position, entitySize.x, entitySize.y, 0));
-                diamondBoom.add(new LifetimeComponent(0, .5f));
-                diamondBoom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        new Color(1, .3f, 0, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity diamondBoom = effectEntity();
+                diamondBoom.add(position(position, entitySize.x, entitySize.y, 0));
+                diamondBoom.add(lifetime(0, .5f));
+                diamondBoom.add(animation(.05f, 1, .3f, 0, 1, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 diamondBoom.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(5)));
 
                 engine.addEntity(diamondBoom);
@@ -3009,16 +2820,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(100 * scale, 100 * scale);
                 Vector2 position = new Vector2(MathUtils.random(0, stage.getWidth()) - stage.getWidth() / 8f, 1000);
 
-                Entity comet = new Entity();
-                comet.add(new PositionComponent(position, entitySize.x, entitySize.y, 280));
+                Entity comet = effectEntity();
+                comet.add(position(position, entitySize.x, entitySize.y, 280));
                 comet.add(new MovementComponent(new Vector2(1600, 0).rotate(280)));
-                comet.add(new LifetimeComponent(0, 2f));
-                comet.add(new AnimationComponent(.06f, new TextureRegion[] {
-                        atlas.findRegion("comet"),
-                        atlas.findRegion("comet2")},
-                        new Color(.4f, .4f, 1, 1),
-                        Animation.PlayMode.LOOP
-                        ));
+                comet.add(lifetime(0, 2f));
+                comet.add(animation(.06f, .4f, .4f, 1, 1, Animation.PlayMode.LOOP, COMET));
                 comet.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(5)));
 
                 engine.addEntity(comet);
@@ -3045,17 +2851,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                    atlas.findRegion("explodeBlue2"),
-                                    atlas.findRegion("explodeBlue3"),
-                                    atlas.findRegion("explodeBlue4"),
-                                    atlas.findRegion("explodeBlue5"),
-                                    atlas.findRegion("explodeBlue6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -3110,17 +2909,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Color.CYAN, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.CLAW, 0.7f, 0, 1);
             }
@@ -3141,14 +2933,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity shock = new Entity();
-                shock.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                shock.add(new LifetimeComponent(0, .2f));
-                shock.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("shock1"),
-                                atlas.findRegion("shock2")},
-                        Color.YELLOW,
-                        Animation.PlayMode.LOOP));
+                Entity shock = effectEntity();
+                shock.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                shock.add(lifetime(0, .2f));
+                shock.add(animation(.1f, Color.YELLOW, Animation.PlayMode.LOOP, SHOCK));
 
                 engine.addEntity(shock);
                 soundManager.playSound(SoundInfo.STATUS_ZAP);
@@ -3184,7 +2972,7 @@ public class MoveConstructor {
                             enemy.statusEffectInfos.removeValue(paralyze(3).createStatusEffectInfo(), false);
                             userEntity.sp+=2;
                         } else { // chance to paralyze
-                            if (MathUtils.randomBoolean(.6f))
+                            if (SimulationRandom.randomBoolean(.6f))
                                 enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
                         }
                     }
@@ -3214,10 +3002,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .2f));
+                sparkle.add(lifetime(0, .2f));
                 Sprite sprite = new Sprite(atlas.findRegion("eightCircles"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -3252,11 +3040,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.YELLOW);
@@ -3342,13 +3130,13 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .2f));
+                sparkle.add(lifetime(0, .2f));
                 Sprite sprite = new Sprite(atlas.findRegion("eightCircles"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(MathUtils.random(.5f, 1), MathUtils.random(.5f, 1), MathUtils.random(.5f, 1), 1));
+                sprite.setColor(MathUtils.random(.5f, 1), MathUtils.random(.5f, 1), MathUtils.random(.5f, 1), 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(10)));
 
@@ -3380,14 +3168,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, 3f));
+                sparkle.add(lifetime(0, 3f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), 1));
+                sprite.setColor(MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.01f, true, (entity, engine) -> {
                     mm.get(entity).movement.rotate(10);
@@ -3459,15 +3247,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(50 * scale, 50 * scale);
                 Vector2 position = new Vector2(MathUtils.random(0, stage.getWidth()) - stage.getWidth() / 8f, 1000);
 
-                Entity ion = new Entity();
-                ion.add(new PositionComponent(position, entitySize.x, entitySize.y, 280));
+                Entity ion = effectEntity();
+                ion.add(position(position, entitySize.x, entitySize.y, 280));
                 ion.add(new MovementComponent(new Vector2(1200, 0).rotate(280)));
-                ion.add(new LifetimeComponent(0, 2f));
-                ion.add(new AnimationComponent(.06f, new TextureRegion[] {
-                        atlas.findRegion("fourCircles"),
-                        atlas.findRegion("eightCircles")},
-                        Animation.PlayMode.LOOP
-                ));
+                ion.add(lifetime(0, 2f));
+                ion.add(animation(.06f, Animation.PlayMode.LOOP, FOUR_EIGHT_CIRCLES));
                 if (MathUtils.randomBoolean())
                     animm.get(ion).shadeColor = Color.CYAN;
                 else
@@ -3510,17 +3294,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.RED,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Color.RED, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -3547,17 +3324,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shockFinal")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, SHOCK_CHAIN));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -3590,10 +3360,10 @@ public class MoveConstructor {
                 new Array<VisualEvent>(new VisualEvent[]{
                         ions, doNothing, rippleOut.copy(), shocking.copy(), rippleOut, shocking})),
                 new MoveInfo(false, 1, (enemy, userEntity) -> {
-                    if (MathUtils.randomBoolean(.5f) && enemy.acceptsStatusEffects) {
+                    if (SimulationRandom.randomBoolean(.5f) && enemy.acceptsStatusEffects) {
                         enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
                     }
-                    if (MathUtils.randomBoolean(.5f) && enemy.acceptsStatusEffects) {
+                    if (SimulationRandom.randomBoolean(.5f) && enemy.acceptsStatusEffects) {
                         enemy.statusEffectInfos.add(defenseless(3).createStatusEffectInfo());
                     }
                 })
@@ -3620,10 +3390,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-20 * scale, 20 * scale), MathUtils.random(-20 * scale, 20 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-20 * scale, 20 * scale), tilePosition.y + MathUtils.random(-20 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("fist");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PINK);
@@ -3668,10 +3438,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-20 * scale, 20 * scale), MathUtils.random(-20 * scale, 20 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-20 * scale, 20 * scale), tilePosition.y + MathUtils.random(-20 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("fist");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -3698,18 +3468,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Color.DARK_GRAY,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.DARK_GRAY, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -3766,9 +3528,9 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .6f));
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                fist.add(lifetime(0, .6f));
                 Sprite sprite = atlas.createSprite("fist");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BROWN);
@@ -3801,11 +3563,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.ORANGE);
@@ -3831,11 +3593,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                bubble.add(new LifetimeComponent(0, .6f));
+                bubble.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -3895,17 +3657,12 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fire = new Entity();
-                fire.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity fire = effectEntity();
+                fire.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 fire.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(fire).movement.setAngle(direction);
-                fire.add(new LifetimeComponent(0, 1.2f));
-                fire.add(new AnimationComponent(.05f, new TextureRegion[]{
-                        atlas.findRegion("flame"),
-                        atlas.findRegion("flame2"),
-                        atlas.findRegion("flame3")},
-                        new Color(.1f, .1f, .1f, 1),
-                        Animation.PlayMode.LOOP));
+                fire.add(lifetime(0, 1.2f));
+                fire.add(animation(.05f, .1f, .1f, .1f, 1, Animation.PlayMode.LOOP, FLAME));
                 fire.add(new EventComponent(.01f, true, (entity, engine) -> {
                     mm.get(entity).movement.rotate(5);
                     mm.get(entity).movement.add(new Vector2(mm.get(entity).movement.len() / 15f, 0).rotate(mm.get(entity).movement.angle()));
@@ -3938,11 +3695,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLACK);
@@ -3968,11 +3725,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity diamond = new Entity();
-                diamond.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 30 * scale), MathUtils.random(-50 * scale, 20 * scale)),
+                Entity diamond = effectEntity();
+                diamond.add(position(tilePosition.x + MathUtils.random(-50 * scale, 30 * scale), tilePosition.y + MathUtils.random(-50 * scale, 20 * scale),
                         entitySize.x, entitySize.y, 0));
                 diamond.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                diamond.add(new LifetimeComponent(0, 1.5f));
+                diamond.add(lifetime(0, 1.5f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamondBoom5"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -4032,10 +3789,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite;
                 if (open)
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
@@ -4043,7 +3800,7 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("diamonds"));
                 open = !open;
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.3f, .3f, 1, 1));
+                sprite.setColor(.3f, .3f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(6)));
 
@@ -4068,18 +3825,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .26f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        new Color(.3f, .3f, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .26f));
+                boom.add(animation(.05f, .3f, .3f, 1, 1, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.ZEP, 1.9f, 0, 1);
@@ -4149,17 +3898,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -4181,17 +3923,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STRANGE, 1.3f, 0, 0.6f);
@@ -4214,10 +3949,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("boom");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -4243,10 +3978,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-150 * scale, 150 * scale), MathUtils.random(-150 * scale, 150 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-150 * scale, 150 * scale), tilePosition.y + MathUtils.random(-150 * scale, 150 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("boom");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -4278,11 +4013,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(900 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -4320,7 +4055,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, -1)}),
                 new Array<VisualEvent>(new VisualEvent[]{redSparkleOut, explode, smallBooms, explodeBig, largerRadiusBooms})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-            if (enemy.acceptsStatusEffects && MathUtils.randomBoolean(.5f)) {
+            if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean(.5f)) {
                 enemy.statusEffectInfos.add(burn(3).createStatusEffectInfo());
             }}));
         move.setAttackDescription("Sets the target on fire using mystic powers. Deals regular damage and has a 50% chance to Burn the target for 3 turns.");
@@ -4343,11 +4078,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PURPLE);
@@ -4381,9 +4116,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bubble.add(new LifetimeComponent(0, 2f));
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bubble.add(lifetime(0, 2f));
                 Sprite water = new Sprite(atlas.findRegion("bubble"));
                 water.setOriginCenter();
                 water.setColor(1f, .35f, 1f, 0);
@@ -4410,17 +4145,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.PURPLE,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.PURPLE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BUBBLE_BURST, 0.5f, -999, -999);
@@ -4444,14 +4172,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.9f, .2f, .9f, 1));
+                sprite.setColor(.9f, .2f, .9f, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.01f, true, (entity, engine) -> {
                     Sprite spr = sm.get(entity).sprite;
@@ -4495,9 +4223,9 @@ public class MoveConstructor {
                 Vector2 position = new Vector2(MathUtils.random(stage.getWidth() / 6f, stage.getWidth() - stage.getWidth() / 6f), MathUtils.random(stage.getHeight() / 6f, stage.getHeight() - stage.getHeight() / 6f));
                 position.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(position, entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .5f));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(position, entitySize.x, entitySize.y, 0));
+                sparkle.add(lifetime(0, .5f));
                 Sprite sprite;
                 if (open)
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
@@ -4520,18 +4248,10 @@ public class MoveConstructor {
                 Vector2 position = new Vector2(MathUtils.random(stage.getWidth() / 6f, stage.getWidth() - stage.getWidth() / 6f), MathUtils.random(stage.getHeight() / 6f, stage.getHeight() - stage.getHeight() / 6f));
                 position.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity diamondBoom = new Entity();
-                diamondBoom.add(new PositionComponent(position, entitySize.x, entitySize.y, 0));
-                diamondBoom.add(new LifetimeComponent(0, .5f));
-                diamondBoom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        new Color(1, 0, 0, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity diamondBoom = effectEntity();
+                diamondBoom.add(position(position, entitySize.x, entitySize.y, 0));
+                diamondBoom.add(lifetime(0, .5f));
+                diamondBoom.add(animation(.05f, 1, 0, 0, 1, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 diamondBoom.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(5)));
 
                 engine.addEntity(diamondBoom);
@@ -4547,16 +4267,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(140 * scale, 140 * scale);
                 Vector2 position = new Vector2(MathUtils.random(0, stage.getWidth()) - stage.getWidth() / 8f, 1000);
 
-                Entity comet = new Entity();
-                comet.add(new PositionComponent(position, entitySize.x, entitySize.y, 280));
+                Entity comet = effectEntity();
+                comet.add(position(position, entitySize.x, entitySize.y, 280));
                 comet.add(new MovementComponent(new Vector2(1900, 0).rotate(280)));
-                comet.add(new LifetimeComponent(0, 2f));
-                comet.add(new AnimationComponent(.06f, new TextureRegion[] {
-                        atlas.findRegion("comet"),
-                        atlas.findRegion("comet2")},
-                        new Color(1f, .3f, .3f, 1),
-                        Animation.PlayMode.LOOP
-                ));
+                comet.add(lifetime(0, 2f));
+                comet.add(animation(.06f, 1f, .3f, .3f, 1, Animation.PlayMode.LOOP, COMET));
                 comet.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(5)));
 
                 engine.addEntity(comet);
@@ -4584,17 +4299,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -4693,20 +4401,18 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
                 if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(.2f, .2f, .6f, 1);
+                    animm.get(clouds).shadeColor.set(.2f, .2f, .6f, 1);
                 else if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(.1f, .1f, 1, 1);
+                    animm.get(clouds).shadeColor.set(.1f, .1f, 1, 1);
                 else
-                    animm.get(clouds).shadeColor = new Color(0, 0, .2f, 1);
+                    animm.get(clouds).shadeColor.set(0, 0, .2f, 1);
 
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(350, 750) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .52f));
+                clouds.add(lifetime(0, .52f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -4747,15 +4453,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity flame = new Entity();
-                    flame.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                    flame.add(new LifetimeComponent(0, .4f));
-                    flame.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            Color.BLUE,
-                            Animation.PlayMode.NORMAL));
+                    Entity flame = effectEntity();
+                    flame.add(position(tilePosition.x + MathUtils.random(-40, 40), tilePosition.y + MathUtils.random(-40, 40), entitySize.x, entitySize.y, 0));
+                    flame.add(lifetime(0, .4f));
+                    flame.add(animation(.03f, Color.BLUE, Animation.PlayMode.NORMAL, FLAME));
                     flame.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(flame);
                 }
@@ -4841,20 +4542,18 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
                 if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(.1f, .3f, 0, 1);
+                    animm.get(clouds).shadeColor.set(.1f, .3f, 0, 1);
                 else if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(0, .3f, 0, 1);
+                    animm.get(clouds).shadeColor.set(0, .3f, 0, 1);
                 else
-                    animm.get(clouds).shadeColor = new Color(0, .8f, 0, 1);
+                    animm.get(clouds).shadeColor.set(0, .8f, 0, 1);
 
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(150, 550) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .62f));
+                clouds.add(lifetime(0, .62f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -4895,17 +4594,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.GREEN,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.GREEN, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -4992,22 +4684,20 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
                 /*
                 if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(.1f, .3f, 0, 1);
+                    animm.get(clouds).shadeColor.set(.1f, .3f, 0, 1);
                 else if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(0, .3f, 0, 1);
+                    animm.get(clouds).shadeColor.set(0, .3f, 0, 1);
                 else
-                    animm.get(clouds).shadeColor = new Color(0, .8f, 0, 1);
+                    animm.get(clouds).shadeColor.set(0, .8f, 0, 1);
                     */
 
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(250, 650) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .62f));
+                clouds.add(lifetime(0, .62f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -5048,17 +4738,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.WHITE,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.WHITE, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -5084,17 +4767,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.WHITE,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.WHITE, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -5186,18 +4862,16 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
                 if (MathUtils.randomBoolean(.3f))
                     animm.get(clouds).shadeColor = Color.WHITE;
                 else
-                    animm.get(clouds).shadeColor = new Color(.7f, 1, .7f, 1);
+                    animm.get(clouds).shadeColor.set(.7f, 1, .7f, 1);
 
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(250, 650) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .62f));
+                clouds.add(lifetime(0, .62f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -5238,17 +4912,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.GREEN,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.GREEN, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -5276,18 +4943,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                    atlas.findRegion("explodeGreen2"),
-                                    atlas.findRegion("explodeGreen3"),
-                                    atlas.findRegion("explodeGreen4"),
-                                    atlas.findRegion("explodeGreen5"),
-                                    atlas.findRegion("explodeGreen6"),
-                            },
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -5349,14 +5008,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.7f, .4f, 1, 1));
+                sprite.setColor(.7f, .4f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, (entity, engine) -> {
                     sprite.setColor(
@@ -5394,14 +5053,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .8f));
+                sparkle.add(lifetime(0, .8f));
                 sparkle.add(new MovementComponent(new Vector2(0, 25 * scale)));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), 1));
+                sprite.setColor(MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), MathUtils.random(.6f, 1), 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(8)));
 
@@ -5491,11 +5150,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce2"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -5530,11 +5189,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce2"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PINK);
@@ -5639,11 +5298,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce2"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -5678,11 +5337,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce2"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PINK);
@@ -5717,17 +5376,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.PINK,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.PINK, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VOOM, 1.5f, 0, 1);
@@ -5749,17 +5401,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.GOLD,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.GOLD, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -5851,17 +5496,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.WHITE,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.WHITE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VOOM, 2f, 0, 1);
@@ -5883,17 +5521,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.WHITE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.WHITE, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VOOM, 2f, 0, 1);
@@ -5976,14 +5607,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.7f, .4f, 1, 1));
+                sprite.setColor(.7f, .4f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, (entity, engine) -> {
                     sprite.setColor(
@@ -6012,15 +5643,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity mirror = new Entity();
-                mirror.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                mirror.add(new LifetimeComponent(0, 1.5f));
+                Entity mirror = effectEntity();
+                mirror.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                mirror.add(lifetime(0, 1.5f));
 
-                mirror.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("mirror"),
-                        atlas.findRegion("mirror2"),
-                        atlas.findRegion("mirror3")},
-                        Animation.PlayMode.LOOP));
+                mirror.add(animation(.1f, Animation.PlayMode.LOOP, MIRROR));
                 mirror.add(new EventComponent(.05f, true, EventCompUtil.fadeOutAfter(20, 10)));
 
                 engine.addEntity(mirror);
@@ -6051,7 +5678,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{mirror, largeSparkle})),
-                new MoveInfo(false, 0, (enemy, userEntity) -> userEntity.arbitraryValue = (MathUtils.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
+                new MoveInfo(false, 0, (enemy, userEntity) -> userEntity.arbitraryValue = (SimulationRandom.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
         move.setAttackDescription("Uses reflection to copy the target's fighting tactics. Copies the target's first move and replaces the user's last move with it.");
         return move;
     }
@@ -6072,14 +5699,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 10 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 10 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 20 * scale)));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.4f, .7f, 1, 1));
+                sprite.setColor(.4f, .7f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, (entity, engine) -> {
                     sprite.setColor(
@@ -6108,15 +5735,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity mirror = new Entity();
-                mirror.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                mirror.add(new LifetimeComponent(0, 1.5f));
+                Entity mirror = effectEntity();
+                mirror.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                mirror.add(lifetime(0, 1.5f));
 
-                mirror.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("mirror"),
-                        atlas.findRegion("mirror2"),
-                        atlas.findRegion("mirror3")},
-                        Animation.PlayMode.LOOP));
+                mirror.add(animation(.1f, Animation.PlayMode.LOOP, MIRROR));
                 mirror.add(new EventComponent(.05f, true, EventCompUtil.fadeOutAfter(20, 10)));
 
                 engine.addEntity(mirror);
@@ -6146,7 +5769,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{mirror, largeSparkle})),
-                new MoveInfo(false, 0, (enemy, userEntity) -> userEntity.arbitraryValue = (MathUtils.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
+                new MoveInfo(false, 0, (enemy, userEntity) -> userEntity.arbitraryValue = (SimulationRandom.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
         move.setAttackDescription("Uses mirrors to copy the target's alternate fighting tactics. Copies the target's last move and replaces the user's last move with it.");
         return move;
     }
@@ -6167,15 +5790,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity circles = new Entity();
-                circles.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                circles.add(new LifetimeComponent(0, 1.5f));
-                circles.add(new AnimationComponent(.5f,
-                        new TextureRegion[]{atlas.findRegion("fourCircles"),
-                                atlas.findRegion("sixCircles"),
-                                atlas.findRegion("eightCircles")},
-                        Color.ORANGE,
-                        Animation.PlayMode.NORMAL));
+                Entity circles = effectEntity();
+                circles.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                circles.add(lifetime(0, 1.5f));
+                circles.add(animation(.5f, Color.ORANGE, Animation.PlayMode.NORMAL, GROWING_CIRCLES));
                 circles.add(new EventComponent(.05f, true, (entity, engine) -> {
                     pm.get(entity).rotation += 8 + pm.get(entity).rotation / 1.5f;
                     Color color = animm.get(entity).shadeColor;
@@ -6204,15 +5822,11 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity mirror = new Entity();
-                mirror.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                mirror.add(new LifetimeComponent(0, 1.5f));
+                Entity mirror = effectEntity();
+                mirror.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                mirror.add(lifetime(0, 1.5f));
 
-                mirror.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("mirror"),
-                        atlas.findRegion("mirror2"),
-                        atlas.findRegion("mirror3")},
-                        Animation.PlayMode.LOOP));
+                mirror.add(animation(.1f, Animation.PlayMode.LOOP, MIRROR));
                 mirror.add(new EventComponent(.05f, true, EventCompUtil.fadeOutAfter(20, 10)));
 
                 engine.addEntity(mirror);
@@ -6242,7 +5856,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{mirror, spinning})), new MoveInfo(false, 0,
-                (enemy, userEntity) -> userEntity.arbitraryValue = (MathUtils.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
+                (enemy, userEntity) -> userEntity.arbitraryValue = (SimulationRandom.randomBoolean(.3f))? userEntity.arbitraryValue + 50 : userEntity.arbitraryValue));
         move.setAttackDescription("Uses reflection, mirrors, and a bit of luck to copy the target's fighting actions. Copies one of the target's moves at random and " +
                 "replaces the user's last move with it.");
         return move;
@@ -6268,17 +5882,10 @@ public class MoveConstructor {
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
                 tilePosition.add(offset);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
 
@@ -6286,9 +5893,9 @@ public class MoveConstructor {
                 Vector2 entitySize2 = new Vector2(40 * scale, 40 * scale);
                 Vector2 tilePosition2 = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize2.x / 2f, t.getHeight() / 2 -entitySize2.y / 2f));
                 tilePosition2.add(offset);
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition2, entitySize2.x, entitySize2.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition2, entitySize2.x, entitySize2.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.RED);
@@ -6337,15 +5944,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .5f));
-                    boom.add(new AnimationComponent(.02f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            Animation.PlayMode.NORMAL));
+                    boom.add(lifetime(0, .5f));
+                    boom.add(animation(.02f, Animation.PlayMode.NORMAL, FLAME));
                     boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                     engine.addEntity(boom);
                     timesCalled++;
@@ -6376,10 +5979,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("sparkle");
                     sprite.setOriginCenter();
                     sprite.setColor(Color.ORANGE);
@@ -6409,17 +6012,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM_DECAY);
@@ -6443,10 +6039,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("boom");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -6476,10 +6072,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-100 * scale, 100 * scale), MathUtils.random(-100 * scale, 100 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-100 * scale, 100 * scale), tilePosition.y + MathUtils.random(-100 * scale, 100 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -6591,16 +6187,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .5f));
-                    boom.add(new AnimationComponent(.02f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            new Color(.4f, .4f, 1, 1),
-                            Animation.PlayMode.NORMAL));
+                    boom.add(lifetime(0, .5f));
+                    boom.add(animation(.02f, .4f, .4f, 1, 1, Animation.PlayMode.NORMAL, FLAME));
                     boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                     engine.addEntity(boom);
                 }
@@ -6623,10 +6214,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("sparkle");
                     sprite.setOriginCenter();
                     sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 100), 100, 100));
@@ -6653,17 +6244,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -6685,10 +6269,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("openCircle");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -6714,14 +6298,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(0, 1, .4f, 1));
+                sprite.setColor(0, 1, .4f, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.03f, true, EventCompUtil.fadeOutAfter(10, 10)));
 
@@ -6812,10 +6396,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, 1.2f));
+                sparkle.add(lifetime(0, 1.2f));
                 Sprite sprite;
                 if (open)
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
@@ -6849,18 +6433,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .26f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        new Color(1, 1, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .26f));
+                boom.add(animation(.05f, 1, 1, 1, 1, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.DEEP, 1.6f, 0, 1);
@@ -6930,10 +6506,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.GREEN);
                 engine.addEntity(img);
@@ -6958,11 +6534,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(MathUtils.random(-18, 18) * scale, MathUtils.random(-18, 18) * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("spiral"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PURPLE);
@@ -6988,11 +6564,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -7002,9 +6578,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(.2f, .8f, 0, .7f));
+                    sprite.setColor(.2f, .8f, 0, .7f);
                 else
-                    sprite.setColor(new Color(.7f, .5f, .1f, .7f));
+                    sprite.setColor(.7f, .5f, .1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -7057,10 +6633,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.PURPLE);
                 engine.addEntity(img);
@@ -7092,11 +6668,11 @@ public class MoveConstructor {
                 //random displacement
                 tilePosition.add(MathUtils.random(-30, 30), MathUtils.random(-30, 30));
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -7130,11 +6706,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -7144,9 +6720,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(0, .2f, 0, .7f));
+                    sprite.setColor(0, .2f, 0, .7f);
                 else
-                    sprite.setColor(new Color(.2f, 0, 0, .7f));
+                    sprite.setColor(.2f, 0, 0, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -7194,10 +6770,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.WHITE);
                 engine.addEntity(img);
@@ -7230,11 +6806,11 @@ public class MoveConstructor {
                 //random displacement
                 tilePosition.add(MathUtils.random(-30, 30), MathUtils.random(-30, 30));
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("pierce"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.WHITE);
@@ -7269,11 +6845,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("openDiamonds"));
@@ -7380,7 +6956,7 @@ public class MoveConstructor {
                     if (entity.acceptsStatusEffects) { //add only guaranteed boost
                         entity.statusEffectInfos.add(poison(2).createStatusEffectInfo());
                     }
-                    entity.arbitraryValue += MathUtils.random(-200, 200); //random status effect chance
+                    entity.arbitraryValue += SimulationRandom.random(-200, 200); //random status effect chance
             }
         ));
         move.setAttackDescription("Mixes toxins to create a highly unpredictable attack. Deals regular damage and has a chance to inflict " +
@@ -7406,10 +6982,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 if (MathUtils.randomBoolean())
                     sm.get(img).sprite.setColor(Color.RED);
@@ -7440,11 +7016,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(MathUtils.random(-18, 18) * scale, MathUtils.random(-18, 18) * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("zigzag"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLACK);
@@ -7470,11 +7046,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -7533,17 +7109,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT, 1.4f, 0, 1);
@@ -7563,9 +7132,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.GRAY);
@@ -7609,17 +7178,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT, 0.9f, 0, 1);
@@ -7640,9 +7202,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .4f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .4f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.GRAY);
@@ -7669,16 +7231,16 @@ public class MoveConstructor {
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
                 Vector2 tileCenter = tilePosition.cpy().add(new Vector2(50 * scale, 50 * scale));
 
-                Entity circ = new Entity();
+                Entity circ = effectEntity();
                 tilePosition.add(MathUtils.random(-30, 30) * scale, (MathUtils.random(-30, 30) * scale));
-                circ.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                circ.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
                         tileCenter.y - (pm.get(circ).getCenter().y),
                         tileCenter.x - (pm.get(circ).getCenter().x));
 
                 circ.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(circ).movement.setAngle(directionTowardsCenter + 180);
-                circ.add(new LifetimeComponent(0, .5f));
+                circ.add(lifetime(0, .5f));
                 Sprite sprite = new Sprite(atlas.findRegion("circle"));
                 sprite.setOriginCenter();
                 circ.add(new SpriteComponent(sprite));
@@ -7725,16 +7287,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.CLAW);
             }
@@ -7776,17 +7332,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Color.CYAN, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.SPACE_CLAW);
             }
@@ -7827,9 +7376,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -7839,10 +7388,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("circle");
-                glowSprite.setColor(new Color(.1f, .1f, .1f, 0f));
+                glowSprite.setColor(.1f, .1f, .1f, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, EventCompUtil.fadeIn(6)));
@@ -7870,18 +7419,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.BLACK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.BLACK, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.DEEP);
@@ -7903,17 +7444,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STRANGE);
@@ -7959,11 +7493,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -8032,17 +7566,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f + 25 * scale);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.ORANGE,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.ORANGE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(.4f, .9f, 1, 1, .1f);
                 }));
@@ -8096,17 +7623,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f + 25 * scale);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.CYAN,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.CYAN, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(1, 0, 0, 1, .1f);
                 }));
@@ -8162,17 +7682,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f + 25 * scale);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.BLUE,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.BLUE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(1, 1, 1, 1, .1f);
                 }));
@@ -8224,17 +7737,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.RED,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.RED, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(0, 0, 0, 1, .1f);
                 }));
@@ -8260,10 +7766,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity e = new Entity();
-                    e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity e = effectEntity();
+                    e.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    e.add(new LifetimeComponent(0, 1.4f));
+                    e.add(lifetime(0, 1.4f));
                     e.add(new MovementComponent(new Vector2(0, MathUtils.random(10, 50) * scale)));
                     Sprite s;
                     if (MathUtils.randomBoolean())
@@ -8271,7 +7777,7 @@ public class MoveConstructor {
                     else
                         s = atlas.createSprite("cloud2");
                     s.setOriginCenter();
-                    s.setColor(new Color(.1f, .1f, .1f, .5f));
+                    s.setColor(.1f, .1f, .1f, .5f);
                     e.add(new SpriteComponent(s));
                     e.add(new EventComponent(.05f, true, new GameEvent() {
                         boolean direction = MathUtils.randomBoolean();
@@ -8306,18 +7812,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .36f));
-                    boom.add(new AnimationComponent(.07f,
-                            new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                    atlas.findRegion("diamondBoom2"),
-                                    atlas.findRegion("diamondBoom3"),
-                                    atlas.findRegion("diamondBoom4"),
-                                    atlas.findRegion("diamondBoom5"),
-                                    atlas.findRegion("diamondBoom6")},
-                            Color.RED,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .36f));
+                    boom.add(animation(.07f, Color.RED, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                     boom.add(new EventComponent(.07f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -8375,17 +7873,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.PINK,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.PINK, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(0, 1, 0, 1, .1f);
                 }));
@@ -8411,10 +7902,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity sparkle = new Entity();
-                    sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity sparkle = effectEntity();
+                    sparkle.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    sparkle.add(new LifetimeComponent(0, .3f));
+                    sparkle.add(lifetime(0, .3f));
                     sparkle.add(new MovementComponent(new Vector2(0, 40)));
                     Sprite sprite = atlas.createSprite("sparkle");
                     sprite.setOriginCenter();
@@ -8443,17 +7934,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .26f));
-                    boom.add(new AnimationComponent(.05f,
-                            new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                    atlas.findRegion("explodeGreen2"),
-                                    atlas.findRegion("explodeGreen3"),
-                                    atlas.findRegion("explodeGreen4"),
-                                    atlas.findRegion("explodeGreen5"),
-                                    atlas.findRegion("explodeGreen6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .26f));
+                    boom.add(animation(.05f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                     boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -8508,17 +7992,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.CYAN,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.CYAN, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(0, 0, 0, 1, .1f);
                 }));
@@ -8544,18 +8021,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .36f));
-                    boom.add(new AnimationComponent(.07f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Color.BLACK,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .36f));
+                    boom.add(animation(.07f, Color.BLACK, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.07f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -8615,16 +8084,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("blueslash1"),
-                                atlas.findRegion("blueslash2"),
-                                atlas.findRegion("blueslash3"),
-                                atlas.findRegion("blueslash4")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.06f, Color.RED, Animation.PlayMode.NORMAL, BLUE_SLASH));
                 //boom.add(new EventComponent(.07f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FIRE_START, 0.7f, 0, 1);
@@ -8648,18 +8111,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Color.WHITE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.WHITE, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
             }
@@ -8680,15 +8135,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .5f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("flame"),
-                                atlas.findRegion("flame2"),
-                                atlas.findRegion("flame3")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .5f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, FLAME));
                 boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                 engine.addEntity(boom);
             }
@@ -8728,18 +8179,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .2f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Color.WHITE,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .2f));
+                    boom.add(animation(.04f, Color.WHITE, Animation.PlayMode.NORMAL, EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                     engine.addEntity(boom);
                 }
@@ -8766,15 +8209,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .5f));
-                    boom.add(new AnimationComponent(.02f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            Animation.PlayMode.NORMAL));
+                    boom.add(lifetime(0, .5f));
+                    boom.add(animation(.02f, Animation.PlayMode.NORMAL, FLAME));
                     boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                     engine.addEntity(boom);
                 }
@@ -8800,10 +8239,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("sparkle");
                     sprite.setOriginCenter();
                     sprite.setColor(Color.ORANGE);
@@ -8862,15 +8301,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .5f));
-                    boom.add(new AnimationComponent(.02f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            Animation.PlayMode.NORMAL));
+                    boom.add(lifetime(0, .5f));
+                    boom.add(animation(.02f, Animation.PlayMode.NORMAL, FLAME));
                     boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                     engine.addEntity(boom);
                     if (timesCalled % 3 == 0) {
@@ -8896,10 +8331,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity e = new Entity();
-                    e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity e = effectEntity();
+                    e.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    e.add(new LifetimeComponent(0, 1.4f));
+                    e.add(lifetime(0, 1.4f));
                     e.add(new MovementComponent(new Vector2(0, MathUtils.random(40, 70) * scale)));
                     Sprite s;
                     if (MathUtils.randomBoolean())
@@ -8907,7 +8342,7 @@ public class MoveConstructor {
                     else
                         s = atlas.createSprite("cloud2");
                     s.setOriginCenter();
-                    s.setColor(new Color(.3f, .3f, .3f, .5f));
+                    s.setColor(.3f, .3f, .3f, .5f);
                     e.add(new SpriteComponent(s));
                     e.add(new EventComponent(.05f, true, new GameEvent() {
                         boolean direction = MathUtils.randomBoolean();
@@ -8941,17 +8376,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -8973,17 +8401,17 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity e = new Entity();
-                e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-100 * scale, 100 * scale), MathUtils.random(-100 * scale, 100 * scale))
+                Entity e = effectEntity();
+                e.add(position(tilePosition.x + MathUtils.random(-100 * scale, 100 * scale), tilePosition.y + MathUtils.random(-100 * scale, 100 * scale)
                         , entitySize.x, entitySize.y, 0));
-                e.add(new LifetimeComponent(0, .5f));
+                e.add(lifetime(0, .5f));
                 Sprite s;
                 if (MathUtils.randomBoolean())
                     s = atlas.createSprite("cloud");
                 else
                     s = atlas.createSprite("cloud2");
                 s.setOriginCenter();
-                s.setColor(new Color(.6f, .6f, .6f, .5f));
+                s.setColor(.6f, .6f, .6f, .5f);
                 e.add(new SpriteComponent(s));
                 e.add(new EventComponent(.05f, true, (engine, entity) -> {
                     sm.get(e).sprite.setColor(sm.get(e).sprite.getColor().lerp(new Color(0, 0, 0, 0), .08f));
@@ -9059,18 +8487,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Color.WHITE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.WHITE, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -9092,17 +8512,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM_DECAY);
@@ -9124,17 +8537,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FANCY_BOOM);
@@ -9158,16 +8564,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .5f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("flame"),
-                                atlas.findRegion("flame2"),
-                                atlas.findRegion("flame3")},
-                        new Color(.3f, .3f, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .5f));
+                boom.add(animation(.02f, .3f, .3f, 1, 1, Animation.PlayMode.NORMAL, FLAME));
                 boom.add(new EventComponent(.05f, true, EventCompUtil.fadeOut(10)));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
@@ -9191,10 +8592,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("boom");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -9220,10 +8621,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-150 * scale, 150 * scale), MathUtils.random(-150 * scale, 150 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-150 * scale, 150 * scale), tilePosition.y + MathUtils.random(-150 * scale, 150 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("boom");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -9252,10 +8653,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity e = new Entity();
-                    e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity e = effectEntity();
+                    e.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    e.add(new LifetimeComponent(0, 1.4f));
+                    e.add(lifetime(0, 1.4f));
                     e.add(new MovementComponent(new Vector2(0, MathUtils.random(40, 70) * scale)));
                     Sprite s;
                     if (MathUtils.randomBoolean())
@@ -9263,7 +8664,7 @@ public class MoveConstructor {
                     else
                         s = atlas.createSprite("cloud2");
                     s.setOriginCenter();
-                    s.setColor(new Color(.2f, .2f, .2f, .6f));
+                    s.setColor(.2f, .2f, .2f, .6f);
                     e.add(new SpriteComponent(s));
                     e.add(new EventComponent(.05f, true, new GameEvent() {
                         boolean direction = MathUtils.randomBoolean();
@@ -9298,18 +8699,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-130 * scale, 130 * scale), MathUtils.random(-130 * scale, 130 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-130 * scale, 130 * scale), tilePosition.y + MathUtils.random(-130 * scale, 130 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -9352,17 +8746,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT, 0.8f, 0, 1);
@@ -9383,9 +8770,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.GRAY);
@@ -9411,14 +8798,14 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.3f, .7f, 1, 1));
+                sprite.setColor(.3f, .7f, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(6)));
 
@@ -9467,9 +8854,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity waterBall = new Entity();
-                waterBall.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                waterBall.add(new LifetimeComponent(0, 2.5f));
+                Entity waterBall = effectEntity();
+                waterBall.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                waterBall.add(lifetime(0, 2.5f));
                 Sprite water = new Sprite(atlas.findRegion("water"));
                 water.setOriginCenter();
                 water.setColor(1, 1, 1, 0);
@@ -9497,9 +8884,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -9508,9 +8895,9 @@ public class MoveConstructor {
                 Vector2 movementToCenter = new Vector2(30 * scale, 0);
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
                 Sprite glowSprite = (MathUtils.randomBoolean())? atlas.createSprite("diamonds") : atlas.createSprite("openDiamonds");
-                glowSprite.setColor(new Color(.3f, .8f, 1, 0));
+                glowSprite.setColor(.3f, .8f, 1, 0);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, (entity, engine) -> {
@@ -9545,17 +8932,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.RAPID_SAW, 0.6f, 0, 0.4f);
@@ -9579,11 +8959,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 30 * scale)));
-                sparkle.add(new LifetimeComponent(0, .5f));
+                sparkle.add(lifetime(0, .5f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -9682,9 +9062,9 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity waterBall = new Entity();
-                waterBall.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                waterBall.add(new LifetimeComponent(0, 2.5f));
+                Entity waterBall = effectEntity();
+                waterBall.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                waterBall.add(lifetime(0, 2.5f));
                 Sprite water = new Sprite(atlas.findRegion("water"));
                 water.setOriginCenter();
                 water.setColor(1, .8f, .9f, 0);
@@ -9712,9 +9092,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add(MathUtils.random(-150, 150), MathUtils.random(-150, 150)),
+                glow.add(position(tileCenter.x + MathUtils.random(-150, 150), tileCenter.y + MathUtils.random(-150, 150),
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -9723,9 +9103,9 @@ public class MoveConstructor {
                 Vector2 movementToCenter = new Vector2(30 * scale, 0);
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
                 Sprite glowSprite = (MathUtils.randomBoolean()) ? atlas.createSprite("diamonds") : atlas.createSprite("openDiamonds");
-                glowSprite.setColor(new Color(1, .1f, .3f, 0));
+                glowSprite.setColor(1, .1f, .3f, 0);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, (entity, engine) -> {
@@ -9763,10 +9143,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity e = new Entity();
-                    e.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                    Entity e = effectEntity();
+                    e.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    e.add(new LifetimeComponent(0, 1.4f));
+                    e.add(lifetime(0, 1.4f));
                     e.add(new MovementComponent(new Vector2(0, MathUtils.random(40, 70) * scale)));
                     Sprite s;
                     if (MathUtils.randomBoolean())
@@ -9774,7 +9154,7 @@ public class MoveConstructor {
                     else
                         s = atlas.createSprite("cloud2");
                     s.setOriginCenter();
-                    s.setColor(new Color(.3f, .3f, .3f, .5f));
+                    s.setColor(.3f, .3f, .3f, .5f);
                     e.add(new SpriteComponent(s));
                     e.add(new EventComponent(.05f, true, new GameEvent() {
                         boolean direction = MathUtils.randomBoolean();
@@ -9812,18 +9192,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.RED, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.RAPID_SAW, 0.5f, 0, 0.4f);
@@ -9913,17 +9285,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM, 0.6f, 0, 1);
@@ -9945,9 +9310,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(100 * scale, 100 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.GRAY);
@@ -9972,9 +9337,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -9984,10 +9349,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("openCircle");
-                glowSprite.setColor(new Color(.3f, .8f, 1, 0));
+                glowSprite.setColor(.3f, .8f, 1, 0);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, (entity, engine) -> {
@@ -10015,10 +9380,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-70 * scale, 70 * scale), MathUtils.random(-70 * scale, 70 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-70 * scale, 70 * scale), tilePosition.y + MathUtils.random(-70 * scale, 70 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("shine");
                     sprite.setOriginCenter();
                     fist.add(new SpriteComponent(sprite));
@@ -10062,15 +9427,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-25 * scale, 25 * scale), MathUtils.random(-25 * scale, 25 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-25 * scale, 25 * scale), tilePosition.y + MathUtils.random(-25 * scale, 25 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
-                boom.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("pierce"),
-                                atlas.findRegion("pierce2")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .3f));
+                boom.add(animation(.1f, Color.CYAN, Animation.PlayMode.NORMAL, PIERCE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOutAfter(10, 5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.HIT);
@@ -10134,14 +9495,14 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2 - entitySize.y * 1.5f);
 
-                Entity beam = new Entity();
+                Entity beam = effectEntity();
                 Sprite beamSprite = new Sprite(atlas.findRegion("arrowhead"));
                 beamSprite.setOriginCenter();
                 beamSprite.setColor(Color.YELLOW);
                 beam.add(new SpriteComponent(beamSprite));
-                beam.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90));
+                beam.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90));
                 beam.add(new MovementComponent(new Vector2(1300 * scale, 0).setAngle(direction)));
-                beam.add(new LifetimeComponent(0, .16f));
+                beam.add(lifetime(0, .16f));
                 beam.add(new EventComponent(0.02f, true, EventCompUtil.fadeOutAfter(4, 4)));
                 engine.addEntity(beam);
                 soundManager.playSound(SoundInfo.ZEP, 1.4f, 0, 1);
@@ -10167,17 +9528,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.CYAN,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Color.CYAN, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -10204,17 +9558,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shockFinal")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, SHOCK_CHAIN));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -10239,10 +9586,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("zigzag");
                     sprite.setOriginCenter();
                     sprite.setColor(Color.CYAN);
@@ -10297,17 +9644,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f + 25 * scale);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .27f));
-                boom.add(new AnimationComponent(.06f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.PURPLE,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .27f));
+                boom.add(animation(.06f, Color.PURPLE, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.03f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().lerp(0, 1, 1, 1, .1f);
                 }));
@@ -10333,10 +9673,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("zigzag");
                     sprite.setOriginCenter();
                     sprite.setColor(Color.PURPLE);
@@ -10410,13 +9750,13 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
-                sparkle.add(new LifetimeComponent(0, .2f));
+                sparkle.add(lifetime(0, .2f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.6f, 1, 1, 1));
+                sprite.setColor(.6f, 1, 1, 1);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(10)));
 
@@ -10446,17 +9786,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.CYAN,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Color.CYAN, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -10483,17 +9816,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .28f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shock2"),
-                                    atlas.findRegion("shock1"),
-                                    atlas.findRegion("shockFinal")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .28f));
+                    boom.add(animation(.03f, Animation.PlayMode.NORMAL, SHOCK_CHAIN));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -10517,10 +9843,10 @@ public class MoveConstructor {
                     tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                             boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity fist = new Entity();
-                    fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                    Entity fist = effectEntity();
+                    fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                             entitySize.x, entitySize.y, 0));
-                    fist.add(new LifetimeComponent(0, .3f));
+                    fist.add(lifetime(0, .3f));
                     Sprite sprite = atlas.createSprite("zigzag");
                     sprite.setOriginCenter();
                     sprite.setColor(Color.YELLOW);
@@ -10626,20 +9952,18 @@ public class MoveConstructor {
                 startTilePosition.add(boards.getTileWidth() / 2 - 25 * scale,
                         boards.getTileHeight() / 2 - 50 * scale);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
                 if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(1f, .6f, .5f, 1);
+                    animm.get(clouds).shadeColor.set(1f, .6f, .5f, 1);
                 else if (MathUtils.randomBoolean(.3f))
-                    animm.get(clouds).shadeColor = new Color(1f, .2f, .1f, 1);
+                    animm.get(clouds).shadeColor.set(1f, .2f, .1f, 1);
                 else
-                    animm.get(clouds).shadeColor = new Color(1f, .1f, .2f, 1);
+                    animm.get(clouds).shadeColor.set(1f, .1f, .2f, 1);
 
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(250, 550) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .52f));
+                clouds.add(lifetime(0, .52f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -10680,14 +10004,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity flame = new Entity();
-                    flame.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                    flame.add(new LifetimeComponent(0, .4f));
-                    flame.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("flame"),
-                                    atlas.findRegion("flame2"),
-                                    atlas.findRegion("flame3")},
-                            Animation.PlayMode.NORMAL));
+                    Entity flame = effectEntity();
+                    flame.add(position(tilePosition.x + MathUtils.random(-40, 40), tilePosition.y + MathUtils.random(-40, 40), entitySize.x, entitySize.y, 0));
+                    flame.add(lifetime(0, .4f));
+                    flame.add(animation(.03f, Animation.PlayMode.NORMAL, FLAME));
                     flame.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(flame);
                 }
@@ -10755,13 +10075,11 @@ public class MoveConstructor {
                 startTilePosition.add(boards.getTileWidth() / 2 - 25 * scale,
                         boards.getTileHeight() / 2 - 50 * scale);
 
-                Entity clouds = new Entity();
-                clouds.add(new AnimationComponent(.1f, new TextureRegion[]{
-                        atlas.findRegion("cloud"), atlas.findRegion("cloud2")
-                }, Animation.PlayMode.LOOP));
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                Entity clouds = effectEntity();
+                clouds.add(animation(.1f, Animation.PlayMode.LOOP, CLOUD));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(250, 450) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .92f));
+                clouds.add(lifetime(0, .92f));
                 clouds.add(new EventComponent(0.02f, true, new GameEvent() {
                     private int timesCalled;
                     @Override
@@ -10799,18 +10117,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.04f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(20, 5)));
                     engine.addEntity(boom);
                     soundManager.playSound(SoundInfo.BOOM_DECAY, 0.6f, 0, 1);
@@ -10834,18 +10144,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .4f));
-                    boom.add(new AnimationComponent(.022f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .4f));
+                    boom.add(animation(.022f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(5, 5)));
                     engine.addEntity(boom);
                 }
@@ -10871,17 +10173,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.WHITE,
-                            Animation.PlayMode.LOOP_REVERSED));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.WHITE, Animation.PlayMode.LOOP_REVERSED, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -10907,9 +10202,9 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity sparks = new Entity();
-                    sparks.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                    sparks.add(new LifetimeComponent(0, .4f));
+                    Entity sparks = effectEntity();
+                    sparks.add(position(tilePosition.x + MathUtils.random(-40, 40), tilePosition.y + MathUtils.random(-40, 40), entitySize.x, entitySize.y, 0));
+                    sparks.add(lifetime(0, .4f));
                     Sprite s = atlas.createSprite("openDiamonds");
                     s.setOriginCenter();
                     s.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100));
@@ -10957,9 +10252,9 @@ public class MoveConstructor {
             public void doVisuals(Entity user, Array<BoardPosition> targetPositions) {
                 BoardPosition bp = targetPositions.get(0).add(bm.get(user).pos.r, bm.get(user).pos.c);
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
@@ -10983,17 +10278,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STRANGE);
@@ -11015,17 +10303,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM, 0.7f, 0, 1);
@@ -11047,10 +10328,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-50 * scale, 50 * scale), MathUtils.random(-50 * scale, 50 * scale)),
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.x + MathUtils.random(-50 * scale, 50 * scale), tilePosition.y + MathUtils.random(-50 * scale, 50 * scale),
                         entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("openDiamonds");
                 sprite.setOriginCenter();
                 sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100));
@@ -11076,10 +10357,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-150 * scale, 150 * scale), MathUtils.random(-150 * scale, 150 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-150 * scale, 150 * scale), tilePosition.y + MathUtils.random(-150 * scale, 150 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("diamonds");
                 sprite.setOriginCenter();
                 sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100));
@@ -11107,11 +10388,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(900 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100));
@@ -11149,10 +10430,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(new Vector2(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100)), entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100), entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100));
@@ -11180,10 +10461,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(new Vector2(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100)), entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100), entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.WHITE);
@@ -11236,17 +10517,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                     soundManager.playSound(SoundInfo.BOOM, 0.6f, 0, 1);
@@ -11275,15 +10549,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .5f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .5f));
+                boom.add(animation(.05f, Animation.PlayMode.NORMAL, SHORT_EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, new GameEvent() {
                     float time;
                     @Override
@@ -11314,15 +10583,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .5f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .5f));
+                boom.add(animation(.05f, Animation.PlayMode.NORMAL, SHORT_EXPLODE));
                 boom.add(new EventComponent(.03f, true, new GameEvent() {
                     float time;
                     @Override
@@ -11355,18 +10619,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, 1f));
-                boom.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100),
-                        Animation.PlayMode.LOOP_PINGPONG));
+                boom.add(lifetime(0, 1f));
+                boom.add(animation(.1f, ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), 100, 100), Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 boom.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(5, 5)));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
@@ -11390,9 +10647,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(25 * scale, 25 * scale);
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -11402,7 +10659,7 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("circle");
                 glowSprite.setColor(Color.BLACK);
@@ -11461,9 +10718,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.RED);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
@@ -11511,13 +10768,13 @@ public class MoveConstructor {
                 startTilePosition.add(boards.getTileWidth() / 2 - 25 * scale,
                         boards.getTileHeight() / 2 - 50 * scale);
 
-                Entity clouds = new Entity();
+                Entity clouds = effectEntity();
                 Sprite s = atlas.createSprite("flame");
                 s.setOriginCenter();
                 clouds.add(new SpriteComponent(s));
-                clouds.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset + 180));
+                clouds.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset + 180));
                 clouds.add(new MovementComponent(new Vector2(MathUtils.random(450, 850) * scale, 0).setAngle(direction + offset)));
-                clouds.add(new LifetimeComponent(0, .5f));
+                clouds.add(lifetime(0, .5f));
                 clouds.add(new EventComponent(0.02f, true, EventCompUtil.fadeOut(25)));
                 engine.addEntity(clouds);
                 if (timesCalled % 5 == 0) {
@@ -11542,18 +10799,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .16f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Animation.PlayMode.LOOP_PINGPONG));
+                    boom.add(lifetime(0, .16f));
+                    boom.add(animation(.03f, Animation.PlayMode.LOOP_PINGPONG, EXPLODE));
                     engine.addEntity(boom);
                 }
                 soundManager.playSound(SoundInfo.BOOM_DECAY, 0.75f, 0, 1);
@@ -11579,9 +10829,9 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity sparks = new Entity();
-                    sparks.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                    sparks.add(new LifetimeComponent(0, .4f));
+                    Entity sparks = effectEntity();
+                    sparks.add(position(tilePosition.x + MathUtils.random(-40, 40), tilePosition.y + MathUtils.random(-40, 40), entitySize.x, entitySize.y, 0));
+                    sparks.add(lifetime(0, .4f));
                     Sprite s = atlas.createSprite("circle");
                     s.setOriginCenter();
                     s.setColor(Color.RED);
@@ -11642,17 +10892,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.OMEN);
@@ -11674,9 +10917,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -11741,14 +10984,14 @@ public class MoveConstructor {
                 startTilePosition = startTile.localToStageCoordinates(new Vector2(0, 0));
                 //startTilePosition.add(25 * scale, 25 * scale);
 
-                Entity spark = new Entity();
+                Entity spark = effectEntity();
                 Sprite s = atlas.createSprite("openCircle");
                 s.setOriginCenter();
                 s.setColor(Color.YELLOW);
                 spark.add(new SpriteComponent(s));
-                spark.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                spark.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 spark.add(new MovementComponent(new Vector2(MathUtils.random(350, 750) * scale, 0).setAngle(direction + offset)));
-                spark.add(new LifetimeComponent(0, .52f));
+                spark.add(lifetime(0, .52f));
                 spark.add(new EventComponent(0.02f, true, (entity, engine) -> {
                     sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().lerp(new Color(1, 0, 0, 0), .04f));
                     mm.get(entity).movement.scl(.97f);
@@ -11773,18 +11016,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.04f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(20, 5)));
                     engine.addEntity(boom);
                 }
@@ -11807,18 +11042,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .4f));
-                    boom.add(new AnimationComponent(.022f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .4f));
+                    boom.add(animation(.022f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(5, 5)));
                     engine.addEntity(boom);
                     soundManager.playSound(SoundInfo.LOW_BUFF, 0.5f, 0, 1);
@@ -11845,17 +11072,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.YELLOW,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.YELLOW, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -11922,17 +11142,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .26f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .26f));
+                boom.add(animation(.05f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FORM_SHIFT, 0.9f, 0, 1);
@@ -12027,17 +11240,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .26f));
-                boom.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .26f));
+                boom.add(animation(.05f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FORM_SHIFT, 0.8f, 0, 1);
@@ -12141,14 +11347,14 @@ public class MoveConstructor {
                 }
                 startTilePosition = startTile.localToStageCoordinates(new Vector2(0, 0));
 
-                Entity spark = new Entity();
+                Entity spark = effectEntity();
                 Sprite s = atlas.createSprite("openCircle");
                 s.setOriginCenter();
                 s.setColor(Color.BLUE);
                 spark.add(new SpriteComponent(s));
-                spark.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
+                spark.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90 + offset));
                 spark.add(new MovementComponent(new Vector2(MathUtils.random(350, 750) * scale, 0).setAngle(direction + offset)));
-                spark.add(new LifetimeComponent(0, .52f));
+                spark.add(lifetime(0, .52f));
                 spark.add(new EventComponent(0.02f, true, (entity, engine) -> {
                     sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().lerp(new Color(1, 0, 0, 0.3f), .06f));
                     mm.get(entity).movement.scl(.97f);
@@ -12173,18 +11379,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.04f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(20, 5)));
                     engine.addEntity(boom);
                 }
@@ -12207,18 +11405,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .4f));
-                    boom.add(new AnimationComponent(.022f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            new Color(1, 1, 1, .25f),
-                            Animation.PlayMode.LOOP));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .4f));
+                    boom.add(animation(.022f, 1, 1, 1, .25f, Animation.PlayMode.LOOP, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(5, 5)));
                     engine.addEntity(boom);
                     soundManager.playSound(SoundInfo.DEEP, 0.5f, 0, 0.8f);
@@ -12246,17 +11436,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy(), entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .25f));
-                    boom.add(new AnimationComponent(.03f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Color.BLUE,
-                            Animation.PlayMode.LOOP_REVERSED));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .25f));
+                    boom.add(animation(.03f, Color.BLUE, Animation.PlayMode.LOOP_REVERSED, OPEN_CIRCLE));
                     boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -12283,9 +11466,9 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity sparks = new Entity();
-                    sparks.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                    sparks.add(new LifetimeComponent(0, .4f));
+                    Entity sparks = effectEntity();
+                    sparks.add(position(tilePosition.x + MathUtils.random(-40, 40), tilePosition.y + MathUtils.random(-40, 40), entitySize.x, entitySize.y, 0));
+                    sparks.add(lifetime(0, .4f));
                     Sprite s = atlas.createSprite("diamonds");
                     s.setOriginCenter();
                     s.setColor(Color.YELLOW);
@@ -12343,18 +11526,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Color.DARK_GRAY,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Color.DARK_GRAY, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -12376,17 +11551,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.PING);
@@ -12406,9 +11574,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12434,17 +11602,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12463,9 +11624,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12491,17 +11652,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12520,9 +11674,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12548,17 +11702,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12577,9 +11724,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12631,18 +11778,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Color.DARK_GRAY,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Color.DARK_GRAY, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -12664,17 +11803,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12693,9 +11825,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12721,17 +11853,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12750,9 +11875,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12778,17 +11903,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12807,9 +11925,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12835,17 +11953,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12864,9 +11975,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -12917,18 +12028,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Color.DARK_GRAY,
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Color.DARK_GRAY, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -12950,17 +12053,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -12979,9 +12075,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.CYAN);
                 bamSprite.setOriginCenter();
@@ -13009,17 +12105,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -13037,9 +12126,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.CYAN);
                 bamSprite.setOriginCenter();
@@ -13065,17 +12154,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM);
@@ -13094,9 +12176,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.RED);
                 bamSprite.setOriginCenter();
@@ -13124,17 +12206,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -13152,9 +12227,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.RED);
                 bamSprite.setOriginCenter();
@@ -13205,18 +12280,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("explodeGreen"),
-                                atlas.findRegion("explodeGreen2"),
-                                atlas.findRegion("explodeGreen3"),
-                                atlas.findRegion("explodeGreen4"),
-                                atlas.findRegion("explodeGreen5"),
-                                atlas.findRegion("explodeGreen6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, EXPLODE_GREEN));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.HIT);
@@ -13242,7 +12310,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{explosions})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-                    if (enemy.acceptsStatusEffects && MathUtils.randomBoolean())
+                    if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean())
                         enemy.statusEffectInfos.add(poison(2).createStatusEffectInfo());
         }));
         move.setAttackDescription("Punches the target with an unwashed hand. Deals regular damage, and has a 50% chance to poison.");
@@ -13265,18 +12333,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.YELLOW,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.YELLOW, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STATUS_ZAP, 1.3f, 0, 1);
@@ -13299,9 +12359,9 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("zigzag");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.ORANGE);
@@ -13333,11 +12393,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("shine"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -13364,11 +12424,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -13414,18 +12474,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-35 * scale, 35 * scale), MathUtils.random(-35 * scale, 35 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-35 * scale, 35 * scale), tilePosition.y + MathUtils.random(-35 * scale, 35 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                atlas.findRegion("explodeBlue2"),
-                                atlas.findRegion("explodeBlue3"),
-                                atlas.findRegion("explodeBlue4"),
-                                atlas.findRegion("explodeBlue5"),
-                                atlas.findRegion("explodeBlue6")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.HIT, 0.8f, 0, 1);
@@ -13451,7 +12504,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{explosions})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-            if (enemy.acceptsStatusEffects && MathUtils.randomBoolean())
+            if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean())
                 enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
         }));
         move.setAttackDescription("Punches the target with a fist seeped in an immobilizing goo. Deals regular damage and has a 50% chance to paralyze.");
@@ -13475,9 +12528,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -13488,7 +12541,7 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .8f));
+                glow.add(lifetime(0, .8f));
 
                 Sprite glowSprite = atlas.createSprite("sparkle");
                 glowSprite.setColor(Color.CYAN);
@@ -13567,9 +12620,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, 1f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, 1f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("fist"));
                 bamSprite.setOriginCenter();
                 bam.add(new SpriteComponent(bamSprite));
@@ -13597,19 +12650,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        new Color(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), MathUtils.random(60, 100), 100)),
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), MathUtils.random(60, 100), 100), Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
@@ -13634,19 +12679,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-60 * scale, 60 * scale), MathUtils.random(-60 * scale, 60 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-60 * scale, 60 * scale), tilePosition.y + MathUtils.random(-60 * scale, 60 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .11f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        new Color(ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), MathUtils.random(60, 100), 100)),
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .11f));
+                boom.add(animation(.02f, ColorUtils.HSV_to_RGB(MathUtils.random(0, 360), MathUtils.random(60, 100), 100), Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.02f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
@@ -13684,15 +12721,15 @@ public class MoveConstructor {
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{punch, explosions, explosionsLargeRad})), new MoveInfo(false, 1, (enemy, userEntity) -> {
                     if (enemy.acceptsStatusEffects) {
-                        if (MathUtils.randomBoolean(33f))
+                        if (SimulationRandom.randomBoolean(33f))
                             enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
-                        else if (MathUtils.randomBoolean(33f))
+                        else if (SimulationRandom.randomBoolean(33f))
                             enemy.statusEffectInfos.add(burn(3).createStatusEffectInfo());
-                        else if (MathUtils.randomBoolean(33f))
+                        else if (SimulationRandom.randomBoolean(33f))
                             enemy.statusEffectInfos.add(poison(2).createStatusEffectInfo());
-                        else if (MathUtils.randomBoolean(33f))
+                        else if (SimulationRandom.randomBoolean(33f))
                             enemy.statusEffectInfos.add(toxic(3).createStatusEffectInfo());
-                        else if (MathUtils.randomBoolean(33f))
+                        else if (SimulationRandom.randomBoolean(33f))
                             enemy.statusEffectInfos.add(curse(3).createStatusEffectInfo());
                         else
                             enemy.statusEffectInfos.add(petrify(3).createStatusEffectInfo());
@@ -13728,11 +12765,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -13758,11 +12795,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -13772,9 +12809,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(0, 0, 0, .7f));
+                    sprite.setColor(0, 0, 0, .7f);
                 else
-                    sprite.setColor(new Color(.2f, .2f, .2f, .7f));
+                    sprite.setColor(.2f, .2f, .2f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -13797,17 +12834,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STATUS_ZAP, 0.6f, 0, 0.7f);
@@ -13850,10 +12880,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.YELLOW);
                 engine.addEntity(img);
@@ -13879,11 +12909,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.GREEN);
@@ -13912,11 +12942,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -13926,9 +12956,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(0, 1, 0, .7f));
+                    sprite.setColor(0, 1, 0, .7f);
                 else
-                    sprite.setColor(new Color(.3f, 1, .1f, .7f));
+                    sprite.setColor(.3f, 1, .1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -13956,7 +12986,7 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-2, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{booms, bubble, sludge})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-                    if (enemy.acceptsStatusEffects && MathUtils.randomBoolean(.333f))
+                    if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean(.333f))
                         enemy.statusEffectInfos.add(poison(2).createStatusEffectInfo());
                 }));
         move.setAttackDescription("Throws unsafe trash at the target. Deals regular damage and has a 33% chance to Poison.");
@@ -13979,11 +13009,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -14009,11 +13039,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14023,9 +13053,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(1, 0, 0, .7f));
+                    sprite.setColor(1, 0, 0, .7f);
                 else
-                    sprite.setColor(new Color(1, .3f, .2f, .7f));
+                    sprite.setColor(1, .3f, .2f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14049,17 +13079,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity ripple = new Entity();
-                ripple.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                ripple.add(new LifetimeComponent(0, .24f));
-                ripple.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.ORANGE.cpy(),
-                        Animation.PlayMode.LOOP_PINGPONG));
+                Entity ripple = effectEntity();
+                ripple.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                ripple.add(lifetime(0, .24f));
+                ripple.add(animation(.03f, Color.ORANGE.cpy(), Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 ripple.add(new EventComponent(.01f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().add(-.04f, 0, .04f, 0);
                 }));
@@ -14104,11 +13127,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -14134,11 +13157,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14148,9 +13171,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(0, 0, 1, .7f));
+                    sprite.setColor(0, 0, 1, .7f);
                 else
-                    sprite.setColor(new Color(.5f, .5f, 1f, .7f));
+                    sprite.setColor(.5f, .5f, 1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14174,17 +13197,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity ripple = new Entity();
-                ripple.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                ripple.add(new LifetimeComponent(0, .24f));
-                ripple.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.GREEN.cpy(),
-                        Animation.PlayMode.LOOP_PINGPONG));
+                Entity ripple = effectEntity();
+                ripple.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                ripple.add(lifetime(0, .24f));
+                ripple.add(animation(.03f, Color.GREEN.cpy(), Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 ripple.add(new EventComponent(.01f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().add(-.04f, 0, .04f, 0);
                 }));
@@ -14231,10 +13247,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.RED);
                 engine.addEntity(img);
@@ -14260,11 +13276,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BROWN);
@@ -14293,11 +13309,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14307,9 +13323,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(1, .8f, 0, .7f));
+                    sprite.setColor(1, .8f, 0, .7f);
                 else
-                    sprite.setColor(new Color(1, .2f, .1f, .7f));
+                    sprite.setColor(1, .2f, .1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14341,8 +13357,8 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-2, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{booms, bubble, sludge})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-            if (enemy.acceptsStatusEffects && MathUtils.randomBoolean(.333f)) {
-                if (MathUtils.randomBoolean())
+            if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean(.333f)) {
+                if (SimulationRandom.randomBoolean())
                     enemy.statusEffectInfos.add(poison(2).createStatusEffectInfo());
                 else
                     enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
@@ -14370,10 +13386,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity img = new Entity();
-                img.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity img = effectEntity();
+                img.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                img.add(new LifetimeComponent(0, .07f));
+                img.add(lifetime(0, .07f));
                 img.add(new SpriteComponent(atlas.createSprite("boom")));
                 sm.get(img).sprite.setColor(Color.GREEN);
                 engine.addEntity(img);
@@ -14399,11 +13415,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(MathUtils.random(-18, 18) * scale, MathUtils.random(-18, 18) * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("spiral"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.RED);
@@ -14432,11 +13448,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14446,9 +13462,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(1, .8f, 0, .7f));
+                    sprite.setColor(1, .8f, 0, .7f);
                 else
-                    sprite.setColor(new Color(1, .2f, .1f, .7f));
+                    sprite.setColor(1, .2f, .1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14480,8 +13496,8 @@ public class MoveConstructor {
                     }
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-2, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{booms, bubble, sludge})), new MoveInfo(false, 1, (enemy, userEntity) -> {
-            if (enemy.acceptsStatusEffects && MathUtils.randomBoolean(.666f)) {
-                if (MathUtils.randomBoolean(.4f))
+            if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean(.666f)) {
+                if (SimulationRandom.randomBoolean(.4f))
                     enemy.statusEffectInfos.add(toxic(3).createStatusEffectInfo());
                 else
                     enemy.statusEffectInfos.add(poison(2).createStatusEffectInfo());
@@ -14507,17 +13523,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
             }
@@ -14538,17 +13547,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.SUPRISE, 0.6f, 0, 1);
@@ -14572,11 +13574,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLACK);
@@ -14602,11 +13604,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14616,9 +13618,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(0, 0, 0, .7f));
+                    sprite.setColor(0, 0, 0, .7f);
                 else
-                    sprite.setColor(new Color(.1f, .1f, .1f, .7f));
+                    sprite.setColor(.1f, .1f, .1f, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14661,11 +13663,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, 7 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("bubble"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PINK);
@@ -14692,11 +13694,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity entity = new Entity();
-                entity.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity entity = effectEntity();
+                entity.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 entity.add(new MovementComponent(new Vector2(0, 13 * scale)));
-                entity.add(new LifetimeComponent(0, 1f));
+                entity.add(lifetime(0, 1f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.WHITE);
@@ -14724,11 +13726,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity bubble = new Entity();
-                bubble.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity bubble = effectEntity();
+                bubble.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 bubble.add(new MovementComponent(new Vector2(0, -4 * scale)));
-                bubble.add(new LifetimeComponent(0, 1f));
+                bubble.add(lifetime(0, 1f));
                 Sprite sprite;
                 if (MathUtils.randomBoolean())
                     sprite = new Sprite(atlas.findRegion("splat"));
@@ -14738,9 +13740,9 @@ public class MoveConstructor {
                     sprite = new Sprite(atlas.findRegion("splat3"));
                 sprite.setOriginCenter();
                 if (MathUtils.randomBoolean())
-                    sprite.setColor(new Color(1, 0.9f, 1, .7f));
+                    sprite.setColor(1, 0.9f, 1, .7f);
                 else
-                    sprite.setColor(new Color(1, .5f, 1, .7f));
+                    sprite.setColor(1, .5f, 1, .7f);
                 bubble.add(new SpriteComponent(sprite));
                 bubble.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(3, 7)));
 
@@ -14767,16 +13769,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity ripple = new Entity();
-                ripple.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                ripple.add(new LifetimeComponent(0, .24f));
-                ripple.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Animation.PlayMode.LOOP_PINGPONG));
+                Entity ripple = effectEntity();
+                ripple.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                ripple.add(lifetime(0, .24f));
+                ripple.add(animation(.03f, Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 ripple.add(new EventComponent(.01f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor = animm.get(entity).shadeColor.cpy().add(-.04f, 0, .04f, 0);
                 }));
@@ -14819,18 +13815,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.RED, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT);
@@ -14850,9 +13838,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.RED);
@@ -14896,18 +13884,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.BLUE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.BLUE, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT, 0.7f, 0, 1);
@@ -14928,9 +13908,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 - entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.CYAN);
@@ -14974,18 +13954,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.RED, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT, 0.6f, 0, 1);
@@ -15006,9 +13978,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(75 * scale, 75 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .4f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .4f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("boom"));
                 bamSprite.setOriginCenter();
                 bamSprite.setColor(Color.ORANGE);
@@ -15035,16 +14007,16 @@ public class MoveConstructor {
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
                 Vector2 tileCenter = tilePosition.cpy().add(new Vector2(50 * scale, 50 * scale));
 
-                Entity circ = new Entity();
+                Entity circ = effectEntity();
                 tilePosition.add(MathUtils.random(-30, 30) * scale, (MathUtils.random(-30, 30) * scale));
-                circ.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                circ.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
                         tileCenter.y - (pm.get(circ).getCenter().y),
                         tileCenter.x - (pm.get(circ).getCenter().x));
 
                 circ.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(circ).movement.setAngle(directionTowardsCenter + 180);
-                circ.add(new LifetimeComponent(0, .5f));
+                circ.add(lifetime(0, .5f));
                 Sprite sprite = new Sprite(atlas.findRegion("circle"));
                 sprite.setColor(Color.RED);
                 sprite.setOriginCenter();
@@ -15121,14 +14093,14 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2 - entitySize.y * 1.5f);
 
-                Entity beam = new Entity();
+                Entity beam = effectEntity();
                 Sprite beamSprite = new Sprite(atlas.findRegion("beam"));
                 beamSprite.setOriginCenter();
                 beamSprite.setColor(Color.RED);
                 beam.add(new SpriteComponent(beamSprite));
-                beam.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90));
+                beam.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90));
                 beam.add(new MovementComponent(new Vector2(1300 * scale, 0).setAngle(direction)));
-                beam.add(new LifetimeComponent(0, .26f));
+                beam.add(lifetime(0, .26f));
                 beam.add(new EventComponent(0.02f, true, EventCompUtil.fadeOutAfter(7, 6)));
                 engine.addEntity(beam);
             }
@@ -15150,17 +14122,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("explode"),
-                                    atlas.findRegion("explode2"),
-                                    atlas.findRegion("explode3"),
-                                    atlas.findRegion("explode4"),
-                                    atlas.findRegion("explode5"),
-                                    atlas.findRegion("explode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                     soundManager.playSound(SoundInfo.BOOM);
@@ -15231,17 +14196,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VEEM, 1, 0, 0.5f);
@@ -15296,18 +14254,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.PURPLE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.PURPLE, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VEEM, 1, 0, 0.5f);
@@ -15393,14 +14343,14 @@ public class MoveConstructor {
                     startTilePosition.add(boards.getTileWidth() / 2,
                             boards.getTileHeight() / 2 - entitySize.y * 1.5f);
 
-                Entity beam = new Entity();
+                Entity beam = effectEntity();
                 Sprite beamSprite = new Sprite(atlas.findRegion("beam"));
                 beamSprite.setOriginCenter();
                 beamSprite.setColor(Color.BLUE);
                 beam.add(new SpriteComponent(beamSprite));
-                beam.add(new PositionComponent(startTilePosition, entitySize.x, entitySize.y, direction - 90));
+                beam.add(position(startTilePosition, entitySize.x, entitySize.y, direction - 90));
                 beam.add(new MovementComponent(new Vector2(1300 * scale, 0).setAngle(direction)));
-                beam.add(new LifetimeComponent(0, .26f));
+                beam.add(lifetime(0, .26f));
                 beam.add(new EventComponent(0.02f, true, EventCompUtil.fadeOutAfter(7, 6)));
                 engine.addEntity(beam);
             }
@@ -15422,17 +14372,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("explodeBlue"),
-                                    atlas.findRegion("explodeBlue2"),
-                                    atlas.findRegion("explodeBlue3"),
-                                    atlas.findRegion("explodeBlue4"),
-                                    atlas.findRegion("explodeBlue5"),
-                                    atlas.findRegion("explodeBlue6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE_BLUE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -15474,16 +14417,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .07f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .07f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.CLAW, 2, 0, 0.6f);
             }
@@ -15579,17 +14517,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .13f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        Color.GREEN,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .13f));
+                boom.add(animation(.04f, Color.GREEN, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.CLAW, 1.8f, 0, 0.6f);
             }
@@ -15688,18 +14620,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.YELLOW,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.YELLOW, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STATUS_ZAP, 1.65f, 0, 0.82f);
                 soundManager.playSound(SoundInfo.SUPRISE, 1.51f, 0, 0.86f);
@@ -15721,9 +14645,9 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity fist = new Entity();
-                fist.add(new PositionComponent(tilePosition.add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
-                fist.add(new LifetimeComponent(0, .3f));
+                Entity fist = effectEntity();
+                fist.add(position(tilePosition.add(MathUtils.random(-40, 40), MathUtils.random(-40, 40)), entitySize.x, entitySize.y, 0));
+                fist.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("zigzag");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.ORANGE);
@@ -15757,16 +14681,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .07f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .07f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 if (timesCalled % 4 == 0) {
                     soundManager.playSound(SoundInfo.CLAW, 1.3f, 0, 0.9f);
@@ -15813,16 +14732,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .07f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .07f));
+                boom.add(animation(.02f, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
                     soundManager.playSound(SoundInfo.CLAW, 2, 0, 0.6f);
@@ -15845,10 +14759,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .8f));
+                boom.add(lifetime(0, .8f));
                 boom.add(new MovementComponent(new Vector2(0, 20 * scale)));
                 boom.add(new SpriteComponent(atlas.createSprite("sparkle")));
                 boom.add(new EventComponent(.1f, true, EventCompUtil.fadeOut(8)));
@@ -15936,7 +14850,7 @@ public class MoveConstructor {
                         moveRight.copy(), shine, slashes.copy(), shine.copy(), moveLeft.copy(), shine.copy(), fixPositioning
                 })),
                 new MoveInfo(false, .5f, (enemy, userEntity) -> {
-                    int stolenAmount = MathUtils.random(0, 3);
+                    int stolenAmount = SimulationRandom.random(0, 3);
                     enemy.sp -= stolenAmount;
                     userEntity.sp += stolenAmount;
                 }));
@@ -15962,17 +14876,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .07f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        Color.GREEN,
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .07f));
+                boom.add(animation(.02f, Color.GREEN, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
                     soundManager.playSound(SoundInfo.CLAW, 1.4f, 0, 0.9f);
@@ -15995,10 +14903,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .8f));
+                boom.add(lifetime(0, .8f));
                 boom.add(new MovementComponent(new Vector2(0, 20 * scale)));
                 Sprite spr = atlas.createSprite("shine");
                 spr.setColor(Color.GREEN);
@@ -16114,11 +15022,11 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity glow = new Entity();
-                glow.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                glow.add(new LifetimeComponent(0, .5f));
+                Entity glow = effectEntity();
+                glow.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                glow.add(lifetime(0, .5f));
                 Sprite glowSprite = atlas.createSprite("openCircle");
-                glowSprite.setColor(new Color(.6f, .6f, 1, 0));
+                glowSprite.setColor(.6f, .6f, 1, 0);
                 glow.add(new SpriteComponent(glowSprite));
                 glow.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(6)));
                 engine.addEntity(glow);
@@ -16142,11 +15050,11 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity glow = new Entity();
-                glow.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                glow.add(new LifetimeComponent(0, .5f));
+                Entity glow = effectEntity();
+                glow.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                glow.add(lifetime(0, .5f));
                 Sprite glowSprite = atlas.createSprite("openCircle");
-                glowSprite.setColor(new Color(.6f, .6f, 1, 0));
+                glowSprite.setColor(.6f, .6f, 1, 0);
                 glow.add(new SpriteComponent(glowSprite));
                 glow.add(new EventComponent(.1f, true, EventCompUtil.fadeIn(6)));
                 engine.addEntity(glow);
@@ -16168,16 +15076,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity slash = new Entity();
-                slash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 0));
-                slash.add(new LifetimeComponent(0, .39f));
-                slash.add(new AnimationComponent(.08f,new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(.3f, .3f, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity slash = effectEntity();
+                slash.add(position(tileCenter, entitySize.x, entitySize.y, 0));
+                slash.add(lifetime(0, .39f));
+                slash.add(animation(.08f, .3f, .3f, 1, 1, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(slash);
                 soundManager.playSound(SoundInfo.SPACE_CLAW);
             }
@@ -16197,16 +15099,10 @@ public class MoveConstructor {
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 tileCenter.add(-entitySize.x / 2f, -entitySize.y / 2f);
 
-                Entity crossSlash = new Entity();
-                crossSlash.add(new PositionComponent(tileCenter, entitySize.x, entitySize.y, 90));
-                crossSlash.add(new LifetimeComponent(0, .39f));
-                crossSlash.add(new AnimationComponent(.08f, new TextureRegion[] {
-                        atlas.findRegion("vertslash1"),
-                        atlas.findRegion("vertslash2"),
-                        atlas.findRegion("vertslash3"),
-                        atlas.findRegion("vertslash4")},
-                        new Color(.3f, .3f, 1, 1),
-                        Animation.PlayMode.NORMAL));
+                Entity crossSlash = effectEntity();
+                crossSlash.add(position(tileCenter, entitySize.x, entitySize.y, 90));
+                crossSlash.add(lifetime(0, .39f));
+                crossSlash.add(animation(.08f, .3f, .3f, 1, 1, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(crossSlash);
             }
         }, .3f, 1);
@@ -16250,17 +15146,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .07f));
-                boom.add(new AnimationComponent(.02f,
-                        new TextureRegion[]{atlas.findRegion("vertslash1"),
-                                atlas.findRegion("vertslash2"),
-                                atlas.findRegion("vertslash3"),
-                                atlas.findRegion("vertslash4")},
-                        new Color(1, .4f, .4f, 1),
-                        Animation.PlayMode.NORMAL));
+                boom.add(lifetime(0, .07f));
+                boom.add(animation(.02f, 1, .4f, .4f, 1, Animation.PlayMode.NORMAL, VERT_SLASH));
                 engine.addEntity(boom);
                 if (timesCalled % 3 == 0) {
                     soundManager.playSound(SoundInfo.SWORD_SWIPE);
@@ -16359,18 +15249,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.RED, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM_WAVE, 1.35f, 0, 1);
@@ -16396,17 +15278,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Color.RED, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.CLAW, 0.7f, 0, 1);
             }
@@ -16428,16 +15303,16 @@ public class MoveConstructor {
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
                 Vector2 tileCenter = tilePosition.cpy().add(new Vector2(50 * scale, 50 * scale));
 
-                Entity circ = new Entity();
+                Entity circ = effectEntity();
                 tilePosition.add(MathUtils.random(-30, 30) * scale, (MathUtils.random(-30, 30) * scale));
-                circ.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                circ.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
                         tileCenter.y - (pm.get(circ).getCenter().y),
                         tileCenter.x - (pm.get(circ).getCenter().x));
 
                 circ.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(circ).movement.setAngle(directionTowardsCenter + 180);
-                circ.add(new LifetimeComponent(0, .5f));
+                circ.add(lifetime(0, .5f));
                 Sprite spr = atlas.createSprite("sparkle");
                 spr.setColor(Color.BLUE);
                 spr.setOriginCenter();
@@ -16488,16 +15363,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity claw = new Entity();
-                claw.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                claw.add(new LifetimeComponent(0, .21f));
-                claw.add(new AnimationComponent(.05f,new TextureRegion[] {
-                        atlas.findRegion("claw"),
-                        atlas.findRegion("claw2"),
-                        atlas.findRegion("claw3"),
-                        atlas.findRegion("claw4"),
-                        atlas.findRegion("claw5")},
-                        Animation.PlayMode.NORMAL));
+                Entity claw = effectEntity();
+                claw.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                claw.add(lifetime(0, .21f));
+                claw.add(animation(.05f, Animation.PlayMode.NORMAL, CLAW));
                 engine.addEntity(claw);
                 soundManager.playSound(SoundInfo.CLAW, 0.6f, 0, 1);
                 soundManager.playSound(SoundInfo.DOWNER, 1.1f, 0, 1);
@@ -16521,16 +15390,16 @@ public class MoveConstructor {
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
                 Vector2 tileCenter = tilePosition.cpy().add(new Vector2(50 * scale, 50 * scale));
 
-                Entity circ = new Entity();
+                Entity circ = effectEntity();
                 tilePosition.add(MathUtils.random(-30, 30) * scale, (MathUtils.random(-30, 30) * scale));
-                circ.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
+                circ.add(position(tilePosition, entitySize.x, entitySize.y, 0));
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
                         tileCenter.y - (pm.get(circ).getCenter().y),
                         tileCenter.x - (pm.get(circ).getCenter().x));
 
                 circ.add(new MovementComponent(new Vector2(50 * scale, 0)));
                 mm.get(circ).movement.setAngle(directionTowardsCenter + 180);
-                circ.add(new LifetimeComponent(0, .5f));
+                circ.add(lifetime(0, .5f));
                 Sprite spr = atlas.createSprite("sparkle");
                 spr.setOriginCenter();
                 circ.add(new SpriteComponent(spr));
@@ -16554,9 +15423,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(10 * scale, 10 * scale);
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -16566,7 +15435,7 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("sparkle");
                 glow.add(new SpriteComponent(glowSprite));
@@ -16612,18 +15481,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.BLUE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Color.BLUE, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.HIGH, 0.9f, 0, 1);
@@ -16643,9 +15504,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.ROYAL);
                 bamSprite.setOriginCenter();
@@ -16691,17 +15552,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -16723,17 +15577,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT);
@@ -16753,9 +15600,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.YELLOW);
                 bamSprite.setOriginCenter();
@@ -16782,17 +15629,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT);
@@ -16812,9 +15652,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.YELLOW);
                 bamSprite.setOriginCenter();
@@ -16840,17 +15680,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT);
@@ -16870,9 +15703,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.YELLOW);
                 bamSprite.setOriginCenter();
@@ -16899,17 +15732,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .21f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .21f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.GUNSHOT);
@@ -16929,9 +15755,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(30 * scale, 30 * scale);
                 Vector2 tilePosition = t.localToStageCoordinates(new Vector2(t.getWidth() / 2 - entitySize.x / 2f, t.getHeight() / 2 -entitySize.y / 2f));
 
-                Entity bam = new Entity();
-                bam.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                bam.add(new LifetimeComponent(0, .2f));
+                Entity bam = effectEntity();
+                bam.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                bam.add(lifetime(0, .2f));
                 Sprite bamSprite = new Sprite(atlas.findRegion("sparkle"));
                 bamSprite.setColor(Color.YELLOW);
                 bamSprite.setOriginCenter();
@@ -16966,7 +15792,7 @@ public class MoveConstructor {
                 }, new Visuals(user, new Array<BoardPosition>(new BoardPosition[]{new BoardPosition(-1, 0), new BoardPosition(-2, 0), new BoardPosition(-3, 0), new BoardPosition(-4, 0)}),
                 new Array<VisualEvent>(new VisualEvent[]{preBoom, explode1, sparkle1, explode2, sparkle2, explode3, sparkle3, explode4, sparkle4})), new MoveInfo(false, 1,
                 (enemy, userEntity) -> {
-                    if (enemy.acceptsStatusEffects && MathUtils.randomBoolean())
+                    if (enemy.acceptsStatusEffects && SimulationRandom.randomBoolean())
                         enemy.statusEffectInfos.add(paralyze(3).createStatusEffectInfo());
                 }
         ));
@@ -16995,9 +15821,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -17007,10 +15833,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("circle");
-                glowSprite.setColor(new Color(.1f, .1f, .1f, 0f));
+                glowSprite.setColor(.1f, .1f, .1f, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, EventCompUtil.fadeIn(6)));
@@ -17038,18 +15864,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.BLACK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.BLACK, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.DEEP);
@@ -17071,17 +15889,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STRANGE);
@@ -17124,9 +15935,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -17136,10 +15947,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("triangle");
-                glowSprite.setColor(new Color(.1f, .1f, .1f, 0f));
+                glowSprite.setColor(.1f, .1f, .1f, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.02f, true, (entity, engine) -> {
@@ -17172,17 +15983,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.BLACK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.BLACK, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.DEEP, 0.7f, 0, 1);
@@ -17204,18 +16008,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.CYAN, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.ZEP);
@@ -17258,9 +16054,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -17270,16 +16066,9 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
-                glow.add(new AnimationComponent(.05f,
-                        new TextureRegion[]{
-                        atlas.findRegion("fourCircles"),
-                        atlas.findRegion("sixCircles"),
-                        atlas.findRegion("eightCircles")},
-                        new Color(MathUtils.random(0, .4f), MathUtils.random(0, .4f), MathUtils.random(0, .4f), 0),
-                        Animation.PlayMode.LOOP
-                        ));
+                glow.add(animation(.05f, MathUtils.random(0, .4f), MathUtils.random(0, .4f), MathUtils.random(0, .4f), 0, Animation.PlayMode.LOOP, GROWING_CIRCLES));
 
                 glow.add(new EventComponent(.02f, true, (entity, engine) -> {
                     animm.get(entity).shadeColor.add(MathUtils.random(0.01f, .1f), MathUtils.random(0.01f, .1f), MathUtils.random(0.01f, .1f), .03f);
@@ -17311,17 +16100,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.GREEN,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.GREEN, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.OMEN);
@@ -17343,18 +16125,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("explode"),
-                                atlas.findRegion("explode2"),
-                                atlas.findRegion("explode3"),
-                                atlas.findRegion("explode4"),
-                                atlas.findRegion("explode5"),
-                                atlas.findRegion("explode6")},
-                        Color.CYAN,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.CYAN, Animation.PlayMode.NORMAL, EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.FUTURE);
@@ -17376,10 +16150,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-150 * scale, 150 * scale), MathUtils.random(-150 * scale, 150 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-150 * scale, 150 * scale), tilePosition.y + MathUtils.random(-150 * scale, 150 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("sparkle");
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
@@ -17426,9 +16200,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -17438,10 +16212,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("triangle");
-                glowSprite.setColor(new Color(.1f, .1f, .1f, 0f));
+                glowSprite.setColor(.1f, .1f, .1f, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.02f, true, (entity, engine) -> {
@@ -17474,17 +16248,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.BLACK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.BLACK, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOutAfter(2, 3)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.COMPUTER);
@@ -17506,18 +16273,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.RED,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Color.RED, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.SPACE_OUT);
@@ -17539,13 +16298,13 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-110 * scale, 110 * scale), MathUtils.random(-110 * scale, 110 * scale)),
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-110 * scale, 110 * scale), tilePosition.y + MathUtils.random(-110 * scale, 110 * scale),
                         entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .3f));
+                boom.add(lifetime(0, .3f));
                 Sprite sprite = atlas.createSprite("hexagon");
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(MathUtils.random(0f, 1f), MathUtils.random(0f, 1f), MathUtils.random(0f, 1f), 1));
+                sprite.setColor(MathUtils.random(0f, 1f), MathUtils.random(0f, 1f), MathUtils.random(0f, 1f), 1);
                 boom.add(new SpriteComponent(sprite));
                 boom.add(new EventComponent(.025f, true, EventCompUtil.fadeOut(12)));
 
@@ -17587,17 +16346,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, 1f));
-                boom.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Animation.PlayMode.LOOP_PINGPONG));
+                boom.add(lifetime(0, 1f));
+                boom.add(animation(.1f, Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 boom.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(5, 5)));
                 engine.addEntity(boom);
             }
@@ -17681,9 +16434,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .75f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .75f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.05f, true, EventCompUtil.fadeInThenOut(5, 5, 5)));
@@ -17713,9 +16466,9 @@ public class MoveConstructor {
                 Vector2 entitySize = new Vector2(25 * scale, 25 * scale);
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add(MathUtils.random(-400, 400), MathUtils.random(-400, 400)),
+                glow.add(position(tileCenter.x + MathUtils.random(-400, 400), tileCenter.y + MathUtils.random(-400, 400),
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -17725,10 +16478,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .7f));
+                glow.add(lifetime(0, .7f));
 
                 Sprite glowSprite = atlas.createSprite("triangle");
-                glowSprite.setColor(new Color(0, 0, 0, 0f));
+                glowSprite.setColor(0, 0, 0, 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.02f, true, (entity, engine) -> {
@@ -17758,18 +16511,11 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                         , entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, 1f));
-                boom.add(new AnimationComponent(.1f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.BLACK,
-                        Animation.PlayMode.LOOP_PINGPONG));
+                boom.add(lifetime(0, 1f));
+                boom.add(animation(.1f, Color.BLACK, Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                 boom.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(5, 5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.STRANGE, MathUtils.random(0.5f, 1), MathUtils.random(-1, 1), MathUtils.random(0.3f, 1));
@@ -17794,17 +16540,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .2f));
-                boom.add(new AnimationComponent(.04f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .2f));
+                boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BOOM, MathUtils.random(0.5f, 0.7f), MathUtils.random(-1, 1), MathUtils.random(0.1f, 1));
@@ -17828,9 +16567,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
@@ -17881,17 +16620,10 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, .21f));
-                    boom.add(new AnimationComponent(.04f,
-                            new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                    atlas.findRegion("BWexplode2"),
-                                    atlas.findRegion("BWexplode3"),
-                                    atlas.findRegion("BWexplode4"),
-                                    atlas.findRegion("BWexplode5"),
-                                    atlas.findRegion("BWexplode6")},
-                            Animation.PlayMode.NORMAL));
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                    boom.add(lifetime(0, .21f));
+                    boom.add(animation(.04f, Animation.PlayMode.NORMAL, BW_EXPLODE));
                     boom.add(new EventComponent(.04f, true, EventCompUtil.fadeOut(5)));
                     engine.addEntity(boom);
                 }
@@ -17912,9 +16644,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(0, stage.getWidth());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, stage.getHeight() / 2), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, 1f));
+                Entity flash = effectEntity();
+                flash.add(position(0, stage.getHeight() / 2, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, 1f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.01f, true, (entity, engine) -> {
@@ -17927,7 +16659,7 @@ public class MoveConstructor {
                         //put in middle
                         pm.get(entity).position.y = (stage.getHeight() / 2) - (pm.get(entity).height / 2);
                         //shade
-                        sm.get(entity).sprite.setColor(new Color(1 - progress, 1 - progress, 1 - progress, 1));
+                        sm.get(entity).sprite.setColor(1 - progress, 1 - progress, 1 - progress, 1);
                     } else { //fade out
                         sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().add(.02f, .02f, .02f, 0));
                         if (totalDeltaTime > 0.59f) //clear at end
@@ -17956,10 +16688,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(new Vector2(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100)), entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100), entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("openDiamonds"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.BLUE);
@@ -17994,10 +16726,10 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(new Vector2(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100)), entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100), entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("sparkle"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.WHITE);
@@ -18021,14 +16753,14 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(60, 60);
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(new Vector2(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100)), entitySize.x, entitySize.y, 0));
+                Entity sparkle = effectEntity();
+                sparkle.add(position(50 + MathUtils.random(stage.getWidth() - 200), 25 + MathUtils.random(stage.getHeight() - 100), entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(600 * scale, 0)));
                 mm.get(sparkle).movement.setAngle(direction);
-                sparkle.add(new LifetimeComponent(0, .3f));
+                sparkle.add(lifetime(0, .3f));
                 Sprite sprite = new Sprite(atlas.findRegion("diamonds"));
                 sprite.setOriginCenter();
-                sprite.setColor(new Color(.2f, .9f, .2f, .5f));
+                sprite.setColor(.2f, .9f, .2f, .5f);
                 sparkle.add(new SpriteComponent(sprite));
                 sparkle.add(new EventComponent(.01f, true, (entity, engine) -> {
                     Sprite spr = sm.get(entity).sprite;
@@ -18061,17 +16793,11 @@ public class MoveConstructor {
                     tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                             BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                    Entity boom = new Entity();
-                    boom.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale))
+                    Entity boom = effectEntity();
+                    boom.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale)
                             , entitySize.x, entitySize.y, 0));
-                    boom.add(new LifetimeComponent(0, 1f));
-                    boom.add(new AnimationComponent(.1f,
-                            new TextureRegion[]{atlas.findRegion("openCircle"),
-                                    atlas.findRegion("openCircle2"),
-                                    atlas.findRegion("openCircle3"),
-                                    atlas.findRegion("openCircle4"),
-                                    atlas.findRegion("openCircle5")},
-                            Animation.PlayMode.LOOP_PINGPONG));
+                    boom.add(lifetime(0, 1f));
+                    boom.add(animation(.1f, Animation.PlayMode.LOOP_PINGPONG, OPEN_CIRCLE));
                     boom.add(new EventComponent(.1f, true, EventCompUtil.fadeOutAfter(5, 5)));
                     engine.addEntity(boom);
                 }
@@ -18099,9 +16825,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
@@ -18168,9 +16894,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -18180,10 +16906,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("sparkle");
-                glowSprite.setColor(new Color(MathUtils.random(.2f, 1), MathUtils.random(.2f, 1), MathUtils.random(.2f, 1), 0f));
+                glowSprite.setColor(MathUtils.random(.2f, 1), MathUtils.random(.2f, 1), MathUtils.random(.2f, 1), 0f);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, EventCompUtil.fadeIn(6)));
@@ -18281,9 +17007,9 @@ public class MoveConstructor {
                 //Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
                 Vector2 tileCenter = t.localToStageCoordinates(new Vector2(t.getWidth() / 2f, t.getHeight() / 2f));
 
-                Entity glow = new Entity();
+                Entity glow = effectEntity();
 
-                glow.add(new PositionComponent(tileCenter.cpy().add((float) (Math.random() * 150) - 75, (float) (Math.random() * 150) - 75),
+                glow.add(position(tileCenter.x + (float) (Math.random() * 150) - 75, tileCenter.y + (float) (Math.random() * 150) - 75,
                         entitySize.x, entitySize.y, 0));
 
                 float directionTowardsCenter = MathUtils.radiansToDegrees * MathUtils.atan2(
@@ -18293,10 +17019,10 @@ public class MoveConstructor {
                 movementToCenter.setAngle(directionTowardsCenter);
                 glow.add(new MovementComponent(movementToCenter));
 
-                glow.add(new LifetimeComponent(0, .3f));
+                glow.add(lifetime(0, .3f));
 
                 Sprite glowSprite = atlas.createSprite("sparkle");
-                glowSprite.setColor(new Color(.7f, .7f, 1, 0));
+                glowSprite.setColor(.7f, .7f, 1, 0);
                 glow.add(new SpriteComponent(glowSprite));
 
                 glow.add(new EventComponent(.05f, true, EventCompUtil.fadeIn(6)));
@@ -18388,9 +17114,9 @@ public class MoveConstructor {
                     return;
                 }
                 Vector2 entitySize = new Vector2(stage.getWidth(), stage.getHeight());
-                Entity flash = new Entity();
-                flash.add(new PositionComponent(new Vector2(0, 0), entitySize.x, entitySize.y, 0));
-                flash.add(new LifetimeComponent(0, .25f));
+                Entity flash = effectEntity();
+                flash.add(position(0, 0, entitySize.x, entitySize.y, 0));
+                flash.add(lifetime(0, .25f));
                 flash.add(new SpriteComponent(atlas.createSprite("LightTile")));
                 sm.get(flash).sprite.setColor(Color.WHITE);
                 flash.add(new EventComponent(.025f, true, EventCompUtil.fadeOutAfter(5, 5)));
@@ -18481,18 +17207,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .16f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("BWexplode"),
-                                atlas.findRegion("BWexplode2"),
-                                atlas.findRegion("BWexplode3"),
-                                atlas.findRegion("BWexplode4"),
-                                atlas.findRegion("BWexplode5"),
-                                atlas.findRegion("BWexplode6")},
-                        Color.PINK,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .16f));
+                boom.add(animation(.03f, Color.PINK, Animation.PlayMode.NORMAL, BW_EXPLODE));
                 boom.add(new EventComponent(.03f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.BUFF);
@@ -18517,11 +17235,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("fourCircles"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.PINK);
@@ -18618,17 +17336,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.GOLD,
-                        Animation.PlayMode.REVERSED));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.GOLD, Animation.PlayMode.REVERSED, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VOOM, 2f, 0, 1);
@@ -18651,17 +17362,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .25f));
-                boom.add(new AnimationComponent(.03f,
-                        new TextureRegion[]{atlas.findRegion("openCircle"),
-                                atlas.findRegion("openCircle2"),
-                                atlas.findRegion("openCircle3"),
-                                atlas.findRegion("openCircle4"),
-                                atlas.findRegion("openCircle5")},
-                        Color.GOLD,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .25f));
+                boom.add(animation(.03f, Color.GOLD, Animation.PlayMode.NORMAL, OPEN_CIRCLE));
                 boom.add(new EventComponent(.06f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.VOOM, 2f, 0, 1);
@@ -18750,18 +17454,10 @@ public class MoveConstructor {
                 tilePosition.add(BoardComponent.boards.getTileWidth() / 2 - entitySize.x / 2f,
                         BoardComponent.boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity boom = new Entity();
-                boom.add(new PositionComponent(tilePosition, entitySize.x, entitySize.y, 0));
-                boom.add(new LifetimeComponent(0, .38f));
-                boom.add(new AnimationComponent(.07f,
-                        new TextureRegion[]{atlas.findRegion("diamondBoom"),
-                                atlas.findRegion("diamondBoom2"),
-                                atlas.findRegion("diamondBoom3"),
-                                atlas.findRegion("diamondBoom4"),
-                                atlas.findRegion("diamondBoom5"),
-                                atlas.findRegion("diamondBoom6")},
-                        Color.BLUE,
-                        Animation.PlayMode.NORMAL));
+                Entity boom = effectEntity();
+                boom.add(position(tilePosition, entitySize.x, entitySize.y, 0));
+                boom.add(lifetime(0, .38f));
+                boom.add(animation(.07f, Color.BLUE, Animation.PlayMode.NORMAL, DIAMOND_BOOM));
                 boom.add(new EventComponent(.07f, true, EventCompUtil.fadeOut(5)));
                 engine.addEntity(boom);
                 soundManager.playSound(SoundInfo.DEEP);
@@ -18786,11 +17482,11 @@ public class MoveConstructor {
                 tilePosition.add(boards.getTileWidth() / 2 - entitySize.x / 2f,
                         boards.getTileHeight() / 2 - entitySize.y / 2f);
 
-                Entity sparkle = new Entity();
-                sparkle.add(new PositionComponent(tilePosition.cpy().add(MathUtils.random(-30 * scale, 30 * scale), MathUtils.random(-30 * scale, 30 * scale)),
+                Entity sparkle = effectEntity();
+                sparkle.add(position(tilePosition.x + MathUtils.random(-30 * scale, 30 * scale), tilePosition.y + MathUtils.random(-30 * scale, 30 * scale),
                         entitySize.x, entitySize.y, 0));
                 sparkle.add(new MovementComponent(new Vector2(0, 15 * scale)));
-                sparkle.add(new LifetimeComponent(0, .6f));
+                sparkle.add(lifetime(0, .6f));
                 Sprite sprite = new Sprite(atlas.findRegion("fourCircles"));
                 sprite.setOriginCenter();
                 sprite.setColor(Color.CYAN);
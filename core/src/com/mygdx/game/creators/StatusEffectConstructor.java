@@ -3,6 +3,7 @@ package com.mygdx.game.creators;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
+import com.mygdx.game.AI.SimulationRandom;
 import com.mygdx.game.move_related.StatusEffect;
 import com.mygdx.game.ui.LerpColor;
 
@@ -50,7 +51,7 @@ public class StatusEffectConstructor {
                             vm.get(e).heavyDamageAnimation.setPlaying(true, true);
                     }
                 }, (entity) -> {
-            if (MathUtils.randomBoolean())
+            if (SimulationRandom.randomBoolean())
                 entity.hp -= 1;
         });
 
@@ -189,13 +190,13 @@ public class StatusEffectConstructor {
             if (vm.has(e) && !vm.get(e).shuffleAnimation.getIsPlaying())
                 vm.get(e).shuffleAnimation.setPlaying(true, true);
         }, (entity -> {
-            if (MathUtils.randomBoolean()) { //hp random effect
+            if (SimulationRandom.randomBoolean()) { //hp random effect
                 entity.hp += 2;
             } else {
                 entity.hp -= 3;
             }
-            if (MathUtils.randomBoolean()) { //sp random effect
-                entity.sp += MathUtils.random(-5, 5);
+            if (SimulationRandom.randomBoolean()) { //sp random effect
+                entity.sp += SimulationRandom.random(-5, 5);
             }
             entity.hp = Math.max(0, entity.hp);
             entity.sp = Math.max(0, entity.sp);
@@ -27,6 +27,13 @@ public class Move {
      * Represents effected tiles relative to user's position
      */
     private Array<BoardPosition> range;
+    /**
+     * Offsets of the effected tiles, packed with {@link #packOffset(int, int)}, for each number of clockwise turns from the range the
+     * move was created with. Found once, so the computer player doesn't have to rotate the range for every turn it looks at.
+     */
+    private final int[][] orientedOffsets = new int[4][];
+    /** Number of clockwise turns {@link #range} has been rotated by {@link #orientAttack(boolean, Move)} */
+    private int orientation;
 
     private Entity user;
     private MoveInfo moveInfo; //for AI
@@ -51,6 +58,7 @@ public class Move {
         attack  = atk;
         visuals = vis;
         moveInfo = info;
+        createOrientedOffsets();
     }
 
     /**
@@ -75,6 +83,7 @@ public class Move {
         attack  = atk;
         visuals = vis;
         moveInfo = info;
+        createOrientedOffsets();
     }
 
     /**
@@ -96,6 +105,27 @@ public class Move {
         attack  = atk;
         visuals = vis;
         moveInfo = info;
+        createOrientedOffsets();
+    }
+
+    /**
+     * Fills {@link #orientedOffsets} using the current range
+     */
+    private void createOrientedOffsets() {
+        for (int direction = 0; direction < 4; direction++)
+            orientedOffsets[direction] = new int[range.size];
+
+        for (int i = 0; i < range.size; i++) {
+            int r = range.get(i).r;
+            int c = range.get(i).c;
+            for (int direction = 0; direction < 4; direction++) {
+                orientedOffsets[direction][i] = packOffset(r, c);
+                //spin clockwise
+                int temp = r;
+                r = c;
+                c = -temp;
+            }
+        }
     }
 
     /**
@@ -127,6 +157,7 @@ public class Move {
      */
     public static void orientAttack(boolean clockwise, Move move) {
         Array<BoardPosition> boardPositions = move.getRange();
+        move.orientation = (move.orientation + (clockwise ? 1 : 3)) % 4;
         if (clockwise) {
             for (BoardPosition bp : boardPositions) {
                 //swap r and c
@@ -158,36 +189,68 @@ public class Move {
      * @param move move to be oriented
      */
     public Array<BoardPosition> getOrientedAttackPositions(int relativeDirection, Move move) {
-        Array<BoardPosition> boardPositions = new Array<>();
-        for (BoardPosition bp : move.getRange())
-            boardPositions.add(bp.copy());
-
-        relativeDirection %= 4;
-        if (relativeDirection == 0) {
-            return boardPositions;
-        } else if (relativeDirection == 1) {
-            for (BoardPosition bp : boardPositions) {
-                //swap r and c
-                int temp = bp.r;
-                bp.r = bp.c;
-                bp.c = -temp;
-            }
-        } else if (relativeDirection == 2) {
-            for (BoardPosition bp : boardPositions) {
-                bp.r *= -1;
-                bp.c *= -1;
-            }
-        } else {
-            for (BoardPosition bp : boardPositions) {
-                int temp = bp.r;
-                bp.r = -bp.c;
-                bp.c = temp;
-            }
-        }
+        int[] offsets = move.getOrientedOffsets(relativeDirection);
+        Array<BoardPosition> boardPositions = new Array<>(offsets.length);
+        for (int offset : offsets)
+            boardPositions.add(new BoardPosition(getRowOffset(offset), getColumnOffset(offset)));
 
         return boardPositions;
     }
 
+    /**
+     * Gets the effected squares of the attack based on direction, without creating anything. Read the offsets with
+     * {@link #getRowOffset(int)} and {@link #getColumnOffset(int)}. The array is shared, so it should not be changed.
+     * @param relativeDirection direction that it will be spun, the same as {@link #getOrientedAttackPositions(int, Move)}
+     * @return packed offsets of the effected squares, relative to the user's position
+     */
+    public int[] getOrientedOffsets(int relativeDirection) {
+        return orientedOffsets[(orientation + relativeDirection) % 4];
+    }
+
+    /**
+     * Same as {@link #getOrientedOffsets(int)}, but turned from the given orientation instead of the Move's current one.
+     * Searches use this with the orientation taken when their board was made, since the player can turn the range while they run.
+     * @param fromOrientation orientation to turn from, as returned by {@link #getOrientation()}
+     * @param relativeDirection direction that it will be spun, the same as {@link #getOrientedAttackPositions(int, Move)}
+     * @return packed offsets of the effected squares, relative to the user's position
+     */
+    public int[] getOrientedOffsets(int fromOrientation, int relativeDirection) {
+        return orientedOffsets[(fromOrientation + relativeDirection) % 4];
+    }
+
+    /**
+     * @return how many times the range has been turned clockwise from how it was made, from 0 to 3
+     */
+    public int getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Packs an offset into an int. Offsets have to be within a short.
+     * @param r row offset
+     * @param c column offset
+     * @return packed offset
+     */
+    public static int packOffset(int r, int c) {
+        return r << 16 | (c & 0xFFFF);
+    }
+
+    /**
+     * @param offset offset packed by {@link #packOffset(int, int)}
+     * @return row offset
+     */
+    public static int getRowOffset(int offset) {
+        return offset >> 16;
+    }
+
+    /**
+     * @param offset offset packed by {@link #packOffset(int, int)}
+     * @return column offset
+     */
+    public static int getColumnOffset(int offset) {
+        return (short) offset;
+    }
+
     public void setAttackDescription(String description) {
         attackDescription = description;
     }
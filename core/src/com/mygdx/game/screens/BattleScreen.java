@@ -3,6 +3,7 @@ package com.mygdx.game.screens;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -28,6 +29,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.StringBuilder;
 import com.mygdx.game.AI.BoardState;
 import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.ComputerPlayerService;
 import com.mygdx.game.AI.Turn;
 import com.mygdx.game.GridWars;
 import com.mygdx.game.actors.AnimationActor;
@@ -52,6 +54,7 @@ import com.mygdx.game.ui.*;
 import com.mygdx.game.GridWarsPreferences;
 
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 
 import static com.mygdx.game.ComponentMappers.*;
 import static com.mygdx.game.GridWars.*;
@@ -108,7 +111,13 @@ public class BattleScreen implements Screen {
     private int lastHighestSpeedOfSelectedEntity;
 
     //Computer Turn variables
-    protected final ComputerPlayer computer;
+    protected final ComputerPlayerService computer;
+    /** Search for the turns of the computer team that is moving. null if there is none. */
+    private CompletableFuture<Array<Turn>> computerSearch;
+    /** Turns the computer team that is moving decided on */
+    private Array<Turn> computerTurns = new Array<>();
+    /** How far the computer is in choosing turns. Set by the thread doing the search. See {@link ComputerPlayer#getProgress()} */
+    private volatile byte computerProgress;
     /**
      * value1: team index. value2: difficulty
      * <p> Easy -> 0 </p>
@@ -187,6 +196,10 @@ public class BattleScreen implements Screen {
     private HoverButton closeHelpMenuBtn;
     protected boolean showingHelpMenu;
 
+    /** Shows how many Entities are in the engine, and how many draw calls they took. Only made while debugging. */
+    private Label entityCountLbl;
+    private final StringBuilder entityCountText = new StringBuilder();
+
     /**
      * Displays game speed
      */
@@ -219,12 +232,13 @@ public class BattleScreen implements Screen {
         //Initialize Others Constructors
         MoveConstructor.initialize(BoardComponent.boards.getBoard().getScale(), BoardComponent.boards, engine, stage, GRID_WARS);
         DamageAnimationConstructor.initialize(BoardComponent.boards.getBoard().getScale(), BoardComponent.boards, engine, GRID_WARS.soundManager);
+        EffectConstructor.initialize(engine);
 
         //Updating AI with information about rules
         if (rules instanceof ZoneRules)
-            computer = new ComputerPlayer(BoardComponent.boards, teams, ((ZoneRules) rules).getZones(), 1, ComputerPlayer.Difficulty.EASY);
+            computer = new ComputerPlayerService(BoardComponent.boards, teams, ((ZoneRules) rules).getZones());
         else
-            computer = new ComputerPlayer(BoardComponent.boards, teams, 1, ComputerPlayer.Difficulty.EASY);
+            computer = new ComputerPlayerService(BoardComponent.boards, teams, null);
         computerControlledTeamsIndex = AIControlled;
 
         //get sum of all entities on teams in game + add lerpColors of teams to manager
@@ -275,6 +289,10 @@ public class BattleScreen implements Screen {
         stage.addActor(teamTable);
         stage.addActor(endTurnMessageTable);
         stage.addActor(helpTable);
+        if (GridWars.DEBUGGING) {
+            entityCountLbl = new Label("", skin);
+            stage.addActor(entityCountLbl);
+        }
         battleInputProcessor = new BattleInputProcessor(this);
         Gdx.input.setInputProcessor(new InputMultiplexer(stage, battleInputProcessor));
 
@@ -284,6 +302,12 @@ public class BattleScreen implements Screen {
         engine.addSystem(new EventSystem());
         engine.addSystem(new LifetimeSystem());
         engine.addSystem(new DamageDeathSystem());
+        EntityLifecycleSystem lifecycleSystem = new EntityLifecycleSystem();
+        lifecycleSystem.watch("Lifetime", Family.all(LifetimeComponent.class).get());
+        lifecycleSystem.watch("Drawn", Family.one(SpriteComponent.class, AnimationComponent.class).get());
+        lifecycleSystem.watch("Moving", Family.all(MovementComponent.class, PositionComponent.class).get());
+        lifecycleSystem.watch("Events", Family.all(EventComponent.class).get());
+        engine.addSystem(lifecycleSystem);
 
         //Add all things on board to engine
         for (Entity e : BoardComponent.boards.getAllEntities()) {
@@ -562,9 +586,9 @@ public class BattleScreen implements Screen {
         syncBoards();
         if (!gameHasEnded && !playingComputerTurn)
             processPlayerInput();
-        if (playingComputerTurn && !computer.getProcessing())
+        if (playingComputerTurn && !isComputerProcessing())
             updateComputerTurn(delta);
-        if (computer.getProcessing())
+        if (isComputerProcessing())
             updateLoadingIcon(delta);
         else
             hideLoadingIcon();
@@ -753,10 +777,27 @@ public class BattleScreen implements Screen {
         stage.act(deltaTime);
         lerpColorManager.update(deltaTime);
         engine.getSystem(DrawingSystem.class).drawBackground(background, deltaTime);
+        if (entityCountLbl != null)
+            updateEntityCountLbl();
         stage.draw();
         engine.update(deltaTime);
     }
 
+    /**
+     * Shows the number of Entities in the engine, and the draw calls and texture binds of the last frame, in the top left corner.
+     */
+    private void updateEntityCountLbl() {
+        DrawingSystem drawingSystem = engine.getSystem(DrawingSystem.class);
+        entityCountText.setLength(0);
+        entityCountText.append(engine.getSystem(EntityLifecycleSystem.class).getDebugText())
+                .append("\nDraw calls: ").append(drawingSystem.getDrawCalls())
+                .append(", texture binds: ").append(drawingSystem.getTextureBinds());
+        entityCountLbl.setText(entityCountText);
+        entityCountLbl.pack();
+        entityCountLbl.setPosition(10, stage.getHeight() - 10 - entityCountLbl.getHeight());
+        entityCountLbl.toFront();
+    }
+
     /**
      * Remove dead entities from the board and engine once they have finished playing animations.
      */
@@ -805,6 +846,7 @@ public class BattleScreen implements Screen {
      * - T : Show Information about the current Turn
      * - Q : Show whether the end turn message table is being presented
      * - S : Prints out all sound effects in the Queue
+     * - N : Prints the number of Entities in the engine, and the draw calls and texture binds of the last frame
      */
     private void checkDebugInputs() {
         //checking if things are working as intended
@@ -880,6 +922,11 @@ public class BattleScreen implements Screen {
             System.out.println("DEBUG: Sound Effects Queued:");
             GRID_WARS.soundManager.printQueuedSounds();
         }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.N)) { // Entities in the engine
+            System.out.println("DEBUG: " + engine.getSystem(EntityLifecycleSystem.class).getDebugText() +
+                    "\nDraw calls = " + engine.getSystem(DrawingSystem.class).getDrawCalls() +
+                    "\nTexture binds = " + engine.getSystem(DrawingSystem.class).getTextureBinds());
+        }
         
     }
     //endregion
@@ -948,6 +995,25 @@ public class BattleScreen implements Screen {
     //endregion
 
     //region Computer Player things
+    /**
+     * @return whether the computer is still choosing its turns. Takes the turns once it is done. If the search failed, the team takes
+     * random turns instead.
+     */
+    private boolean isComputerProcessing() {
+        if (computerSearch == null)
+            return false;
+        if (!computerSearch.isDone())
+            return true;
+        if (computerSearch.isCompletedExceptionally()) {
+            Throwable failure = computerSearch.handle((turns, throwable) -> throwable).join();
+            Gdx.app.error("BattleScreen", "Computer search failed, taking random turns instead", failure);
+            computerTurns = computer.getRandomTurns(rules.getCurrentTeamNumber());
+        } else
+            computerTurns = computerSearch.join();
+        computerSearch = null;
+        return false;
+    }
+
     private void processComputerTurn(float delta) {
         //if game has ended stop
         if (gameHasEnded) {
@@ -957,12 +1023,12 @@ public class BattleScreen implements Screen {
         //Getting the Turn. Null if dead.
         Entity currentEntity;
         Turn currentTurn =
-                (currentComputerControlledEntity < computer.getDecidedTurns().size)? computer.getDecidedTurns().get(currentComputerControlledEntity) : null;
+                (currentComputerControlledEntity < computerTurns.size)? computerTurns.get(currentComputerControlledEntity) : null;
         if (!showingEndTurnMessageTable) {
             timeAfterMove += delta;
         }
 
-        if ((currentTurn == null && currentComputerControlledEntity < computer.getDecidedTurns().size) || (currentTurn != null && !stm.get(currentTurn.entity).alive)) { //entity is dead/skip turn
+        if ((currentTurn == null && currentComputerControlledEntity < computerTurns.size) || (currentTurn != null && !stm.get(currentTurn.entity).alive)) { //entity is dead/skip turn
             currentComputerControlledEntity++;
             turnPhase = 0;
             timeAfterMove = 0;
@@ -1016,7 +1082,7 @@ public class BattleScreen implements Screen {
                 if (!gameHasEnded)
                     nextTurn();
             }
-        } else if (currentComputerControlledEntity >= computer.getTeamSize()) { //Check if ran through all turns
+        } else if (currentComputerControlledEntity >= computerTurns.size) { //Check if ran through all turns
             timeAfterMove = 0;
             turnPhase = 3;
         }
@@ -1058,29 +1124,21 @@ public class BattleScreen implements Screen {
                 }
             }
 
+            BoardState boardState;
+            if (rules instanceof ZoneRules)
+                boardState = new BoardState(BoardComponent.boards.getCodeBoard().getEntities(), ((ZoneRules) rules).getZones());
+            else
+                boardState = new BoardState(BoardComponent.boards.getCodeBoard().getEntities(), null);
+
             if (processingAComputerControlledTeam) {
                 playingComputerTurn = true;
-                computer.setTeamControlled(computerControlledTeamsIndex[controlledTeamIndex].value1);
-                Tuple AITuple = computerControlledTeamsIndex[controlledTeamIndex];
-                if ((ComputerPlayer.Difficulty) AITuple.value2 == ComputerPlayer.Difficulty.FIRST_ATTACK) { //first attack
-                    computer.setDifficulty(ComputerPlayer.Difficulty.FIRST_ATTACK);
-                } else if ((ComputerPlayer.Difficulty) AITuple.value2 == ComputerPlayer.Difficulty.EASY) { //easy
-                    computer.setDifficulty(ComputerPlayer.Difficulty.EASY);
-                } else if ((ComputerPlayer.Difficulty) AITuple.value2 == ComputerPlayer.Difficulty.NORMAL) { //normal
-                    computer.setDifficulty(ComputerPlayer.Difficulty.NORMAL);
-                } else if ((ComputerPlayer.Difficulty) AITuple.value2 == ComputerPlayer.Difficulty.HARD) { //hard
-                    computer.setDifficulty(ComputerPlayer.Difficulty.HARD);
-                }
-                if (rules instanceof ZoneRules)
-                    computer.updateComputerPlayer(new BoardState(BoardComponent.boards.getCodeBoard().getEntities(), ((ZoneRules) rules).getZones()));
-                else
-                    computer.updateComputerPlayer(new BoardState(BoardComponent.boards.getCodeBoard().getEntities(), null));
-
-                Thread thread = new Thread(computer);
-                thread.setPriority(Thread.MAX_PRIORITY);
-                thread.start();
+                computerTurns.clear();
+                computerProgress = 0;
+                computerSearch = computer.search(boardState, computerControlledTeamsIndex[controlledTeamIndex].value1,
+                        computerControlledTeamsIndex[controlledTeamIndex].value2, progress -> computerProgress = progress);
             } else {
                 playingComputerTurn = false;
+                ponderNextComputerTurn(boardState);
             }
 
             if (!playingComputerTurn)
@@ -1088,6 +1146,23 @@ public class BattleScreen implements Screen {
         }
     }
 
+    /**
+     * If a computer team moves after the current team, has it start searching for its turns while the current team moves.
+     * Only done on Normal and Hard, as the other difficulties don't take long to search.
+     * @param boardState board at the start of the current team's turn
+     */
+    private void ponderNextComputerTurn(BoardState boardState) {
+        int nextTeam = (rules.getCurrentTeamNumber() + 1) % teams.size;
+        for (int i = 0; i < computerControlledTeamsIndex.length; i++) {
+            if (computerControlledTeamsIndex[i].value1 == nextTeam) {
+                ComputerPlayer.Difficulty difficulty = computerControlledTeamsIndex[i].value2;
+                if (difficulty == ComputerPlayer.Difficulty.NORMAL || difficulty == ComputerPlayer.Difficulty.HARD)
+                    computer.ponder(boardState, rules.getCurrentTeamNumber(), nextTeam, difficulty);
+                return;
+            }
+        }
+    }
+
     /**
      * Shows the window that displays who's turn it is.
      */
@@ -1491,6 +1566,7 @@ public class BattleScreen implements Screen {
         darkness.setColor(new Color(0, 0, 0, 0));
         blackCover.add(new SpriteComponent(darkness));
         blackCover.add(new PositionComponent(new Vector2(0, 0), stage.getHeight(), stage.getWidth(), 0));
+        blackCover.add(new RenderComponent(RenderComponent.SCREEN_COVER_Z));
         blackCover.add(new EventComponent(.005f, 0, true, true, (entity, engine) -> {
             sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().cpy().add(0, 0, 0, .05f));
         }));
@@ -1572,7 +1648,7 @@ public class BattleScreen implements Screen {
      * Updates the loading icon that shows how far the AI is in choosing a move.
      */
     public void updateLoadingIcon(float delta) {
-        switch (computer.getProgress()) {
+        switch (computerProgress) {
             case 1:
                 loadingIcon.setColor(Color.RED);
                 break;
@@ -1770,7 +1846,11 @@ public class BattleScreen implements Screen {
 
     protected void quitScreen() {
         GRID_WARS.setGameSpeed((byte) 1);
-        computer.stopThread();
+        if (computerSearch != null) {
+            computerSearch.cancel(true);
+            computerSearch = null;
+        }
+        computer.cancelPonders();
         battleInputProcessor.setDisabled(false);
         Visuals.visualsArePlaying = 0;
         GRID_WARS.soundManager.endQueueMode();
@@ -1802,6 +1882,7 @@ public class BattleScreen implements Screen {
         MoveConstructor.clear();
         EntityConstructor.clear();
         DamageAnimationConstructor.clear();
+        EffectConstructor.clear();
         GRID_WARS.soundManager.endQueueMode();
         GRID_WARS.soundManager.unloadSounds();
         GRID_WARS.setGameSpeed((byte) 1);
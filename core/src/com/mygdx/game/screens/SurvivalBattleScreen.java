@@ -137,6 +137,7 @@ public class SurvivalBattleScreen extends BattleScreen implements Screen {
                 whiteCover.add(new SpriteComponent(brightness));
                 brightness.setColor(new Color(1, 1, 1, 0));
                 whiteCover.add(new PositionComponent(new Vector2(0, 0), stage.getHeight(), stage.getWidth(), 0));
+                whiteCover.add(new RenderComponent(RenderComponent.SCREEN_COVER_Z));
                 whiteCover.add(new EventComponent(.005f, 0, true, true, (entity, engine) -> {
                     sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().cpy().add(0, 0, 0, .05f));
                 }));
@@ -147,6 +148,7 @@ public class SurvivalBattleScreen extends BattleScreen implements Screen {
                 darkness.setColor(new Color(0, 0, 0, 0));
                 blackCover.add(new SpriteComponent(darkness));
                 blackCover.add(new PositionComponent(new Vector2(0, 0), stage.getHeight(), stage.getWidth(), 0));
+                blackCover.add(new RenderComponent(RenderComponent.SCREEN_COVER_Z));
                 blackCover.add(new EventComponent(.005f, 0, true, true, (entity, engine) -> {
                     sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().cpy().add(0, 0, 0, .05f));
                 }));
@@ -158,6 +160,7 @@ public class SurvivalBattleScreen extends BattleScreen implements Screen {
             whiteCover.add(new SpriteComponent(brightness));
             brightness.setColor(new Color(1, 1, 1, 0));
             whiteCover.add(new PositionComponent(new Vector2(0, 0), stage.getHeight(), stage.getWidth(), 0));
+            whiteCover.add(new RenderComponent(RenderComponent.SCREEN_COVER_Z));
             whiteCover.add(new EventComponent(.005f, 0, true, true, (entity, engine) -> {
                 sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().cpy().add(0, 0, 0, .05f));
             }));
@@ -214,6 +214,7 @@ public class SurvivalResultsScreen extends MenuScreen implements Screen {
         whiteCover.add(new SpriteComponent(brightness));
         brightness.setColor(new Color(1, 1, 1, 1));
         whiteCover.add(new PositionComponent(new Vector2(0, 0), stage.getHeight(), stage.getWidth(), 0));
+        whiteCover.add(new RenderComponent(RenderComponent.SCREEN_COVER_Z));
         whiteCover.add(new EventComponent(.005f, 0, true, true, (entity, engine) -> {
             sm.get(entity).sprite.setColor(sm.get(entity).sprite.getColor().cpy().add(0, 0, 0, -.05f));
         }));
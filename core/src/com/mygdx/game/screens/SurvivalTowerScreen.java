@@ -228,14 +228,14 @@ public class SurvivalTowerScreen extends MenuScreen implements Screen {
                         GRID_WARS.soundManager.playSound(SoundInfo.CONFIRM);
                         //get the song
                         Song song = getFloorLevelSong();
-                        Team attackingObjectsTeam = getFloorLevelAttackingObjects();
+                        Team attackingObjectsTeam = getFloorLevelAttackingObjects(level);
                         if (attackingObjectsTeam == null) // floor has no attacking objects
-                            GRID_WARS.setScreen(new SurvivalBattleScreen(team, getFloorLevelTeam(), getComputerDifficulty(),
+                            GRID_WARS.setScreen(new SurvivalBattleScreen(team, getFloorLevelTeam(level), getComputerDifficulty(level),
                                     level, healingPowerUp, spPowerUp, powerPowerUp, speedPowerUp, points, numberOfTurns, loadedFromSave,
                                     survivalLerpColorManager, song, GRID_WARS));
                         else
-                            GRID_WARS.setScreen(new SurvivalBattleScreen(team, getFloorLevelTeam(), attackingObjectsTeam,
-                                    getComputerDifficulty(), level, healingPowerUp, spPowerUp, powerPowerUp, speedPowerUp, points, numberOfTurns, loadedFromSave,
+                            GRID_WARS.setScreen(new SurvivalBattleScreen(team, getFloorLevelTeam(level), attackingObjectsTeam,
+                                    getComputerDifficulty(level), level, healingPowerUp, spPowerUp, powerPowerUp, speedPowerUp, points, numberOfTurns, loadedFromSave,
                                     survivalLerpColorManager, song, GRID_WARS));
                     } else if (actor == btnSave) {
                         StatusEffectComponent.setLerpColorManager(null);
@@ -337,7 +337,11 @@ public class SurvivalTowerScreen extends MenuScreen implements Screen {
         }  
     }
 
-    private Team getFloorLevelTeam() {
+    /**
+     * @param level floor of the tower
+     * @return the enemy team of the floor, or null if there is no such floor
+     */
+    public static Team getFloorLevelTeam(int level) {
         switch (level) {
             //region level 1 - 10
             case 1 :
@@ -788,7 +792,11 @@ public class SurvivalTowerScreen extends MenuScreen implements Screen {
         return null;
     }
 
-    private Team getFloorLevelAttackingObjects() {
+    /**
+     * @param level floor of the tower
+     * @return the team of towers on the floor, or null if it has none
+     */
+    public static Team getFloorLevelAttackingObjects(int level) {
         switch (level) {
             //region levels with towers
             case 17 :
@@ -892,7 +900,11 @@ public class SurvivalTowerScreen extends MenuScreen implements Screen {
             return new Song(SongInfo.BOSS_THEME);
     }
 
-    private ComputerPlayer.Difficulty getComputerDifficulty() {
+    /**
+     * @param level floor of the tower
+     * @return difficulty of the enemy team on the floor
+     */
+    public static ComputerPlayer.Difficulty getComputerDifficulty(int level) {
         //bosses
         if (level == 10 || level == 20 || level == 30 || level == 50 || level == 40 || level == 43 || level == 47) {
             return ComputerPlayer.Difficulty.HARD;
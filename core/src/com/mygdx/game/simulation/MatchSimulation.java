@@ -0,0 +1,261 @@
+package com.mygdx.game.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.mygdx.game.AI.BoardState;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.EntityValue;
+import com.mygdx.game.AI.SimulationRandom;
+import com.mygdx.game.AI.Turn;
+import com.mygdx.game.boards.BoardLayout;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.rules_types.Team;
+
+import java.util.SplittableRandom;
+
+/**
+ * A match played by {@link ComputerPlayer}s without a screen. The whole game is kept in a {@link BoardState}, so turns, stats, status
+ * effects and move effects are worked out from the {@link com.mygdx.game.AI.MoveInfo} and {@link com.mygdx.game.AI.StatusEffectInfo}
+ * of each move, the same way the computer player predicts them. Nothing is drawn and the Entities themselves are never changed, so
+ * any number of matches can be played at once on the same Entities and {@link BoardLayout}.
+ * <p>
+ * Follows the rules of {@link com.mygdx.game.rules_types.Battle2PRules} and {@link com.mygdx.game.rules_types.ZoneRules}: a team
+ * wins by defeating the other team or landing on its zone, and once the turn limit is reached the team with the most health wins.
+ * <p>
+ * All random numbers of a match, from the random effects of moves to the searches of each player, come from its seed. Matches with
+ * the same seed, board and players play out the same, as long as the players don't search in parallel or stop searching when their
+ * time runs out.
+ *
+ * @author Phillip O'Reggio
+ */
+public class MatchSimulation {
+    /** Turn count the winner is decided at, if no one has won yet */
+    public static final int TURN_LIMIT = 60;
+
+    private final Array<Team> teams;
+    private final Array<Array<BoardPosition>> zones;
+    private final BoardState board;
+    private final ComputerPlayer[] players;
+    /** How long each turn of each team took to choose, in nanoseconds */
+    private final LongArray[] thinkTimes;
+    /** Number of turns searched by each team's computer player */
+    private final long[] turnsSearched;
+    /** If it is survival, the computer's team wins once the turn limit is reached */
+    private final boolean survival;
+    /** Random numbers of the match. Each player splits its own from it. */
+    private final SplittableRandom random;
+
+    private int currentTeam;
+    private int turnCount;
+    /** Index of the team that won. -1 while the match is going. */
+    private int winner = -1;
+
+    /**
+     * Sets up a match, and starts the first team's turn.
+     * @param layout board the match is on. The Entities of the teams should be on it.
+     * @param teams teams playing. The third team, if there is one, only uses its first attack.
+     * @param difficulties difficulty of the computer player of each team
+     * @param survival whether it is a survival match
+     */
+    public MatchSimulation(BoardLayout layout, Array<Team> teams, ComputerPlayer.Difficulty[] difficulties, boolean survival) {
+        this(layout, teams, toSettings(difficulties), survival);
+    }
+
+    /**
+     * Sets up a match, and starts the first team's turn.
+     * @param layout board the match is on. The Entities of the teams should be on it.
+     * @param teams teams playing. The third team, if there is one, only uses its first attack.
+     * @param settings how the computer player of each team plays
+     * @param survival whether it is a survival match
+     */
+    public MatchSimulation(BoardLayout layout, Array<Team> teams, PlayerSettings[] settings, boolean survival) {
+        this(layout, teams, settings, survival, MathUtils.random.nextLong());
+    }
+
+    /**
+     * Sets up a match, and starts the first team's turn.
+     * @param layout board the match is on. The Entities of the teams should be on it.
+     * @param teams teams playing. The third team, if there is one, only uses its first attack.
+     * @param settings how the computer player of each team plays
+     * @param survival whether it is a survival match
+     * @param seed seed of every random number in the match
+     */
+    public MatchSimulation(BoardLayout layout, Array<Team> teams, PlayerSettings[] settings, boolean survival, long seed) {
+        this.teams = teams;
+        this.survival = survival;
+        random = new SplittableRandom(seed);
+        zones = layout.getZones();
+        board = new BoardState(layout);
+
+        players = new ComputerPlayer[teams.size];
+        thinkTimes = new LongArray[teams.size];
+        turnsSearched = new long[teams.size];
+        for (int i = 0; i < teams.size; i++) {
+            players[i] = settings[i].createPlayer(teams, zones, i);
+            if (teams.size > 2)
+                players[i].setIndexOfFirstAttackingTeams(2);
+            players[i].setLogging(false);
+            // matches are meant to be played many at a time, so each search stays on one thread
+            players[i].setParallelSearch(false);
+            players[i].setRandom(random.split());
+            thinkTimes[i] = new LongArray();
+        }
+
+        currentTeam = teams.size - 1;
+        SplittableRandom previousRandom = SimulationRandom.set(random);
+        try {
+            nextTurn();
+        } finally {
+            SimulationRandom.set(previousRandom);
+        }
+    }
+
+    private static PlayerSettings[] toSettings(ComputerPlayer.Difficulty[] difficulties) {
+        PlayerSettings[] settings = new PlayerSettings[difficulties.length];
+        for (int i = 0; i < difficulties.length; i++)
+            settings[i] = new PlayerSettings(difficulties[i]);
+        return settings;
+    }
+
+    /**
+     * @param team index of the team
+     * @param listener told the stats of each search the team's computer player finishes. Can be null.
+     */
+    public void setSearchListener(int team, ComputerPlayer.SearchListener listener) {
+        players[team].setSearchListener(listener);
+    }
+
+    /**
+     * Plays the match until a team wins.
+     * @return index of the team that won
+     */
+    public int play() {
+        while (winner == -1)
+            playTurn();
+        return winner;
+    }
+
+    /**
+     * Plays the turn of the current team, then starts the next team's turn if no one has won.
+     */
+    public void playTurn() {
+        if (winner != -1)
+            return;
+
+        long startTime = System.nanoTime();
+        Array<Turn> turns = players[currentTeam].findTurns(board);
+        thinkTimes[currentTeam].add(System.nanoTime() - startTime);
+        turnsSearched[currentTeam] += players[currentTeam].getSearchStats().getNodes();
+
+        SplittableRandom previousRandom = SimulationRandom.set(random);
+        try {
+            for (int i = 0; i < turns.size; i++)
+                if (turns.get(i) != null)
+                    board.tryTurn(turns.get(i));
+
+            winner = checkWinConditions();
+            if (winner == -1)
+                nextTurn();
+        } finally {
+            SimulationRandom.set(previousRandom);
+        }
+    }
+
+    /**
+     * Changes the turn to the next team that has Entities left, and does that team's turn effects.
+     */
+    private void nextTurn() {
+        currentTeam = (currentTeam + 1) % teams.size;
+        turnCount = currentTeam == 0 ? turnCount + 1 : turnCount;
+
+        //skip turn if all entities are dead
+        if (board.getLiveEntityCount()[currentTeam] <= 0) {
+            currentTeam = (currentTeam + 1) % teams.size;
+            turnCount = currentTeam == 0 ? turnCount + 1 : turnCount;
+        }
+
+        board.doTurnEffects(currentTeam);
+    }
+
+    /**
+     * @return index of the winning team. -1 if there is none.
+     */
+    private int checkWinConditions() {
+        int lastTeamStanding = board.getLastTeamStanding();
+        if (lastTeamStanding != -1)
+            return lastTeamStanding;
+
+        //if too many turns have passed, choose a team to win
+        if (turnCount >= TURN_LIMIT) {
+            if (survival)
+                return 1;
+            int team0Health = getTotalHealth(0);
+            int team1Health = getTotalHealth(1);
+            if (team0Health > team1Health) return 0;
+            else if (team0Health < team1Health) return 1;
+            else return random.nextInt(2);
+        }
+
+        //Check if in target zone
+        if (zones != null) {
+            for (int i = 0; i < zones.size; i++) {
+                for (int j = 0; j < zones.get(i).size; j++) {
+                    EntityValue entity = board.getEntities().get(zones.get(i).get(j));
+                    if (entity != null && entity.team == i)
+                        return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private int getTotalHealth(int team) {
+        int health = 0;
+        for (int i = 0; i < board.getEntities().getSlotCount(); i++) {
+            EntityValue entity = board.getEntities().get(i);
+            if (entity != null && entity.team == team)
+                health += entity.hp;
+        }
+        return health;
+    }
+
+    public int getCurrentTeam() {
+        return currentTeam;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * @return index of the team that won. -1 while the match is going.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * @param team index of the team
+     * @return how long each turn the team has played took to choose, in nanoseconds. Should not be changed.
+     */
+    public LongArray getThinkTimes(int team) {
+        return thinkTimes[team];
+    }
+
+    /**
+     * @param team index of the team
+     * @return number of turns the team's computer player has searched so far
+     */
+    public long getTurnsSearched(int team) {
+        return turnsSearched[team];
+    }
+
+    /**
+     * @return the state of the match. Should not be changed.
+     */
+    public BoardState getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mygdx.game.simulation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.files.FileHandle;
+import com.mygdx.game.AI.ComputerPlayer;
+import com.mygdx.game.AI.Evaluator;
+import com.mygdx.game.AI.MonteCarloTreeSearch;
+import com.mygdx.game.AI.SearchStrategy;
+import com.mygdx.game.AI.WeightedEvaluator;
+import com.mygdx.game.boards.BoardPosition;
+import com.mygdx.game.rules_types.Team;
+
+/**
+ * How a {@link ComputerPlayer} in a {@link MatchSimulation} plays: a difficulty, and optionally a depth level or thinking time that
+ * replaces the one the difficulty sets, and the {@link SearchStrategy} and {@link Evaluator} it uses. Computer players that play differently can be tried
+ * by overriding {@link #createPlayer(Array, Array, int)}.
+ *
+ * @author Phillip O'Reggio
+ */
+public class PlayerSettings {
+    /** Used for the depth level or thinking time to keep the one set by the difficulty */
+    public static final int DIFFICULTY_DEFAULT = -1;
+
+    private final String name;
+    private final ComputerPlayer.Difficulty difficulty;
+    private final int depthLevel;
+    private final long thinkingTimeLimit;
+    /** How the player searches. null to use the default. */
+    private final SearchStrategy searchStrategy;
+    /** How the player values boards. null to use the default. */
+    private final Evaluator evaluator;
+
+    /**
+     * @param name name shown in results
+     * @param difficulty difficulty of the computer player
+     * @param depthLevel deepest depth level searched, or {@link #DIFFICULTY_DEFAULT}
+     * @param thinkingTimeLimit how long the computer can think for in milliseconds, or {@link #DIFFICULTY_DEFAULT}
+     * @param searchStrategy how the player searches. null to use the default. Shared by every player made, so it should not keep
+     *                       anything between searches.
+     * @param evaluator how the player values boards. null to use the default. Shared by every player made.
+     */
+    public PlayerSettings(String name, ComputerPlayer.Difficulty difficulty, int depthLevel, long thinkingTimeLimit,
+                          SearchStrategy searchStrategy, Evaluator evaluator) {
+        this.name = name;
+        this.difficulty = difficulty;
+        this.depthLevel = depthLevel;
+        this.thinkingTimeLimit = thinkingTimeLimit;
+        this.searchStrategy = searchStrategy;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Uses the default evaluator.
+     */
+    public PlayerSettings(String name, ComputerPlayer.Difficulty difficulty, int depthLevel, long thinkingTimeLimit,
+                          SearchStrategy searchStrategy) {
+        this(name, difficulty, depthLevel, thinkingTimeLimit, searchStrategy, null);
+    }
+
+    /**
+     * Uses the default search strategy.
+     */
+    public PlayerSettings(String name, ComputerPlayer.Difficulty difficulty, int depthLevel, long thinkingTimeLimit) {
+        this(name, difficulty, depthLevel, thinkingTimeLimit, null);
+    }
+
+    /**
+     * Plays the same way as the difficulty does in the game.
+     */
+    public PlayerSettings(ComputerPlayer.Difficulty difficulty) {
+        this(difficulty.name(), difficulty, DIFFICULTY_DEFAULT, DIFFICULTY_DEFAULT);
+    }
+
+    /**
+     * Reads settings written as a difficulty followed by any changes to it, such as "HARD", "NORMAL:depth=3" or
+     * "HARD:depth=2:time=500". The time is in milliseconds. "engine=mcts" uses {@link MonteCarloTreeSearch}, which can be given
+     * the most playouts for each Entity with "iterations", such as "HARD:engine=mcts:iterations=2000". "eval" reads the weights of a
+     * {@link WeightedEvaluator} from a file, such as "HARD:eval=weights.json".
+     * @param text the settings
+     * @return the settings, named by the text
+     * @throws IllegalArgumentException if the text can't be read
+     */
+    public static PlayerSettings parse(String text) {
+        String[] parts = text.trim().split(":");
+        ComputerPlayer.Difficulty difficulty = ComputerPlayer.Difficulty.valueOf(parts[0].toUpperCase());
+        int depthLevel = DIFFICULTY_DEFAULT;
+        long thinkingTimeLimit = DIFFICULTY_DEFAULT;
+        String engine = "negamax";
+        int iterations = 0;
+        Evaluator evaluator = null;
+        for (int i = 1; i < parts.length; i++) {
+            String[] setting = parts[i].split("=");
+            if (setting.length != 2)
+                throw new IllegalArgumentException("Setting should be written as name=value: " + parts[i]);
+            if (setting[0].equals("depth"))
+                depthLevel = Integer.parseInt(setting[1]);
+            else if (setting[0].equals("time"))
+                thinkingTimeLimit = Long.parseLong(setting[1]);
+            else if (setting[0].equals("engine"))
+                engine = setting[1];
+            else if (setting[0].equals("iterations"))
+                iterations = Integer.parseInt(setting[1]);
+            else if (setting[0].equals("eval"))
+                evaluator = WeightedEvaluator.load(new FileHandle(setting[1]));
+            else
+                throw new IllegalArgumentException("Unknown setting: " + setting[0]);
+        }
+
+        SearchStrategy searchStrategy;
+        if (engine.equals("mcts"))
+            searchStrategy = new MonteCarloTreeSearch(iterations);
+        else if (engine.equals("negamax"))
+            searchStrategy = null;
+        else
+            throw new IllegalArgumentException("Unknown engine: " + engine);
+        return new PlayerSettings(text.trim(), difficulty, depthLevel, thinkingTimeLimit, searchStrategy, evaluator);
+    }
+
+    /**
+     * @param name name of the new settings
+     * @param evaluator how the player values boards
+     * @return these settings, but with a different evaluator
+     */
+    public PlayerSettings withEvaluator(String name, Evaluator evaluator) {
+        return new PlayerSettings(name, difficulty, depthLevel, thinkingTimeLimit, searchStrategy, evaluator);
+    }
+
+    /**
+     * Creates a computer player that plays with these settings, without a {@link com.mygdx.game.boards.BoardManager}.
+     * @param teams teams playing
+     * @param zones zones of each team. null if it is not a zone match.
+     * @param teamControlled team the player plays as
+     * @return the computer player
+     */
+    public ComputerPlayer createPlayer(Array<Team> teams, Array<Array<BoardPosition>> zones, int teamControlled) {
+        ComputerPlayer player;
+        if (zones != null)
+            player = new ComputerPlayer(null, teams, zones, teamControlled, difficulty);
+        else
+            player = new ComputerPlayer(null, teams, teamControlled, difficulty);
+        if (depthLevel != DIFFICULTY_DEFAULT)
+            player.setDepthLevel(depthLevel);
+        if (thinkingTimeLimit != DIFFICULTY_DEFAULT)
+            player.setThinkingTimeLimit(thinkingTimeLimit);
+        if (searchStrategy != null)
+            player.setSearchStrategy(searchStrategy);
+        if (evaluator != null)
+            player.setEvaluator(evaluator);
+        return player;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ComputerPlayer.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,46 +1,129 @@
 package com.mygdx.game.systems;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.mygdx.game.components.AnimationComponent;
+import com.mygdx.game.components.PositionComponent;
+import com.mygdx.game.components.RenderComponent;
 import com.mygdx.game.components.SpriteComponent;
 import com.mygdx.game.ui.BackType;
 import com.mygdx.game.ui.Background;
 
-import java.util.Comparator;
-
 import static com.mygdx.game.ComponentMappers.*;
 
 /**
- * System in charge of drawing Entities (excluding those with actors)
+ * System in charge of drawing Entities (excluding those with actors). Entities are drawn in layers by the z-index of their
+ * {@link RenderComponent}, and in each layer, grouped by texture so the batch switches textures as little as possible. Entities are
+ * only put in a layer when they are added or their z-index changes, so nothing is sorted while drawing. Everything is drawn in one
+ * batch each frame.
  * @author pnore_000
  */
-public class DrawingSystem extends SortedIteratingSystem{
-   private Batch batch;
+public class DrawingSystem extends EntitySystem implements EntityListener {
+    private Batch batch;
+    private final Family family = Family.one(SpriteComponent.class, AnimationComponent.class).get();
+
+    /** Layers from lowest z-index to highest */
+    private final Array<Layer> layers = new Array<>();
+    private final ObjectMap<Entity, TextureGroup> groupOfEntity = new ObjectMap<>();
+    /** Entities whose z-index was found to be different from their layer's while drawing */
+    private final Array<Entity> changedZ = new Array<>();
+
+    //region stats
+    private long statsFrame = -1;
+    private int drawCalls, textureBinds;
+    private int lastDrawCalls, lastTextureBinds;
+    private Texture lastTexture;
+    //endregion
 
     public DrawingSystem(Batch b) {
-        super(Family.one(SpriteComponent.class, AnimationComponent.class).get(), new ZComparator());
         batch = b;
     }
 
     @Override
-    public void processEntity(Entity e, float deltaTime) {
-        if (pm.has(e)) {
-            if (sm.has(e)) {
-                sm.get(e).sprite.setPosition(pm.get(e).position.x, pm.get(e).position.y);
-                sm.get(e).sprite.setSize(pm.get(e).width, pm.get(e).height);
-                sm.get(e).sprite.setRotation(pm.get(e).rotation);
-                sm.get(e).draw(batch);
-            } else {
-                animm.get(e).currentTime += deltaTime;
-                animm.get(e).setSpriteLocation(pm.get(e).position.x, pm.get(e).position.y);
-                animm.get(e).setSpriteSize(pm.get(e).height, pm.get(e).width);
-                animm.get(e).setSpriteRotation(pm.get(e).rotation);
-                animm.get(e).draw(batch);
+    public void addedToEngine(Engine engine) {
+        ImmutableArray<Entity> entities = engine.getEntitiesFor(family);
+        for (int i = 0; i < entities.size(); i++)
+            entityAdded(entities.get(i));
+        engine.addEntityListener(family, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        layers.clear();
+        groupOfEntity.clear();
+        changedZ.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        TextureGroup group = getLayer(getZ(entity)).getGroup(getTexture(entity));
+        group.entities.add(entity);
+        groupOfEntity.put(entity, group);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        TextureGroup group = groupOfEntity.remove(entity);
+        if (group != null)
+            group.entities.removeValue(entity, true);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        begin();
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+            for (int j = 0; j < layer.groups.size; j++) {
+                Array<Entity> entities = layer.groups.get(j).entities;
+                for (int k = 0; k < entities.size; k++) {
+                    Entity e = entities.get(k);
+                    if (getZ(e) != layer.z)
+                        changedZ.add(e);
+                    PositionComponent position = pm.get(e);
+                    if (position != null)
+                        draw(e, position, deltaTime);
+                }
             }
         }
+        end();
+
+        // moved after drawing so the layers aren't changed while going through them. They are drawn in their new layer next frame.
+        for (int i = 0; i < changedZ.size; i++) {
+            entityRemoved(changedZ.get(i));
+            entityAdded(changedZ.get(i));
+        }
+        changedZ.clear();
+    }
+
+    /**
+     * Draws the sprite or animation of an Entity where its {@link PositionComponent} is, to a batch that has begun
+     */
+    private void draw(Entity e, PositionComponent position, float deltaTime) {
+        SpriteComponent sprite = sm.get(e);
+        if (sprite != null) {
+            position.applyTo(sprite.sprite);
+            countTexture(sprite.sprite.getTexture());
+            sprite.sprite.draw(batch);
+        } else {
+            AnimationComponent animation = animm.get(e);
+            animation.currentTime += deltaTime;
+            animation.setSpriteLocation(position.position.x, position.position.y);
+            animation.setSpriteSize(position.height, position.width);
+            animation.setSpriteRotation(position.rotation);
+            countTexture(animation.animation.getKeyFrame(animation.currentTime).getTexture());
+            animation.drawFrame(batch);
+        }
     }
 
     /**
@@ -48,53 +131,133 @@ public class DrawingSystem extends SortedIteratingSystem{
      * @param back Background of the screen
      */
     public void drawBackground(Background back, float deltaTime) {
+        begin();
         //draw static background layer
         if (sm.has(back.getBackLayer())) {
-            sm.get(back.getBackLayer()).draw(batch);
+            countTexture(sm.get(back.getBackLayer()).sprite.getTexture());
+            sm.get(back.getBackLayer()).sprite.draw(batch);
         } else {
-            animm.get(back.getBackLayer()).currentTime += deltaTime;
-            animm.get(back.getBackLayer()).draw(batch);
+            AnimationComponent animation = animm.get(back.getBackLayer());
+            animation.currentTime += deltaTime;
+            countTexture(animation.animation.getKeyFrame(animation.currentTime).getTexture());
+            animation.drawFrame(batch);
         }
 
         //draw rest of layers
-        for (BackType b : back.getLayers()) {
-            if (sm.has(b.getEntity())) {
-                sm.get(b.getEntity()).sprite.setPosition(pm.get(b.getEntity()).position.x, pm.get(b.getEntity()).position.y);
-                sm.get(b.getEntity()).sprite.setSize(pm.get(b.getEntity()).width, pm.get(b.getEntity()).height);
-                sm.get(b.getEntity()).sprite.setRotation(pm.get(b.getEntity()).rotation);
-                sm.get(b.getEntity()).draw(batch);
-            } else {
-                animm.get(b.getEntity()).currentTime += deltaTime;
-                animm.get(b.getEntity()).setSpriteLocation(pm.get(b.getEntity()).position.x, pm.get(b.getEntity()).position.y);
-                animm.get(b.getEntity()).setSpriteSize(pm.get(b.getEntity()).height, pm.get(b.getEntity()).width);
-                animm.get(b.getEntity()).setSpriteRotation(pm.get(b.getEntity()).rotation);
-                animm.get(b.getEntity()).draw(batch);
-            }
+        for (BackType b : back.getLayers())
+            draw(b.getEntity(), pm.get(b.getEntity()), deltaTime);
+        end();
+    }
+
+    //region batching
+    private void begin() {
+        long frame = Gdx.graphics.getFrameId();
+        if (frame != statsFrame) {
+            lastDrawCalls = drawCalls;
+            lastTextureBinds = textureBinds;
+            drawCalls = 0;
+            textureBinds = 0;
+            statsFrame = frame;
+        }
+        lastTexture = null;
+        batch.begin();
+    }
+
+    private void end() {
+        batch.end();
+        if (batch instanceof SpriteBatch)
+            drawCalls += ((SpriteBatch) batch).renderCalls;
+    }
+
+    private void countTexture(Texture texture) {
+        if (texture != lastTexture) {
+            textureBinds++;
+            lastTexture = texture;
+        }
+    }
+
+    /**
+     * @return number of times the batch was flushed to the GPU while drawing the last frame. 0 if the batch isn't a {@link SpriteBatch}.
+     */
+    public int getDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    /**
+     * @return number of times the texture being drawn changed while drawing the last frame
+     */
+    public int getTextureBinds() {
+        return lastTextureBinds;
+    }
+    //endregion
+
+    //region layers
+    private static int getZ(Entity e) {
+        RenderComponent render = rm.get(e);
+        return render == null ? 0 : render.z;
+    }
+
+    /**
+     * @return texture the Entity is drawn with when it is added. Only used for grouping, so it doesn't matter if it changes later.
+     */
+    private static Texture getTexture(Entity e) {
+        SpriteComponent sprite = sm.get(e);
+        if (sprite != null)
+            return sprite.sprite.getTexture();
+        AnimationComponent animation = animm.get(e);
+        if (animation != null && animation.animation != null)
+            return animation.animation.getKeyFrames()[0].getTexture();
+        return null;
+    }
+
+    /**
+     * @return layer with the z-index. Made if there isn't one yet.
+     */
+    private Layer getLayer(int z) {
+        int index = 0;
+        while (index < layers.size && layers.get(index).z < z)
+            index++;
+        if (index < layers.size && layers.get(index).z == z)
+            return layers.get(index);
+        Layer layer = new Layer(z);
+        layers.insert(index, layer);
+        return layer;
+    }
+
+    /**
+     * Entities with the same z-index, grouped by texture
+     */
+    private static class Layer {
+        private final int z;
+        private final Array<TextureGroup> groups = new Array<>();
+
+        private Layer(int z) {
+            this.z = z;
+        }
+
+        /**
+         * @return group of Entities with the texture. Made if there isn't one yet.
+         */
+        private TextureGroup getGroup(Texture texture) {
+            for (int i = 0; i < groups.size; i++)
+                if (groups.get(i).texture == texture)
+                    return groups.get(i);
+            TextureGroup group = new TextureGroup(texture);
+            groups.add(group);
+            return group;
         }
     }
 
-    public static class ZComparator implements Comparator<Entity> {
-        @Override
-        public int compare(Entity o1, Entity o2) {
-            //getting z indeces --
-            int z1, z2;
-            if (sm.has(o1))
-                z1 = sm.get(o1).z;
-            else
-                z1 = animm.get(o1).z;
-
-            if (sm.has(o2))
-                z2 = sm.get(o2).z;
-            else
-                z2 = animm.get(o2).z;
-            //--
-
-            if (z1 < z2)
-                return -1;
-            else if (z1 > z2)
-                return 1;
-            else
-                return 0;
+    /**
+     * Entities in a layer with the same texture, in the order they were added
+     */
+    private static class TextureGroup {
+        private final Texture texture;
+        private final Array<Entity> entities = new Array<>();
+
+        private TextureGroup(Texture texture) {
+            this.texture = texture;
         }
     }
+    //endregion
 }
@@ -0,0 +1,150 @@
+package com.mygdx.game.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * System in charge of removing Entities from the engine. Entities scheduled for removal are removed together after every other
+ * system has updated, so systems never see an Entity disappear partway through an update. Entities from a {@code PooledEngine} go
+ * back to its pool once removed.
+ * <p>
+ * Also counts how many Entities of watched {@link Family}s are in the engine, and the most there have been at once, so Entities that
+ * are never removed can be noticed.
+ *
+ * @author Phillip O'Reggio
+ */
+public class EntityLifecycleSystem extends EntitySystem {
+    private final Array<Entity> pendingRemoval = new Array<>(false, 32);
+    /** Same Entities as {@link #pendingRemoval}, to check if one is already scheduled */
+    private final ObjectSet<Entity> pendingRemovalSet = new ObjectSet<>(32);
+    private long totalRemoved;
+
+    private final Array<String> familyNames = new Array<>();
+    private final Array<Family> families = new Array<>();
+    /** Entities of each watched family. Kept up to date by the engine. null while not in an engine. */
+    private final Array<ImmutableArray<Entity>> familyEntities = new Array<>();
+    /** Most Entities there have been at once in each watched family, then all Entities */
+    private final IntArray peaks = new IntArray();
+    private int peakEntities;
+
+    private final StringBuilder debugText = new StringBuilder();
+
+    /**
+     * Creates an {@link EntityLifecycleSystem} that updates after all other systems
+     */
+    public EntityLifecycleSystem() {
+        super(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Counts the Entities of a {@link Family}.
+     * @param name shown with the count
+     * @param family Entities to count
+     */
+    public void watch(String name, Family family) {
+        familyNames.add(name);
+        families.add(family);
+        familyEntities.add(getEngine() == null ? null : getEngine().getEntitiesFor(family));
+        peaks.add(0);
+    }
+
+    /**
+     * Removes an Entity from the engine at the end of the current update. Does nothing if it is already scheduled.
+     */
+    public void scheduleRemoval(Entity entity) {
+        if (pendingRemovalSet.add(entity))
+            pendingRemoval.add(entity);
+    }
+
+    /**
+     * Removes an Entity from an engine. If the engine has an {@link EntityLifecycleSystem}, the Entity is scheduled to be removed by it
+     * instead, at the end of the current update.
+     */
+    public static void remove(Engine engine, Entity entity) {
+        EntityLifecycleSystem lifecycle = engine.getSystem(EntityLifecycleSystem.class);
+        if (lifecycle != null)
+            lifecycle.scheduleRemoval(entity);
+        else
+            engine.removeEntity(entity);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        Engine engine = getEngine();
+        for (int i = 0; i < pendingRemoval.size; i++)
+            engine.removeEntity(pendingRemoval.get(i));
+        totalRemoved += pendingRemoval.size;
+        pendingRemoval.clear();
+        pendingRemovalSet.clear();
+
+        // counted before the removals above happen, which is when there are the most
+        for (int i = 0; i < familyEntities.size; i++)
+            peaks.set(i, Math.max(peaks.get(i), familyEntities.get(i).size()));
+        peakEntities = Math.max(peakEntities, engine.getEntities().size());
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        for (int i = 0; i < families.size; i++)
+            familyEntities.set(i, engine.getEntitiesFor(families.get(i)));
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        // the engine may reuse pooled Entities, so ones still scheduled can't be removed later
+        pendingRemoval.clear();
+        pendingRemovalSet.clear();
+        for (int i = 0; i < familyEntities.size; i++)
+            familyEntities.set(i, null);
+    }
+
+    //region debug counts
+    /**
+     * @return number of Entities of the watched family in the engine. -1 if there is no family with the name.
+     */
+    public int getLiveEntities(String name) {
+        int index = familyNames.indexOf(name, false);
+        if (index == -1 || familyEntities.get(index) == null)
+            return -1;
+        return familyEntities.get(index).size();
+    }
+
+    /**
+     * @return most Entities of the watched family there have been in the engine at once. -1 if there is no family with the name.
+     */
+    public int getPeakEntities(String name) {
+        int index = familyNames.indexOf(name, false);
+        return index == -1 ? -1 : peaks.get(index);
+    }
+
+    /**
+     * @return number of Entities this system has removed
+     */
+    public long getTotalRemoved() {
+        return totalRemoved;
+    }
+
+    /**
+     * @return the number of Entities in the engine, and of each watched family, with the most there have been at once. Reuses the
+     * same {@link StringBuilder}, so it should be used before this is called again.
+     */
+    public CharSequence getDebugText() {
+        debugText.setLength(0);
+        debugText.append("Entities: ").append(getEngine() == null ? 0 : getEngine().getEntities().size())
+                .append(" (peak ").append(peakEntities).append(", removed ").append(totalRemoved).append(')');
+        for (int i = 0; i < familyNames.size; i++) {
+            debugText.append('\n').append(familyNames.get(i)).append(": ")
+                    .append(familyEntities.get(i) == null ? 0 : familyEntities.get(i).size())
+                    .append(" (peak ").append(peaks.get(i)).append(')');
+        }
+        return debugText;
+    }
+    //endregion
+}
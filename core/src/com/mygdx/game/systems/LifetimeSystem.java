@@ -8,7 +8,9 @@ import com.mygdx.game.components.LifetimeComponent;
 import static com.mygdx.game.ComponentMappers.lfm;
 
 /**
- * System that removes entities after a certain amount of time has passed
+ * System that removes entities from the engine after a certain amount of time has passed. If the engine has an
+ * {@link EntityLifecycleSystem}, they are scheduled to be removed by it. Entities from a {@code PooledEngine} go back to its pool when
+ * they are removed.
  *
  * @author Phillip O'Reggio
  */
@@ -19,11 +21,10 @@ public class LifetimeSystem extends IteratingSystem {
 
     @Override
     protected void processEntity(Entity e, float deltaTime) {
-        LifetimeComponent life =lfm.get(e);
+        LifetimeComponent life = lfm.get(e);
         life.currentTime += deltaTime;
         if (life.currentTime >= life.endTime) {
-            e.removeAll();
-            e = null;
+            EntityLifecycleSystem.remove(getEngine(), e);
         }
     }
 }
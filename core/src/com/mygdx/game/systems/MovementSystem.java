@@ -3,7 +3,6 @@ package com.mygdx.game.systems;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IteratingSystem;
-import com.badlogic.gdx.math.Vector2;
 import com.mygdx.game.components.MovementComponent;
 import com.mygdx.game.components.PositionComponent;
 
@@ -23,6 +22,6 @@ public class MovementSystem extends IteratingSystem {
 
     @Override
     protected void processEntity(Entity e, float deltaTime) {
-        pm.get(e).position = new Vector2(pm.get(e).position.x + mm.get(e).movement.x * deltaTime, pm.get(e).position.y + mm.get(e).movement.y * deltaTime);
+        pm.get(e).position.mulAdd(mm.get(e).movement, deltaTime);
     }
 }